@@ -0,0 +1,90 @@
+package com.vms.vendor_management_system.application.mapper;
+
+import com.vms.vendor_management_system.application.dto.vendor.VendorResponse;
+import com.vms.vendor_management_system.application.dto.vendorrequest.VendorCreationRequestResponse;
+import com.vms.vendor_management_system.domain.entity.Department;
+import com.vms.vendor_management_system.domain.entity.User;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.entity.VendorCategory;
+import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import com.vms.vendor_management_system.domain.valueobjects.Address;
+import com.vms.vendor_management_system.domain.valueobjects.Email;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping fully populated entities to their API responses, as every list and detail endpoint does.
+ * Run with {@code ./gradlew jmh -Pjmh.includes=MapperBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private Vendor vendor;
+    private VendorCreationRequest request;
+
+    @Setup
+    public void setUp() {
+        VendorCategory category = new VendorCategory("IT Services", "Software and consulting", "IT");
+        category.setId(3L);
+
+        vendor = new Vendor("VEN-000123", "Acme Supplies", "Acme Supplies Ltd",
+                new Email("accounts@acme.example.com"), new Address("1 Market St", "Lagos", "LA", "100001", "NG"));
+        vendor.setId(123L);
+        vendor.setTaxId("TIN-99887766");
+        vendor.setPhone("+234 800 000 0000");
+        vendor.setCategory(category);
+        vendor.setWebsite("https://acme.example.com");
+        vendor.setDescription("Office and IT supplies");
+        vendor.setDefaultCurrency("NGN");
+        vendor.setCreatedAt(LocalDateTime.now());
+        vendor.setUpdatedAt(LocalDateTime.now());
+
+        Department department = new Department("Operations", "Operations department", "OPS");
+        department.setId(7L);
+        User requester = new User("jdoe", "Jane", "Doe", new Email("jdoe@example.com"),
+                UserRole.DEPARTMENT_REQUESTER, department);
+        requester.setId(42L);
+
+        request = new VendorCreationRequest("VR-2024-000123", department, requester, "Acme Supplies");
+        request.setId(99L);
+        request.setVendor(vendor);
+        request.setLegalName("Acme Supplies Ltd");
+        request.setBusinessJustification("Preferred supplier for office hardware");
+        request.setExpectedContractValue(250_000.0);
+        request.setPrimaryContactName("John Smith");
+        request.setPrimaryContactEmail("john.smith@acme.example.com");
+        request.setPrimaryContactPhone("+234 800 000 0001");
+        request.setTaxIdentificationNumber("TIN-99887766");
+        request.setCategory(category);
+        request.setAddressStreet("1 Market St");
+        request.setAddressCity("Lagos");
+        request.setAddressCountry("NG");
+        request.setBankName("First Bank");
+        request.setAccountHolderName("Acme Supplies Ltd");
+        request.setAccountNumber("0123456789");
+        request.setCurrency("NGN");
+        request.setCreatedAt(LocalDateTime.now());
+        request.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public VendorResponse vendorToResponse() {
+        return VendorMapper.toResponse(vendor);
+    }
+
+    @Benchmark
+    public VendorCreationRequestResponse vendorCreationRequestToResponse() {
+        return VendorCreationRequestMapper.toResponse(request);
+    }
+}
@@ -0,0 +1,67 @@
+package com.vms.vendor_management_system.application.security;
+
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping Entra ID token claims to roles at login, for users in few or many groups.
+ * Run with {@code ./gradlew jmh -Pjmh.includes=AzureEntraRoleMapper}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AzureEntraRoleMapperBenchmark {
+
+    @Param({"5", "50", "200"})
+    public int groupCount;
+
+    private AzureEntraRoleMapper mapper;
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setUp() {
+        List<String> groups = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(UUID.nameUUIDFromBytes(("group-" + i).getBytes()).toString());
+        }
+        mapper = new AzureEntraRoleMapper();
+        setField(mapper, "groupsClaimName", "groups");
+        setField(mapper, "rolesClaimName", "roles");
+        setField(mapper, "groupRoleMappingConfig",
+                groups.get(0) + ":ADMIN," + groups.get(groupCount - 1) + ":FINANCE_APPROVER");
+        setField(mapper, "appRoleMappingConfig", "VMS.Compliance:COMPLIANCE_APPROVER");
+        setField(mapper, "denyUnmappedUsers", true);
+        attributes = Map.of(
+                "groups", groups,
+                "roles", List.of("VMS.Compliance", "VMS.Reader"));
+        // Parses the mappings once, as the first login does
+        mapper.mapClaimsToRoles(attributes);
+    }
+
+    @Benchmark
+    public Set<UserRole> mapClaimsToRoles() {
+        return mapper.mapClaimsToRoles(attributes);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
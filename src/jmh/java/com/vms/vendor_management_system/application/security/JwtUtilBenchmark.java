@@ -0,0 +1,53 @@
+package com.vms.vendor_management_system.application.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing and verifying an HS256 token; {@code validateToken} runs on every authenticated request.
+ * Run with {@code ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String USERNAME = "jane.doe";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secret",
+                "benchmarkSecretKeyForVendorManagementSystemThatIsAtLeast256BitsLong");
+        setField(jwtUtil, "expiration", 86_400_000L);
+        token = jwtUtil.generateToken(USERNAME);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(USERNAME);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, USERNAME);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,107 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.vendorrequest.DuplicateCandidateResponse;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
+import com.vms.vendor_management_system.domain.valueobjects.Address;
+import com.vms.vendor_management_system.domain.valueobjects.Email;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of screening one submitted vendor request against an index of existing vendors; the target is well under
+ * 50 ms at 100k vendors. Run with {@code ./gradlew jmh -Pjmh.includes=VendorDuplicateDetection}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VendorDuplicateDetectionBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "ac", "bel", "cor", "dan", "el", "fir", "gal", "hor", "in", "jun", "kel", "lum", "mar", "nor", "ol",
+            "pra", "quin", "ros", "sel", "tor", "ul", "ver", "wen", "xen", "yor", "zan", "tra", "sto", "bri", "cla"
+    };
+    private static final String[] INDUSTRIES = {
+            "Supplies", "Logistics", "Consulting", "Systems", "Foods", "Engineering", "Medical", "Energy",
+            "Printing", "Security", "Software", "Construction", "Textiles", "Freight", "Catering", "Labs"
+    };
+    private static final String[] SUFFIXES = {"Ltd", "Inc", "LLC", "GmbH", "Plc", "Co", ""};
+    private static final int PROBES = 256;
+
+    @Param({"100000"})
+    public int vendorCount;
+
+    private VendorDuplicateDetectionService service;
+    private VendorCreationRequest[] nearDuplicates;
+    private VendorCreationRequest[] newVendors;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        // No repositories: outside a transaction track() indexes immediately, so the index is seeded in memory
+        service = new VendorDuplicateDetectionService(null, null, 0.82, 10);
+        Vendor[] vendors = new Vendor[vendorCount];
+        for (int i = 0; i < vendorCount; i++) {
+            String words = word(random) + " " + word(random);
+            String name = words + " " + INDUSTRIES[random.nextInt(INDUSTRIES.length)];
+            String domain = words.toLowerCase(Locale.ROOT).replace(" ", "") + i + ".example.com";
+            Vendor vendor = new Vendor(String.format("VEN-%06d", i), name,
+                    (name + " " + SUFFIXES[random.nextInt(SUFFIXES.length)]).trim(),
+                    new Email("accounts@" + domain), new Address("1 Market St", "Lagos", "LA", "100001", "NG"));
+            vendor.setId((long) i + 1);
+            vendor.setTaxId(String.format("TIN-%08d", i));
+            vendor.setWebsite("https://www." + domain);
+            service.track(vendor);
+            vendors[i] = vendor;
+        }
+
+        nearDuplicates = new VendorCreationRequest[PROBES];
+        newVendors = new VendorCreationRequest[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            Vendor existing = vendors[random.nextInt(vendorCount)];
+            // Same company typed slightly differently, with a personal mail address and no tax ID
+            VendorCreationRequest duplicate = new VendorCreationRequest("VR-DUP-" + i, null, null,
+                    existing.getCompanyName().replaceFirst("[aeiou]", "") + " Limited");
+            duplicate.setPrimaryContactEmail("owner" + i + "@gmail.com");
+            nearDuplicates[i] = duplicate;
+
+            VendorCreationRequest fresh = new VendorCreationRequest("VR-NEW-" + i, null, null,
+                    word(random) + word(random) + " " + INDUSTRIES[random.nextInt(INDUSTRIES.length)]);
+            fresh.setPrimaryContactEmail("sales@fresh" + i + ".example.org");
+            fresh.setTaxIdentificationNumber(String.format("NEW-%08d", i));
+            newVendors[i] = fresh;
+        }
+    }
+
+    @Benchmark
+    public List<DuplicateCandidateResponse> nearDuplicate() {
+        return service.findDuplicates(nearDuplicates[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public List<DuplicateCandidateResponse> newVendor() {
+        return service.findDuplicates(newVendors[next++ & (PROBES - 1)]);
+    }
+
+    private static String word(SplittableRandom random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
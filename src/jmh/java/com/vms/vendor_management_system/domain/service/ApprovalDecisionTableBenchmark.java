@@ -0,0 +1,84 @@
+package com.vms.vendor_management_system.domain.service;
+
+import com.vms.vendor_management_system.domain.entity.ApprovalRule;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of routing one purchase order through a compiled rule table. Run with
+ * {@code ./gradlew jmh -Pjmh.includes=ApprovalDecisionTable} and add {@code -prof gc} to confirm zero allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApprovalDecisionTableBenchmark {
+
+    private static final String[] CURRENCIES = {"USD", "EUR", "GBP", "NGN"};
+    private static final int DOCUMENTS = 1024;
+
+    @Param({"20", "200", "2000"})
+    public int ruleCount;
+
+    private ApprovalDecisionTable table;
+    private String[] currencies;
+    private long[] amounts;
+    private long[] categories;
+    private long[] departments;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<ApprovalRule> rules = new ArrayList<>();
+        for (int i = 0; i < ruleCount; i++) {
+            ApprovalRule rule = new ApprovalRule("rule-" + i, ApprovalDocumentType.PURCHASE_ORDER, random.nextInt(1000));
+            rule.setId((long) i + 1);
+            long min = random.nextInt(100) * 1_000L;
+            rule.changeAmountBand(BigDecimal.valueOf(min), BigDecimal.valueOf(min + 50_000));
+            if (random.nextInt(4) == 0) {
+                rule.setCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)]);
+            }
+            if (random.nextInt(3) > 0) {
+                rule.setCategoryId(1L + random.nextInt(50));
+            }
+            if (random.nextInt(2) == 0) {
+                rule.setDepartmentId(1L + random.nextInt(20));
+            }
+            rule.setApproverRole(UserRole.values()[random.nextInt(UserRole.values().length)]);
+            rules.add(rule);
+        }
+        table = ApprovalDecisionTable.compile(rules);
+
+        currencies = new String[DOCUMENTS];
+        amounts = new long[DOCUMENTS];
+        categories = new long[DOCUMENTS];
+        departments = new long[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            currencies[i] = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            amounts[i] = random.nextLong(15_000_000L);
+            categories[i] = 1L + random.nextInt(60);
+            departments[i] = 1L + random.nextInt(25);
+        }
+    }
+
+    @Benchmark
+    public ApprovalDecisionTable.Decision evaluate() {
+        int i = next++ & (DOCUMENTS - 1);
+        return table.evaluate(ApprovalDocumentType.PURCHASE_ORDER, currencies[i], amounts[i], amounts[i],
+                categories[i], departments[i]);
+    }
+}
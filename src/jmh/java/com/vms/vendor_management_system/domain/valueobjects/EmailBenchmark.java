@@ -0,0 +1,43 @@
+package com.vms.vendor_management_system.domain.valueobjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of constructing an {@link Email}, dominated by the format regex. The long local part is the
+ * backtracking worst case for the dotted-segment group. Run with {@code ./gradlew jmh -Pjmh.includes=EmailBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailBenchmark {
+
+    @Param({
+            "jane.doe@example.com",
+            "Procurement.Team+invoices@finance.subsidiary.example.co.uk",
+            "a.very.long.dotted.local.part.with.many.segments.for.backtracking@example.com"
+    })
+    public String address;
+
+    @Benchmark
+    public Email construct() {
+        return new Email(address);
+    }
+
+    @Benchmark
+    public boolean rejectInvalid() {
+        try {
+            new Email(address + "@");
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
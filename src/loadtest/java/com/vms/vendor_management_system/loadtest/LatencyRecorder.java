@@ -0,0 +1,59 @@
+package com.vms.vendor_management_system.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Keeps every latency sample of one endpoint so percentiles are exact rather than bucketed.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    synchronized void record(long nanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    static final class Summary {
+        final long count;
+        final long errors;
+        final double throughput;
+        final double p50Ms;
+        final double p90Ms;
+        final double p99Ms;
+        final double maxMs;
+
+        private Summary(long count, long errors, double throughput, double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+            this.count = count;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50Ms = p50Ms;
+            this.p90Ms = p90Ms;
+            this.p99Ms = p99Ms;
+            this.maxMs = maxMs;
+        }
+    }
+}
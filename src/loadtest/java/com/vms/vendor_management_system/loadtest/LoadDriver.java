@@ -0,0 +1,337 @@
+package com.vms.vendor_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load driver replaying a weighted mix of dashboard, listing, workflow and upload traffic.
+ *
+ * Each of {@code load.concurrency} virtual-thread workers picks the next operation from the mix, waits for the
+ * response and goes again, so throughput is whatever the server sustains at that concurrency. Samples taken
+ * during the warmup are discarded. Latency and throughput are reported per route template, and workflow steps
+ * (create, submit, approve) are reported separately.
+ *
+ * Run with {@code ./gradlew loadTest -Pload.durationSeconds=120 -Pload.concurrency=64} against a running application,
+ * ideally one seeded with {@link SyntheticDataGenerator}.
+ */
+public final class LoadDriver {
+
+    private static final Map<String, Integer> DEFAULT_MIX = defaultMix();
+    private static final int MAX_KNOWN_ORDERS = 10_000;
+
+    private final Settings settings;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private WeightedChoice<String> mix;
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final List<Long> vendorIds = new ArrayList<>();
+    private final List<Long> activeVendorIds = new ArrayList<>();
+    // Only ever grows, so a random index below size() stays valid
+    private final List<Long> knownOrderIds = Collections.synchronizedList(new ArrayList<>());
+    private final byte[] uploadPayload;
+    private Long requesterId;
+    private Long approverId;
+    private volatile long measureFrom;
+
+    private LoadDriver(Settings settings) {
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.uploadPayload = new byte[settings.uploadKb * 1024];
+        new Random(settings.randomSeed).nextBytes(uploadPayload);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        LoadDriver driver = new LoadDriver(settings);
+        driver.discover();
+        driver.run();
+        driver.report();
+    }
+
+    /**
+     * Finds vendors and users to drive traffic at; the listing endpoints only return the most recent vendors,
+     * so {@code load.vendorIdRange} spreads detail reads over a seeded range instead.
+     */
+    private void discover() throws IOException, InterruptedException {
+        for (JsonNode vendor : getJson("/api/vendors?limit=100")) {
+            vendorIds.add(vendor.path("id").asLong());
+            if ("ACTIVE".equals(vendor.path("status").asText())) {
+                activeVendorIds.add(vendor.path("id").asLong());
+            }
+        }
+        for (JsonNode user : getJson("/api/users")) {
+            String role = user.path("role").asText();
+            if (requesterId == null && "DEPARTMENT_REQUESTER".equals(role)) {
+                requesterId = user.path("id").asLong();
+            } else if (approverId == null && "ADMIN".equals(role)) {
+                approverId = user.path("id").asLong();
+            }
+        }
+        if (vendorIds.isEmpty() && settings.vendorIdFrom == 0) {
+            throw new IllegalStateException("No vendors found at " + settings.baseUrl + "; seed data first");
+        }
+        Map<String, Integer> weights = WeightedChoice.parseWeights(settings.mix, DEFAULT_MIX);
+        if (activeVendorIds.isEmpty() || requesterId == null || approverId == null) {
+            System.out.println("Workflow traffic disabled: needs an ACTIVE vendor, a DEPARTMENT_REQUESTER and an ADMIN");
+            weights.put("workflow", 0);
+        }
+        mix = WeightedChoice.of(weights);
+        System.out.printf("Driving %s with %d workers for %d s (+%d s warmup), mix %s%n", settings.baseUrl,
+                settings.concurrency, settings.durationSeconds, settings.warmupSeconds, weights);
+    }
+
+    private void run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureFrom = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        execute(mix.pick(ThreadLocalRandom.current()));
+                    }
+                });
+            }
+        }
+    }
+
+    private void execute(String operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case "dashboard" -> call("GET /api/dashboard", get("/api/dashboard"));
+            case "vendorList" -> call("GET /api/vendors", get("/api/vendors?limit=" + (10 + random.nextInt(91))));
+            case "vendorDetail" -> call("GET /api/vendors/{id}", get("/api/vendors/" + randomVendor(random)));
+            case "vendorOverview" -> call("GET /api/vendors/{id}/overview", get("/api/vendors/" + randomVendor(random) + "/overview"));
+            case "ordersByVendor" -> {
+                JsonNode orders = call("GET /api/purchase-orders/vendor/{vendorId}",
+                        get("/api/purchase-orders/vendor/" + randomVendor(random)));
+                rememberOrders(orders);
+            }
+            case "orderDetail" -> {
+                if (knownOrderIds.isEmpty()) {
+                    rememberOrders(call("GET /api/purchase-orders/vendor/{vendorId}",
+                            get("/api/purchase-orders/vendor/" + randomVendor(random))));
+                } else {
+                    call("GET /api/purchase-orders/{id}",
+                            get("/api/purchase-orders/" + knownOrderIds.get(random.nextInt(knownOrderIds.size()))));
+                }
+            }
+            case "approvalQueue" -> call("GET /api/vendor-requests/pending", get("/api/vendor-requests/pending"));
+            case "workflow" -> purchaseOrderWorkflow(random);
+            case "upload" -> call("POST /api/files/upload", upload(random));
+            default -> throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    /**
+     * Creates a purchase order, submits it and approves it unless the approval rules auto-approved it on submit.
+     */
+    private void purchaseOrderWorkflow(ThreadLocalRandom random) {
+        String body = String.format("{\"vendorId\":%d,\"description\":\"Load test order\",\"totalAmount\":%.2f,"
+                        + "\"orderDate\":\"%s\",\"createdByUserId\":%d}",
+                activeVendorIds.get(random.nextInt(activeVendorIds.size())), 50 + random.nextDouble() * 5_000,
+                LocalDate.now(), requesterId);
+        JsonNode created = call("POST /api/purchase-orders", post("/api/purchase-orders",
+                HttpRequest.BodyPublishers.ofString(body), "application/json"));
+        if (created == null) {
+            return;
+        }
+        long orderId = created.path("id").asLong();
+        JsonNode submitted = call("POST /api/purchase-orders/{id}/submit",
+                post("/api/purchase-orders/" + orderId + "/submit", HttpRequest.BodyPublishers.noBody(), null));
+        if (submitted != null && !"APPROVED".equals(submitted.path("status").asText())) {
+            call("POST /api/purchase-orders/{id}/approve", post("/api/purchase-orders/" + orderId
+                    + "/approve?approverId=" + approverId, HttpRequest.BodyPublishers.noBody(), null));
+        }
+    }
+
+    /**
+     * Sends the request and records its latency under {@code endpoint}; returns the parsed body of a 2xx response.
+     */
+    private JsonNode call(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean success = false;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            success = response.statusCode() < 400;
+            if (success && response.body().length > 0) {
+                body = objectMapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            // Counted as an error below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (start >= measureFrom) {
+            recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder()).record(elapsed, success);
+        }
+        return body;
+    }
+
+    private void rememberOrders(JsonNode orders) {
+        if (orders == null || knownOrderIds.size() >= MAX_KNOWN_ORDERS) {
+            return;
+        }
+        for (JsonNode order : orders) {
+            knownOrderIds.add(order.path("id").asLong());
+            if (knownOrderIds.size() >= MAX_KNOWN_ORDERS) {
+                return;
+            }
+        }
+    }
+
+    private long randomVendor(ThreadLocalRandom random) {
+        if (settings.vendorIdFrom > 0) {
+            return random.nextLong(settings.vendorIdFrom, settings.vendorIdTo + 1);
+        }
+        return vendorIds.get(random.nextInt(vendorIds.size()));
+    }
+
+    private HttpRequest upload(ThreadLocalRandom random) {
+        String boundary = "----loadtest" + random.nextLong(Long.MAX_VALUE);
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"invoice-" + random.nextInt(1_000_000) + ".pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n";
+        String tail = "\r\n--" + boundary + "--\r\n";
+        return post("/api/files/upload", HttpRequest.BodyPublishers.ofByteArrays(List.of(
+                        head.getBytes(StandardCharsets.UTF_8), uploadPayload, tail.getBytes(StandardCharsets.UTF_8))),
+                "multipart/form-data; boundary=" + boundary);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(settings.baseUrl + path))
+                .timeout(Duration.ofSeconds(settings.timeoutSeconds))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, HttpRequest.BodyPublisher body, String contentType) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(settings.baseUrl + path))
+                .timeout(Duration.ofSeconds(settings.timeoutSeconds))
+                .POST(body);
+        if (contentType != null) {
+            builder.header("Content-Type", contentType);
+        }
+        return builder.build();
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get(path), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void report() throws IOException {
+        Map<String, LatencyRecorder.Summary> summaries = new TreeMap<>();
+        recorders.forEach((endpoint, recorder) -> summaries.put(endpoint, recorder.summarize(settings.durationSeconds)));
+
+        String format = "%-46s %9s %7s %9s %9s %9s %9s %9s%n";
+        System.out.printf(format, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        long total = 0;
+        for (Map.Entry<String, LatencyRecorder.Summary> entry : summaries.entrySet()) {
+            LatencyRecorder.Summary summary = entry.getValue();
+            total += summary.count;
+            System.out.printf(format, entry.getKey(), summary.count, summary.errors,
+                    String.format("%.1f", summary.throughput), String.format("%.1f", summary.p50Ms),
+                    String.format("%.1f", summary.p90Ms), String.format("%.1f", summary.p99Ms),
+                    String.format("%.1f", summary.maxMs));
+        }
+        System.out.printf("Total: %,d requests, %.1f req/s%n", total, (double) total / settings.durationSeconds);
+
+        Path reportPath = Path.of(settings.reportFile);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(reportPath))) {
+            writer.println("endpoint,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms");
+            summaries.forEach((endpoint, summary) -> writer.printf(Locale.ROOT, "\"%s\",%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    endpoint, summary.count, summary.errors, summary.throughput,
+                    summary.p50Ms, summary.p90Ms, summary.p99Ms, summary.maxMs));
+        }
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    private static Map<String, Integer> defaultMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("dashboard", 10);
+        mix.put("vendorList", 15);
+        mix.put("vendorDetail", 20);
+        mix.put("vendorOverview", 10);
+        mix.put("ordersByVendor", 15);
+        mix.put("orderDetail", 15);
+        mix.put("approvalQueue", 5);
+        mix.put("workflow", 7);
+        mix.put("upload", 3);
+        return mix;
+    }
+
+    private static final class Settings {
+        private String baseUrl;
+        private int concurrency;
+        private int durationSeconds;
+        private int warmupSeconds;
+        private int timeoutSeconds;
+        private String mix;
+        private int uploadKb;
+        private long vendorIdFrom;
+        private long vendorIdTo;
+        private String reportFile;
+        private long randomSeed;
+
+        private static Settings fromSystemProperties() {
+            Settings settings = new Settings();
+            settings.baseUrl = System.getProperty("load.baseUrl", "http://localhost:8080").replaceAll("/+$", "");
+            settings.concurrency = Integer.getInteger("load.concurrency", 32);
+            settings.durationSeconds = Math.max(1, Integer.getInteger("load.durationSeconds", 60));
+            settings.warmupSeconds = Integer.getInteger("load.warmupSeconds", 15);
+            settings.timeoutSeconds = Integer.getInteger("load.timeoutSeconds", 30);
+            settings.mix = System.getProperty("load.mix", "");
+            settings.uploadKb = Integer.getInteger("load.uploadKb", 256);
+            // A label such as "platform" or "virtual" keeps runs apart for compareLoadTests
+            String label = System.getProperty("load.label", "");
+            settings.reportFile = System.getProperty("load.report",
+                    LoadReportComparison.reportPath(label.isBlank() ? null : label));
+            settings.randomSeed = Long.getLong("load.randomSeed", 42L);
+            String range = System.getProperty("load.vendorIdRange", "");
+            if (!range.isBlank()) {
+                String[] bounds = range.split("-");
+                settings.vendorIdFrom = Long.parseLong(bounds[0].trim());
+                settings.vendorIdTo = Long.parseLong(bounds[1].trim());
+            }
+            return settings;
+        }
+    }
+}
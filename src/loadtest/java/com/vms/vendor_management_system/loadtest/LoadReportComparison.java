@@ -0,0 +1,101 @@
+package com.vms.vendor_management_system.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Prints two {@link LoadDriver} reports side by side with the relative change in throughput and latency,
+ * e.g. the platform-thread baseline against the virtual-thread mode at the same connection pool size.
+ *
+ * Run with {@code ./gradlew compareLoadTests -Pload.baseline=platform -Pload.candidate=virtual}; each value
+ * is a run label or a path to a report CSV.
+ */
+public final class LoadReportComparison {
+
+    private static final String REPORT_DIR = "build/reports/loadtest/";
+
+    private LoadReportComparison() {
+    }
+
+    static String reportPath(String label) {
+        return REPORT_DIR + (label == null ? "summary.csv" : "summary-" + label + ".csv");
+    }
+
+    public static void main(String[] args) throws IOException {
+        String baselineName = System.getProperty("load.baseline", "platform");
+        String candidateName = System.getProperty("load.candidate", "virtual");
+        Map<String, double[]> baseline = read(resolve(baselineName));
+        Map<String, double[]> candidate = read(resolve(candidateName));
+
+        System.out.printf("Baseline %s vs candidate %s%n", baselineName, candidateName);
+        String format = "%-46s %21s %21s %21s %15s%n";
+        System.out.printf(format, "endpoint", "req/s", "p50 ms", "p99 ms", "errors");
+        TreeSet<String> endpoints = new TreeSet<>(baseline.keySet());
+        endpoints.addAll(candidate.keySet());
+        double[] baselineTotal = new double[2];
+        double[] candidateTotal = new double[2];
+        for (String endpoint : endpoints) {
+            double[] before = baseline.getOrDefault(endpoint, new double[Column.values().length]);
+            double[] after = candidate.getOrDefault(endpoint, new double[Column.values().length]);
+            System.out.printf(format, endpoint,
+                    change(before, after, Column.THROUGHPUT), change(before, after, Column.P50),
+                    change(before, after, Column.P99),
+                    String.format("%.0f -> %.0f", before[Column.ERRORS.ordinal()], after[Column.ERRORS.ordinal()]));
+            baselineTotal[0] += before[Column.THROUGHPUT.ordinal()];
+            candidateTotal[0] += after[Column.THROUGHPUT.ordinal()];
+            baselineTotal[1] += before[Column.ERRORS.ordinal()];
+            candidateTotal[1] += after[Column.ERRORS.ordinal()];
+        }
+        System.out.printf("Total throughput %.1f -> %.1f req/s %s, errors %.0f -> %.0f%n",
+                baselineTotal[0], candidateTotal[0], percent(baselineTotal[0], candidateTotal[0]),
+                baselineTotal[1], candidateTotal[1]);
+    }
+
+    private static Path resolve(String nameOrPath) {
+        Path path = Path.of(nameOrPath);
+        return Files.exists(path) ? path : Path.of(reportPath(nameOrPath));
+    }
+
+    /**
+     * Reads a report written by {@link LoadDriver}: quoted endpoint followed by the numeric columns.
+     */
+    private static Map<String, double[]> read(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path);
+        Map<String, double[]> rows = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            int endQuote = line.indexOf('"', 1);
+            String[] values = line.substring(endQuote + 2).split(",");
+            double[] row = new double[Column.values().length];
+            for (Column column : Column.values()) {
+                row[column.ordinal()] = Double.parseDouble(values[column.csvIndex]);
+            }
+            rows.put(line.substring(1, endQuote), row);
+        }
+        return rows;
+    }
+
+    private static String change(double[] before, double[] after, Column column) {
+        double from = before[column.ordinal()];
+        double to = after[column.ordinal()];
+        return String.format("%.1f -> %.1f %s", from, to, percent(from, to));
+    }
+
+    private static String percent(double from, double to) {
+        return from == 0 ? "(n/a)" : String.format("(%+.0f%%)", (to - from) * 100 / from);
+    }
+
+    private enum Column {
+        ERRORS(1), THROUGHPUT(2), P50(3), P99(5);
+
+        private final int csvIndex;
+
+        Column(int csvIndex) {
+            this.csvIndex = csvIndex;
+        }
+    }
+}
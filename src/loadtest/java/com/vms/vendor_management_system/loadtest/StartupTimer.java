@@ -0,0 +1,158 @@
+package com.vms.vendor_management_system.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-request of the extracted application jar, with default settings and with the
+ * fast-startup setup (AOT, CDS archive, fast-startup profile).
+ *
+ * Each run launches a fresh JVM on the in-memory database and polls {@code /actuator/health} until it is UP.
+ * It then times one real request, because lazy initialization moves work from startup onto that request.
+ * Medians over {@code startup.runs} are printed and written to {@code build/reports/startup/summary.txt}.
+ *
+ * Run with {@code ./gradlew measureStartup}.
+ */
+public final class StartupTimer {
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final Settings settings;
+
+    private StartupTimer(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupTimer(Settings.fromSystemProperties()).run();
+    }
+
+    private void run() throws Exception {
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of());
+        List<String> fast = new ArrayList<>(List.of("-Dspring.aot.enabled=true", "-Dspring.profiles.active=fast-startup"));
+        if (Files.exists(settings.dir.resolve(settings.archive))) {
+            fast.add(0, "-XX:SharedArchiveFile=" + settings.archive);
+        } else {
+            System.out.println("No CDS archive at " + settings.dir.resolve(settings.archive) + "; run ./gradlew cdsArchive first");
+        }
+        variants.put("fast-startup", fast);
+
+        Files.createDirectories(settings.reportDir);
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%-14s %12s %18s %24s%n",
+                "variant", "healthy ms", "first request ms", "time to first request ms"));
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[][] runs = new long[settings.runs][];
+            for (int i = 0; i < settings.runs; i++) {
+                runs[i] = measure(variant.getKey() + "-" + (i + 1), variant.getValue());
+                System.out.printf("%s run %d: healthy after %d ms, first request %d ms%n",
+                        variant.getKey(), i + 1, runs[i][0], runs[i][1]);
+            }
+            report.append(String.format(Locale.ROOT, "%-14s %12d %18d %24d%n", variant.getKey(),
+                    median(runs, 0), median(runs, 1), median(runs, 2)));
+        }
+        System.out.print(report);
+        Path summary = settings.reportDir.resolve("summary.txt");
+        Files.writeString(summary, report);
+        System.out.println("Report written to " + summary.toAbsolutePath());
+    }
+
+    /**
+     * Returns milliseconds until healthy, of the first request, and from launch to the first response.
+     */
+    private long[] measure(String name, List<String> jvmArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(settings.java);
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", settings.jar, "--server.port=" + settings.port));
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(settings.dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(settings.reportDir.resolve(name + ".log").toFile())
+                .start();
+        try {
+            long deadline = start + TimeUnit.SECONDS.toNanos(settings.timeoutSeconds);
+            while (status("/actuator/health") != 200) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException(name + " did not become healthy; see " + name + ".log");
+                }
+                Thread.sleep(25);
+            }
+            long healthy = System.nanoTime();
+            int firstStatus = status(settings.firstRequestPath);
+            long firstResponse = System.nanoTime();
+            if (firstStatus >= 400) {
+                throw new IllegalStateException(name + ": " + settings.firstRequestPath + " returned " + firstStatus);
+            }
+            return new long[]{
+                    TimeUnit.NANOSECONDS.toMillis(healthy - start),
+                    TimeUnit.NANOSECONDS.toMillis(firstResponse - healthy),
+                    TimeUnit.NANOSECONDS.toMillis(firstResponse - start)
+            };
+        } finally {
+            process.destroy();
+            if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private int status(String path) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + settings.port + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long median(long[][] runs, int column) {
+        long[] values = Arrays.stream(runs).mapToLong(run -> run[column]).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static final class Settings {
+        private String java;
+        private Path dir;
+        private String jar;
+        private String archive;
+        private int runs;
+        private int port;
+        private int timeoutSeconds;
+        private String firstRequestPath;
+        private Path reportDir;
+
+        private static Settings fromSystemProperties() {
+            Settings settings = new Settings();
+            settings.java = System.getProperty("startup.java", "java");
+            settings.dir = Path.of(System.getProperty("startup.dir", "build/cds/application"));
+            settings.jar = System.getProperty("startup.jar");
+            settings.archive = System.getProperty("startup.archive", "application.jsa");
+            settings.runs = Math.max(1, Integer.getInteger("startup.runs", 3));
+            settings.port = Integer.getInteger("startup.port", 18080);
+            settings.timeoutSeconds = Integer.getInteger("startup.timeoutSeconds", 180);
+            settings.firstRequestPath = System.getProperty("startup.firstRequestPath", "/api/dashboard");
+            settings.reportDir = Path.of(System.getProperty("startup.reportDir", "build/reports/startup"));
+            if (settings.jar == null) {
+                throw new IllegalArgumentException("startup.jar is required");
+            }
+            return settings;
+        }
+    }
+}
@@ -0,0 +1,525 @@
+package com.vms.vendor_management_system.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Bulk-loads production-scale synthetic data straight over JDBC, for load tests and query-plan work.
+ *
+ * The schema must already be migrated (start the application once against the same database). Rows get
+ * realistic status mixes and a skewed vendor popularity, so a few vendors own most purchase orders. The
+ * derived scorecard and rating rollup tables are rebuilt afterwards, and the change sequence is moved past
+ * the values handed out here. Codes carry {@code seed.prefix}, so a second run with the same prefix is refused.
+ *
+ * Run with {@code ./gradlew seedData -Pseed.vendors=100000 -Pseed.purchaseOrders=2000000}.
+ */
+public final class SyntheticDataGenerator {
+
+    private static final String[] NAME_WORDS = {
+            "Acme", "Summit", "Pioneer", "Harbor", "Atlas", "Crescent", "Evergreen", "Granite", "Horizon",
+            "Keystone", "Liberty", "Meridian", "Northwind", "Orchid", "Pinnacle", "Quantum", "Riverside",
+            "Sterling", "Trident", "Union", "Vertex", "Westfield", "Zenith", "Beacon", "Cobalt", "Delta"
+    };
+    private static final String[] NAME_TRADES = {
+            "Supplies", "Logistics", "Foods", "Technologies", "Consulting", "Facilities", "Electronics",
+            "Construction", "Medical", "Print", "Security", "Energy", "Catering", "Freight", "Software"
+    };
+    private static final String[] NAME_SUFFIXES = {"Ltd", "Inc", "LLC", "Group", "Co", "Partners"};
+    private static final String[] CITIES = {"Lagos", "Nairobi", "London", "New York", "Berlin", "Accra", "Toronto"};
+    private static final String[] CRITERIA = {"Quality", "On-time Delivery", "Pricing", "Responsiveness", "Compliance"};
+    private static final String[] USER_ROLES = {
+            "ADMIN", "DEPARTMENT_REQUESTER", "DEPARTMENT_REQUESTER", "DEPARTMENT_REQUESTER",
+            "FINANCE_APPROVER", "COMPLIANCE_APPROVER"
+    };
+    private static final String CURRENCY = "USD";
+    // File database shared with the application when both use the same URL; AUTO_SERVER lets them run side by side
+    private static final String DEFAULT_URL = "jdbc:h2:file:./build/loadtest/vendor_db;MODE=PostgreSQL;AUTO_SERVER=TRUE";
+
+    // Statuses of vendors that did business and so own orders, contracts and ratings
+    private static final List<String> OPERATIONAL_VENDOR_STATUSES = List.of("ACTIVE", "INACTIVE", "SUSPENDED", "TERMINATED");
+
+    private final Connection connection;
+    private final Settings settings;
+    private final Random random;
+    private final LocalDate today = LocalDate.now();
+
+    private final List<Long> departmentIds = new ArrayList<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<Long> criteriaIds = new ArrayList<>();
+    private final List<Long> requesterIds = new ArrayList<>();
+    private final List<Long> approverIds = new ArrayList<>();
+    private long[] vendorIds;
+    private LocalDate[] vendorSince;
+    private int operationalVendors;
+
+    private SyntheticDataGenerator(Connection connection, Settings settings) {
+        this.connection = connection;
+        this.settings = settings;
+        this.random = new Random(settings.randomSeed);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Settings settings = Settings.fromSystemProperties();
+        System.out.printf("Seeding %s: %,d vendors, %,d purchase orders, %,d contracts, %,d ratings%n",
+                settings.url, settings.vendors, settings.purchaseOrders, settings.contracts, settings.ratings);
+        try (Connection connection = DriverManager.getConnection(settings.url, settings.username, settings.password)) {
+            connection.setAutoCommit(false);
+            new SyntheticDataGenerator(connection, settings).run();
+        }
+    }
+
+    private void run() throws SQLException {
+        long start = System.nanoTime();
+        ensureFreshPrefix();
+        loadReferenceData();
+
+        timed("vendors", this::insertVendors);
+        timed("vendor creation requests", this::insertVendorRequests);
+        timed("purchase orders", this::insertPurchaseOrders);
+        timed("contracts", this::insertContracts);
+        timed("ratings", this::insertRatings);
+        timed("scorecards and rating rollups", this::rebuildDerivedTables);
+
+        numberChanges();
+        execute("ANALYZE");
+        connection.commit();
+        System.out.printf("Done in %,d s%n", (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    private void ensureFreshPrefix() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM vendors WHERE vendor_code LIKE ?")) {
+            statement.setString(1, settings.prefix + "-%");
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                if (rs.getLong(1) > 0) {
+                    throw new IllegalStateException("Vendors with prefix " + settings.prefix
+                            + " already exist; pick another -Pseed.prefix or reset the database");
+                }
+            }
+        }
+    }
+
+    private void loadReferenceData() throws SQLException {
+        departmentIds.addAll(queryIds("SELECT id FROM departments WHERE is_active = TRUE ORDER BY id"));
+        categoryIds.addAll(queryIds("SELECT id FROM vendor_categories WHERE is_active = TRUE ORDER BY id"));
+        if (departmentIds.isEmpty() || categoryIds.isEmpty()) {
+            throw new IllegalStateException("Departments and vendor categories are missing; run the migrations first");
+        }
+
+        criteriaIds.addAll(queryIds("SELECT id FROM vendor_performance_criteria WHERE is_active = TRUE ORDER BY id"));
+        if (criteriaIds.isEmpty()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO vendor_performance_criteria (name, description, weight, max_score, is_active, created_at) "
+                            + "VALUES (?, ?, ?, 10, TRUE, CURRENT_TIMESTAMP)")) {
+                for (String name : CRITERIA) {
+                    statement.setString(1, name);
+                    statement.setString(2, "Synthetic criterion");
+                    statement.setDouble(3, 1.0 / CRITERIA.length);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            criteriaIds.addAll(queryIds("SELECT id FROM vendor_performance_criteria WHERE is_active = TRUE ORDER BY id"));
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (username, first_name, last_name, email_value, role, department_id, is_active, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, TRUE, CURRENT_TIMESTAMP)")) {
+            for (int i = 0; i < settings.users; i++) {
+                String username = (settings.prefix + "-user-" + i).toLowerCase(Locale.ROOT);
+                statement.setString(1, username);
+                statement.setString(2, "Load");
+                statement.setString(3, "User " + i);
+                statement.setString(4, username + "@loadtest.example.com");
+                statement.setString(5, USER_ROLES[i % USER_ROLES.length]);
+                statement.setLong(6, departmentIds.get(i % departmentIds.size()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        String userPattern = (settings.prefix + "-user-%").toLowerCase(Locale.ROOT);
+        requesterIds.addAll(queryIds("SELECT id FROM users WHERE username LIKE '" + userPattern
+                + "' AND role = 'DEPARTMENT_REQUESTER' ORDER BY id"));
+        approverIds.addAll(queryIds("SELECT id FROM users WHERE username LIKE '" + userPattern
+                + "' AND role = 'ADMIN' ORDER BY id"));
+        connection.commit();
+    }
+
+    private void insertVendors() throws SQLException {
+        WeightedChoice<String> statuses = WeightedChoice.of(weights(
+                "ACTIVE", 70, "INACTIVE", 8, "SUSPENDED", 3, "TERMINATED", 3,
+                "PENDING_CREATION", 6, "UNDER_REVIEW", 5, "APPROVED", 3, "REJECTED", 2));
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO vendors (vendor_code, company_name, legal_name, tax_id, email_value, phone, address_street, "
+                        + "address_city, address_country, status, category_id, website, default_currency, created_at, "
+                        + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < settings.vendors; i++) {
+                String name = companyName();
+                LocalDateTime createdAt = pastDateTime(settings.years * 365);
+                statement.setString(1, String.format("%s-%07d", settings.prefix, i));
+                statement.setString(2, name);
+                statement.setString(3, name + " " + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)]);
+                statement.setString(4, String.format("TIN-%09d", random.nextInt(1_000_000_000)));
+                statement.setString(5, String.format("accounts%d@vendor%d.example.com", i, i));
+                statement.setString(6, String.format("+1 555 %07d", random.nextInt(10_000_000)));
+                statement.setString(7, (1 + random.nextInt(400)) + " Market Street");
+                statement.setString(8, CITIES[random.nextInt(CITIES.length)]);
+                statement.setString(9, "US");
+                statement.setString(10, statuses.pick(random));
+                statement.setLong(11, pick(categoryIds));
+                statement.setString(12, String.format("https://vendor%d.example.com", i));
+                statement.setString(13, CURRENCY);
+                statement.setObject(14, createdAt);
+                statement.setObject(15, createdAt);
+                addToBatch(statement, i);
+            }
+            flush(statement);
+        }
+
+        // Operational vendors first, so the skewed picks below only ever land on them
+        List<Long> operational = new ArrayList<>();
+        List<Long> other = new ArrayList<>();
+        List<LocalDate> operationalSince = new ArrayList<>();
+        List<LocalDate> otherSince = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, created_at, status FROM vendors WHERE vendor_code LIKE ? ORDER BY id")) {
+            statement.setString(1, settings.prefix + "-%");
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    boolean isOperational = OPERATIONAL_VENDOR_STATUSES.contains(rs.getString(3));
+                    (isOperational ? operational : other).add(rs.getLong(1));
+                    (isOperational ? operationalSince : otherSince).add(rs.getObject(2, LocalDateTime.class).toLocalDate());
+                }
+            }
+        }
+        operationalVendors = operational.size();
+        operational.addAll(other);
+        operationalSince.addAll(otherSince);
+        vendorIds = operational.stream().mapToLong(Long::longValue).toArray();
+        vendorSince = operationalSince.toArray(new LocalDate[0]);
+        if (operationalVendors == 0) {
+            throw new IllegalStateException("No operational vendors were generated; raise seed.vendors");
+        }
+    }
+
+    /**
+     * One creation request per vendor; operational vendors come from an ACTIVE request, the rest are still in the workflow.
+     */
+    private void insertVendorRequests() throws SQLException {
+        WeightedChoice<String> open = WeightedChoice.of(weights(
+                "DRAFT", 15, "PENDING_COMPLIANCE_REVIEW", 30, "PENDING_FINANCE_REVIEW", 25, "PENDING_ADMIN_REVIEW", 15,
+                "RETURNED_FOR_INFO", 5, "REJECTED_BY_COMPLIANCE", 4, "REJECTED_BY_FINANCE", 3, "CANCELLED", 3));
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO vendor_creation_requests (request_number, status, requesting_department_id, "
+                        + "requested_by_user_id, vendor_id, company_name, business_justification, "
+                        + "expected_contract_value, category_id, currency, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < vendorIds.length; i++) {
+                boolean operational = i < operationalVendors;
+                LocalDateTime createdAt = vendorSince[i].minusDays(random.nextInt(30)).atTime(randomTime());
+                statement.setString(1, String.format("VCR-%s-%07d", settings.prefix, i));
+                statement.setString(2, operational ? "ACTIVE" : open.pick(random));
+                statement.setLong(3, pick(departmentIds));
+                statement.setLong(4, pick(requesterIds));
+                if (operational) {
+                    statement.setLong(5, vendorIds[i]);
+                } else {
+                    statement.setNull(5, Types.BIGINT);
+                }
+                statement.setString(6, companyName());
+                statement.setString(7, "Synthetic onboarding request");
+                statement.setDouble(8, Math.round(amount(10.0, 1.0)));
+                statement.setLong(9, pick(categoryIds));
+                statement.setString(10, CURRENCY);
+                statement.setObject(11, createdAt);
+                statement.setObject(12, createdAt);
+                addToBatch(statement, i);
+            }
+            flush(statement);
+        }
+    }
+
+    /**
+     * Orders from the last 30 days are mostly still open; older ones have mostly been received or closed.
+     */
+    private void insertPurchaseOrders() throws SQLException {
+        WeightedChoice<String> recent = WeightedChoice.of(weights(
+                "DRAFT", 20, "PENDING_APPROVAL", 30, "APPROVED", 20, "SENT", 20, "REJECTED", 5, "CANCELLED", 5));
+        WeightedChoice<String> settled = WeightedChoice.of(weights(
+                "RECEIVED", 80, "SENT", 3, "REJECTED", 6, "CANCELLED", 10, "DRAFT", 1));
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO purchase_orders (po_number, vendor_id, description, total_amount, currency, order_date, "
+                        + "expected_delivery_date, status, approval_threshold, created_by_user_id, approved_by_user_id, "
+                        + "approved_at, rejection_reason, payment_terms, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < settings.purchaseOrders; i++) {
+                int vendor = skewedVendor();
+                LocalDate orderDate = dateSince(vendorSince[vendor]);
+                String status = (orderDate.isAfter(today.minusDays(30)) ? recent : settled).pick(random);
+                LocalDateTime createdAt = orderDate.atTime(randomTime());
+                boolean approved = status.equals("APPROVED") || status.equals("SENT") || status.equals("RECEIVED");
+                statement.setString(1, String.format("PO-%s-%08d", settings.prefix, i));
+                statement.setLong(2, vendorIds[vendor]);
+                statement.setString(3, "Synthetic order " + i);
+                statement.setBigDecimal(4, BigDecimal.valueOf(amount(7.0, 1.2)).setScale(2, RoundingMode.HALF_UP));
+                statement.setString(5, CURRENCY);
+                statement.setObject(6, orderDate);
+                statement.setObject(7, orderDate.plusDays(7 + random.nextInt(54)));
+                statement.setString(8, status);
+                statement.setBigDecimal(9, BigDecimal.valueOf(10_000));
+                statement.setLong(10, pick(requesterIds));
+                if (approved) {
+                    statement.setLong(11, pick(approverIds));
+                    statement.setObject(12, createdAt.plusHours(1 + random.nextInt(72)));
+                } else {
+                    statement.setNull(11, Types.BIGINT);
+                    statement.setNull(12, Types.TIMESTAMP);
+                }
+                statement.setString(13, status.equals("REJECTED") ? "Over budget" : null);
+                statement.setString(14, "Net 30");
+                statement.setObject(15, createdAt);
+                statement.setObject(16, createdAt);
+                addToBatch(statement, i);
+            }
+            flush(statement);
+        }
+    }
+
+    /**
+     * Contracts whose end date has passed are mostly EXPIRED; running ones are mostly ACTIVE.
+     */
+    private void insertContracts() throws SQLException {
+        WeightedChoice<String> ended = WeightedChoice.of(weights("EXPIRED", 85, "TERMINATED", 15));
+        WeightedChoice<String> running = WeightedChoice.of(weights("ACTIVE", 85, "DRAFT", 10, "TERMINATED", 5));
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO contracts (contract_number, vendor_id, title, contract_value, currency, start_date, end_date, "
+                        + "contract_type, status, created_by_user_id, approved_by_user_id, approved_at, created_at, "
+                        + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < settings.contracts; i++) {
+                int vendor = skewedVendor();
+                LocalDate startDate = dateSince(vendorSince[vendor]);
+                LocalDate endDate = startDate.plusMonths(6 + 6L * random.nextInt(6));
+                String status = (endDate.isBefore(today) ? ended : running).pick(random);
+                LocalDateTime createdAt = startDate.minusDays(random.nextInt(14)).atTime(randomTime());
+                statement.setString(1, String.format("CT-%s-%07d", settings.prefix, i));
+                statement.setLong(2, vendorIds[vendor]);
+                statement.setString(3, "Synthetic service agreement " + i);
+                statement.setBigDecimal(4, BigDecimal.valueOf(amount(10.0, 1.0)).setScale(2, RoundingMode.HALF_UP));
+                statement.setString(5, CURRENCY);
+                statement.setObject(6, startDate);
+                statement.setObject(7, endDate);
+                statement.setString(8, "SERVICE");
+                statement.setString(9, status);
+                statement.setLong(10, pick(requesterIds));
+                if (status.equals("DRAFT")) {
+                    statement.setNull(11, Types.BIGINT);
+                    statement.setNull(12, Types.TIMESTAMP);
+                } else {
+                    statement.setLong(11, pick(approverIds));
+                    statement.setObject(12, createdAt.plusDays(1));
+                }
+                statement.setObject(13, createdAt);
+                statement.setObject(14, createdAt);
+                addToBatch(statement, i);
+            }
+            flush(statement);
+        }
+    }
+
+    private void insertRatings() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO vendor_ratings (vendor_id, criteria_id, score, rated_by_user_id, rating_period_start, "
+                        + "rating_period_end, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < settings.ratings; i++) {
+                int vendor = skewedVendor();
+                LocalDate periodStart = dateSince(vendorSince[vendor]).withDayOfMonth(1);
+                LocalDateTime createdAt = periodStart.plusMonths(1).atTime(randomTime());
+                // Scores cluster around 7 out of 10
+                int score = Math.max(1, Math.min(10, (int) Math.round(7 + random.nextGaussian() * 1.5)));
+                statement.setLong(1, vendorIds[vendor]);
+                statement.setLong(2, pick(criteriaIds));
+                statement.setInt(3, score);
+                statement.setLong(4, pick(approverIds));
+                statement.setObject(5, periodStart.atStartOfDay());
+                statement.setObject(6, periodStart.plusMonths(1).minusDays(1).atStartOfDay());
+                statement.setObject(7, createdAt);
+                statement.setObject(8, createdAt);
+                addToBatch(statement, i);
+            }
+            flush(statement);
+        }
+    }
+
+    /**
+     * Recomputes the running totals the application maintains on every rating write, as V14 and V15 backfilled them.
+     */
+    private void rebuildDerivedTables() throws SQLException {
+        execute("DELETE FROM vendor_scorecards");
+        execute("INSERT INTO vendor_scorecards (vendor_id, criteria_id, rating_count, score_sum, updated_at) "
+                + "SELECT vendor_id, criteria_id, COUNT(*), SUM(score), CURRENT_TIMESTAMP "
+                + "FROM vendor_ratings GROUP BY vendor_id, criteria_id");
+        String bucket = "CAST(EXTRACT(YEAR FROM COALESCE(rating_period_start, created_at)) * 100 "
+                + "+ EXTRACT(MONTH FROM COALESCE(rating_period_start, created_at)) AS INTEGER)";
+        execute("DELETE FROM vendor_rating_monthly_rollups");
+        execute("INSERT INTO vendor_rating_monthly_rollups (vendor_id, criteria_id, bucket_month, rating_count, "
+                + "score_sum, updated_at) SELECT vendor_id, criteria_id, " + bucket + ", COUNT(*), SUM(score), "
+                + "CURRENT_TIMESTAMP FROM vendor_ratings WHERE COALESCE(rating_period_start, created_at) IS NOT NULL "
+                + "GROUP BY vendor_id, criteria_id, " + bucket);
+        connection.commit();
+    }
+
+    /**
+     * Numbers the new rows for the change feed the way the app's change sequencer does, holding its lock
+     * so a running instance cannot hand out numbers at the same time.
+     */
+    private void numberChanges() throws SQLException {
+        queryLong("SELECT id FROM change_sequencer_lock WHERE id = 1 FOR UPDATE");
+        for (String table : List.of("vendors", "vendor_creation_requests", "purchase_orders", "contracts")) {
+            execute("UPDATE " + table + " SET change_seq = nextval('change_seq') WHERE change_seq IS NULL");
+        }
+    }
+
+    // Helpers
+
+    /**
+     * Index into the operational vendors where low indexes are far more likely, so order volume follows a long tail.
+     */
+    private int skewedVendor() {
+        return (int) (operationalVendors * Math.pow(random.nextDouble(), settings.skew));
+    }
+
+    private LocalDate dateSince(LocalDate since) {
+        long days = Math.max(1, today.toEpochDay() - since.toEpochDay());
+        return since.plusDays((long) (random.nextDouble() * days));
+    }
+
+    private LocalDateTime pastDateTime(int maxDaysAgo) {
+        return today.minusDays(1 + random.nextInt(maxDaysAgo)).atTime(randomTime());
+    }
+
+    private LocalTime randomTime() {
+        return LocalTime.ofSecondOfDay(8 * 3600 + random.nextInt(10 * 3600));
+    }
+
+    /**
+     * Log-normal amount: {@code exp(mu)} is the median, {@code sigma} how far the tail reaches.
+     */
+    private double amount(double mu, double sigma) {
+        return Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    private String companyName() {
+        return NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + NAME_TRADES[random.nextInt(NAME_TRADES.length)];
+    }
+
+    private long pick(List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private void addToBatch(PreparedStatement statement, int index) throws SQLException {
+        statement.addBatch();
+        if ((index + 1) % settings.batchSize == 0) {
+            flush(statement);
+            if ((index + 1) % (settings.batchSize * 20) == 0) {
+                System.out.printf("  %,d rows%n", index + 1);
+            }
+        }
+    }
+
+    private void flush(PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private List<Long> queryIds(String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private void timed(String label, SqlStep step) throws SQLException {
+        long start = System.nanoTime();
+        step.run();
+        System.out.printf("%s: %,d ms%n", label, (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    private static Map<String, Integer> weights(Object... pairs) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            weights.put((String) pairs[i], (Integer) pairs[i + 1]);
+        }
+        return weights;
+    }
+
+    @FunctionalInterface
+    private interface SqlStep {
+        void run() throws SQLException;
+    }
+
+    private static final class Settings {
+        private String url;
+        private String username;
+        private String password;
+        private String prefix;
+        private int vendors;
+        private int purchaseOrders;
+        private int contracts;
+        private int ratings;
+        private int users;
+        private int years;
+        private int batchSize;
+        private double skew;
+        private long randomSeed;
+
+        private static Settings fromSystemProperties() {
+            Settings settings = new Settings();
+            settings.url = System.getProperty("seed.url", DEFAULT_URL);
+            settings.username = System.getProperty("seed.username", "sa");
+            settings.password = System.getProperty("seed.password", "");
+            settings.prefix = System.getProperty("seed.prefix", "LT").toUpperCase(Locale.ROOT);
+            settings.vendors = Integer.getInteger("seed.vendors", 100_000);
+            settings.purchaseOrders = Integer.getInteger("seed.purchaseOrders", 2_000_000);
+            settings.contracts = Integer.getInteger("seed.contracts", 50_000);
+            settings.ratings = Integer.getInteger("seed.ratings", 500_000);
+            settings.users = Math.max(USER_ROLES.length, Integer.getInteger("seed.users", 60));
+            settings.years = Math.max(1, Integer.getInteger("seed.years", 3));
+            settings.batchSize = Integer.getInteger("seed.batchSize", 5_000);
+            settings.skew = Double.parseDouble(System.getProperty("seed.skew", "2.5"));
+            settings.randomSeed = Long.getLong("seed.randomSeed", 42L);
+            return settings;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.vms.vendor_management_system.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Picks values with fixed relative weights, e.g. a status distribution or a traffic mix.
+ */
+final class WeightedChoice<T> {
+
+    private final List<T> values = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private int totalWeight;
+
+    private WeightedChoice() {
+    }
+
+    static <T> WeightedChoice<T> of(Map<T, Integer> weights) {
+        WeightedChoice<T> choice = new WeightedChoice<>();
+        weights.forEach((value, weight) -> {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + value);
+            }
+            if (weight > 0) {
+                choice.totalWeight += weight;
+                choice.values.add(value);
+                choice.cumulativeWeights.add(choice.totalWeight);
+            }
+        });
+        if (choice.totalWeight == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        return choice;
+    }
+
+    /**
+     * Parses {@code name=weight,name=weight}; names not listed keep the weight from {@code defaults}.
+     */
+    static Map<String, Integer> parseWeights(String spec, Map<String, Integer> defaults) {
+        Map<String, Integer> weights = new LinkedHashMap<>(defaults);
+        if (spec == null || spec.isBlank()) {
+            return weights;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2 || !defaults.containsKey(parts[0].trim())) {
+                throw new IllegalArgumentException("Invalid weight '" + entry + "', expected one of " + defaults.keySet());
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    T pick(Random random) {
+        int target = random.nextInt(totalWeight);
+        for (int i = 0; i < values.size(); i++) {
+            if (target < cumulativeWeights.get(i)) {
+                return values.get(i);
+            }
+        }
+        throw new IllegalStateException("Weights out of range");
+    }
+}
@@ -0,0 +1,18 @@
+package com.vms.vendor_management_system.application.dto.approvalrule;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Approval route of a document: the deciding rule (null for the default route) and the required approver role.
+ */
+@Value
+@Builder
+public class ApprovalRoutingResponse {
+    String documentType;
+    Long documentId;
+    Long ruleId;
+    String ruleName;
+    boolean requiresApproval;
+    String approverRole;
+}
@@ -0,0 +1,29 @@
+package com.vms.vendor_management_system.application.dto.approvalrule;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Response representation of an approval routing rule.
+ */
+@Value
+@Builder
+public class ApprovalRuleResponse {
+    Long id;
+    String name;
+    String documentType;
+    Integer priority;
+    BigDecimal minAmount;
+    BigDecimal maxAmount;
+    String currency;
+    Long categoryId;
+    Long departmentId;
+    Boolean requiresApproval;
+    String approverRole;
+    Boolean isActive;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
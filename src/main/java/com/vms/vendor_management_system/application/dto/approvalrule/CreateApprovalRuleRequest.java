@@ -0,0 +1,49 @@
+package com.vms.vendor_management_system.application.dto.approvalrule;
+
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Payload for creating or updating an approval routing rule; omitted conditions match everything.
+ */
+@Getter
+@Setter
+public class CreateApprovalRuleRequest {
+
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+
+    @NotNull
+    private ApprovalDocumentType documentType;
+
+    @NotNull
+    private Integer priority;
+
+    @DecimalMin("0.00")
+    private BigDecimal minAmount;
+
+    @DecimalMin("0.00")
+    private BigDecimal maxAmount;
+
+    @Size(max = 10)
+    private String currency;
+
+    private Long categoryId;
+
+    private Long departmentId;
+
+    private Boolean requiresApproval = true;
+
+    private UserRole approverRole;
+
+    private Boolean isActive = true;
+}
@@ -0,0 +1,20 @@
+package com.vms.vendor_management_system.application.dto.archive;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one archival run: records moved to the archive tables and the cutoffs used.
+ */
+@Value
+@Builder
+public class ArchivalRunResponse {
+    int purchaseOrdersArchived;
+    LocalDate purchaseOrderCutoff;
+    int contractsArchived;
+    LocalDate contractCutoff;
+    LocalDateTime completedAt;
+}
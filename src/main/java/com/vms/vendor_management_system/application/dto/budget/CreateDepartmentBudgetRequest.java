@@ -0,0 +1,36 @@
+package com.vms.vendor_management_system.application.dto.budget;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Payload for creating or updating a department budget.
+ */
+@Getter
+@Setter
+public class CreateDepartmentBudgetRequest {
+
+    @NotNull
+    private Long departmentId;
+
+    @NotNull
+    private LocalDate periodStart;
+
+    @NotNull
+    private LocalDate periodEnd;
+
+    @NotNull
+    @DecimalMin("0.00")
+    private BigDecimal amount;
+
+    @NotBlank
+    @Size(max = 10)
+    private String currency;
+}
@@ -0,0 +1,29 @@
+package com.vms.vendor_management_system.application.dto.budget;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response representation of a department budget with its current ledger balance.
+ */
+@Value
+@Builder
+public class DepartmentBudgetResponse {
+    Long id;
+    Long departmentId;
+    String departmentName;
+    LocalDate periodStart;
+    LocalDate periodEnd;
+    BigDecimal amount;
+    String currency;
+    BigDecimal reserved;
+    BigDecimal committed;
+    BigDecimal available;
+    LocalDateTime reconciledAt;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
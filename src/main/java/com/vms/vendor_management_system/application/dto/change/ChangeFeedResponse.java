@@ -0,0 +1,17 @@
+package com.vms.vendor_management_system.application.dto.change;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Response representation of a change feed page; {@code cursor} is the {@code since} value for the next call.
+ */
+@Value
+@Builder
+public class ChangeFeedResponse {
+    long cursor;
+    boolean hasMore;
+    List<ChangeRecordResponse> changes;
+}
@@ -0,0 +1,22 @@
+package com.vms.vendor_management_system.application.dto.change;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Response representation of one changed record in the change feed, carrying the record's current
+ * state in a compact form.
+ */
+@Value
+@Builder
+public class ChangeRecordResponse {
+    long sequence;
+    String entityType;
+    Long entityId;
+    String status;
+    LocalDateTime changedAt;
+    Map<String, Object> data;
+}
@@ -0,0 +1,17 @@
+package com.vms.vendor_management_system.application.dto.contract;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Active contracts of a vendor or department by days until they end: 0-30, 31-60 and 61-90.
+ */
+@Value
+@Builder
+public class ContractExpiryBucketResponse {
+    Long id; // vendor or department id, null for totals and contracts without a department
+    String name;
+    long within30Days;
+    long within60Days;
+    long within90Days;
+}
@@ -0,0 +1,21 @@
+package com.vms.vendor_management_system.application.dto.contract;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Precomputed contract expiry horizons per vendor and department.
+ */
+@Value
+@Builder
+public class ContractExpirySummaryResponse {
+    LocalDate asOf;
+    ContractExpiryBucketResponse totals;
+    List<ContractExpiryBucketResponse> vendors;
+    List<ContractExpiryBucketResponse> departments;
+    LocalDateTime computedAt;
+}
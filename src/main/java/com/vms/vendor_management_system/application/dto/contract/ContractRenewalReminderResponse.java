@@ -0,0 +1,21 @@
+package com.vms.vendor_management_system.application.dto.contract;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Renewal reminder emitted when a contract entered an expiry horizon.
+ */
+@Value
+@Builder
+public class ContractRenewalReminderResponse {
+    Long id;
+    Long contractId;
+    Long vendorId;
+    int horizonDays;
+    LocalDate contractEndDate;
+    LocalDateTime createdAt;
+}
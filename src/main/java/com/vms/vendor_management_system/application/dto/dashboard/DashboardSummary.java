@@ -28,7 +28,9 @@ public class DashboardSummary {
     long totalPurchaseOrders;
     long totalContracts;
     
-    // Real financial metrics from actual data
+    // Real financial metrics from actual data, converted to the reporting currency
+    // (amounts in currencies without an FX rate are left out; see /api/reports/spend)
+    String reportingCurrency;
     Double totalPurchaseOrderSpend;  // Total spend from all approved/sent/received purchase orders
     Double totalContractValue;  // Total value from active/approved contracts
     Double totalSpendYtd;  // Total spend year-to-date from purchase orders
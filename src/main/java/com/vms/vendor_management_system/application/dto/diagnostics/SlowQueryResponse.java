@@ -0,0 +1,18 @@
+package com.vms.vendor_management_system.application.dto.diagnostics;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response representation of a slow SQL statement and the request or background job that ran it.
+ */
+@Value
+@Builder
+public class SlowQueryResponse {
+    String sql;
+    long elapsedMs;
+    String source;
+    LocalDateTime occurredAt;
+}
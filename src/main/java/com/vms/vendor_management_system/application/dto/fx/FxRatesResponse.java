@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.application.dto.fx;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * The FX rates currently used for conversions.
+ */
+@Value
+@Builder
+public class FxRatesResponse {
+    String baseCurrency;
+    Map<String, BigDecimal> rates;
+    LocalDateTime loadedAt;
+}
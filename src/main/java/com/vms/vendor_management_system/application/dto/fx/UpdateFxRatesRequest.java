@@ -0,0 +1,25 @@
+package com.vms.vendor_management_system.application.dto.fx;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Payload replacing the FX rate table: units of the base currency per one unit of each currency.
+ */
+@Getter
+@Setter
+public class UpdateFxRatesRequest {
+
+    @NotBlank
+    @Size(max = 10)
+    private String baseCurrency;
+
+    @NotEmpty
+    private Map<String, BigDecimal> rates;
+}
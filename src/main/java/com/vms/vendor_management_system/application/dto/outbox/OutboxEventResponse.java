@@ -0,0 +1,24 @@
+package com.vms.vendor_management_system.application.dto.outbox;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response representation of an outbox event and its delivery state.
+ */
+@Value
+@Builder
+public class OutboxEventResponse {
+    Long id;
+    String eventType;
+    String aggregateType;
+    Long aggregateId;
+    String status;
+    int attempts;
+    LocalDateTime availableAt;
+    String lastError;
+    LocalDateTime processedAt;
+    LocalDateTime createdAt;
+}
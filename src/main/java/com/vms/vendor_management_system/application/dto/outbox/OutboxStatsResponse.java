@@ -0,0 +1,15 @@
+package com.vms.vendor_management_system.application.dto.outbox;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Number of outbox events per delivery state.
+ */
+@Value
+@Builder
+public class OutboxStatsResponse {
+    long pending;
+    long processed;
+    long failed;
+}
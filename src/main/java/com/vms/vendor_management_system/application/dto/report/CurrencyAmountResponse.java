@@ -0,0 +1,18 @@
+package com.vms.vendor_management_system.application.dto.report;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount in one currency, with its value in the reporting currency when a rate is known.
+ */
+@Value
+@Builder
+public class CurrencyAmountResponse {
+    String currency; // UNKNOWN when neither the document nor its vendor has a currency
+    BigDecimal amount;
+    long documentCount;
+    BigDecimal convertedAmount;
+}
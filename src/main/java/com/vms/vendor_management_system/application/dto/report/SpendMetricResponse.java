@@ -0,0 +1,18 @@
+package com.vms.vendor_management_system.application.dto.report;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * One spend figure broken down per currency and totalled in the reporting currency.
+ */
+@Value
+@Builder
+public class SpendMetricResponse {
+    List<CurrencyAmountResponse> byCurrency;
+    BigDecimal total; // reporting currency, excluding unconvertedCurrencies
+    List<String> unconvertedCurrencies;
+}
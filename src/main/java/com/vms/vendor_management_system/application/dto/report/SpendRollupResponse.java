@@ -0,0 +1,20 @@
+package com.vms.vendor_management_system.application.dto.report;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Purchase order and contract spend per currency, normalized to a reporting currency.
+ */
+@Value
+@Builder
+public class SpendRollupResponse {
+    String reportingCurrency;
+    SpendMetricResponse purchaseOrderSpendYtd;
+    SpendMetricResponse purchaseOrderSpend;
+    SpendMetricResponse activeContractValue;
+    LocalDateTime ratesLoadedAt;
+    LocalDateTime computedAt;
+}
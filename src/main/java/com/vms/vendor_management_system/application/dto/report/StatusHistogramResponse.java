@@ -0,0 +1,24 @@
+package com.vms.vendor_management_system.application.dto.report;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Count of an entity per status, known statuses first in lifecycle order (zero when absent).
+ */
+@Value
+@Builder
+public class StatusHistogramResponse {
+    String entity;
+    Long departmentId;
+    Long categoryId;
+    Long vendorId;
+    long total;
+    Map<String, Long> counts;
+
+    public long count(String status) {
+        return counts.getOrDefault(status, 0L);
+    }
+}
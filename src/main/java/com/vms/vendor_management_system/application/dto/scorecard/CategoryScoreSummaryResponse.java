@@ -0,0 +1,15 @@
+package com.vms.vendor_management_system.application.dto.scorecard;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Aggregate of the weighted scores of the rated vendors in a category.
+ */
+@Value
+@Builder
+public class CategoryScoreSummaryResponse {
+    Long categoryId;
+    long ratedVendorCount;
+    Double averageWeightedScore;
+}
@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.application.dto.scorecard;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Per-criteria line of a vendor scorecard.
+ */
+@Value
+@Builder
+public class CriteriaScoreResponse {
+    Long criteriaId;
+    String criteriaName;
+    Double weight;
+    Integer maxScore;
+    long ratingCount;
+    double averageScore;
+    double normalizedScore; // averageScore / maxScore, 0-100
+}
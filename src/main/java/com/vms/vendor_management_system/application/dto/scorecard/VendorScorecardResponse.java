@@ -0,0 +1,25 @@
+package com.vms.vendor_management_system.application.dto.scorecard;
+
+import com.vms.vendor_management_system.domain.enums.VendorStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Weighted scorecard of a vendor across its rated performance criteria.
+ */
+@Value
+@Builder
+public class VendorScorecardResponse {
+    Long vendorId;
+    String vendorCode;
+    String vendorName;
+    VendorStatus vendorStatus;
+    Long categoryId;
+    Double weightedScore; // 0-100, null when the vendor has no ratings on active criteria
+    long ratingCount;
+    List<CriteriaScoreResponse> criteria;
+    LocalDateTime computedAt;
+}
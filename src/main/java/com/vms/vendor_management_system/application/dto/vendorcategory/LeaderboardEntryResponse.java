@@ -0,0 +1,18 @@
+package com.vms.vendor_management_system.application.dto.vendorcategory;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One ranked vendor on a category leaderboard.
+ */
+@Value
+@Builder
+public class LeaderboardEntryResponse {
+    int rank;
+    Long vendorId;
+    String vendorCode;
+    String vendorName;
+    Double weightedScore; // 0-100
+    long ratingCount;
+}
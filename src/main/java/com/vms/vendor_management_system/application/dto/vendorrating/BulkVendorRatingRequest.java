@@ -0,0 +1,46 @@
+package com.vms.vendor_management_system.application.dto.vendorrating;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payload for rating many vendors at once: one row per vendor with a score per criteria.
+ */
+@Getter
+@Setter
+public class BulkVendorRatingRequest {
+
+    @NotNull
+    private Long ratedByUserId;
+
+    private LocalDateTime ratingPeriodStart;
+
+    private LocalDateTime ratingPeriodEnd;
+
+    @NotEmpty
+    @Size(max = 5000)
+    @Valid
+    private List<VendorScores> vendors;
+
+    @Getter
+    @Setter
+    public static class VendorScores {
+
+        @NotNull
+        private Long vendorId;
+
+        @NotEmpty
+        private Map<Long, Integer> scores; // criteria id -> score
+
+        @Size(max = 2000)
+        private String comments;
+    }
+}
@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.application.dto.vendorrating;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a bulk rating submission.
+ */
+@Value
+@Builder
+public class BulkVendorRatingResponse {
+    int createdCount;
+    int vendorCount;
+    int criteriaCount;
+    LocalDateTime ratingPeriodStart;
+    LocalDateTime ratingPeriodEnd;
+}
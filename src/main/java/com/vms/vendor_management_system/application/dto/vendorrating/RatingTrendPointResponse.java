@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.application.dto.vendorrating;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * One period (month, quarter or year) of a vendor rating trend.
+ */
+@Value
+@Builder
+public class RatingTrendPointResponse {
+    String period; // 2026-10, 2026-Q4 or 2026
+    LocalDate periodStart;
+    long ratingCount;
+    Double averageScore; // raw average, only when the trend is for a single criteria
+    Double weightedScore; // 0-100, weighted like the vendor scorecard
+}
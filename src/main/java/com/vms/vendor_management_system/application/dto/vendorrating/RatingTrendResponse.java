@@ -0,0 +1,21 @@
+package com.vms.vendor_management_system.application.dto.vendorrating;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Rating trend of a vendor, overall or for a single criteria, answered from monthly rollups.
+ */
+@Value
+@Builder
+public class RatingTrendResponse {
+    Long vendorId;
+    Long criteriaId;
+    String granularity;
+    YearMonth from;
+    YearMonth to;
+    List<RatingTrendPointResponse> points;
+}
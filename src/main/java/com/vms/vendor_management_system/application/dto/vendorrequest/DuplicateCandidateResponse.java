@@ -0,0 +1,20 @@
+package com.vms.vendor_management_system.application.dto.vendorrequest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Existing vendor or in-flight request that looks like a duplicate of a submitted request.
+ */
+@Value
+@Builder
+public class DuplicateCandidateResponse {
+    String candidateType; // VENDOR or REQUEST
+    Long candidateId;
+    String reference; // vendor code or request number
+    String companyName;
+    double score;
+    List<String> matchedOn; // TAX_ID, REGISTRATION_NUMBER, EMAIL_DOMAIN, NAME
+}
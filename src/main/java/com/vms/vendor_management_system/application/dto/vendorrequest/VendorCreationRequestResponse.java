@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Value;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Response representation of a vendor creation request.
@@ -64,5 +65,8 @@ public class VendorCreationRequestResponse {
     
     // Supporting documents: uploaded files, links, GitHub pages, LinkedIn
     String supportingDocuments; // JSON array: [{"type":"file|link|github|linkedin","value":"...","name":"...","fileName":"..."}]
+
+    // Likely duplicates flagged when the request is submitted
+    List<DuplicateCandidateResponse> possibleDuplicates;
 }
 
@@ -0,0 +1,45 @@
+package com.vms.vendor_management_system.application.dto.webhook;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Payload for creating or updating a webhook subscription; the secret may be omitted on update to keep the current one.
+ */
+@Getter
+@Setter
+public class CreateWebhookSubscriptionRequest {
+
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+
+    @NotBlank
+    @Size(max = 1000)
+    @Pattern(regexp = "https?://.+", message = "must be an http or https URL")
+    private String url;
+
+    @Size(min = 16, max = 255)
+    private String secret;
+
+    @NotEmpty
+    private Set<String> eventTypes;
+
+    @Min(1)
+    @Max(32)
+    private Integer maxConcurrency = 2;
+
+    @Min(1)
+    @Max(500)
+    private Integer maxBatchSize = 50;
+
+    private Boolean isActive = true;
+}
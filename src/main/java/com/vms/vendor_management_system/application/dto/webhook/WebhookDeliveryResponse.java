@@ -0,0 +1,25 @@
+package com.vms.vendor_management_system.application.dto.webhook;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response representation of one webhook delivery and its latest attempt.
+ */
+@Value
+@Builder
+public class WebhookDeliveryResponse {
+    Long id;
+    Long subscriptionId;
+    Long outboxEventId;
+    String eventType;
+    String status;
+    int attempts;
+    LocalDateTime nextAttemptAt;
+    Integer lastStatusCode;
+    String lastError;
+    LocalDateTime deliveredAt;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.vms.vendor_management_system.application.dto.webhook;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Delivery metrics of one webhook subscription: counters since startup plus the current queue sizes.
+ */
+@Value
+@Builder
+public class WebhookMetricsResponse {
+    Long subscriptionId;
+    long batches;
+    long delivered;
+    long failedAttempts;
+    long deadLettered;
+    long pending;
+    long dead;
+    Double averageLatencyMs;
+    long lastLatencyMs;
+    Integer lastStatusCode;
+    String lastError;
+    LocalDateTime lastAttemptAt;
+}
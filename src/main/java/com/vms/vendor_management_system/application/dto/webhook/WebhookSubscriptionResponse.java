@@ -0,0 +1,24 @@
+package com.vms.vendor_management_system.application.dto.webhook;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Response representation of a webhook subscription; the signing secret is never returned.
+ */
+@Value
+@Builder
+public class WebhookSubscriptionResponse {
+    Long id;
+    String name;
+    String url;
+    Set<String> eventTypes;
+    Integer maxConcurrency;
+    Integer maxBatchSize;
+    Boolean isActive;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
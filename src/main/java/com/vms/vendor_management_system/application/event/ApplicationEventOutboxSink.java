@@ -0,0 +1,28 @@
+package com.vms.vendor_management_system.application.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Republishes outbox events as Spring application events for in-process consumers such as cache invalidation.
+ * Listeners run on the dispatcher's thread, after the originating transaction has committed.
+ */
+@Component
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return "application-events";
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.vms.vendor_management_system.application.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published after commit when a contract first enters a 30/60/90-day expiry horizon.
+ */
+public record ContractRenewalDueEvent(Long contractId, Long vendorId, int horizonDays, LocalDate endDate) {
+}
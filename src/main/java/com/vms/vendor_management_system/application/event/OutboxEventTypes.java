@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.application.event;
+
+import java.util.Set;
+
+/**
+ * Event types written to the outbox.
+ */
+public final class OutboxEventTypes {
+
+    public static final String VENDOR_ACTIVATED = "vendor.activated";
+    public static final String PURCHASE_ORDER_APPROVED = "purchase_order.approved";
+    public static final String PURCHASE_ORDER_RECEIVED = "purchase_order.received";
+    public static final String CONTRACT_APPROVED = "contract.approved";
+
+    public static final Set<String> ALL = Set.of(VENDOR_ACTIVATED, PURCHASE_ORDER_APPROVED, PURCHASE_ORDER_RECEIVED, CONTRACT_APPROVED);
+
+    private OutboxEventTypes() {
+    }
+}
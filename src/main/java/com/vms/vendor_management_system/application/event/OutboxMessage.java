@@ -0,0 +1,16 @@
+package com.vms.vendor_management_system.application.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of an outbox event handed to the sinks; {@code payload} is JSON and {@code attempt}
+ * starts at 1. Delivery is at-least-once, so sinks deduplicate on {@code id}.
+ */
+public record OutboxMessage(Long id,
+                            String eventType,
+                            String aggregateType,
+                            Long aggregateId,
+                            String payload,
+                            LocalDateTime createdAt,
+                            int attempt) {
+}
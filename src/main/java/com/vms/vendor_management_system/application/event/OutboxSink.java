@@ -0,0 +1,16 @@
+package com.vms.vendor_management_system.application.event;
+
+/**
+ * Downstream target of outbox events (ERP, e-mail, cache invalidation, ...).
+ * Every sink bean receives each event type it supports; throwing fails the delivery and schedules a retry.
+ */
+public interface OutboxSink {
+
+    String getName();
+
+    default boolean supports(String eventType) {
+        return true;
+    }
+
+    void deliver(OutboxMessage message) throws Exception;
+}
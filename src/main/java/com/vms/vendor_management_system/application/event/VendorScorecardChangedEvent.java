@@ -0,0 +1,12 @@
+package com.vms.vendor_management_system.application.event;
+
+import com.vms.vendor_management_system.application.dto.scorecard.VendorScorecardResponse;
+
+/**
+ * Published when a vendor's scorecard is republished; {@code previous} or {@code current} is null
+ * when the vendor had no scorecard before or was removed.
+ */
+public record VendorScorecardChangedEvent(Long vendorId,
+                                          VendorScorecardResponse previous,
+                                          VendorScorecardResponse current) {
+}
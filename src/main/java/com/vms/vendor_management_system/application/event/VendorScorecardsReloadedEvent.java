@@ -0,0 +1,8 @@
+package com.vms.vendor_management_system.application.event;
+
+/**
+ * Published after all scorecards were reloaded at once (startup or rebuild); per-vendor change
+ * events are not published during a reload.
+ */
+public record VendorScorecardsReloadedEvent(int scorecardCount) {
+}
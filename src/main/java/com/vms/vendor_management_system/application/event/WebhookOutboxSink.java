@@ -0,0 +1,33 @@
+package com.vms.vendor_management_system.application.event;
+
+import com.vms.vendor_management_system.application.service.WebhookDeliveryEngine;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands outbox events to the webhook engine, which persists one delivery per subscribed endpoint.
+ * Sending happens later, batched per endpoint, so a slow endpoint never holds up the outbox.
+ */
+@Component
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final WebhookDeliveryEngine deliveryEngine;
+
+    public WebhookOutboxSink(WebhookDeliveryEngine deliveryEngine) {
+        this.deliveryEngine = deliveryEngine;
+    }
+
+    @Override
+    public String getName() {
+        return "webhooks";
+    }
+
+    @Override
+    public boolean supports(String eventType) {
+        return deliveryEngine.hasSubscribers(eventType);
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        deliveryEngine.enqueue(message);
+    }
+}
@@ -0,0 +1,74 @@
+package com.vms.vendor_management_system.application.mapper;
+
+import com.vms.vendor_management_system.application.dto.approvalrule.ApprovalRoutingResponse;
+import com.vms.vendor_management_system.application.dto.approvalrule.ApprovalRuleResponse;
+import com.vms.vendor_management_system.application.dto.approvalrule.CreateApprovalRuleRequest;
+import com.vms.vendor_management_system.domain.entity.ApprovalRule;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.service.ApprovalDecisionTable;
+
+import java.util.Locale;
+
+/**
+ * Utilities to convert between approval rule entities and DTOs.
+ */
+public final class ApprovalRuleMapper {
+
+    private ApprovalRuleMapper() {
+    }
+
+    public static ApprovalRule toEntity(CreateApprovalRuleRequest request) {
+        ApprovalRule rule = new ApprovalRule(request.getName(), request.getDocumentType(), request.getPriority());
+        updateEntity(rule, request);
+        return rule;
+    }
+
+    public static void updateEntity(ApprovalRule rule, CreateApprovalRuleRequest request) {
+        rule.setName(request.getName());
+        rule.setDocumentType(request.getDocumentType());
+        rule.setPriority(request.getPriority());
+        rule.changeAmountBand(request.getMinAmount(), request.getMaxAmount());
+        rule.setCurrency(request.getCurrency() != null && !request.getCurrency().isBlank()
+                ? request.getCurrency().trim().toUpperCase(Locale.ROOT) : null);
+        rule.setCategoryId(request.getCategoryId());
+        rule.setDepartmentId(request.getDepartmentId());
+        rule.setRequiresApproval(request.getRequiresApproval() == null || request.getRequiresApproval());
+        rule.setApproverRole(request.getApproverRole());
+        rule.setIsActive(request.getIsActive() == null || request.getIsActive());
+    }
+
+    public static ApprovalRuleResponse toResponse(ApprovalRule rule) {
+        if (rule == null) {
+            return null;
+        }
+
+        return ApprovalRuleResponse.builder()
+                .id(rule.getId())
+                .name(rule.getName())
+                .documentType(rule.getDocumentType() != null ? rule.getDocumentType().name() : null)
+                .priority(rule.getPriority())
+                .minAmount(rule.getMinAmount())
+                .maxAmount(rule.getMaxAmount())
+                .currency(rule.getCurrency())
+                .categoryId(rule.getCategoryId())
+                .departmentId(rule.getDepartmentId())
+                .requiresApproval(rule.getRequiresApproval())
+                .approverRole(rule.getApproverRole() != null ? rule.getApproverRole().name() : null)
+                .isActive(rule.getIsActive())
+                .createdAt(rule.getCreatedAt())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+
+    public static ApprovalRoutingResponse toResponse(ApprovalDocumentType documentType, Long documentId,
+                                                     ApprovalDecisionTable.Decision decision) {
+        return ApprovalRoutingResponse.builder()
+                .documentType(documentType.name())
+                .documentId(documentId)
+                .ruleId(decision.ruleId())
+                .ruleName(decision.ruleName())
+                .requiresApproval(decision.requiresApproval())
+                .approverRole(decision.approverRole() != null ? decision.approverRole().name() : null)
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package com.vms.vendor_management_system.application.mapper;
 
+import com.vms.vendor_management_system.application.dto.contract.ContractRenewalReminderResponse;
 import com.vms.vendor_management_system.application.dto.contract.ContractResponse;
 import com.vms.vendor_management_system.application.dto.contract.CreateContractRequest;
 import com.vms.vendor_management_system.domain.entity.Contract;
+import com.vms.vendor_management_system.domain.entity.ContractRenewalReminder;
 import com.vms.vendor_management_system.domain.entity.User;
 import com.vms.vendor_management_system.domain.entity.Vendor;
 
@@ -50,8 +52,8 @@ public final class ContractMapper {
                 .startDate(contract.getStartDate())
                 .endDate(contract.getEndDate())
                 .contractType(contract.getContractType())
-                .status(contract.getStatus())
-                .currency(contract.getCurrency())
+                .status(contract.getStatus() != null ? contract.getStatus().name() : null)
+                .currency(resolveCurrency(contract))
                 .documentUrl(contract.getDocumentUrl())
                 .termsAndConditions(contract.getTermsAndConditions())
                 .createdByUserId(contract.getCreatedBy() != null ? contract.getCreatedBy().getId() : null)
@@ -65,5 +67,27 @@ public final class ContractMapper {
                 .updatedAt(contract.getUpdatedAt())
                 .build();
     }
-}
 
+    // Contracts created without a currency fall back to the vendor's default currency
+    private static String resolveCurrency(Contract contract) {
+        if (contract.getCurrency() != null && !contract.getCurrency().trim().isEmpty()) {
+            return contract.getCurrency();
+        }
+        return contract.getVendor() != null ? contract.getVendor().getDefaultCurrency() : null;
+    }
+
+    public static ContractRenewalReminderResponse toResponse(ContractRenewalReminder reminder) {
+        if (reminder == null) {
+            return null;
+        }
+
+        return ContractRenewalReminderResponse.builder()
+                .id(reminder.getId())
+                .contractId(reminder.getContractId())
+                .vendorId(reminder.getVendorId())
+                .horizonDays(reminder.getHorizonDays())
+                .contractEndDate(reminder.getContractEndDate())
+                .createdAt(reminder.getCreatedAt())
+                .build();
+    }
+}
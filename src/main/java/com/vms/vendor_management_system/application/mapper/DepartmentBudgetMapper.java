@@ -0,0 +1,36 @@
+package com.vms.vendor_management_system.application.mapper;
+
+import com.vms.vendor_management_system.application.dto.budget.DepartmentBudgetResponse;
+import com.vms.vendor_management_system.application.service.BudgetLedgerService;
+import com.vms.vendor_management_system.domain.entity.DepartmentBudget;
+
+/**
+ * Utilities to convert department budget entities to DTOs.
+ */
+public final class DepartmentBudgetMapper {
+
+    private DepartmentBudgetMapper() {
+    }
+
+    public static DepartmentBudgetResponse toResponse(DepartmentBudget budget, BudgetLedgerService.Balance balance) {
+        if (budget == null) {
+            return null;
+        }
+
+        return DepartmentBudgetResponse.builder()
+                .id(budget.getId())
+                .departmentId(budget.getDepartment().getId())
+                .departmentName(budget.getDepartment().getName())
+                .periodStart(budget.getPeriodStart())
+                .periodEnd(budget.getPeriodEnd())
+                .amount(budget.getAmount())
+                .currency(budget.getCurrency())
+                .reserved(balance.reserved())
+                .committed(balance.committed())
+                .available(balance.available())
+                .reconciledAt(balance.reconciledAt())
+                .createdAt(budget.getCreatedAt())
+                .updatedAt(budget.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.vms.vendor_management_system.application.mapper;
+
+import com.vms.vendor_management_system.application.dto.outbox.OutboxEventResponse;
+import com.vms.vendor_management_system.domain.entity.OutboxEvent;
+
+/**
+ * Utilities to convert outbox event entities to DTOs.
+ */
+public final class OutboxEventMapper {
+
+    private OutboxEventMapper() {
+    }
+
+    public static OutboxEventResponse toResponse(OutboxEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return OutboxEventResponse.builder()
+                .id(event.getId())
+                .eventType(event.getEventType())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .status(event.getStatus().name())
+                .attempts(event.getAttempts())
+                .availableAt(event.getAvailableAt())
+                .lastError(event.getLastError())
+                .processedAt(event.getProcessedAt())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -51,7 +51,7 @@ public final class PurchaseOrderMapper {
                 .currency(purchaseOrder.getCurrency())
                 .orderDate(purchaseOrder.getOrderDate())
                 .expectedDeliveryDate(purchaseOrder.getExpectedDeliveryDate())
-                .status(purchaseOrder.getStatus())
+                .status(purchaseOrder.getStatus() != null ? purchaseOrder.getStatus().name() : null)
                 .approvalThreshold(purchaseOrder.getApprovalThreshold())
                 .createdByUserId(purchaseOrder.getCreatedBy() != null ? purchaseOrder.getCreatedBy().getId() : null)
                 .createdByUsername(purchaseOrder.getCreatedBy() != null ? purchaseOrder.getCreatedBy().getUsername() : null)
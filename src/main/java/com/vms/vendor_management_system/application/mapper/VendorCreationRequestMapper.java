@@ -1,10 +1,13 @@
 package com.vms.vendor_management_system.application.mapper;
 
+import com.vms.vendor_management_system.application.dto.vendorrequest.DuplicateCandidateResponse;
 import com.vms.vendor_management_system.application.dto.vendorrequest.VendorApprovalResponse;
 import com.vms.vendor_management_system.application.dto.vendorrequest.VendorCreationRequestResponse;
 import com.vms.vendor_management_system.domain.entity.VendorApproval;
 import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
 
+import java.util.List;
+
 /**
  * Mapper utilities for vendor creation requests and approvals.
  */
@@ -14,6 +17,11 @@ public final class VendorCreationRequestMapper {
     }
 
     public static VendorCreationRequestResponse toResponse(VendorCreationRequest request) {
+        return toResponse(request, null);
+    }
+
+    public static VendorCreationRequestResponse toResponse(VendorCreationRequest request,
+                                                           List<DuplicateCandidateResponse> possibleDuplicates) {
         if (request == null) {
             return null;
         }
@@ -66,6 +74,7 @@ public final class VendorCreationRequestMapper {
                 .preferredPaymentMethod(request.getPreferredPaymentMethod())
                 // Supporting documents
                 .supportingDocuments(request.getSupportingDocuments())
+                .possibleDuplicates(possibleDuplicates)
                 .build();
     }
 
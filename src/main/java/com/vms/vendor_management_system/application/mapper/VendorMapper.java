@@ -37,6 +37,7 @@ public final class VendorMapper {
         vendor.setWebsite(request.getWebsite());
         vendor.setDescription(request.getDescription());
         vendor.setNotes(request.getNotes());
+        vendor.setDefaultCurrency(request.getDefaultCurrency());
         return vendor;
     }
 
@@ -65,6 +66,10 @@ public final class VendorMapper {
         vendor.setWebsite(request.getWebsite());
         vendor.setDescription(request.getDescription());
         vendor.setNotes(request.getNotes());
+        // Keep the currency materialized from the creation request unless one is given explicitly
+        if (request.getDefaultCurrency() != null) {
+            vendor.setDefaultCurrency(request.getDefaultCurrency());
+        }
     }
 
     public static VendorResponse toResponse(Vendor vendor) {
@@ -91,6 +96,7 @@ public final class VendorMapper {
                 .website(vendor.getWebsite())
                 .description(vendor.getDescription())
                 .notes(vendor.getNotes())
+                .defaultCurrency(vendor.getDefaultCurrency())
                 .createdAt(vendor.getCreatedAt())
                 .updatedAt(vendor.getUpdatedAt())
                 .build();
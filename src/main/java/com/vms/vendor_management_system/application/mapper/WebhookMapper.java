@@ -0,0 +1,76 @@
+package com.vms.vendor_management_system.application.mapper;
+
+import com.vms.vendor_management_system.application.dto.webhook.CreateWebhookSubscriptionRequest;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookDeliveryResponse;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookSubscriptionResponse;
+import com.vms.vendor_management_system.domain.entity.WebhookDelivery;
+import com.vms.vendor_management_system.domain.entity.WebhookSubscription;
+
+/**
+ * Utilities to convert webhook subscriptions and deliveries between entities and DTOs.
+ */
+public final class WebhookMapper {
+
+    private WebhookMapper() {
+    }
+
+    public static WebhookSubscription toEntity(CreateWebhookSubscriptionRequest request) {
+        WebhookSubscription subscription = new WebhookSubscription(request.getName(), request.getUrl(), request.getSecret());
+        applyRequest(subscription, request);
+        return subscription;
+    }
+
+    public static void updateEntity(WebhookSubscription subscription, CreateWebhookSubscriptionRequest request) {
+        subscription.setName(request.getName());
+        subscription.setUrl(request.getUrl());
+        if (request.getSecret() != null) {
+            subscription.setSecret(request.getSecret());
+        }
+        applyRequest(subscription, request);
+    }
+
+    private static void applyRequest(WebhookSubscription subscription, CreateWebhookSubscriptionRequest request) {
+        subscription.changeEventTypes(request.getEventTypes());
+        subscription.setMaxConcurrency(request.getMaxConcurrency() != null ? request.getMaxConcurrency() : 2);
+        subscription.setMaxBatchSize(request.getMaxBatchSize() != null ? request.getMaxBatchSize() : 50);
+        subscription.setIsActive(request.getIsActive() == null || request.getIsActive());
+    }
+
+    public static WebhookSubscriptionResponse toResponse(WebhookSubscription subscription) {
+        if (subscription == null) {
+            return null;
+        }
+
+        return WebhookSubscriptionResponse.builder()
+                .id(subscription.getId())
+                .name(subscription.getName())
+                .url(subscription.getUrl())
+                .eventTypes(subscription.getEventTypeSet())
+                .maxConcurrency(subscription.getMaxConcurrency())
+                .maxBatchSize(subscription.getMaxBatchSize())
+                .isActive(subscription.getIsActive())
+                .createdAt(subscription.getCreatedAt())
+                .updatedAt(subscription.getUpdatedAt())
+                .build();
+    }
+
+    public static WebhookDeliveryResponse toResponse(WebhookDelivery delivery) {
+        if (delivery == null) {
+            return null;
+        }
+
+        return WebhookDeliveryResponse.builder()
+                .id(delivery.getId())
+                .subscriptionId(delivery.getSubscriptionId())
+                .outboxEventId(delivery.getOutboxEventId())
+                .eventType(delivery.getEventType())
+                .status(delivery.getStatus().name())
+                .attempts(delivery.getAttempts())
+                .nextAttemptAt(delivery.getNextAttemptAt())
+                .lastStatusCode(delivery.getLastStatusCode())
+                .lastError(delivery.getLastError())
+                .deliveredAt(delivery.getDeliveredAt())
+                .createdAt(delivery.getCreatedAt())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.vms.vendor_management_system.application.security;
 
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,16 +17,20 @@ import java.io.IOException;
 
 /**
  * JWT authentication filter that processes JWT tokens in requests.
+ * Runs inside the security filter chain ahead of the anonymous filter (see SecurityConfig), so the
+ * caller is authenticated before any servlet filter or controller reads it.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final ApplicationMetrics metrics;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, ApplicationMetrics metrics) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.metrics = metrics;
     }
 
     @Override
@@ -38,11 +43,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             jwt = authHeader.substring(7);
+            // Parsing verifies the signature, so this times token verification
+            long start = System.nanoTime();
             try {
                 username = jwtUtil.getUsernameFromToken(jwt);
             } catch (Exception e) {
                 logger.error("JWT token parsing error", e);
             }
+            metrics.recordJwtVerification(System.nanoTime() - start, username != null);
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -0,0 +1,114 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.entity.Contract;
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.entity.User;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.repository.ApprovalRuleRepository;
+import com.vms.vendor_management_system.domain.service.ApprovalDecisionTable;
+import com.vms.vendor_management_system.domain.service.ApprovalDecisionTable.Decision;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+
+/**
+ * Application service routing purchase order and contract approvals through the compiled rule table.
+ *
+ * The table is recompiled from the database once a rule change commits and swapped atomically, so
+ * evaluations never wait on a reload. Documents no rule matches always wait for an approver; only a
+ * rule with {@code requiresApproval=false} lets a purchase order skip approval.
+ */
+@Service
+public class ApprovalRoutingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApprovalRoutingService.class);
+    static final Decision DEFAULT_REQUIRED = new Decision(null, null, true, null);
+
+    private final ApprovalRuleRepository ruleRepository;
+    private final FxRateService fxRateService;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile ApprovalDecisionTable table = ApprovalDecisionTable.empty();
+
+    public ApprovalRoutingService(ApprovalRuleRepository ruleRepository,
+                                  FxRateService fxRateService,
+                                  PlatformTransactionManager transactionManager) {
+        this.ruleRepository = ruleRepository;
+        this.fxRateService = fxRateService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public Decision route(PurchaseOrder purchaseOrder) {
+        Decision decision = evaluate(ApprovalDocumentType.PURCHASE_ORDER, purchaseOrder.getVendor(),
+                purchaseOrder.getCurrency(), purchaseOrder.getTotalAmount(), purchaseOrder.getCreatedBy());
+        return decision != null ? decision : DEFAULT_REQUIRED;
+    }
+
+    public Decision route(Contract contract) {
+        Decision decision = evaluate(ApprovalDocumentType.CONTRACT, contract.getVendor(),
+                contract.getCurrency(), contract.getContractValue(), contract.getCreatedBy());
+        return decision != null ? decision : DEFAULT_REQUIRED;
+    }
+
+    /**
+     * Fails with 403 when the approver's role may not approve a document routed to the decision.
+     */
+    public void checkApprover(Decision decision, User approver) {
+        if (!decision.permits(approver.getRole())) {
+            throw new ResponseStatusException(FORBIDDEN, "Approval requires role " + decision.approverRole()
+                    + (decision.ruleName() != null ? " (rule '" + decision.ruleName() + "')" : ""));
+        }
+    }
+
+    public int getRuleCount() {
+        return table.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(this::reload);
+    }
+
+    public void reload() {
+        reloadLock.lock();
+        try {
+            ApprovalDecisionTable compiled = readTransaction.execute(status ->
+                    ApprovalDecisionTable.compile(ruleRepository.findByIsActiveTrueOrderByPriorityAscIdAsc()));
+            table = compiled;
+            log.info("Compiled {} approval rules", compiled.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Decision evaluate(ApprovalDocumentType type, Vendor vendor, String currency, BigDecimal amount, User creator) {
+        String documentCurrency = currency != null && !currency.isBlank() ? currency : vendor.getDefaultCurrency();
+        FxRateService.Snapshot rates = fxRateService.getSnapshot();
+        BigDecimal baseAmount = rates.convert(amount, documentCurrency, rates.baseCurrency());
+        long categoryId = vendor.getCategory() != null ? vendor.getCategory().getId() : 0L;
+        long departmentId = creator != null && creator.getDepartment() != null ? creator.getDepartment().getId() : 0L;
+        return table.evaluate(type, documentCurrency, ApprovalDecisionTable.toCents(amount),
+                baseAmount != null ? ApprovalDecisionTable.toCents(baseAmount) : ApprovalDecisionTable.NO_AMOUNT,
+                categoryId, departmentId);
+    }
+}
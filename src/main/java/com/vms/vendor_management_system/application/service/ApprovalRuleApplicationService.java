@@ -0,0 +1,102 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.approvalrule.ApprovalRuleResponse;
+import com.vms.vendor_management_system.application.dto.approvalrule.CreateApprovalRuleRequest;
+import com.vms.vendor_management_system.application.mapper.ApprovalRuleMapper;
+import com.vms.vendor_management_system.domain.entity.ApprovalRule;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.repository.ApprovalRuleRepository;
+import com.vms.vendor_management_system.domain.repository.DepartmentRepository;
+import com.vms.vendor_management_system.domain.repository.VendorCategoryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service for approval rule management; every change recompiles the routing table after commit.
+ */
+@Service
+@Transactional
+public class ApprovalRuleApplicationService {
+
+    private final ApprovalRuleRepository ruleRepository;
+    private final VendorCategoryRepository categoryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ApprovalRoutingService routingService;
+
+    public ApprovalRuleApplicationService(ApprovalRuleRepository ruleRepository,
+                                          VendorCategoryRepository categoryRepository,
+                                          DepartmentRepository departmentRepository,
+                                          ApprovalRoutingService routingService) {
+        this.ruleRepository = ruleRepository;
+        this.categoryRepository = categoryRepository;
+        this.departmentRepository = departmentRepository;
+        this.routingService = routingService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApprovalRuleResponse> getRules(ApprovalDocumentType documentType) {
+        List<ApprovalRule> rules = documentType != null
+                ? ruleRepository.findByDocumentTypeOrderByPriorityAscIdAsc(documentType)
+                : ruleRepository.findAll();
+        return rules.stream()
+                .map(ApprovalRuleMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public ApprovalRuleResponse getRule(Long ruleId) {
+        ApprovalRule rule = ruleRepository.findById(ruleId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Approval rule not found"));
+        return ApprovalRuleMapper.toResponse(rule);
+    }
+
+    public ApprovalRuleResponse createRule(CreateApprovalRuleRequest request) {
+        validateReferences(request);
+        ApprovalRule rule;
+        try {
+            rule = ApprovalRuleMapper.toEntity(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+        }
+        ApprovalRule saved = ruleRepository.save(rule);
+        routingService.reloadAfterCommit();
+        return ApprovalRuleMapper.toResponse(saved);
+    }
+
+    public ApprovalRuleResponse updateRule(Long ruleId, CreateApprovalRuleRequest request) {
+        ApprovalRule rule = ruleRepository.findById(ruleId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Approval rule not found"));
+        validateReferences(request);
+        try {
+            ApprovalRuleMapper.updateEntity(rule, request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+        }
+        ApprovalRule saved = ruleRepository.save(rule);
+        routingService.reloadAfterCommit();
+        return ApprovalRuleMapper.toResponse(saved);
+    }
+
+    public void deleteRule(Long ruleId) {
+        ApprovalRule rule = ruleRepository.findById(ruleId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Approval rule not found"));
+        ruleRepository.delete(rule);
+        routingService.reloadAfterCommit();
+    }
+
+    private void validateReferences(CreateApprovalRuleRequest request) {
+        if (request.getCategoryId() != null && !categoryRepository.existsById(request.getCategoryId())) {
+            throw new ResponseStatusException(NOT_FOUND, "Vendor category not found");
+        }
+        if (request.getDepartmentId() != null && !departmentRepository.existsById(request.getDepartmentId())) {
+            throw new ResponseStatusException(NOT_FOUND, "Department not found");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.archive.ArchivalRunResponse;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.repository.ContractRepository;
+import com.vms.vendor_management_system.domain.repository.PurchaseOrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+/**
+ * Background job moving closed purchase orders and contracts past the retention window into the
+ * archive tables, so the live tables and their indexes only hold recent and open records.
+ *
+ * Each batch copies and deletes its rows in one transaction. Orders still counted by a current
+ * department budget stay live; archived order totals remain part of the spend rollups.
+ */
+@Service
+public class ArchivalService {
+
+    static final List<PurchaseOrderStatus> CLOSED_PO_STATUSES =
+            List.of(PurchaseOrderStatus.RECEIVED, PurchaseOrderStatus.CANCELLED);
+    static final List<ContractStatus> CLOSED_CONTRACT_STATUSES =
+            List.of(ContractStatus.EXPIRED, ContractStatus.TERMINATED);
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivalService.class);
+
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final ContractRepository contractRepository;
+    private final SpendRollupService spendRollupService;
+    private final TransactionTemplate writeTransaction;
+    private final boolean enabled;
+    private final int purchaseOrderRetentionDays;
+    private final int contractRetentionDays;
+    private final int batchSize;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public ArchivalService(PurchaseOrderRepository purchaseOrderRepository,
+                           ContractRepository contractRepository,
+                           SpendRollupService spendRollupService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.archival.enabled:true}") boolean enabled,
+                           @Value("${app.archival.purchase-order-retention-days:730}") int purchaseOrderRetentionDays,
+                           @Value("${app.archival.contract-retention-days:730}") int contractRetentionDays,
+                           @Value("${app.archival.batch-size:500}") int batchSize) {
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.contractRepository = contractRepository;
+        this.spendRollupService = spendRollupService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.purchaseOrderRetentionDays = purchaseOrderRetentionDays;
+        this.contractRetentionDays = contractRetentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.archival.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        if (!runLock.tryLock()) {
+            log.debug("Archival run already in progress");
+            return;
+        }
+        try {
+            archive(LocalDate.now());
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    public ArchivalRunResponse run() {
+        if (!runLock.tryLock()) {
+            throw new ResponseStatusException(CONFLICT, "Archival run already in progress");
+        }
+        try {
+            return archive(LocalDate.now());
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private ArchivalRunResponse archive(LocalDate today) {
+        LocalDate purchaseOrderCutoff = today.minusDays(purchaseOrderRetentionDays);
+        LocalDate contractCutoff = today.minusDays(contractRetentionDays);
+        int purchaseOrders = archivePurchaseOrders(purchaseOrderCutoff, today);
+        int contracts = archiveContracts(contractCutoff);
+        if (purchaseOrders > 0) {
+            spendRollupService.markDirtyAfterCommit();
+        }
+        log.info("Archival run: {} purchase orders before {}, {} contracts ending before {}",
+                purchaseOrders, purchaseOrderCutoff, contracts, contractCutoff);
+        return ArchivalRunResponse.builder()
+                .purchaseOrdersArchived(purchaseOrders)
+                .purchaseOrderCutoff(purchaseOrderCutoff)
+                .contractsArchived(contracts)
+                .contractCutoff(contractCutoff)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private int archivePurchaseOrders(LocalDate cutoff, LocalDate today) {
+        int total = 0;
+        while (true) {
+            Integer archived = writeTransaction.execute(status -> {
+                List<Long> ids = purchaseOrderRepository.findArchivableIds(CLOSED_PO_STATUSES, cutoff, today,
+                        PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                purchaseOrderRepository.copyToArchive(ids);
+                return purchaseOrderRepository.deleteByIdIn(ids);
+            });
+            if (archived == null) {
+                return total;
+            }
+            total += archived;
+        }
+    }
+
+    private int archiveContracts(LocalDate cutoff) {
+        int total = 0;
+        while (true) {
+            Integer archived = writeTransaction.execute(status -> {
+                List<Long> ids = contractRepository.findArchivableIds(CLOSED_CONTRACT_STATUSES, cutoff,
+                        PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                contractRepository.copyToArchive(ids);
+                return contractRepository.deleteByIdIn(ids);
+            });
+            if (archived == null) {
+                return total;
+            }
+            total += archived;
+        }
+    }
+}
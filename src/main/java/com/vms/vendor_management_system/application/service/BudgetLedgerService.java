@@ -0,0 +1,449 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.entity.DepartmentBudget;
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.repository.DepartmentBudgetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+
+/**
+ * In-memory reservation ledger enforcing department budgets on purchase orders.
+ *
+ * Each budget is an account of atomic cent counters: submitting an order reserves its amount with a
+ * compare-and-set against the limit, approving commits it, and rejecting or cancelling releases it.
+ * Checks never touch the database; every change is undone if its transaction rolls back, and a periodic
+ * reconciliation resets the counters to the persisted order totals plus the changes its read may have missed.
+ *
+ * A change stays pending until a reconciliation that started after the change committed has read the
+ * database; only then is its amount part of the persisted totals. Reconciliations are numbered, and each
+ * committed change records the number current at its commit to decide which reads include it.
+ */
+@Service
+public class BudgetLedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetLedgerService.class);
+    static final List<PurchaseOrderStatus> OPEN_COMMITTED_STATUSES = List.of(PurchaseOrderStatus.APPROVED, PurchaseOrderStatus.SENT);
+    static final List<PurchaseOrderStatus> SETTLED_STATUSES = List.of(PurchaseOrderStatus.RECEIVED);
+    private static final List<PurchaseOrderStatus> OPEN_STATUSES =
+            List.of(PurchaseOrderStatus.PENDING_APPROVAL, PurchaseOrderStatus.APPROVED, PurchaseOrderStatus.SENT);
+
+    private final DepartmentBudgetRepository budgetRepository;
+    private final FxRateService fxRateService;
+    private final TransactionTemplate readTransaction;
+    private final boolean enforce;
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    // Shared by ledger changes; exclusive only while a reconciliation swaps in the totals it read
+    private final ReentrantReadWriteLock ledgerLock = new ReentrantReadWriteLock();
+    private final AtomicLong reconcileEpoch = new AtomicLong();
+
+    private final Map<Long, Account> accounts = new ConcurrentHashMap<>();
+    private final Map<Long, ConcurrentNavigableMap<LocalDate, Account>> accountsByDepartment = new ConcurrentHashMap<>();
+    private final Map<Long, Reservation> reservations = new ConcurrentHashMap<>();
+    private final Set<PendingChange> pending = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime reconciledAt;
+
+    public BudgetLedgerService(DepartmentBudgetRepository budgetRepository,
+                               FxRateService fxRateService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.budgets.enforce:true}") boolean enforce) {
+        this.budgetRepository = budgetRepository;
+        this.fxRateService = fxRateService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        // Both order queries read one snapshot
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.enforce = enforce;
+    }
+
+    /**
+     * Reserves the order amount against its department budget, failing with 409 when it would be exceeded.
+     */
+    public void reserve(PurchaseOrder purchaseOrder) {
+        Account account = accountFor(purchaseOrder);
+        if (account == null || reservations.containsKey(purchaseOrder.getId())) {
+            return;
+        }
+        long cents = toCents(purchaseOrder, account);
+        Long purchaseOrderId = purchaseOrder.getId();
+        Reservation reservation = new Reservation(account.budgetId, cents, false);
+        ledgerLock.readLock().lock();
+        try {
+            // Claimed before charging, so concurrent submits of one order charge the budget once
+            if (reservations.putIfAbsent(purchaseOrderId, reservation) != null) {
+                return;
+            }
+            if (!account.tryReserve(cents, enforce)) {
+                reservations.remove(purchaseOrderId, reservation);
+                throw new ResponseStatusException(CONFLICT, "Purchase order exceeds the remaining budget of department "
+                        + account.departmentId + " (" + format(account.available()) + " " + account.currency + " available)");
+            }
+            track(purchaseOrderId, account, cents, 0, () -> {
+                reservations.remove(purchaseOrderId);
+                account.used.addAndGet(-cents);
+            });
+        } finally {
+            ledgerLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Turns the order's reservation into committed spend, reserving first when the order has none yet.
+     */
+    public void commit(PurchaseOrder purchaseOrder) {
+        reserve(purchaseOrder);
+        Long purchaseOrderId = purchaseOrder.getId();
+        ledgerLock.readLock().lock();
+        try {
+            Reservation reservation = reservations.get(purchaseOrderId);
+            if (reservation == null || reservation.committed()) {
+                return;
+            }
+            Account account = accounts.get(reservation.budgetId());
+            if (account == null || !reservations.replace(purchaseOrderId, reservation, reservation.asCommitted())) {
+                return;
+            }
+            account.committed.addAndGet(reservation.cents());
+            track(purchaseOrderId, account, 0, reservation.cents(), () -> {
+                reservations.replace(purchaseOrderId, reservation.asCommitted(), reservation);
+                account.committed.addAndGet(-reservation.cents());
+            });
+        } finally {
+            ledgerLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gives back whatever the order holds, for rejected and cancelled orders.
+     */
+    public void release(PurchaseOrder purchaseOrder) {
+        Long purchaseOrderId = purchaseOrder.getId();
+        ledgerLock.readLock().lock();
+        try {
+            Reservation reservation = reservations.remove(purchaseOrderId);
+            if (reservation == null) {
+                return;
+            }
+            Account account = accounts.get(reservation.budgetId());
+            if (account == null) {
+                return;
+            }
+            long committedCents = reservation.committed() ? reservation.cents() : 0;
+            account.used.addAndGet(-reservation.cents());
+            account.committed.addAndGet(-committedCents);
+            track(purchaseOrderId, account, -reservation.cents(), -committedCents, () -> {
+                reservations.put(purchaseOrderId, reservation);
+                account.used.addAndGet(reservation.cents());
+                account.committed.addAndGet(committedCents);
+            });
+        } finally {
+            ledgerLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the per-order entry of a received order; its amount stays committed in the account totals.
+     */
+    public void settle(PurchaseOrder purchaseOrder) {
+        Long purchaseOrderId = purchaseOrder.getId();
+        ledgerLock.readLock().lock();
+        try {
+            Reservation reservation = reservations.remove(purchaseOrderId);
+            if (reservation != null) {
+                track(purchaseOrderId, null, 0, 0, () -> reservations.putIfAbsent(purchaseOrderId, reservation));
+            }
+        } finally {
+            ledgerLock.readLock().unlock();
+        }
+    }
+
+    public Balance getBalance(Long budgetId) {
+        Account account = accounts.get(budgetId);
+        if (account == null) {
+            return new Balance(BigDecimal.ZERO.setScale(2), BigDecimal.ZERO.setScale(2), null, reconciledAt);
+        }
+        long used = account.used.get();
+        long committed = account.committed.get();
+        return new Balance(BigDecimal.valueOf(used - committed, 2), BigDecimal.valueOf(committed, 2),
+                BigDecimal.valueOf(account.limitCents - used, 2), reconciledAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    public void reconcileAfterCommit() {
+        TransactionCallbacks.afterCommit(this::reconcile);
+    }
+
+    /**
+     * Resets every account to the persisted order totals plus the changes the database read may not include.
+     */
+    @Scheduled(fixedDelayString = "${app.budgets.reconcile-ms:300000}",
+            initialDelayString = "${app.budgets.reconcile-ms:300000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            // Numbered before the read starts: changes committed under an earlier number are visible to it
+            long epoch = reconcileEpoch.incrementAndGet();
+            readTransaction.executeWithoutResult(status -> reconcileFromDatabase(epoch));
+            reconciledAt = LocalDateTime.now();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void reconcileFromDatabase(long epoch) {
+        List<DepartmentBudget> budgets = budgetRepository.findAllWithDepartment();
+        Map<Long, Account> current = new HashMap<>();
+        for (DepartmentBudget budget : budgets) {
+            // Accounts are updated in place so compensations of in-flight changes keep pointing at them
+            Account account = accounts.computeIfAbsent(budget.getId(), ignored -> new Account(budget));
+            account.update(budget);
+            current.put(budget.getId(), account);
+        }
+
+        Map<Long, long[]> totals = new HashMap<>(); // budget id -> {used, committed}
+        Map<Long, Reservation> persisted = new HashMap<>();
+        int unconverted = 0;
+        for (Object[] row : budgetRepository.findBudgetedOrders(OPEN_STATUSES)) {
+            Account account = current.get((Long) row[1]);
+            Long cents = account != null ? toCents((BigDecimal) row[4], (String) row[3], account) : null;
+            if (cents == null) {
+                unconverted++;
+                continue;
+            }
+            boolean committed = OPEN_COMMITTED_STATUSES.contains((PurchaseOrderStatus) row[2]);
+            persisted.put((Long) row[0], new Reservation(account.budgetId, cents, committed));
+            long[] total = totals.computeIfAbsent(account.budgetId, ignored -> new long[2]);
+            total[0] += cents;
+            total[1] += committed ? cents : 0;
+        }
+        for (Object[] row : budgetRepository.sumBudgetedOrders(SETTLED_STATUSES)) {
+            Account account = current.get((Long) row[0]);
+            Long cents = account != null ? toCents((BigDecimal) row[2], (String) row[1], account) : null;
+            if (cents == null) {
+                unconverted++;
+                continue;
+            }
+            long[] total = totals.computeIfAbsent(account.budgetId, ignored -> new long[2]);
+            total[0] += cents;
+            total[1] += cents;
+        }
+
+        ledgerLock.writeLock().lock();
+        try {
+            // Changes committed before this reconciliation started are in the totals; the rest may not be.
+            // Open or later-committed changes are added on top, at worst counting one twice until the next run
+            pending.removeIf(change -> change.visibleTo(epoch));
+            Map<Account, long[]> pendingTotals = new HashMap<>();
+            Set<Long> unsettled = new HashSet<>();
+            for (PendingChange change : pending) {
+                unsettled.add(change.purchaseOrderId);
+                if (change.account != null) {
+                    long[] total = pendingTotals.computeIfAbsent(change.account, ignored -> new long[2]);
+                    total[0] += change.usedDelta;
+                    total[1] += change.committedDelta;
+                }
+            }
+            current.values().forEach(account -> {
+                long[] total = totals.getOrDefault(account.budgetId, new long[2]);
+                long[] pendingTotal = pendingTotals.getOrDefault(account, new long[2]);
+                account.used.set(total[0] + pendingTotal[0]);
+                account.committed.set(total[1] + pendingTotal[1]);
+            });
+            accounts.keySet().retainAll(current.keySet());
+            accounts.putAll(current);
+            Map<Long, ConcurrentNavigableMap<LocalDate, Account>> byDepartment = new HashMap<>();
+            current.values().forEach(account -> byDepartment
+                    .computeIfAbsent(account.departmentId, ignored -> new ConcurrentSkipListMap<>())
+                    .put(account.periodStart, account));
+            accountsByDepartment.keySet().retainAll(byDepartment.keySet());
+            accountsByDepartment.putAll(byDepartment);
+
+            // Orders with pending changes keep their in-memory entry until a read includes those changes
+            reservations.keySet().removeIf(id -> !persisted.containsKey(id) && !unsettled.contains(id));
+            persisted.forEach((id, reservation) -> {
+                if (!unsettled.contains(id)) {
+                    reservations.put(id, reservation);
+                }
+            });
+        } finally {
+            ledgerLock.writeLock().unlock();
+        }
+        if (unconverted > 0) {
+            log.warn("Budget reconciliation skipped {} order rows without an FX rate into the budget currency", unconverted);
+        }
+        log.debug("Reconciled {} department budgets and {} open purchase orders", current.size(), persisted.size());
+    }
+
+    private Account accountFor(PurchaseOrder purchaseOrder) {
+        if (purchaseOrder.getCreatedBy() == null || purchaseOrder.getCreatedBy().getDepartment() == null) {
+            return null;
+        }
+        ConcurrentNavigableMap<LocalDate, Account> departmentAccounts =
+                accountsByDepartment.get(purchaseOrder.getCreatedBy().getDepartment().getId());
+        if (departmentAccounts == null) {
+            return null;
+        }
+        LocalDate date = purchaseOrder.getOrderDate() != null ? purchaseOrder.getOrderDate() : LocalDate.now();
+        Map.Entry<LocalDate, Account> entry = departmentAccounts.floorEntry(date);
+        return entry != null && !date.isAfter(entry.getValue().periodEnd) ? entry.getValue() : null;
+    }
+
+    private long toCents(PurchaseOrder purchaseOrder, Account account) {
+        String currency = purchaseOrder.getCurrency() != null && !purchaseOrder.getCurrency().isBlank()
+                ? purchaseOrder.getCurrency() : purchaseOrder.getVendor().getDefaultCurrency();
+        Long cents = toCents(purchaseOrder.getTotalAmount(), currency, account);
+        if (cents == null) {
+            throw new ResponseStatusException(UNPROCESSABLE_ENTITY, "No FX rate to convert " + currency
+                    + " into the budget currency " + account.currency);
+        }
+        return cents;
+    }
+
+    private Long toCents(BigDecimal amount, String currency, Account account) {
+        if (amount == null) {
+            return 0L;
+        }
+        BigDecimal converted = currency == null || currency.equalsIgnoreCase(account.currency)
+                ? amount : fxRateService.getSnapshot().convert(amount, currency, account.currency);
+        return converted != null ? converted.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : null;
+    }
+
+    /**
+     * Keeps the change pending until a reconciliation reads it back, and registers its compensation.
+     * Called under the shared ledger lock, right after the change is applied to the counters.
+     */
+    private void track(Long purchaseOrderId, Account account, long usedDelta, long committedDelta, Runnable undo) {
+        PendingChange change = new PendingChange(purchaseOrderId, account, usedDelta, committedDelta);
+        pending.add(change);
+        TransactionCallbacks.afterRollback(() -> {
+            ledgerLock.readLock().lock();
+            try {
+                undo.run();
+                pending.remove(change);
+            } finally {
+                ledgerLock.readLock().unlock();
+            }
+        });
+        TransactionCallbacks.afterCommit(() -> change.committedInEpoch = reconcileEpoch.get());
+    }
+
+    private static String format(long cents) {
+        return BigDecimal.valueOf(cents, 2).toPlainString();
+    }
+
+    /**
+     * Reserved, committed and available amounts of a budget in its currency; available is null for unknown budgets.
+     */
+    public record Balance(BigDecimal reserved, BigDecimal committed, BigDecimal available, LocalDateTime reconciledAt) {
+    }
+
+    /**
+     * A counter change not yet known to be part of the persisted totals; the account is null for settlements.
+     */
+    private static final class PendingChange {
+
+        private static final long OPEN = -1;
+
+        final Long purchaseOrderId;
+        final Account account;
+        final long usedDelta;
+        final long committedDelta;
+        volatile long committedInEpoch = OPEN;
+
+        PendingChange(Long purchaseOrderId, Account account, long usedDelta, long committedDelta) {
+            this.purchaseOrderId = purchaseOrderId;
+            this.account = account;
+            this.usedDelta = usedDelta;
+            this.committedDelta = committedDelta;
+        }
+
+        boolean visibleTo(long epoch) {
+            long committedIn = committedInEpoch;
+            return committedIn != OPEN && committedIn < epoch;
+        }
+    }
+
+    private record Reservation(Long budgetId, long cents, boolean committed) {
+
+        Reservation asCommitted() {
+            return new Reservation(budgetId, cents, true);
+        }
+    }
+
+    private static final class Account {
+
+        final Long budgetId;
+        final Long departmentId;
+        volatile LocalDate periodStart;
+        volatile LocalDate periodEnd;
+        volatile String currency;
+        volatile long limitCents;
+        /** Reserved plus committed cents; the only counter checked against the limit. */
+        final AtomicLong used = new AtomicLong();
+        final AtomicLong committed = new AtomicLong();
+
+        Account(DepartmentBudget budget) {
+            this.budgetId = budget.getId();
+            this.departmentId = budget.getDepartment().getId();
+            update(budget);
+        }
+
+        void update(DepartmentBudget budget) {
+            this.periodStart = budget.getPeriodStart();
+            this.periodEnd = budget.getPeriodEnd();
+            this.currency = budget.getCurrency();
+            this.limitCents = budget.getAmount().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+
+        boolean tryReserve(long cents, boolean enforce) {
+            while (true) {
+                long current = used.get();
+                long next = current + cents;
+                if (enforce && next > limitCents) {
+                    return false;
+                }
+                if (used.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        long available() {
+            return limitCents - used.get();
+        }
+    }
+}
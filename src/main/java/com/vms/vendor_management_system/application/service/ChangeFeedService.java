@@ -0,0 +1,156 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.change.ChangeFeedResponse;
+import com.vms.vendor_management_system.application.dto.change.ChangeRecordResponse;
+import com.vms.vendor_management_system.domain.entity.Contract;
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
+import com.vms.vendor_management_system.domain.repository.ContractRepository;
+import com.vms.vendor_management_system.domain.repository.PurchaseOrderRepository;
+import com.vms.vendor_management_system.domain.repository.VendorCreationRequestRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import com.vms.vendor_management_system.domain.service.ChangeSequencer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application service serving the change feed used for incremental ERP sync.
+ *
+ * Vendors, purchase orders, contracts and vendor requests share the {@code change_seq} sequence, so one
+ * cursor covers all four. Each call first lets the {@link ChangeSequencer} number the rows committed so far,
+ * which it does in commit order, so no row can later appear below a returned cursor. The tables are then
+ * read from their change_seq indexes in one snapshot and the pages are merged in sequence order.
+ */
+@Service
+public class ChangeFeedService {
+
+    private final VendorRepository vendorRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final ContractRepository contractRepository;
+    private final VendorCreationRequestRepository vendorCreationRequestRepository;
+    private final ChangeSequencer changeSequencer;
+    private final TransactionTemplate readTransaction;
+    private final int maxLimit;
+
+    public ChangeFeedService(VendorRepository vendorRepository,
+                             PurchaseOrderRepository purchaseOrderRepository,
+                             ContractRepository contractRepository,
+                             VendorCreationRequestRepository vendorCreationRequestRepository,
+                             ChangeSequencer changeSequencer,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.changes.max-limit:1000}") int maxLimit) {
+        this.vendorRepository = vendorRepository;
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.contractRepository = contractRepository;
+        this.vendorCreationRequestRepository = vendorCreationRequestRepository;
+        this.changeSequencer = changeSequencer;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // The four table reads must see the same sequencer runs
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.maxLimit = maxLimit;
+    }
+
+    public ChangeFeedResponse getChanges(long since, int limit) {
+        changeSequencer.sequencePending();
+        return readTransaction.execute(status -> readChanges(since, limit));
+    }
+
+    private ChangeFeedResponse readChanges(long since, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), maxLimit);
+        // One row past the page: a table filling the page alone still shows whether more rows follow
+        Pageable page = PageRequest.of(0, pageSize + 1);
+
+        List<ChangeRecordResponse> candidates = new ArrayList<>();
+        vendorRepository.findByChangeSeqGreaterThanOrderByChangeSeq(since, page)
+                .forEach(vendor -> candidates.add(toRecord(vendor)));
+        purchaseOrderRepository.findByChangeSeqGreaterThanOrderByChangeSeq(since, page)
+                .forEach(purchaseOrder -> candidates.add(toRecord(purchaseOrder)));
+        contractRepository.findByChangeSeqGreaterThanOrderByChangeSeq(since, page)
+                .forEach(contract -> candidates.add(toRecord(contract)));
+        vendorCreationRequestRepository.findByChangeSeqGreaterThanOrderByChangeSeq(since, page)
+                .forEach(request -> candidates.add(toRecord(request)));
+        candidates.sort(Comparator.comparingLong(ChangeRecordResponse::getSequence));
+        List<ChangeRecordResponse> changes = candidates.subList(0, Math.min(pageSize, candidates.size()));
+
+        long cursor = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+        return ChangeFeedResponse.builder()
+                .cursor(cursor)
+                .hasMore(candidates.size() > changes.size())
+                .changes(changes)
+                .build();
+    }
+
+    private static ChangeRecordResponse toRecord(Vendor vendor) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("vendorCode", vendor.getVendorCode());
+        data.put("companyName", vendor.getCompanyName());
+        data.put("legalName", vendor.getLegalName());
+        data.put("taxId", vendor.getTaxId());
+        data.put("categoryId", vendor.getCategory() != null ? vendor.getCategory().getId() : null);
+        data.put("defaultCurrency", vendor.getDefaultCurrency());
+        return record(vendor.getChangeSeq(), "VENDOR", vendor.getId(), vendor.getStatus().name(),
+                vendor.getUpdatedAt(), vendor.getCreatedAt(), data);
+    }
+
+    private static ChangeRecordResponse toRecord(PurchaseOrder purchaseOrder) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("poNumber", purchaseOrder.getPoNumber());
+        data.put("vendorId", purchaseOrder.getVendor().getId());
+        data.put("totalAmount", purchaseOrder.getTotalAmount());
+        data.put("currency", purchaseOrder.getCurrency());
+        data.put("orderDate", purchaseOrder.getOrderDate());
+        data.put("expectedDeliveryDate", purchaseOrder.getExpectedDeliveryDate());
+        data.put("approvedAt", purchaseOrder.getApprovedAt());
+        return record(purchaseOrder.getChangeSeq(), "PURCHASE_ORDER", purchaseOrder.getId(), purchaseOrder.getStatus().name(),
+                purchaseOrder.getUpdatedAt(), purchaseOrder.getCreatedAt(), data);
+    }
+
+    private static ChangeRecordResponse toRecord(Contract contract) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("contractNumber", contract.getContractNumber());
+        data.put("vendorId", contract.getVendor().getId());
+        data.put("contractValue", contract.getContractValue());
+        data.put("currency", contract.getCurrency());
+        data.put("startDate", contract.getStartDate());
+        data.put("endDate", contract.getEndDate());
+        return record(contract.getChangeSeq(), "CONTRACT", contract.getId(), contract.getStatus().name(),
+                contract.getUpdatedAt(), contract.getCreatedAt(), data);
+    }
+
+    private static ChangeRecordResponse toRecord(VendorCreationRequest request) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("requestNumber", request.getRequestNumber());
+        data.put("companyName", request.getCompanyName());
+        data.put("vendorId", request.getVendor() != null ? request.getVendor().getId() : null);
+        data.put("currency", request.getCurrency());
+        return record(request.getChangeSeq(), "VENDOR_REQUEST", request.getId(), request.getStatus().name(),
+                request.getUpdatedAt(), request.getCreatedAt(), data);
+    }
+
+    private static ChangeRecordResponse record(Long sequence, String entityType, Long entityId, String status,
+                                               LocalDateTime updatedAt, LocalDateTime createdAt,
+                                               Map<String, Object> data) {
+        return ChangeRecordResponse.builder()
+                .sequence(sequence)
+                .entityType(entityType)
+                .entityId(entityId)
+                .status(status)
+                .changedAt(updatedAt != null ? updatedAt : createdAt)
+                .data(data)
+                .build();
+    }
+}
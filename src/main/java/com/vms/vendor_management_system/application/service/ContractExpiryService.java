@@ -0,0 +1,265 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.contract.ContractExpiryBucketResponse;
+import com.vms.vendor_management_system.application.dto.contract.ContractExpirySummaryResponse;
+import com.vms.vendor_management_system.application.dto.contract.ContractRenewalReminderResponse;
+import com.vms.vendor_management_system.application.event.ContractRenewalDueEvent;
+import com.vms.vendor_management_system.application.mapper.ContractMapper;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import com.vms.vendor_management_system.domain.repository.ContractRenewalReminderRepository;
+import com.vms.vendor_management_system.domain.repository.ContractRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Background engine expiring ended contracts, precomputing 30/60/90-day expiry buckets per vendor
+ * and department, and emitting renewal reminders. Every lookup is a range scan on the end_date indexes.
+ */
+@Service
+public class ContractExpiryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractExpiryService.class);
+    private static final int[] HORIZONS = {30, 60, 90};
+    private static final int EXPIRE_BATCH_SIZE = 500;
+    private static final int MAX_REMINDERS = 500;
+
+    private final ContractRepository contractRepository;
+    private final ContractRenewalReminderRepository reminderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SpendRollupService spendRollupService;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.empty(LocalDate.now());
+
+    public ContractExpiryService(ContractRepository contractRepository,
+                                 ContractRenewalReminderRepository reminderRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 SpendRollupService spendRollupService,
+                                 PlatformTransactionManager transactionManager) {
+        this.contractRepository = contractRepository;
+        this.reminderRepository = reminderRepository;
+        this.eventPublisher = eventPublisher;
+        this.spendRollupService = spendRollupService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public ContractExpirySummaryResponse getSummary() {
+        Snapshot current = snapshot;
+        return ContractExpirySummaryResponse.builder()
+                .asOf(current.asOf())
+                .totals(current.totals())
+                .vendors(current.vendors())
+                .departments(current.departments())
+                .computedAt(current.computedAt())
+                .build();
+    }
+
+    public ContractExpiryBucketResponse getVendorBuckets(Long vendorId) {
+        return snapshot.byVendor().getOrDefault(vendorId, ContractExpiryBucketResponse.builder().id(vendorId).build());
+    }
+
+    public ContractExpiryBucketResponse getDepartmentBuckets(Long departmentId) {
+        return snapshot.byDepartment().getOrDefault(departmentId, ContractExpiryBucketResponse.builder().id(departmentId).build());
+    }
+
+    public List<ContractRenewalReminderResponse> getReminders(LocalDateTime since) {
+        LocalDateTime from = since != null ? since : LocalDateTime.now().minusDays(7);
+        return readTransaction.execute(status -> reminderRepository
+                .findByCreatedAtAfterOrderByCreatedAtDesc(from, PageRequest.of(0, MAX_REMINDERS))
+                .stream()
+                .map(ContractMapper::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        run();
+    }
+
+    /**
+     * Daily run: expire ended contracts, then recompute the buckets and emit due reminders.
+     */
+    @Scheduled(cron = "${app.contracts.expiry-cron:0 5 0 * * *}")
+    public void run() {
+        if (!runLock.tryLock()) {
+            log.debug("Contract expiry run already in progress");
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            int expired = expireEnded(today);
+            if (expired > 0) {
+                spendRollupService.markDirtyAfterCommit();
+            }
+            List<ExpiryRow> rows = loadRows(today);
+            snapshot = Snapshot.of(today, rows);
+            int reminders = emitReminders(rows);
+            log.info("Contract expiry run: {} expired, {} expiring within {} days, {} reminders emitted",
+                    expired, rows.size(), HORIZONS[HORIZONS.length - 1], reminders);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Keeps the buckets current between daily runs, e.g. after contracts were approved or terminated.
+     */
+    @Scheduled(fixedDelayString = "${app.contracts.expiry-buckets-refresh-ms:600000}",
+            initialDelayString = "${app.contracts.expiry-buckets-refresh-ms:600000}")
+    public void refreshBuckets() {
+        LocalDate today = LocalDate.now();
+        snapshot = Snapshot.of(today, loadRows(today));
+    }
+
+    public void refreshBucketsAfterCommit() {
+        TransactionCallbacks.afterCommit(this::refreshBuckets);
+    }
+
+    private int expireEnded(LocalDate today) {
+        int total = 0;
+        while (true) {
+            Integer updated = writeTransaction.execute(status -> {
+                List<Long> ids = contractRepository.findIdsByStatusAndEndDateBefore(ContractStatus.ACTIVE, today,
+                        PageRequest.of(0, EXPIRE_BATCH_SIZE));
+                return ids.isEmpty() ? null : contractRepository.expireActive(ids);
+            });
+            if (updated == null) {
+                return total;
+            }
+            total += updated;
+        }
+    }
+
+    private List<ExpiryRow> loadRows(LocalDate today) {
+        LocalDate end = today.plusDays(HORIZONS[HORIZONS.length - 1]);
+        return readTransaction.execute(status -> contractRepository.findActiveExpiryRowsBetween(today, end)
+                .stream()
+                .map(row -> new ExpiryRow((Long) row[0], (Long) row[1], (String) row[2], (Long) row[3], (String) row[4],
+                        (LocalDate) row[5], ChronoUnit.DAYS.between(today, (LocalDate) row[5])))
+                .collect(Collectors.toList()));
+    }
+
+    private int emitReminders(List<ExpiryRow> rows) {
+        Integer emitted = writeTransaction.execute(status -> {
+            int count = 0;
+            for (ExpiryRow row : rows) {
+                int horizon = horizonOf(row.daysLeft());
+                if (reminderRepository.insertIfAbsent(row.contractId(), row.vendorId(), horizon, row.endDate()) > 0) {
+                    ContractRenewalDueEvent event = new ContractRenewalDueEvent(row.contractId(), row.vendorId(), horizon, row.endDate());
+                    TransactionCallbacks.afterCommit(() -> eventPublisher.publishEvent(event));
+                    count++;
+                }
+            }
+            return count;
+        });
+        return emitted != null ? emitted : 0;
+    }
+
+    private static int horizonOf(long daysLeft) {
+        for (int horizon : HORIZONS) {
+            if (daysLeft <= horizon) {
+                return horizon;
+            }
+        }
+        return HORIZONS[HORIZONS.length - 1];
+    }
+
+    private record ExpiryRow(Long contractId, Long vendorId, String vendorName, Long departmentId, String departmentName,
+                             LocalDate endDate, long daysLeft) {
+    }
+
+    private record Snapshot(LocalDate asOf,
+                            ContractExpiryBucketResponse totals,
+                            Map<Long, ContractExpiryBucketResponse> byVendor,
+                            Map<Long, ContractExpiryBucketResponse> byDepartment,
+                            List<ContractExpiryBucketResponse> vendors,
+                            List<ContractExpiryBucketResponse> departments,
+                            LocalDateTime computedAt) {
+
+        static Snapshot empty(LocalDate asOf) {
+            return of(asOf, List.of());
+        }
+
+        static Snapshot of(LocalDate asOf, List<ExpiryRow> rows) {
+            long[] totals = new long[HORIZONS.length];
+            Map<Long, long[]> vendorCounts = new HashMap<>();
+            Map<Long, String> vendorNames = new HashMap<>();
+            Map<Long, long[]> departmentCounts = new HashMap<>();
+            Map<Long, String> departmentNames = new HashMap<>();
+            for (ExpiryRow row : rows) {
+                int bucket = bucketIndex(row.daysLeft());
+                totals[bucket]++;
+                vendorCounts.computeIfAbsent(row.vendorId(), ignored -> new long[HORIZONS.length])[bucket]++;
+                vendorNames.putIfAbsent(row.vendorId(), row.vendorName());
+                if (row.departmentId() != null) {
+                    departmentCounts.computeIfAbsent(row.departmentId(), ignored -> new long[HORIZONS.length])[bucket]++;
+                    departmentNames.putIfAbsent(row.departmentId(), row.departmentName());
+                }
+            }
+            Map<Long, ContractExpiryBucketResponse> byVendor = toBuckets(vendorCounts, vendorNames);
+            Map<Long, ContractExpiryBucketResponse> byDepartment = toBuckets(departmentCounts, departmentNames);
+            return new Snapshot(asOf, bucket(null, null, totals), byVendor, byDepartment,
+                    sorted(byVendor), sorted(byDepartment), LocalDateTime.now());
+        }
+
+        private static int bucketIndex(long daysLeft) {
+            for (int i = 0; i < HORIZONS.length; i++) {
+                if (daysLeft <= HORIZONS[i]) {
+                    return i;
+                }
+            }
+            return HORIZONS.length - 1;
+        }
+
+        private static Map<Long, ContractExpiryBucketResponse> toBuckets(Map<Long, long[]> counts, Map<Long, String> names) {
+            Map<Long, ContractExpiryBucketResponse> buckets = new HashMap<>();
+            counts.forEach((id, values) -> buckets.put(id, bucket(id, names.get(id), values)));
+            return Map.copyOf(buckets);
+        }
+
+        private static List<ContractExpiryBucketResponse> sorted(Map<Long, ContractExpiryBucketResponse> buckets) {
+            List<ContractExpiryBucketResponse> list = new ArrayList<>(buckets.values());
+            list.sort(Comparator.comparingLong(ContractExpiryBucketResponse::getWithin30Days).reversed()
+                    .thenComparing(Comparator.comparingLong(ContractExpiryBucketResponse::getWithin60Days).reversed())
+                    .thenComparing(ContractExpiryBucketResponse::getId));
+            return List.copyOf(list);
+        }
+
+        private static ContractExpiryBucketResponse bucket(Long id, String name, long[] values) {
+            return ContractExpiryBucketResponse.builder()
+                    .id(id)
+                    .name(name)
+                    .within30Days(values[0])
+                    .within60Days(values[1])
+                    .within90Days(values[2])
+                    .build();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.vms.vendor_management_system.application.service;
 import com.vms.vendor_management_system.application.dto.contract.ContractResponse;
 import com.vms.vendor_management_system.application.dto.dashboard.DashboardSummary;
 import com.vms.vendor_management_system.application.dto.purchaseorder.PurchaseOrderResponse;
+import com.vms.vendor_management_system.application.dto.report.SpendRollupResponse;
+import com.vms.vendor_management_system.application.dto.report.StatusHistogramResponse;
 import com.vms.vendor_management_system.application.dto.user.UserResponse;
 import com.vms.vendor_management_system.application.dto.vendor.VendorResponse;
 import com.vms.vendor_management_system.application.dto.vendorrequest.VendorCreationRequestResponse;
@@ -11,6 +13,8 @@ import com.vms.vendor_management_system.application.mapper.PurchaseOrderMapper;
 import com.vms.vendor_management_system.application.mapper.UserMapper;
 import com.vms.vendor_management_system.application.mapper.VendorCreationRequestMapper;
 import com.vms.vendor_management_system.application.mapper.VendorMapper;
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
 import com.vms.vendor_management_system.domain.enums.RequestStatus;
 import com.vms.vendor_management_system.domain.enums.VendorStatus;
 import com.vms.vendor_management_system.domain.repository.ContractRepository;
@@ -22,7 +26,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -40,41 +43,60 @@ public class DashboardApplicationService {
     private final VendorCreationRequestRepository vendorCreationRequestRepository;
     private final PurchaseOrderRepository purchaseOrderRepository;
     private final ContractRepository contractRepository;
+    private final SpendRollupService spendRollupService;
+    private final StatusHistogramService statusHistogramService;
+    private final ApplicationMetrics metrics;
 
     public DashboardApplicationService(UserRepository userRepository,
                                        VendorRepository vendorRepository,
                                        VendorCreationRequestRepository vendorCreationRequestRepository,
                                        PurchaseOrderRepository purchaseOrderRepository,
-                                       ContractRepository contractRepository) {
+                                       ContractRepository contractRepository,
+                                       SpendRollupService spendRollupService,
+                                       StatusHistogramService statusHistogramService,
+                                       ApplicationMetrics metrics) {
         this.userRepository = userRepository;
         this.vendorRepository = vendorRepository;
         this.vendorCreationRequestRepository = vendorCreationRequestRepository;
         this.purchaseOrderRepository = purchaseOrderRepository;
         this.contractRepository = contractRepository;
+        this.spendRollupService = spendRollupService;
+        this.statusHistogramService = statusHistogramService;
+        this.metrics = metrics;
     }
 
     public DashboardSummary getSummary() {
+        return metrics.timeDashboard(this::computeSummary);
+    }
+
+    private DashboardSummary computeSummary() {
         long activeUsers = userRepository.countActiveUsers();
         
+        // One GROUP BY per entity instead of a count query per status
+        StatusHistogramResponse vendorStatuses = statusHistogramService.getHistogram(StatusHistogramService.Entity.VENDORS);
+        StatusHistogramResponse requestStatuses = statusHistogramService.getHistogram(StatusHistogramService.Entity.VENDOR_REQUESTS);
+        StatusHistogramResponse purchaseOrderStatuses = statusHistogramService.getHistogram(StatusHistogramService.Entity.PURCHASE_ORDERS);
+        StatusHistogramResponse contractStatuses = statusHistogramService.getHistogram(StatusHistogramService.Entity.CONTRACTS);
+
         // Count actual vendors
-        long actualVendors = vendorRepository.count();
-        long activeVendors = vendorRepository.countByStatus(VendorStatus.ACTIVE);
+        long actualVendors = vendorStatuses.getTotal();
+        long activeVendors = vendorStatuses.count(VendorStatus.ACTIVE.name());
         // Only count PENDING_CREATION as pending - APPROVED vendors should be activated
-        long pendingVendors = vendorRepository.countByStatus(VendorStatus.PENDING_CREATION);
-        long inactiveVendors = vendorRepository.countByStatus(VendorStatus.INACTIVE);
-        long suspendedVendors = vendorRepository.countByStatus(VendorStatus.SUSPENDED);
+        long pendingVendors = vendorStatuses.count(VendorStatus.PENDING_CREATION.name());
+        long inactiveVendors = vendorStatuses.count(VendorStatus.INACTIVE.name());
+        long suspendedVendors = vendorStatuses.count(VendorStatus.SUSPENDED.name());
         
         // Count pending vendor requests (pending finance review + pending compliance review + pending admin review)
-        long pendingFinanceRequests = vendorCreationRequestRepository.countByStatus(RequestStatus.PENDING_FINANCE_REVIEW);
-        long pendingComplianceRequests = vendorCreationRequestRepository.countByStatus(RequestStatus.PENDING_COMPLIANCE_REVIEW);
-        long pendingAdminRequests = vendorCreationRequestRepository.countByStatus(RequestStatus.PENDING_ADMIN_REVIEW);
+        long pendingFinanceRequests = requestStatuses.count(RequestStatus.PENDING_FINANCE_REVIEW.name());
+        long pendingComplianceRequests = requestStatuses.count(RequestStatus.PENDING_COMPLIANCE_REVIEW.name());
+        long pendingAdminRequests = requestStatuses.count(RequestStatus.PENDING_ADMIN_REVIEW.name());
         long pendingRequests = pendingFinanceRequests + pendingComplianceRequests + pendingAdminRequests;
         
         // Total vendors = actual vendors + pending vendor requests (requests that will become vendors)
         long totalVendors = actualVendors + pendingRequests;
         
-        long totalPurchaseOrders = purchaseOrderRepository.count();
-        long totalContracts = contractRepository.count();
+        long totalPurchaseOrders = purchaseOrderStatuses.getTotal();
+        long totalContracts = contractStatuses.getTotal();
 
         List<VendorResponse> latestVendors = vendorRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, DEFAULT_LIMIT))
                 .stream()
@@ -95,50 +117,26 @@ public class DashboardApplicationService {
                 .toList();
 
         // Get pending approval purchase orders (PENDING_APPROVAL status)
-        List<PurchaseOrderResponse> pendingApprovalPOs = purchaseOrderRepository.findByStatus("PENDING_APPROVAL")
+        List<PurchaseOrderResponse> pendingApprovalPOs = purchaseOrderRepository.findQueueByStatus(PurchaseOrderStatus.PENDING_APPROVAL,
+                        PageRequest.of(0, DEFAULT_LIMIT))
                 .stream()
-                .limit(DEFAULT_LIMIT)
                 .map(PurchaseOrderMapper::toResponse)
                 .toList();
 
         // Get contracts expiring in next 90 days
         LocalDate today = LocalDate.now();
         LocalDate futureDate = today.plusDays(90);
-        List<ContractResponse> expiringContracts = contractRepository.findContractsExpiringBetween(today, futureDate)
+        List<ContractResponse> expiringContracts = contractRepository.findContractsExpiringBetween(today, futureDate,
+                        PageRequest.of(0, DEFAULT_LIMIT))
                 .stream()
-                .limit(DEFAULT_LIMIT)
                 .map(ContractMapper::toResponse)
                 .toList();
 
-        // Calculate real financial metrics from actual data
-        // Total spend from Purchase Orders this year (approved, sent, or received)
-        BigDecimal totalSpendFromPOs = purchaseOrderRepository.findAll().stream()
-                .filter(po -> {
-                    if (po.getOrderDate() == null || po.getStatus() == null) return false;
-                    return po.getOrderDate().getYear() == today.getYear() 
-                            && (po.getStatus().equals("APPROVED") || po.getStatus().equals("SENT") || po.getStatus().equals("RECEIVED"));
-                })
-                .map(po -> po.getTotalAmount() != null ? po.getTotalAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        // Total value from active contracts
-        BigDecimal totalContractValue = contractRepository.findAll().stream()
-                .filter(c -> {
-                    if (c.getStatus() == null) return false;
-                    return c.getStatus().equals("ACTIVE") || c.getStatus().equals("APPROVED");
-                })
-                .map(c -> c.getContractValue() != null ? c.getContractValue() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        // Total spend from all Purchase Orders (all time)
-        BigDecimal totalPurchaseOrderSpend = purchaseOrderRepository.findAll().stream()
-                .filter(po -> po.getStatus() != null && 
-                        (po.getStatus().equals("APPROVED") || po.getStatus().equals("SENT") || po.getStatus().equals("RECEIVED")))
-                .map(po -> po.getTotalAmount() != null ? po.getTotalAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Financial metrics from the precomputed per-currency rollups, normalized to the reporting currency
+        SpendRollupResponse spend = spendRollupService.getSpend(null);
         
         // Count pending approvals (pending vendor requests + pending approval POs)
-        long pendingApprovalsCount = pendingRequests + purchaseOrderRepository.findByStatus("PENDING_APPROVAL").size();
+        long pendingApprovalsCount = pendingRequests + purchaseOrderStatuses.count(PurchaseOrderStatus.PENDING_APPROVAL.name());
 
         return DashboardSummary.builder()
                 .totalActiveUsers(activeUsers)
@@ -152,9 +150,10 @@ public class DashboardApplicationService {
                 .underReviewRequests(pendingComplianceRequests)  // Using pendingComplianceRequests for underReviewRequests
                 .totalPurchaseOrders(totalPurchaseOrders)
                 .totalContracts(totalContracts)
-                .totalPurchaseOrderSpend(totalPurchaseOrderSpend.doubleValue())
-                .totalContractValue(totalContractValue.doubleValue())
-                .totalSpendYtd(totalSpendFromPOs.doubleValue())
+                .reportingCurrency(spend.getReportingCurrency())
+                .totalPurchaseOrderSpend(spend.getPurchaseOrderSpend().getTotal().doubleValue())
+                .totalContractValue(spend.getActiveContractValue().getTotal().doubleValue())
+                .totalSpendYtd(spend.getPurchaseOrderSpendYtd().getTotal().doubleValue())
                 .pendingApprovalsCount(pendingApprovalsCount)
                 .latestVendors(latestVendors)
                 .latestVendorRequests(latestRequests)
@@ -0,0 +1,108 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.budget.CreateDepartmentBudgetRequest;
+import com.vms.vendor_management_system.application.dto.budget.DepartmentBudgetResponse;
+import com.vms.vendor_management_system.application.mapper.DepartmentBudgetMapper;
+import com.vms.vendor_management_system.domain.entity.Department;
+import com.vms.vendor_management_system.domain.entity.DepartmentBudget;
+import com.vms.vendor_management_system.domain.repository.DepartmentBudgetRepository;
+import com.vms.vendor_management_system.domain.repository.DepartmentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service for department budget management.
+ */
+@Service
+@Transactional
+public class DepartmentBudgetApplicationService {
+
+    private final DepartmentBudgetRepository budgetRepository;
+    private final DepartmentRepository departmentRepository;
+    private final BudgetLedgerService ledgerService;
+
+    public DepartmentBudgetApplicationService(DepartmentBudgetRepository budgetRepository,
+                                              DepartmentRepository departmentRepository,
+                                              BudgetLedgerService ledgerService) {
+        this.budgetRepository = budgetRepository;
+        this.departmentRepository = departmentRepository;
+        this.ledgerService = ledgerService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DepartmentBudgetResponse> getBudgetsForDepartment(Long departmentId) {
+        return budgetRepository.findByDepartmentIdOrderByPeriodStart(departmentId)
+                .stream()
+                .map(budget -> DepartmentBudgetMapper.toResponse(budget, ledgerService.getBalance(budget.getId())))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public DepartmentBudgetResponse getBudget(Long budgetId) {
+        DepartmentBudget budget = budgetRepository.findById(budgetId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Budget not found"));
+        return DepartmentBudgetMapper.toResponse(budget, ledgerService.getBalance(budgetId));
+    }
+
+    public DepartmentBudgetResponse createBudget(CreateDepartmentBudgetRequest request) {
+        Department department = departmentRepository.findById(request.getDepartmentId())
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Department not found"));
+        checkNoOverlap(request, null);
+        DepartmentBudget budget;
+        try {
+            budget = new DepartmentBudget(department, request.getPeriodStart(), request.getPeriodEnd(),
+                    request.getAmount(), normalizeCurrency(request.getCurrency()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+        }
+        DepartmentBudget saved = budgetRepository.save(budget);
+        ledgerService.reconcileAfterCommit();
+        return DepartmentBudgetMapper.toResponse(saved, ledgerService.getBalance(saved.getId()));
+    }
+
+    public DepartmentBudgetResponse updateBudget(Long budgetId, CreateDepartmentBudgetRequest request) {
+        DepartmentBudget budget = budgetRepository.findById(budgetId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Budget not found"));
+        if (!budget.getDepartment().getId().equals(request.getDepartmentId())) {
+            throw new ResponseStatusException(BAD_REQUEST, "A budget cannot move to another department");
+        }
+        checkNoOverlap(request, budgetId);
+        try {
+            budget.changePeriod(request.getPeriodStart(), request.getPeriodEnd());
+            budget.changeAmount(request.getAmount());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+        }
+        budget.setCurrency(normalizeCurrency(request.getCurrency()));
+        DepartmentBudget saved = budgetRepository.save(budget);
+        ledgerService.reconcileAfterCommit();
+        return DepartmentBudgetMapper.toResponse(saved, ledgerService.getBalance(budgetId));
+    }
+
+    public void deleteBudget(Long budgetId) {
+        DepartmentBudget budget = budgetRepository.findById(budgetId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Budget not found"));
+        budgetRepository.delete(budget);
+        ledgerService.reconcileAfterCommit();
+    }
+
+    private void checkNoOverlap(CreateDepartmentBudgetRequest request, Long excludeId) {
+        if (budgetRepository.existsOverlapping(request.getDepartmentId(), request.getPeriodStart(),
+                request.getPeriodEnd(), excludeId)) {
+            throw new ResponseStatusException(CONFLICT, "Department already has a budget overlapping this period");
+        }
+    }
+
+    private static String normalizeCurrency(String currency) {
+        return currency.trim().toUpperCase(Locale.ROOT);
+    }
+}
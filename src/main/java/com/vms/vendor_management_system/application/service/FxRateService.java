@@ -0,0 +1,201 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.fx.FxRatesResponse;
+import com.vms.vendor_management_system.application.dto.fx.UpdateFxRatesRequest;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.entity.FxRate;
+import com.vms.vendor_management_system.domain.repository.FxRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Application service owning the local FX rate table.
+ *
+ * Rates are stored in {@code fx_rates} and served from an immutable in-memory snapshot that is
+ * swapped after each committed change, so conversions never touch the database.
+ */
+@Service
+public class FxRateService {
+
+    private static final Logger log = LoggerFactory.getLogger(FxRateService.class);
+    private static final Pattern CURRENCY_CODE = Pattern.compile("[A-Z]{3,10}");
+
+    private final FxRateRepository fxRateRepository;
+    private final ResourceLoader resourceLoader;
+    private final String ratesFile;
+
+    private volatile Snapshot snapshot;
+
+    public FxRateService(FxRateRepository fxRateRepository,
+                         ResourceLoader resourceLoader,
+                         @Value("${app.fx.base-currency:USD}") String defaultBaseCurrency,
+                         @Value("${app.fx.rates-file:}") String ratesFile) {
+        this.fxRateRepository = fxRateRepository;
+        this.resourceLoader = resourceLoader;
+        this.ratesFile = ratesFile;
+        this.snapshot = new Snapshot(normalize(defaultBaseCurrency), Map.of(), null);
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public FxRatesResponse getRates() {
+        Snapshot current = snapshot;
+        return FxRatesResponse.builder()
+                .baseCurrency(current.baseCurrency())
+                .rates(new TreeMap<>(current.rates()))
+                .loadedAt(current.loadedAt())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        List<FxRate> rates = fxRateRepository.findAll();
+        if (rates.isEmpty() && !ratesFile.isBlank()) {
+            reloadFromFile();
+            return;
+        }
+        if (!rates.isEmpty()) {
+            snapshot = toSnapshot(rates);
+            log.info("Loaded {} FX rates against {}", rates.size(), snapshot.baseCurrency());
+        }
+    }
+
+    /**
+     * Replaces the whole rate table; the new snapshot is published once the change commits.
+     */
+    @Transactional
+    public FxRatesResponse replaceRates(UpdateFxRatesRequest request) {
+        String base = normalize(request.getBaseCurrency());
+        List<FxRate> rates = new ArrayList<>();
+        for (Map.Entry<String, BigDecimal> entry : request.getRates().entrySet()) {
+            String currency = normalize(entry.getKey());
+            if (currency.equals(base)) {
+                continue;
+            }
+            if (entry.getValue() == null || entry.getValue().signum() <= 0) {
+                throw new ResponseStatusException(BAD_REQUEST, "FX rate for " + currency + " must be positive");
+            }
+            rates.add(new FxRate(base, currency, entry.getValue()));
+        }
+        fxRateRepository.deleteAllRates();
+        fxRateRepository.flush();
+        List<FxRate> saved = fxRateRepository.saveAll(rates);
+        Snapshot updated = toSnapshot(base, saved);
+        TransactionCallbacks.afterCommit(() -> {
+            snapshot = updated;
+            log.info("Replaced FX rates: {} currencies against {}", saved.size(), base);
+        });
+        return FxRatesResponse.builder()
+                .baseCurrency(updated.baseCurrency())
+                .rates(new TreeMap<>(updated.rates()))
+                .loadedAt(updated.loadedAt())
+                .build();
+    }
+
+    /**
+     * Imports the configured rates file: a properties file with {@code base=USD} and one {@code EUR=1.08} line per currency.
+     */
+    @Transactional
+    public FxRatesResponse reloadFromFile() {
+        if (ratesFile.isBlank()) {
+            throw new ResponseStatusException(BAD_REQUEST, "No FX rates file configured (app.fx.rates-file)");
+        }
+        Resource resource = resourceLoader.getResource(ratesFile);
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read FX rates file " + ratesFile, e);
+        }
+        UpdateFxRatesRequest request = new UpdateFxRatesRequest();
+        request.setBaseCurrency(properties.getProperty("base", snapshot.baseCurrency()));
+        Map<String, BigDecimal> rates = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!"base".equals(key)) {
+                try {
+                    rates.put(key, new BigDecimal(properties.getProperty(key).trim()));
+                } catch (NumberFormatException e) {
+                    throw new ResponseStatusException(BAD_REQUEST, "Invalid FX rate for " + key + " in " + ratesFile);
+                }
+            }
+        }
+        request.setRates(rates);
+        return replaceRates(request);
+    }
+
+    private static Snapshot toSnapshot(List<FxRate> rates) {
+        return toSnapshot(rates.get(0).getBaseCurrency(), rates);
+    }
+
+    private static Snapshot toSnapshot(String baseCurrency, List<FxRate> rates) {
+        Map<String, BigDecimal> byCurrency = new HashMap<>();
+        for (FxRate rate : rates) {
+            byCurrency.put(rate.getCurrency(), rate.getRate());
+        }
+        return new Snapshot(baseCurrency, Map.copyOf(byCurrency), LocalDateTime.now());
+    }
+
+    private static String normalize(String currency) {
+        String code = currency == null ? "" : currency.trim().toUpperCase(Locale.ROOT);
+        if (!CURRENCY_CODE.matcher(code).matches()) {
+            throw new ResponseStatusException(BAD_REQUEST, "Invalid currency code: " + currency);
+        }
+        return code;
+    }
+
+    /**
+     * Immutable set of rates against a base currency.
+     */
+    public record Snapshot(String baseCurrency, Map<String, BigDecimal> rates, LocalDateTime loadedAt) {
+
+        /**
+         * Units of the base currency per unit of the currency, or null when unknown.
+         */
+        public BigDecimal rateOf(String currency) {
+            if (currency == null) {
+                return null;
+            }
+            String code = currency.trim().toUpperCase(Locale.ROOT);
+            return code.equals(baseCurrency) ? BigDecimal.ONE : rates.get(code);
+        }
+
+        /**
+         * Converts an amount, or returns null when either rate is unknown.
+         */
+        public BigDecimal convert(BigDecimal amount, String from, String to) {
+            BigDecimal fromRate = rateOf(from);
+            BigDecimal toRate = rateOf(to);
+            if (amount == null || fromRate == null || toRate == null) {
+                return null;
+            }
+            return amount.multiply(fromRate, MathContext.DECIMAL64).divide(toRate, MathContext.DECIMAL64);
+        }
+    }
+}
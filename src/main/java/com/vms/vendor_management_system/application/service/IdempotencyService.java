@@ -0,0 +1,223 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
+import com.vms.vendor_management_system.domain.entity.IdempotencyRecord;
+import com.vms.vendor_management_system.domain.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Application service backing Idempotency-Key handling for mutating endpoints.
+ *
+ * The first response for a key is kept in a bounded in-memory LRU cache in front of the
+ * {@code idempotency_keys} table, which also acts as a cross-instance claim while the
+ * original request executes. Concurrent duplicates in the same instance wait for the first
+ * execution instead of repeating the work.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public enum Decision {
+        PROCEED, REPLAY, MISMATCH, IN_PROGRESS
+    }
+
+    public record StoredResponse(String fingerprint, int status, String contentType, String body,
+                                 LocalDateTime expiresAt) {
+    }
+
+    public record Outcome(Decision decision, StoredResponse response) {
+    }
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ApplicationMetrics metrics;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration claimTimeout;
+    private final Map<String, StoredResponse> cache;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ApplicationMetrics metrics,
+                              @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${app.idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${app.idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+                              @Value("${app.idempotency.claim-timeout-ms:120000}") long claimTimeoutMs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.metrics = metrics;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMs);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Decides whether the caller should execute the request, replay a stored response or be turned away.
+     * A {@link Decision#PROCEED} outcome must be followed by {@link #complete} or {@link #abandon}.
+     */
+    public Outcome begin(String key, String fingerprint) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            StoredResponse cached = cache.get(key);
+            boolean hit = cached != null && cached.expiresAt().isAfter(LocalDateTime.now());
+            metrics.cacheGet("idempotency", hit);
+            if (hit) {
+                return replayOrMismatch(cached, fingerprint);
+            }
+
+            CompletableFuture<StoredResponse> claim = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, claim);
+            if (running != null) {
+                StoredResponse result;
+                try {
+                    result = await(running, deadline);
+                } catch (TimeoutException e) {
+                    return new Outcome(Decision.IN_PROGRESS, null);
+                }
+                if (result != null) {
+                    return replayOrMismatch(result, fingerprint);
+                }
+                // The first execution failed without a storable response; try to take over
+                continue;
+            }
+
+            try {
+                Outcome outcome = claimInDatabase(key, fingerprint);
+                if (outcome.decision() != Decision.PROCEED) {
+                    inFlight.remove(key, claim);
+                    claim.complete(outcome.decision() == Decision.IN_PROGRESS ? null : outcome.response());
+                }
+                return outcome;
+            } catch (RuntimeException e) {
+                inFlight.remove(key, claim);
+                claim.complete(null);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stores the response of a request that was allowed to proceed and releases any waiting duplicates.
+     * Server errors are not stored so the client can retry with the same key.
+     */
+    public void complete(String key, int status, String contentType, String body) {
+        if (status >= 500) {
+            abandon(key);
+            return;
+        }
+        StoredResponse stored = null;
+        try {
+            IdempotencyRecord record = idempotencyRecordRepository.findByIdempotencyKey(key)
+                    .orElseThrow(() -> new IllegalStateException("Idempotency claim disappeared for key " + key));
+            record.complete(status, contentType, body);
+            idempotencyRecordRepository.save(record);
+            stored = toStoredResponse(record);
+            cache.put(key, stored);
+        } finally {
+            CompletableFuture<StoredResponse> claim = inFlight.remove(key);
+            if (claim != null) {
+                claim.complete(stored);
+            }
+        }
+    }
+
+    /**
+     * Releases the claim of a request that failed so that a retry can execute it again.
+     */
+    public void abandon(String key) {
+        try {
+            idempotencyRecordRepository.deleteClaim(key);
+        } finally {
+            CompletableFuture<StoredResponse> claim = inFlight.remove(key);
+            if (claim != null) {
+                claim.complete(null);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:900000}")
+    public void purgeExpired() {
+        int removed = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (removed > 0) {
+            log.debug("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private Outcome claimInDatabase(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findByIdempotencyKey(key);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (record.getExpiresAt().isBefore(now)) {
+                idempotencyRecordRepository.delete(record);
+            } else if (record.isCompleted()) {
+                StoredResponse stored = toStoredResponse(record);
+                cache.put(key, stored);
+                return replayOrMismatch(stored, fingerprint);
+            } else if (record.getCreatedAt() != null && record.getCreatedAt().plus(claimTimeout).isBefore(now)) {
+                // Claimed by an instance that never finished (crash, kill); take it over
+                idempotencyRecordRepository.deleteClaim(key);
+            } else {
+                return new Outcome(Decision.IN_PROGRESS, null);
+            }
+        }
+        try {
+            idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(key, fingerprint, now.plus(ttl)));
+            return new Outcome(Decision.PROCEED, null);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance claimed the key between our lookup and insert
+            return new Outcome(Decision.IN_PROGRESS, null);
+        }
+    }
+
+    /**
+     * Waits for the running execution and returns its stored response, or null if it stored nothing.
+     */
+    private StoredResponse await(CompletableFuture<StoredResponse> running, long deadline) throws TimeoutException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new TimeoutException();
+        }
+        try {
+            return running.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static Outcome replayOrMismatch(StoredResponse stored, String fingerprint) {
+        return stored.fingerprint().equals(fingerprint)
+                ? new Outcome(Decision.REPLAY, stored)
+                : new Outcome(Decision.MISMATCH, stored);
+    }
+
+    private static StoredResponse toStoredResponse(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestFingerprint(), record.getResponseStatus(),
+                record.getResponseContentType(), record.getResponseBody(), record.getExpiresAt());
+    }
+}
@@ -0,0 +1,235 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.event.OutboxMessage;
+import com.vms.vendor_management_system.application.event.OutboxSink;
+import com.vms.vendor_management_system.domain.entity.OutboxEvent;
+import com.vms.vendor_management_system.domain.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Background dispatcher delivering outbox events to the registered {@link OutboxSink}s.
+ *
+ * Due events are leased in batches, delivered concurrently on virtual threads and marked processed,
+ * or rescheduled with exponential backoff until their attempts run out. Commits that write events wake
+ * the dispatcher; the poll only picks up retries and events left over by a crash. Nothing here runs on
+ * a request thread, so slow sinks never add request latency.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean requested = new AtomicBoolean();
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration deliveryTimeout;
+    private final Duration lease;
+    private final Duration retention;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxSink> sinks,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.outbox.enabled:true}") boolean enabled,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.backoff-initial-ms:1000}") long initialBackoffMs,
+                            @Value("${app.outbox.backoff-max-ms:300000}") long maxBackoffMs,
+                            @Value("${app.outbox.delivery-timeout-ms:10000}") long deliveryTimeoutMs,
+                            @Value("${app.outbox.retention-hours:168}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = List.copyOf(sinks);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-", 0).factory());
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.deliveryTimeout = Duration.ofMillis(deliveryTimeoutMs);
+        // A lease outlives the slowest batch, so only events of a crashed dispatcher become due again
+        this.lease = deliveryTimeout.multipliedBy(2).plusMinutes(1);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Starts a dispatch pass unless one is running, in which case that pass runs once more. Never blocks.
+     */
+    public void requestDispatch() {
+        if (!enabled) {
+            return;
+        }
+        requested.set(true);
+        if (running.compareAndSet(false, true)) {
+            executor.execute(this::dispatchLoop);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:5000}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 15 * * * *}")
+    public void deleteProcessed() {
+        Integer deleted = writeTransaction.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} processed outbox events", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void dispatchLoop() {
+        try {
+            while (requested.getAndSet(false)) {
+                // A full batch means more events are probably due
+                int dispatched;
+                do {
+                    dispatched = dispatchBatch();
+                } while (dispatched == batchSize);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox dispatch failed", e);
+        } finally {
+            running.set(false);
+            // A request may have arrived after the last check
+            if (requested.get() && running.compareAndSet(false, true)) {
+                executor.execute(this::dispatchLoop);
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboxMessage> batch = claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Future<?>> deliveries = new HashMap<>();
+        for (OutboxMessage message : batch) {
+            deliveries.put(message.id(), executor.submit(() -> {
+                deliver(message);
+                return null;
+            }));
+        }
+        long deadline = System.nanoTime() + deliveryTimeout.toNanos();
+        Map<Long, String> failures = new HashMap<>();
+        for (Map.Entry<Long, Future<?>> delivery : deliveries.entrySet()) {
+            String error = await(delivery.getValue(), deadline);
+            if (error != null) {
+                failures.put(delivery.getKey(), error);
+            }
+        }
+        record(batch, failures);
+        return batch.size();
+    }
+
+    private List<OutboxMessage> claimBatch() {
+        String owner = UUID.randomUUID().toString();
+        List<OutboxMessage> batch = writeTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxEventRepository.findDueIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty() || outboxEventRepository.claim(ids, owner, now, now.plus(lease)) == 0) {
+                return List.of();
+            }
+            List<OutboxMessage> messages = new ArrayList<>();
+            for (OutboxEvent event : outboxEventRepository.findByLeaseOwnerAndIdInOrderById(owner, ids)) {
+                messages.add(new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateType(),
+                        event.getAggregateId(), event.getPayload(), event.getCreatedAt(), event.getAttempts() + 1));
+            }
+            return messages;
+        });
+        return batch != null ? batch : List.of();
+    }
+
+    private void deliver(OutboxMessage message) {
+        for (OutboxSink sink : sinks) {
+            if (sink.supports(message.eventType())) {
+                try {
+                    sink.deliver(message);
+                } catch (Exception e) {
+                    throw new IllegalStateException(sink.getName() + ": " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private static String await(Future<?> delivery, long deadline) {
+        try {
+            delivery.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (TimeoutException e) {
+            delivery.cancel(true);
+            return "Delivery timed out";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            delivery.cancel(true);
+            return "Delivery interrupted";
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        }
+    }
+
+    private void record(List<OutboxMessage> batch, Map<Long, String> failures) {
+        writeTransaction.executeWithoutResult(status -> {
+            for (OutboxEvent event : outboxEventRepository.findAllById(batch.stream().map(OutboxMessage::id).collect(Collectors.toList()))) {
+                String error = failures.get(event.getId());
+                if (error == null) {
+                    event.markProcessed();
+                } else if (event.getAttempts() + 1 >= maxAttempts) {
+                    event.markFailed(error);
+                    log.warn("Outbox event {} ({}) failed after {} attempts: {}",
+                            event.getId(), event.getEventType(), event.getAttempts(), error);
+                } else {
+                    event.scheduleRetry(LocalDateTime.now().plus(backoff(event.getAttempts() + 1)), error);
+                }
+            }
+        });
+    }
+
+    private Duration backoff(int attempt) {
+        long delay = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(delay, maxBackoff.toMillis());
+        // Jitter spreads out retries of events that failed together
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+}
@@ -0,0 +1,131 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vms.vendor_management_system.application.dto.outbox.OutboxEventResponse;
+import com.vms.vendor_management_system.application.dto.outbox.OutboxStatsResponse;
+import com.vms.vendor_management_system.application.mapper.OutboxEventMapper;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.entity.Contract;
+import com.vms.vendor_management_system.domain.entity.OutboxEvent;
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.enums.OutboxStatus;
+import com.vms.vendor_management_system.domain.repository.OutboxEventRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service writing domain events to the transactional outbox.
+ *
+ * Events are inserted in the caller's transaction, so they exist exactly when the state change
+ * commits; the dispatcher is woken once it has.
+ */
+@Service
+@Transactional
+public class OutboxService {
+
+    private static final int MAX_LISTED = 200;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository,
+                         OutboxDispatcher dispatcher,
+                         ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String eventType, String aggregateType, Long aggregateId, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " payload", e);
+        }
+        outboxEventRepository.save(new OutboxEvent(eventType, aggregateType, aggregateId, json));
+        TransactionCallbacks.afterCommit(dispatcher::requestDispatch);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPurchaseOrder(String eventType, PurchaseOrder purchaseOrder) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", purchaseOrder.getId());
+        payload.put("poNumber", purchaseOrder.getPoNumber());
+        payload.put("status", purchaseOrder.getStatus().name());
+        payload.put("vendorId", purchaseOrder.getVendor().getId());
+        payload.put("totalAmount", purchaseOrder.getTotalAmount());
+        payload.put("currency", purchaseOrder.getCurrency());
+        payload.put("orderDate", purchaseOrder.getOrderDate());
+        payload.put("approvedAt", purchaseOrder.getApprovedAt());
+        record(eventType, "PURCHASE_ORDER", purchaseOrder.getId(), payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordContract(String eventType, Contract contract) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", contract.getId());
+        payload.put("contractNumber", contract.getContractNumber());
+        payload.put("status", contract.getStatus().name());
+        payload.put("vendorId", contract.getVendor().getId());
+        payload.put("contractValue", contract.getContractValue());
+        payload.put("currency", contract.getCurrency());
+        payload.put("startDate", contract.getStartDate());
+        payload.put("endDate", contract.getEndDate());
+        record(eventType, "CONTRACT", contract.getId(), payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordVendor(String eventType, Vendor vendor) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", vendor.getId());
+        payload.put("vendorCode", vendor.getVendorCode());
+        payload.put("companyName", vendor.getCompanyName());
+        payload.put("status", vendor.getStatus().name());
+        payload.put("defaultCurrency", vendor.getDefaultCurrency());
+        record(eventType, "VENDOR", vendor.getId(), payload);
+    }
+
+    @Transactional(readOnly = true)
+    public OutboxStatsResponse getStats() {
+        return OutboxStatsResponse.builder()
+                .pending(outboxEventRepository.countByStatus(OutboxStatus.PENDING))
+                .processed(outboxEventRepository.countByStatus(OutboxStatus.PROCESSED))
+                .failed(outboxEventRepository.countByStatus(OutboxStatus.FAILED))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxEventResponse> getFailedEvents() {
+        return outboxEventRepository.findByStatusOrderByIdDesc(OutboxStatus.FAILED, PageRequest.of(0, MAX_LISTED))
+                .stream()
+                .map(OutboxEventMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public OutboxEventResponse retry(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Outbox event not found"));
+        if (event.getStatus() != OutboxStatus.FAILED) {
+            throw new ResponseStatusException(BAD_REQUEST, "Only failed outbox events can be retried");
+        }
+        event.requeue();
+        TransactionCallbacks.afterCommit(dispatcher::requestDispatch);
+        return OutboxEventMapper.toResponse(event);
+    }
+}
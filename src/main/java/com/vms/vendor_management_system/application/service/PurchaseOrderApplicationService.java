@@ -1,22 +1,30 @@
 package com.vms.vendor_management_system.application.service;
 
+import com.vms.vendor_management_system.application.dto.approvalrule.ApprovalRoutingResponse;
 import com.vms.vendor_management_system.application.dto.purchaseorder.CreatePurchaseOrderRequest;
 import com.vms.vendor_management_system.application.dto.purchaseorder.PurchaseOrderResponse;
+import com.vms.vendor_management_system.application.event.OutboxEventTypes;
+import com.vms.vendor_management_system.application.mapper.ApprovalRuleMapper;
 import com.vms.vendor_management_system.application.mapper.PurchaseOrderMapper;
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
 import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
 import com.vms.vendor_management_system.domain.entity.User;
 import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
 import com.vms.vendor_management_system.domain.repository.PurchaseOrderRepository;
 import com.vms.vendor_management_system.domain.repository.UserRepository;
 import com.vms.vendor_management_system.domain.repository.VendorRepository;
-import com.vms.vendor_management_system.domain.repository.VendorCreationRequestRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 /**
@@ -29,22 +37,37 @@ public class PurchaseOrderApplicationService {
     private final PurchaseOrderRepository purchaseOrderRepository;
     private final VendorRepository vendorRepository;
     private final UserRepository userRepository;
-    private final VendorCreationRequestRepository vendorCreationRequestRepository;
+    private final SpendRollupService spendRollupService;
+    private final BudgetLedgerService budgetLedgerService;
+    private final ApprovalRoutingService approvalRoutingService;
+    private final OutboxService outboxService;
+    private final ApplicationMetrics metrics;
 
     public PurchaseOrderApplicationService(PurchaseOrderRepository purchaseOrderRepository,
                                           VendorRepository vendorRepository,
                                           UserRepository userRepository,
-                                          VendorCreationRequestRepository vendorCreationRequestRepository) {
+                                          SpendRollupService spendRollupService,
+                                          BudgetLedgerService budgetLedgerService,
+                                          ApprovalRoutingService approvalRoutingService,
+                                          OutboxService outboxService,
+                                          ApplicationMetrics metrics) {
         this.purchaseOrderRepository = purchaseOrderRepository;
         this.vendorRepository = vendorRepository;
         this.userRepository = userRepository;
-        this.vendorCreationRequestRepository = vendorCreationRequestRepository;
+        this.spendRollupService = spendRollupService;
+        this.budgetLedgerService = budgetLedgerService;
+        this.approvalRoutingService = approvalRoutingService;
+        this.outboxService = outboxService;
+        this.metrics = metrics;
     }
 
+    /**
+     * Live and archived orders of the vendor.
+     */
     @Transactional(readOnly = true)
     public List<PurchaseOrderResponse> getPurchaseOrdersForVendor(Long vendorId) {
-        return purchaseOrderRepository.findByVendorId(vendorId)
-                .stream()
+        return Stream.concat(purchaseOrderRepository.findByVendorId(vendorId).stream(),
+                        purchaseOrderRepository.findArchivedByVendorId(vendorId).stream())
                 .map(PurchaseOrderMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -52,40 +75,42 @@ public class PurchaseOrderApplicationService {
     @Transactional(readOnly = true)
     public PurchaseOrderResponse getPurchaseOrder(Long purchaseOrderId) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
+                .or(() -> purchaseOrderRepository.findArchivedById(purchaseOrderId))
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
         return PurchaseOrderMapper.toResponse(purchaseOrder);
     }
 
     @Transactional(readOnly = true)
     public List<PurchaseOrderResponse> getPurchaseOrdersByStatus(String status) {
-        return purchaseOrderRepository.findByStatus(status)
+        PurchaseOrderStatus purchaseOrderStatus;
+        try {
+            purchaseOrderStatus = PurchaseOrderStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, "Unknown purchase order status: " + status);
+        }
+        return purchaseOrderRepository.findByStatus(purchaseOrderStatus)
                 .stream()
                 .map(PurchaseOrderMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public ApprovalRoutingResponse getApprovalRoute(Long purchaseOrderId) {
+        PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
+        return ApprovalRuleMapper.toResponse(ApprovalDocumentType.PURCHASE_ORDER, purchaseOrderId,
+                approvalRoutingService.route(purchaseOrder));
+    }
+
     public PurchaseOrderResponse createPurchaseOrder(CreatePurchaseOrderRequest request) {
         Vendor vendor = vendorRepository.findById(request.getVendorId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor not found"));
         User creator = userRepository.findById(request.getCreatedByUserId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Creator not found"));
         
-        // If currency is not provided, get it from the vendor's creation request
-        String currency = request.getCurrency();
-        if (currency == null || currency.trim().isEmpty()) {
-            List<com.vms.vendor_management_system.domain.entity.VendorCreationRequest> vendorRequests = 
-                vendorCreationRequestRepository.findByVendorId(vendor.getId());
-            if (!vendorRequests.isEmpty()) {
-                // Get currency from the most recent ACTIVE vendor creation request
-                // This is the request that created this vendor, containing the requester's chosen currency
-                com.vms.vendor_management_system.domain.entity.VendorCreationRequest vendorRequest = vendorRequests.get(0);
-                currency = vendorRequest.getCurrency();
-            }
-        }
-        
-        // Always set the currency if we found one from the vendor request, even if request provided empty currency
-        if (currency != null && !currency.trim().isEmpty()) {
-            request.setCurrency(currency);
+        // If currency is not provided, default to the vendor's currency
+        if (request.getCurrency() == null || request.getCurrency().trim().isEmpty()) {
+            request.setCurrency(vendor.getDefaultCurrency());
         }
         
         PurchaseOrder purchaseOrder = PurchaseOrderMapper.toEntity(request, vendor, creator);
@@ -96,52 +121,85 @@ public class PurchaseOrderApplicationService {
     public PurchaseOrderResponse submitForApproval(Long purchaseOrderId) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
+        PurchaseOrderStatus previousStatus = purchaseOrder.getStatus();
         purchaseOrder.submitForApproval();
+        budgetLedgerService.reserve(purchaseOrder);
+        if (!approvalRoutingService.route(purchaseOrder).requiresApproval()) {
+            purchaseOrder.approveAutomatically();
+            budgetLedgerService.commit(purchaseOrder);
+            spendRollupService.markDirtyAfterCommit();
+        }
         PurchaseOrder saved = purchaseOrderRepository.save(purchaseOrder);
+        if (saved.getStatus() == PurchaseOrderStatus.APPROVED) {
+            outboxService.recordPurchaseOrder(OutboxEventTypes.PURCHASE_ORDER_APPROVED, saved);
+        }
+        metrics.workflowTransition("purchase_order", previousStatus, purchaseOrder.getStatus());
         return PurchaseOrderMapper.toResponse(saved);
     }
 
     public PurchaseOrderResponse approvePurchaseOrder(Long purchaseOrderId, Long approverId) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
+        PurchaseOrderStatus previousStatus = purchaseOrder.getStatus();
         User approver = userRepository.findById(approverId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Approver not found"));
+        approvalRoutingService.checkApprover(approvalRoutingService.route(purchaseOrder), approver);
         purchaseOrder.approve(approver);
+        budgetLedgerService.commit(purchaseOrder);
         PurchaseOrder saved = purchaseOrderRepository.save(purchaseOrder);
+        outboxService.recordPurchaseOrder(OutboxEventTypes.PURCHASE_ORDER_APPROVED, saved);
+        spendRollupService.markDirtyAfterCommit();
+        metrics.workflowTransition("purchase_order", previousStatus, purchaseOrder.getStatus());
         return PurchaseOrderMapper.toResponse(saved);
     }
 
     public PurchaseOrderResponse rejectPurchaseOrder(Long purchaseOrderId, Long approverId, String rejectionReason) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
+        PurchaseOrderStatus previousStatus = purchaseOrder.getStatus();
         User approver = userRepository.findById(approverId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Approver not found"));
+        approvalRoutingService.checkApprover(approvalRoutingService.route(purchaseOrder), approver);
         purchaseOrder.reject(approver, rejectionReason);
+        budgetLedgerService.release(purchaseOrder);
         PurchaseOrder saved = purchaseOrderRepository.save(purchaseOrder);
+        metrics.workflowTransition("purchase_order", previousStatus, purchaseOrder.getStatus());
         return PurchaseOrderMapper.toResponse(saved);
     }
 
     public PurchaseOrderResponse sendPurchaseOrder(Long purchaseOrderId) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
+        PurchaseOrderStatus previousStatus = purchaseOrder.getStatus();
         purchaseOrder.send();
         PurchaseOrder saved = purchaseOrderRepository.save(purchaseOrder);
+        spendRollupService.markDirtyAfterCommit();
+        metrics.workflowTransition("purchase_order", previousStatus, purchaseOrder.getStatus());
         return PurchaseOrderMapper.toResponse(saved);
     }
 
     public PurchaseOrderResponse markAsReceived(Long purchaseOrderId) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
+        PurchaseOrderStatus previousStatus = purchaseOrder.getStatus();
         purchaseOrder.markAsReceived();
+        budgetLedgerService.settle(purchaseOrder);
         PurchaseOrder saved = purchaseOrderRepository.save(purchaseOrder);
+        outboxService.recordPurchaseOrder(OutboxEventTypes.PURCHASE_ORDER_RECEIVED, saved);
+        spendRollupService.markDirtyAfterCommit();
+        metrics.workflowTransition("purchase_order", previousStatus, purchaseOrder.getStatus());
         return PurchaseOrderMapper.toResponse(saved);
     }
 
     public void cancelPurchaseOrder(Long purchaseOrderId) {
         PurchaseOrder purchaseOrder = purchaseOrderRepository.findById(purchaseOrderId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Purchase order not found"));
+        PurchaseOrderStatus previousStatus = purchaseOrder.getStatus();
         purchaseOrder.cancel();
+        budgetLedgerService.release(purchaseOrder);
         purchaseOrderRepository.save(purchaseOrder);
+        spendRollupService.markDirtyAfterCommit();
+        metrics.workflowTransition("purchase_order", previousStatus, purchaseOrder.getStatus());
     }
 }
 
@@ -0,0 +1,203 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.report.CurrencyAmountResponse;
+import com.vms.vendor_management_system.application.dto.report.SpendMetricResponse;
+import com.vms.vendor_management_system.application.dto.report.SpendRollupResponse;
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.repository.ContractRepository;
+import com.vms.vendor_management_system.domain.repository.PurchaseOrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Application service keeping precomputed spend totals per currency.
+ *
+ * Totals come from GROUP BY currency queries and are cached in an immutable snapshot that is
+ * recomputed when purchase orders or contracts change state. Normalizing to a reporting currency
+ * converts one total per currency with the in-memory FX snapshot. Purchase order totals include
+ * archived orders.
+ */
+@Service
+public class SpendRollupService {
+
+    static final List<PurchaseOrderStatus> SPEND_PO_STATUSES =
+            List.of(PurchaseOrderStatus.APPROVED, PurchaseOrderStatus.SENT, PurchaseOrderStatus.RECEIVED);
+    private static final List<String> SPEND_PO_STATUS_NAMES =
+            SPEND_PO_STATUSES.stream().map(Enum::name).collect(Collectors.toList());
+    static final List<ContractStatus> VALUE_CONTRACT_STATUSES = List.of(ContractStatus.ACTIVE);
+    private static final LocalDate ALL_TIME = LocalDate.of(1900, 1, 1);
+    private static final String UNKNOWN_CURRENCY = "UNKNOWN";
+
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final ContractRepository contractRepository;
+    private final FxRateService fxRateService;
+    private final ApplicationMetrics metrics;
+    private final TransactionTemplate readTransaction;
+    private final String reportingCurrency;
+    private final Duration maxAge;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Totals totals;
+    private volatile boolean dirty = true;
+
+    public SpendRollupService(PurchaseOrderRepository purchaseOrderRepository,
+                              ContractRepository contractRepository,
+                              FxRateService fxRateService,
+                              ApplicationMetrics metrics,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.fx.reporting-currency:USD}") String reportingCurrency,
+                              @Value("${app.spend.max-age-ms:600000}") long maxAgeMs) {
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.contractRepository = contractRepository;
+        this.fxRateService = fxRateService;
+        this.metrics = metrics;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.reportingCurrency = reportingCurrency.trim().toUpperCase(Locale.ROOT);
+        this.maxAge = Duration.ofMillis(maxAgeMs);
+    }
+
+    public String getReportingCurrency() {
+        return reportingCurrency;
+    }
+
+    public SpendRollupResponse getSpend(String currency) {
+        Totals current = currentTotals();
+        FxRateService.Snapshot rates = fxRateService.getSnapshot();
+        String target = currency != null && !currency.isBlank() ? currency.trim().toUpperCase(Locale.ROOT) : reportingCurrency;
+        return SpendRollupResponse.builder()
+                .reportingCurrency(target)
+                .purchaseOrderSpendYtd(toMetric(current.purchaseOrdersYtd(), rates, target))
+                .purchaseOrderSpend(toMetric(current.purchaseOrders(), rates, target))
+                .activeContractValue(toMetric(current.activeContracts(), rates, target))
+                .ratesLoadedAt(rates.loadedAt())
+                .computedAt(current.computedAt())
+                .build();
+    }
+
+    /**
+     * Marks the totals stale once the current transaction commits; they are recomputed on the next check or read.
+     */
+    public void markDirtyAfterCommit() {
+        TransactionCallbacks.afterCommit(() -> dirty = true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.spend.refresh-check-ms:30000}")
+    public void refreshIfStale() {
+        Totals current = totals;
+        if (dirty || current == null || current.isStale(maxAge)) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            dirty = false;
+            LocalDate today = LocalDate.now();
+            totals = readTransaction.execute(status -> new Totals(
+                    today,
+                    toAmounts(purchaseOrderSpend(today.withDayOfYear(1))),
+                    toAmounts(purchaseOrderSpend(ALL_TIME)),
+                    toAmounts(contractRepository.sumContractValueByCurrency(VALUE_CONTRACT_STATUSES)),
+                    LocalDateTime.now()));
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Archived orders still count; the date filter prunes archive partitions before the period
+    private List<Object[]> purchaseOrderSpend(LocalDate from) {
+        List<Object[]> rows = new ArrayList<>(purchaseOrderRepository.sumTotalAmountByCurrency(SPEND_PO_STATUSES, from));
+        rows.addAll(purchaseOrderRepository.sumArchivedTotalAmountByCurrency(SPEND_PO_STATUS_NAMES, from));
+        return rows;
+    }
+
+    private Totals currentTotals() {
+        Totals current = totals;
+        boolean hit = current != null && current.asOf().equals(LocalDate.now());
+        metrics.cacheGet("spend_totals", hit);
+        if (!hit) {
+            refresh();
+            current = totals;
+        }
+        return current;
+    }
+
+    private static Map<String, Amount> toAmounts(List<Object[]> rows) {
+        Map<String, Amount> amounts = new TreeMap<>();
+        for (Object[] row : rows) {
+            String currency = row[0] != null ? ((String) row[0]).trim().toUpperCase(Locale.ROOT) : UNKNOWN_CURRENCY;
+            BigDecimal sum = row[1] != null ? (BigDecimal) row[1] : BigDecimal.ZERO;
+            long count = ((Number) row[2]).longValue();
+            // Codes differing only in case or whitespace land in the same bucket
+            amounts.merge(currency, new Amount(sum, count), Amount::plus);
+        }
+        return Map.copyOf(amounts);
+    }
+
+    private static SpendMetricResponse toMetric(Map<String, Amount> amounts, FxRateService.Snapshot rates, String target) {
+        List<CurrencyAmountResponse> byCurrency = new ArrayList<>();
+        List<String> unconverted = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (Map.Entry<String, Amount> entry : amounts.entrySet()) {
+            BigDecimal converted = rates.convert(entry.getValue().sum(), entry.getKey(), target);
+            if (converted != null) {
+                converted = converted.setScale(2, RoundingMode.HALF_EVEN);
+                total = total.add(converted);
+            } else {
+                unconverted.add(entry.getKey());
+            }
+            byCurrency.add(CurrencyAmountResponse.builder()
+                    .currency(entry.getKey())
+                    .amount(entry.getValue().sum())
+                    .documentCount(entry.getValue().count())
+                    .convertedAmount(converted)
+                    .build());
+        }
+        byCurrency.sort(Comparator.comparing(CurrencyAmountResponse::getCurrency));
+        return SpendMetricResponse.builder()
+                .byCurrency(byCurrency)
+                .total(total)
+                .unconvertedCurrencies(unconverted)
+                .build();
+    }
+
+    private record Amount(BigDecimal sum, long count) {
+
+        Amount plus(Amount other) {
+            return new Amount(sum.add(other.sum), count + other.count);
+        }
+    }
+
+    private record Totals(LocalDate asOf,
+                          Map<String, Amount> purchaseOrdersYtd,
+                          Map<String, Amount> purchaseOrders,
+                          Map<String, Amount> activeContracts,
+                          LocalDateTime computedAt) {
+
+        boolean isStale(Duration maxAge) {
+            return !asOf.equals(LocalDate.now()) || computedAt.plus(maxAge).isBefore(LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.report.StatusHistogramResponse;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.enums.RequestStatus;
+import com.vms.vendor_management_system.domain.enums.VendorStatus;
+import com.vms.vendor_management_system.domain.repository.ContractRepository;
+import com.vms.vendor_management_system.domain.repository.PurchaseOrderRepository;
+import com.vms.vendor_management_system.domain.repository.VendorCreationRequestRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service counting entities per status with a single GROUP BY query each,
+ * optionally sliced by department, vendor category or vendor.
+ * Purchase order and contract counts include archived records.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StatusHistogramService {
+
+    public enum Entity {
+        VENDORS("vendors", Arrays.stream(VendorStatus.values()).map(Enum::name).collect(Collectors.toList())),
+        VENDOR_REQUESTS("vendor-requests", Arrays.stream(RequestStatus.values()).map(Enum::name).collect(Collectors.toList())),
+        PURCHASE_ORDERS("purchase-orders", Arrays.stream(PurchaseOrderStatus.values()).map(Enum::name).collect(Collectors.toList())),
+        CONTRACTS("contracts", Arrays.stream(ContractStatus.values()).map(Enum::name).collect(Collectors.toList()));
+
+        private final String path;
+        private final List<String> statuses;
+
+        Entity(String path, List<String> statuses) {
+            this.path = path;
+            this.statuses = statuses;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Resolves a path segment such as {@code purchase-orders} (or the enum name).
+         */
+        public static Entity fromPath(String value) {
+            String normalized = value.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+            for (Entity entity : values()) {
+                if (entity.path.equals(normalized)) {
+                    return entity;
+                }
+            }
+            throw new ResponseStatusException(NOT_FOUND, "No status histogram for " + value);
+        }
+    }
+
+    private final VendorRepository vendorRepository;
+    private final VendorCreationRequestRepository requestRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final ContractRepository contractRepository;
+
+    public StatusHistogramService(VendorRepository vendorRepository,
+                                  VendorCreationRequestRepository requestRepository,
+                                  PurchaseOrderRepository purchaseOrderRepository,
+                                  ContractRepository contractRepository) {
+        this.vendorRepository = vendorRepository;
+        this.requestRepository = requestRepository;
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.contractRepository = contractRepository;
+    }
+
+    public StatusHistogramResponse getHistogram(Entity entity) {
+        return getHistogram(entity, null, null, null);
+    }
+
+    public StatusHistogramResponse getHistogram(Entity entity, Long departmentId, Long categoryId, Long vendorId) {
+        List<Object[]> rows = switch (entity) {
+            case VENDORS -> vendorRepository.countGroupedByStatus(departmentId, categoryId, vendorId);
+            case VENDOR_REQUESTS -> requestRepository.countGroupedByStatus(departmentId, categoryId, vendorId);
+            case PURCHASE_ORDERS -> concat(purchaseOrderRepository.countGroupedByStatus(departmentId, categoryId, vendorId),
+                    purchaseOrderRepository.countArchivedGroupedByStatus(departmentId, categoryId, vendorId));
+            case CONTRACTS -> concat(contractRepository.countGroupedByStatus(departmentId, categoryId, vendorId),
+                    contractRepository.countArchivedGroupedByStatus(departmentId, categoryId, vendorId));
+        };
+        Map<String, Long> counts = new LinkedHashMap<>();
+        entity.statuses.forEach(status -> counts.put(status, 0L));
+        long total = 0;
+        for (Object[] row : rows) {
+            String status = row[0] != null ? row[0].toString() : "UNKNOWN";
+            long count = ((Number) row[1]).longValue();
+            counts.merge(status, count, Long::sum);
+            total += count;
+        }
+        return StatusHistogramResponse.builder()
+                .entity(entity.getPath())
+                .departmentId(departmentId)
+                .categoryId(categoryId)
+                .vendorId(vendorId)
+                .total(total)
+                .counts(counts)
+                .build();
+    }
+
+    private static List<Object[]> concat(List<Object[]> live, List<Object[]> archived) {
+        List<Object[]> rows = new ArrayList<>(live);
+        rows.addAll(archived);
+        return rows;
+    }
+}
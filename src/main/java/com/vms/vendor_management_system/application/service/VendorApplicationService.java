@@ -2,12 +2,15 @@ package com.vms.vendor_management_system.application.service;
 
 import com.vms.vendor_management_system.application.dto.vendor.CreateVendorRequest;
 import com.vms.vendor_management_system.application.dto.vendor.VendorResponse;
+import com.vms.vendor_management_system.application.event.OutboxEventTypes;
 import com.vms.vendor_management_system.application.mapper.VendorMapper;
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
 import com.vms.vendor_management_system.domain.entity.Vendor;
 import com.vms.vendor_management_system.domain.entity.VendorCategory;
 import com.vms.vendor_management_system.domain.enums.VendorStatus;
 import com.vms.vendor_management_system.domain.repository.VendorCategoryRepository;
 import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import com.vms.vendor_management_system.domain.service.CodeAllocationService;
 import com.vms.vendor_management_system.domain.service.VendorManagementService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -15,8 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
-import java.util.Locale;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -31,13 +32,28 @@ public class VendorApplicationService {
     private final VendorRepository vendorRepository;
     private final VendorCategoryRepository vendorCategoryRepository;
     private final VendorManagementService vendorManagementService;
+    private final VendorDuplicateDetectionService duplicateDetectionService;
+    private final CodeAllocationService codeAllocationService;
+    private final VendorScorecardService scorecardService;
+    private final OutboxService outboxService;
+    private final ApplicationMetrics metrics;
 
     public VendorApplicationService(VendorRepository vendorRepository,
                                     VendorCategoryRepository vendorCategoryRepository,
-                                    VendorManagementService vendorManagementService) {
+                                    VendorManagementService vendorManagementService,
+                                    VendorDuplicateDetectionService duplicateDetectionService,
+                                    CodeAllocationService codeAllocationService,
+                                    VendorScorecardService scorecardService,
+                                    OutboxService outboxService,
+                                    ApplicationMetrics metrics) {
         this.vendorRepository = vendorRepository;
         this.vendorCategoryRepository = vendorCategoryRepository;
         this.vendorManagementService = vendorManagementService;
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.codeAllocationService = codeAllocationService;
+        this.scorecardService = scorecardService;
+        this.outboxService = outboxService;
+        this.metrics = metrics;
     }
 
     @Transactional(readOnly = true)
@@ -58,8 +74,9 @@ public class VendorApplicationService {
     public VendorResponse createVendor(CreateVendorRequest request) {
         VendorCategory category = resolveCategory(request.getCategoryId());
         Vendor vendor = VendorMapper.toEntity(request, category);
-        vendor.setVendorCode(generateVendorCode(request.getCompanyName()));
+        vendor.setVendorCode(codeAllocationService.nextVendorCode(request.getCompanyName()));
         Vendor saved = vendorRepository.save(vendor);
+        duplicateDetectionService.track(saved);
         return VendorMapper.toResponse(saved);
     }
 
@@ -69,12 +86,16 @@ public class VendorApplicationService {
         VendorCategory category = resolveCategory(request.getCategoryId());
         VendorMapper.updateEntity(vendor, request, category);
         Vendor saved = vendorRepository.save(vendor);
+        duplicateDetectionService.track(saved);
+        // Name or category shown on the scorecard may have changed
+        scorecardService.refreshAfterCommit(List.of(saved.getId()));
         return VendorMapper.toResponse(saved);
     }
 
     public void activateVendor(Long vendorId) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor not found"));
+        VendorStatus previousStatus = vendor.getStatus();
         // Allow activation from PENDING_CREATION (direct creation) or APPROVED (from approval workflow)
         if (VendorStatus.PENDING_CREATION.equals(vendor.getStatus())) {
             vendor.activate(); // Direct activation for directly created vendors
@@ -82,20 +103,30 @@ public class VendorApplicationService {
             vendorManagementService.activateVendor(vendor); // Uses business logic for approved vendors
         }
         vendorRepository.save(vendor);
+        outboxService.recordVendor(OutboxEventTypes.VENDOR_ACTIVATED, vendor);
+        // Status decides whether the vendor is ranked on its category leaderboard
+        scorecardService.refreshAfterCommit(List.of(vendorId));
+        metrics.workflowTransition("vendor", previousStatus, vendor.getStatus());
     }
 
     public void suspendVendor(Long vendorId) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor not found"));
+        VendorStatus previousStatus = vendor.getStatus();
         vendorManagementService.suspendVendor(vendor);
         vendorRepository.save(vendor);
+        scorecardService.refreshAfterCommit(List.of(vendorId));
+        metrics.workflowTransition("vendor", previousStatus, vendor.getStatus());
     }
 
     public void terminateVendor(Long vendorId) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor not found"));
+        VendorStatus previousStatus = vendor.getStatus();
         vendorManagementService.terminateVendor(vendor);
         vendorRepository.save(vendor);
+        scorecardService.refreshAfterCommit(List.of(vendorId));
+        metrics.workflowTransition("vendor", previousStatus, vendor.getStatus());
     }
 
     public void approveVendorRequest(Long requestId, Long approverId) {
@@ -113,14 +144,4 @@ public class VendorApplicationService {
         return vendorCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor category not found"));
     }
-
-    private String generateVendorCode(String companyName) {
-        String base = companyName == null ? "VENDOR" :
-                companyName.replaceAll("[^A-Za-z0-9]", "")
-                        .toUpperCase(Locale.ROOT)
-                        .substring(0, Math.min(6, companyName.length()));
-        String suffix = UUID.randomUUID().toString().substring(0, 6).toUpperCase(Locale.ROOT);
-        return base + "-" + suffix;
-    }
 }
-
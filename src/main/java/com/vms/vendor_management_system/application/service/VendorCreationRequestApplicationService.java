@@ -2,26 +2,30 @@ package com.vms.vendor_management_system.application.service;
 
 import com.vms.vendor_management_system.application.dto.vendorrequest.AddBankingDetailsRequest;
 import com.vms.vendor_management_system.application.dto.vendorrequest.CreateVendorCreationRequest;
+import com.vms.vendor_management_system.application.dto.vendorrequest.DuplicateCandidateResponse;
 import com.vms.vendor_management_system.application.dto.vendorrequest.UpdateVendorCreationRequest;
 import com.vms.vendor_management_system.application.dto.vendorrequest.VendorCreationRequestResponse;
 import com.vms.vendor_management_system.application.dto.vendorrequest.VendorRequestAction;
+import com.vms.vendor_management_system.application.event.OutboxEventTypes;
 import com.vms.vendor_management_system.application.mapper.VendorCreationRequestMapper;
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
 import com.vms.vendor_management_system.domain.entity.Department;
 import com.vms.vendor_management_system.domain.entity.User;
 import com.vms.vendor_management_system.domain.entity.VendorCategory;
 import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
 import com.vms.vendor_management_system.domain.enums.RequestStatus;
+import com.vms.vendor_management_system.domain.enums.VendorStatus;
 import com.vms.vendor_management_system.domain.repository.DepartmentRepository;
 import com.vms.vendor_management_system.domain.repository.UserRepository;
 import com.vms.vendor_management_system.domain.repository.VendorCategoryRepository;
 import com.vms.vendor_management_system.domain.repository.VendorCreationRequestRepository;
+import com.vms.vendor_management_system.domain.service.CodeAllocationService;
 import com.vms.vendor_management_system.domain.service.VendorManagementService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
@@ -39,17 +43,29 @@ public class VendorCreationRequestApplicationService {
     private final UserRepository userRepository;
     private final VendorCategoryRepository vendorCategoryRepository;
     private final VendorManagementService vendorManagementService;
+    private final VendorDuplicateDetectionService duplicateDetectionService;
+    private final CodeAllocationService codeAllocationService;
+    private final OutboxService outboxService;
+    private final ApplicationMetrics metrics;
 
     public VendorCreationRequestApplicationService(VendorCreationRequestRepository vendorCreationRequestRepository,
                                                    DepartmentRepository departmentRepository,
                                                    UserRepository userRepository,
                                                    VendorCategoryRepository vendorCategoryRepository,
-                                                   VendorManagementService vendorManagementService) {
+                                                   VendorManagementService vendorManagementService,
+                                                   VendorDuplicateDetectionService duplicateDetectionService,
+                                                   CodeAllocationService codeAllocationService,
+                                                   OutboxService outboxService,
+                                                   ApplicationMetrics metrics) {
         this.vendorCreationRequestRepository = vendorCreationRequestRepository;
         this.departmentRepository = departmentRepository;
         this.userRepository = userRepository;
         this.vendorCategoryRepository = vendorCategoryRepository;
         this.vendorManagementService = vendorManagementService;
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.codeAllocationService = codeAllocationService;
+        this.outboxService = outboxService;
+        this.metrics = metrics;
     }
 
     @Transactional(readOnly = true)
@@ -67,6 +83,13 @@ public class VendorCreationRequestApplicationService {
         return VendorCreationRequestMapper.toResponse(request);
     }
 
+    @Transactional(readOnly = true)
+    public List<DuplicateCandidateResponse> getPossibleDuplicates(Long requestId) {
+        VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        return duplicateDetectionService.findDuplicates(request);
+    }
+
     public VendorCreationRequestResponse createRequest(CreateVendorCreationRequest payload) {
         Department department = departmentRepository.findById(payload.getRequestingDepartmentId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Department not found"));
@@ -74,7 +97,7 @@ public class VendorCreationRequestApplicationService {
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Requesting user not found"));
 
         VendorCreationRequest request = new VendorCreationRequest(
-                generateRequestNumber(),
+                codeAllocationService.nextRequestNumber(),
                 department,
                 requester,
                 payload.getCompanyName()
@@ -108,6 +131,7 @@ public class VendorCreationRequestApplicationService {
             request.setCategory(category);
         }
         vendorCreationRequestRepository.save(request);
+        duplicateDetectionService.track(request);
         return VendorCreationRequestMapper.toResponse(request);
     }
 
@@ -148,16 +172,22 @@ public class VendorCreationRequestApplicationService {
         request.setCurrency(payload.getCurrency());
         request.setSupportingDocuments(payload.getSupportingDocuments());
         vendorCreationRequestRepository.save(request);
+        duplicateDetectionService.track(request);
         return VendorCreationRequestMapper.toResponse(request);
     }
 
     public VendorCreationRequestResponse submit(Long requestId) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         // Submit moves status from DRAFT to PENDING_COMPLIANCE_REVIEW (new workflow: Compliance first)
         request.submit();
         vendorCreationRequestRepository.save(request);
-        return VendorCreationRequestMapper.toResponse(request);
+        // Flag likely duplicates for the reviewers; submission itself is not blocked
+        List<DuplicateCandidateResponse> duplicates = duplicateDetectionService.findDuplicates(request);
+        duplicateDetectionService.track(request);
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
+        return VendorCreationRequestMapper.toResponse(request, duplicates);
     }
 
     public VendorCreationRequestResponse addBankingDetails(Long requestId, AddBankingDetailsRequest payload) {
@@ -186,6 +216,7 @@ public class VendorCreationRequestApplicationService {
     public VendorCreationRequestResponse approveByFinance(Long requestId, VendorRequestAction action) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         if (!request.hasBankingDetails()) {
             throw new ResponseStatusException(BAD_REQUEST, "Finance cannot approve without banking details. Please add bank name, account number, and account holder name.");
         }
@@ -193,6 +224,7 @@ public class VendorCreationRequestApplicationService {
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Reviewer not found"));
         vendorManagementService.approveByFinance(request, financeReviewer);
         vendorCreationRequestRepository.save(request);
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
         return VendorCreationRequestMapper.toResponse(request);
     }
 
@@ -202,10 +234,13 @@ public class VendorCreationRequestApplicationService {
     public VendorCreationRequestResponse rejectByFinance(Long requestId, VendorRequestAction action) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         User financeReviewer = userRepository.findById(action.getReviewerId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Reviewer not found"));
         vendorManagementService.rejectByFinance(request, financeReviewer, action.getComment());
         vendorCreationRequestRepository.save(request);
+        duplicateDetectionService.track(request);
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
         return VendorCreationRequestMapper.toResponse(request);
     }
 
@@ -215,10 +250,12 @@ public class VendorCreationRequestApplicationService {
     public VendorCreationRequestResponse approveByCompliance(Long requestId, VendorRequestAction action) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         User complianceReviewer = userRepository.findById(action.getReviewerId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Reviewer not found"));
         vendorManagementService.approveByCompliance(request, complianceReviewer);
         vendorCreationRequestRepository.save(request);
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
         return VendorCreationRequestMapper.toResponse(request);
     }
 
@@ -228,10 +265,13 @@ public class VendorCreationRequestApplicationService {
     public VendorCreationRequestResponse rejectByCompliance(Long requestId, VendorRequestAction action) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         User complianceReviewer = userRepository.findById(action.getReviewerId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Reviewer not found"));
         vendorManagementService.rejectByCompliance(request, complianceReviewer, action.getComment());
         vendorCreationRequestRepository.save(request);
+        duplicateDetectionService.track(request);
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
         return VendorCreationRequestMapper.toResponse(request);
     }
 
@@ -241,10 +281,19 @@ public class VendorCreationRequestApplicationService {
     public VendorCreationRequestResponse approveByAdmin(Long requestId, VendorRequestAction action) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         User adminReviewer = userRepository.findById(action.getReviewerId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Reviewer not found"));
         vendorManagementService.approveByAdmin(request, adminReviewer);
         vendorCreationRequestRepository.save(request);
+        duplicateDetectionService.track(request);
+        if (request.getVendor() != null) {
+            duplicateDetectionService.track(request.getVendor());
+            if (request.getVendor().getStatus() == VendorStatus.ACTIVE) {
+                outboxService.recordVendor(OutboxEventTypes.VENDOR_ACTIVATED, request.getVendor());
+            }
+        }
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
         return VendorCreationRequestMapper.toResponse(request);
     }
 
@@ -254,10 +303,13 @@ public class VendorCreationRequestApplicationService {
     public VendorCreationRequestResponse rejectByAdmin(Long requestId, VendorRequestAction action) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         User adminReviewer = userRepository.findById(action.getReviewerId())
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Reviewer not found"));
         vendorManagementService.rejectByAdmin(request, adminReviewer, action.getComment());
         vendorCreationRequestRepository.save(request);
+        duplicateDetectionService.track(request);
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
         return VendorCreationRequestMapper.toResponse(request);
     }
 
@@ -318,13 +370,12 @@ public class VendorCreationRequestApplicationService {
     public VendorCreationRequestResponse cancel(Long requestId) {
         VendorCreationRequest request = vendorCreationRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor request not found"));
+        RequestStatus previousStatus = request.getStatus();
         request.cancel();
         vendorCreationRequestRepository.save(request);
+        duplicateDetectionService.track(request);
+        metrics.workflowTransition("vendor_request", previousStatus, request.getStatus());
         return VendorCreationRequestMapper.toResponse(request);
     }
-
-    private String generateRequestNumber() {
-        return "VCR-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-    }
 }
 
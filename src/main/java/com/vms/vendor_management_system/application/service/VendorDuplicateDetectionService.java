@@ -0,0 +1,416 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.vendorrequest.DuplicateCandidateResponse;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
+import com.vms.vendor_management_system.domain.enums.RequestStatus;
+import com.vms.vendor_management_system.domain.repository.VendorCreationRequestRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Flags likely duplicate vendors when a vendor creation request is submitted.
+ *
+ * Keeps an in-memory blocking index over existing vendors and in-flight requests keyed by
+ * normalized tax ID, registration number, email/website domain and company-name trigrams.
+ * A lookup only scores the candidates that share at least one block with the probe, so the
+ * cost depends on block sizes rather than on the number of vendors.
+ */
+@Service
+public class VendorDuplicateDetectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(VendorDuplicateDetectionService.class);
+
+    // Requests in these states are still competing with the probe; terminal ones are dropped from the index
+    private static final Set<RequestStatus> IN_FLIGHT_STATUSES = EnumSet.of(
+            RequestStatus.DRAFT,
+            RequestStatus.PENDING_COMPLIANCE_REVIEW,
+            RequestStatus.PENDING_FINANCE_REVIEW,
+            RequestStatus.PENDING_ADMIN_REVIEW,
+            RequestStatus.RETURNED_FOR_INFO
+    );
+
+    private static final Set<String> LEGAL_SUFFIXES = Set.of(
+            "inc", "incorporated", "ltd", "limited", "llc", "llp", "plc", "corp", "corporation",
+            "co", "company", "gmbh", "ag", "sa", "sas", "srl", "bv", "nv", "pty", "pte", "the", "and"
+    );
+
+    private static final Set<String> SHARED_MAIL_DOMAINS = Set.of(
+            "gmail.com", "googlemail.com", "yahoo.com", "hotmail.com", "outlook.com", "live.com",
+            "msn.com", "icloud.com", "aol.com", "protonmail.com", "proton.me", "gmx.com", "mail.com"
+    );
+
+    // Trigrams shared by more entries than this carry no signal and would blow up the candidate set
+    private static final int MAX_GRAM_POSTING = 2_000;
+    private static final double MIN_GRAM_OVERLAP = 0.5;
+
+    private final VendorRepository vendorRepository;
+    private final VendorCreationRequestRepository vendorCreationRequestRepository;
+    private final double threshold;
+    private final int maxResults;
+
+    private final Map<EntryKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<EntryKey>> blocks = new ConcurrentHashMap<>();
+
+    public VendorDuplicateDetectionService(VendorRepository vendorRepository,
+                                           VendorCreationRequestRepository vendorCreationRequestRepository,
+                                           @Value("${app.duplicates.threshold:0.82}") double threshold,
+                                           @Value("${app.duplicates.max-results:10}") int maxResults) {
+        this.vendorRepository = vendorRepository;
+        this.vendorCreationRequestRepository = vendorCreationRequestRepository;
+        this.threshold = threshold;
+        this.maxResults = maxResults;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        long started = System.nanoTime();
+        entries.clear();
+        blocks.clear();
+        vendorRepository.findAll().forEach(vendor -> add(fromVendor(vendor)));
+        vendorCreationRequestRepository.findByStatusIn(new ArrayList<>(IN_FLIGHT_STATUSES))
+                .forEach(request -> add(fromRequest(request)));
+        log.info("Duplicate index built with {} entries and {} blocks in {} ms",
+                entries.size(), blocks.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Returns vendors and other in-flight requests scoring above the configured threshold.
+     */
+    public List<DuplicateCandidateResponse> findDuplicates(VendorCreationRequest request) {
+        Entry probe = fromRequest(request);
+        Map<EntryKey, Integer> sharedGrams = new HashMap<>();
+        Set<EntryKey> identifierHits = new LinkedHashSet<>();
+
+        for (String block : probe.identifierBlocks()) {
+            identifierHits.addAll(blocks.getOrDefault(block, Set.of()));
+        }
+        for (String gram : probe.grams) {
+            Set<EntryKey> posting = blocks.get("g:" + gram);
+            if (posting == null || posting.size() > MAX_GRAM_POSTING) {
+                continue;
+            }
+            for (EntryKey key : posting) {
+                sharedGrams.merge(key, 1, Integer::sum);
+            }
+        }
+
+        Set<EntryKey> candidates = new LinkedHashSet<>(identifierHits);
+        sharedGrams.forEach((key, shared) -> {
+            Entry candidate = entries.get(key);
+            if (candidate != null
+                    && 2.0 * shared / (probe.grams.size() + candidate.grams.size()) >= MIN_GRAM_OVERLAP) {
+                candidates.add(key);
+            }
+        });
+        candidates.remove(probe.key);
+        if (request.getVendor() != null) {
+            candidates.remove(new EntryKey(CandidateType.VENDOR, request.getVendor().getId()));
+        }
+
+        List<DuplicateCandidateResponse> matches = new ArrayList<>();
+        for (EntryKey key : candidates) {
+            Entry candidate = entries.get(key);
+            if (candidate == null) {
+                continue;
+            }
+            DuplicateCandidateResponse match = score(probe, candidate);
+            if (match.getScore() >= threshold) {
+                matches.add(match);
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingDouble(DuplicateCandidateResponse::getScore).reversed())
+                .limit(maxResults)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Re-indexes the request once the surrounding transaction commits, dropping it when it left the workflow.
+     */
+    public void track(VendorCreationRequest request) {
+        Entry entry = fromRequest(request);
+        boolean inFlight = IN_FLIGHT_STATUSES.contains(request.getStatus());
+        TransactionCallbacks.afterCommit(() -> {
+            if (inFlight) {
+                add(entry);
+            } else {
+                remove(entry.key);
+            }
+        });
+    }
+
+    /**
+     * Re-indexes the vendor once the surrounding transaction commits.
+     */
+    public void track(Vendor vendor) {
+        Entry entry = fromVendor(vendor);
+        TransactionCallbacks.afterCommit(() -> add(entry));
+    }
+
+    private DuplicateCandidateResponse score(Entry probe, Entry candidate) {
+        List<String> matchedOn = new ArrayList<>();
+        double nameScore = Math.max(jaroWinkler(probe.normalizedName, candidate.normalizedName),
+                dice(probe.grams, candidate.grams));
+        double score = nameScore;
+        if (nameScore >= threshold) {
+            matchedOn.add("NAME");
+        }
+        if (probe.domain != null && probe.domain.equals(candidate.domain)) {
+            matchedOn.add("EMAIL_DOMAIN");
+            score = Math.min(1.0, 0.8 * score + 0.2);
+        }
+        if (probe.registrationNumber != null && probe.registrationNumber.equals(candidate.registrationNumber)) {
+            matchedOn.add("REGISTRATION_NUMBER");
+            score = Math.max(score, 0.97);
+        }
+        if (probe.taxId != null && probe.taxId.equals(candidate.taxId)) {
+            matchedOn.add("TAX_ID");
+            score = 1.0;
+        }
+        return DuplicateCandidateResponse.builder()
+                .candidateType(candidate.key.type().name())
+                .candidateId(candidate.key.id())
+                .reference(candidate.reference)
+                .companyName(candidate.companyName)
+                .score(Math.round(score * 1000) / 1000.0)
+                .matchedOn(matchedOn)
+                .build();
+    }
+
+    private void add(Entry entry) {
+        remove(entry.key);
+        entries.put(entry.key, entry);
+        for (String block : entry.blocks()) {
+            blocks.computeIfAbsent(block, ignored -> ConcurrentHashMap.newKeySet()).add(entry.key);
+        }
+    }
+
+    private void remove(EntryKey key) {
+        Entry previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String block : previous.blocks()) {
+            blocks.computeIfPresent(block, (ignored, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static Entry fromVendor(Vendor vendor) {
+        String email = vendor.getEmail() != null ? vendor.getEmail().getValue() : null;
+        return new Entry(
+                new EntryKey(CandidateType.VENDOR, vendor.getId()),
+                vendor.getVendorCode(),
+                vendor.getCompanyName(),
+                normalizeName(vendor.getCompanyName(), vendor.getLegalName()),
+                normalizeIdentifier(vendor.getTaxId()),
+                null,
+                domainOf(email, vendor.getWebsite())
+        );
+    }
+
+    private static Entry fromRequest(VendorCreationRequest request) {
+        return new Entry(
+                new EntryKey(CandidateType.REQUEST, request.getId()),
+                request.getRequestNumber(),
+                request.getCompanyName(),
+                normalizeName(request.getCompanyName(), request.getLegalName()),
+                normalizeIdentifier(request.getTaxIdentificationNumber()),
+                normalizeIdentifier(request.getBusinessRegistrationNumber()),
+                domainOf(request.getPrimaryContactEmail(), request.getWebsite())
+        );
+    }
+
+    static String normalizeName(String companyName, String legalName) {
+        String source = companyName != null && !companyName.isBlank() ? companyName : legalName;
+        if (source == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(source, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", " ")
+                .trim();
+        String stripped = Arrays.stream(folded.split(" "))
+                .filter(token -> !token.isEmpty() && !LEGAL_SUFFIXES.contains(token))
+                .collect(Collectors.joining(" "));
+        return stripped.isEmpty() ? folded : stripped;
+    }
+
+    static String normalizeIdentifier(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.replaceAll("[^A-Za-z0-9]", "").toUpperCase(Locale.ROOT);
+        return normalized.length() < 4 ? null : normalized;
+    }
+
+    static String domainOf(String email, String website) {
+        String domain = null;
+        if (email != null && email.contains("@")) {
+            domain = email.substring(email.lastIndexOf('@') + 1);
+        } else if (website != null && !website.isBlank()) {
+            domain = website.replaceFirst("^[a-zA-Z]+://", "").split("[/:?#]")[0];
+        }
+        if (domain == null) {
+            return null;
+        }
+        domain = domain.trim().toLowerCase(Locale.ROOT);
+        if (domain.startsWith("www.")) {
+            domain = domain.substring(4);
+        }
+        return domain.isEmpty() || SHARED_MAIL_DOMAINS.contains(domain) ? null : domain;
+    }
+
+    private static Set<String> trigrams(String name) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (name.isEmpty()) {
+            return grams;
+        }
+        String padded = " " + name + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static double dice(Set<String> left, Set<String> right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return 0.0;
+        }
+        int shared = 0;
+        for (String gram : left) {
+            if (right.contains(gram)) {
+                shared++;
+            }
+        }
+        return 2.0 * shared / (left.size() + right.size());
+    }
+
+    static double jaroWinkler(String left, String right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return 0.0;
+        }
+        if (left.equals(right)) {
+            return 1.0;
+        }
+        int window = Math.max(0, Math.max(left.length(), right.length()) / 2 - 1);
+        boolean[] leftMatched = new boolean[left.length()];
+        boolean[] rightMatched = new boolean[right.length()];
+        int matches = 0;
+        for (int i = 0; i < left.length(); i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(right.length() - 1, i + window);
+            for (int j = from; j <= to; j++) {
+                if (!rightMatched[j] && left.charAt(i) == right.charAt(j)) {
+                    leftMatched[i] = true;
+                    rightMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+        int transpositions = 0;
+        int j = 0;
+        for (int i = 0; i < left.length(); i++) {
+            if (!leftMatched[i]) {
+                continue;
+            }
+            while (!rightMatched[j]) {
+                j++;
+            }
+            if (left.charAt(i) != right.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+        double m = matches;
+        double jaro = (m / left.length() + m / right.length() + (m - transpositions / 2.0) / m) / 3.0;
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(left.length(), right.length()))
+                && left.charAt(prefix) == right.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1.0 - jaro);
+    }
+
+    private enum CandidateType {
+        VENDOR, REQUEST
+    }
+
+    private record EntryKey(CandidateType type, Long id) {
+    }
+
+    private static final class Entry {
+        private final EntryKey key;
+        private final String reference;
+        private final String companyName;
+        private final String normalizedName;
+        private final String taxId;
+        private final String registrationNumber;
+        private final String domain;
+        private final Set<String> grams;
+
+        private Entry(EntryKey key, String reference, String companyName, String normalizedName,
+                      String taxId, String registrationNumber, String domain) {
+            this.key = key;
+            this.reference = reference;
+            this.companyName = companyName;
+            this.normalizedName = normalizedName;
+            this.taxId = taxId;
+            this.registrationNumber = registrationNumber;
+            this.domain = domain;
+            this.grams = trigrams(normalizedName);
+        }
+
+        private List<String> identifierBlocks() {
+            List<String> keys = new ArrayList<>(3);
+            if (taxId != null) {
+                keys.add("t:" + taxId);
+            }
+            if (registrationNumber != null) {
+                keys.add("r:" + registrationNumber);
+            }
+            if (domain != null) {
+                keys.add("d:" + domain);
+            }
+            return keys;
+        }
+
+        private List<String> blocks() {
+            List<String> keys = identifierBlocks();
+            for (String gram : grams) {
+                keys.add("g:" + gram);
+            }
+            return keys;
+        }
+    }
+}
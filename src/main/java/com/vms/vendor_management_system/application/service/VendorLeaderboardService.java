@@ -0,0 +1,184 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.scorecard.VendorScorecardResponse;
+import com.vms.vendor_management_system.application.dto.vendorcategory.LeaderboardEntryResponse;
+import com.vms.vendor_management_system.application.event.VendorScorecardChangedEvent;
+import com.vms.vendor_management_system.application.event.VendorScorecardsReloadedEvent;
+import com.vms.vendor_management_system.domain.enums.VendorStatus;
+import com.vms.vendor_management_system.domain.repository.VendorCategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service keeping a bounded top-K ranking of active vendors per category by weighted score.
+ *
+ * Boards are updated from scorecard change events: a changed vendor is re-inserted in place, and a
+ * full board is reseeded from the category's scorecards only when one of its members drops out.
+ * Reads return a slice of an immutable, pre-ranked list.
+ */
+@Service
+public class VendorLeaderboardService {
+
+    private static final Comparator<VendorScorecardResponse> RANKING = Comparator
+            .comparing(VendorScorecardResponse::getWeightedScore, Comparator.reverseOrder())
+            .thenComparing(VendorScorecardResponse::getRatingCount, Comparator.reverseOrder())
+            .thenComparing(VendorScorecardResponse::getVendorId);
+
+    private final VendorScorecardService scorecardService;
+    private final VendorCategoryRepository categoryRepository;
+    private final int size;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    public VendorLeaderboardService(VendorScorecardService scorecardService,
+                                    VendorCategoryRepository categoryRepository,
+                                    @Value("${app.leaderboards.size:25}") int size) {
+        this.scorecardService = scorecardService;
+        this.categoryRepository = categoryRepository;
+        this.size = Math.max(1, size);
+    }
+
+    public List<LeaderboardEntryResponse> getLeaderboard(Long categoryId, int limit) {
+        Board board = boards.get(categoryId);
+        if (board == null) {
+            if (!categoryRepository.existsById(categoryId)) {
+                throw new ResponseStatusException(NOT_FOUND, "Vendor category not found");
+            }
+            return List.of();
+        }
+        return board.entries().subList(0, Math.min(Math.max(limit, 0), board.entries().size()));
+    }
+
+    @EventListener
+    public void onScorecardChanged(VendorScorecardChangedEvent event) {
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        if (event.previous() != null && event.previous().getCategoryId() != null) {
+            categoryIds.add(event.previous().getCategoryId());
+        }
+        if (event.current() != null && event.current().getCategoryId() != null) {
+            categoryIds.add(event.current().getCategoryId());
+        }
+        updateLock.lock();
+        try {
+            for (Long categoryId : categoryIds) {
+                update(categoryId, event.vendorId(), event.current());
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onScorecardsReloaded(VendorScorecardsReloadedEvent event) {
+        updateLock.lock();
+        try {
+            Map<Long, PriorityQueue<VendorScorecardResponse>> tops = new HashMap<>();
+            for (VendorScorecardResponse scorecard : scorecardService.getAllScorecards()) {
+                if (isRanked(scorecard, scorecard.getCategoryId())) {
+                    offer(tops.computeIfAbsent(scorecard.getCategoryId(), ignored -> new PriorityQueue<>(RANKING.reversed())),
+                            scorecard);
+                }
+            }
+            boards.keySet().retainAll(tops.keySet());
+            tops.forEach((categoryId, top) -> store(categoryId, new ArrayList<>(top)));
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(Long categoryId, Long vendorId, VendorScorecardResponse current) {
+        Board board = boards.get(categoryId);
+        List<VendorScorecardResponse> top = board != null ? new ArrayList<>(board.top()) : new ArrayList<>();
+        boolean wasFull = top.size() >= size;
+        VendorScorecardResponse cutoff = top.isEmpty() ? null : top.get(top.size() - 1);
+        boolean removed = top.removeIf(member -> member.getVendorId().equals(vendorId));
+
+        if (removed && wasFull && (!isRanked(current, categoryId)
+                || cutoff.getVendorId().equals(vendorId)
+                || RANKING.compare(current, cutoff) > 0)) {
+            // A vendor ranked below the cut may now deserve the freed or lowered slot
+            store(categoryId, seed(categoryId));
+            return;
+        }
+        if (isRanked(current, categoryId)) {
+            int position = Collections.binarySearch(top, current, RANKING);
+            top.add(position < 0 ? -position - 1 : position, current);
+            if (top.size() > size) {
+                top.remove(top.size() - 1);
+            }
+        }
+        store(categoryId, top);
+    }
+
+    private List<VendorScorecardResponse> seed(Long categoryId) {
+        PriorityQueue<VendorScorecardResponse> top = new PriorityQueue<>(RANKING.reversed());
+        for (VendorScorecardResponse scorecard : scorecardService.getCategoryScorecards(categoryId)) {
+            if (isRanked(scorecard, categoryId)) {
+                offer(top, scorecard);
+            }
+        }
+        return new ArrayList<>(top);
+    }
+
+    private void offer(PriorityQueue<VendorScorecardResponse> top, VendorScorecardResponse scorecard) {
+        // The queue head is the weakest member, so it is the one evicted once the board is full
+        top.offer(scorecard);
+        if (top.size() > size) {
+            top.poll();
+        }
+    }
+
+    private void store(Long categoryId, Collection<VendorScorecardResponse> members) {
+        if (members.isEmpty()) {
+            boards.remove(categoryId);
+            return;
+        }
+        List<VendorScorecardResponse> top = new ArrayList<>(members);
+        top.sort(RANKING);
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            VendorScorecardResponse scorecard = top.get(i);
+            entries.add(LeaderboardEntryResponse.builder()
+                    .rank(i + 1)
+                    .vendorId(scorecard.getVendorId())
+                    .vendorCode(scorecard.getVendorCode())
+                    .vendorName(scorecard.getVendorName())
+                    .weightedScore(scorecard.getWeightedScore())
+                    .ratingCount(scorecard.getRatingCount())
+                    .build());
+        }
+        boards.put(categoryId, new Board(List.copyOf(top), List.copyOf(entries)));
+    }
+
+    /**
+     * Only active vendors with a weighted score are ranked; suspended or terminated vendors drop out.
+     */
+    private static boolean isRanked(VendorScorecardResponse scorecard, Long categoryId) {
+        return scorecard != null
+                && scorecard.getWeightedScore() != null
+                && VendorStatus.ACTIVE.equals(scorecard.getVendorStatus())
+                && Objects.equals(categoryId, scorecard.getCategoryId());
+    }
+
+    private record Board(List<VendorScorecardResponse> top, List<LeaderboardEntryResponse> entries) {
+    }
+}
@@ -0,0 +1,254 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.report.CurrencyAmountResponse;
+import com.vms.vendor_management_system.application.dto.scorecard.VendorScorecardResponse;
+import com.vms.vendor_management_system.application.dto.vendor.VendorContractSummaryResponse;
+import com.vms.vendor_management_system.application.dto.vendor.VendorOriginRequestResponse;
+import com.vms.vendor_management_system.application.dto.vendor.VendorOverviewResponse;
+import com.vms.vendor_management_system.application.dto.vendor.VendorPurchaseOrderSummaryResponse;
+import com.vms.vendor_management_system.application.dto.vendor.VendorResponse;
+import com.vms.vendor_management_system.application.mapper.VendorMapper;
+import com.vms.vendor_management_system.application.support.RequestQueryStats;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.repository.ContractRepository;
+import com.vms.vendor_management_system.domain.repository.PurchaseOrderRepository;
+import com.vms.vendor_management_system.domain.repository.VendorCreationRequestRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Application service assembling the vendor 360 view.
+ *
+ * The vendor, its contract and purchase order summaries and its originating request are loaded
+ * concurrently, each with one aggregate query in its own read-only transaction, on a small bounded pool;
+ * when the pool is saturated the request thread runs the query itself. The scorecard comes from memory.
+ * Contract and purchase order summaries also count archived records.
+ */
+@Service
+public class VendorOverviewService {
+
+    private static final String UNKNOWN_CURRENCY = "UNKNOWN";
+
+    private final VendorRepository vendorRepository;
+    private final ContractRepository contractRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final VendorCreationRequestRepository requestRepository;
+    private final VendorScorecardService scorecardService;
+    private final TransactionTemplate readTransaction;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public VendorOverviewService(VendorRepository vendorRepository,
+                                 ContractRepository contractRepository,
+                                 PurchaseOrderRepository purchaseOrderRepository,
+                                 VendorCreationRequestRepository requestRepository,
+                                 VendorScorecardService scorecardService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.vendor-overview.parallelism:4}") int parallelism,
+                                 @Value("${app.vendor-overview.queue-capacity:64}") int queueCapacity,
+                                 @Value("${app.vendor-overview.timeout-ms:5000}") long timeoutMs) {
+        this.vendorRepository = vendorRepository;
+        this.contractRepository = contractRepository;
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.requestRepository = requestRepository;
+        this.scorecardService = scorecardService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    public VendorOverviewResponse getOverview(Long vendorId) {
+        CompletableFuture<VendorResponse> vendor = supply(() -> vendorRepository.findById(vendorId)
+                .map(VendorMapper::toResponse)
+                .orElse(null));
+        CompletableFuture<VendorContractSummaryResponse> contracts = supply(() ->
+                toContractSummary(concat(contractRepository.summarizeForVendor(vendorId),
+                        contractRepository.summarizeArchivedForVendor(vendorId))));
+        CompletableFuture<VendorPurchaseOrderSummaryResponse> purchaseOrders = supply(() ->
+                toPurchaseOrderSummary(concat(purchaseOrderRepository.summarizeForVendor(vendorId),
+                        purchaseOrderRepository.summarizeArchivedForVendor(vendorId))));
+        CompletableFuture<VendorOriginRequestResponse> request = supply(() ->
+                requestRepository.findOriginRowsByVendorId(vendorId, PageRequest.of(0, 1))
+                        .stream()
+                        .findFirst()
+                        .map(VendorOverviewService::toOriginRequest)
+                        .orElse(null));
+
+        try {
+            CompletableFuture.allOf(vendor, contracts, purchaseOrders, request).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "Vendor overview timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(SERVICE_UNAVAILABLE, "Vendor overview interrupted");
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+        if (vendor.join() == null) {
+            throw new ResponseStatusException(NOT_FOUND, "Vendor not found");
+        }
+        VendorScorecardResponse scorecard = scorecardService.getVendorScorecard(vendorId);
+        return VendorOverviewResponse.builder()
+                .vendor(vendor.join())
+                .contracts(contracts.join())
+                .purchaseOrders(purchaseOrders.join())
+                .scorecard(scorecard)
+                .originatingRequest(request.join())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> query) {
+        // Statements on the pool threads still count towards the request's query budget
+        return CompletableFuture.supplyAsync(RequestQueryStats.propagate(() -> readTransaction.execute(status -> query.get())), executor);
+    }
+
+    private static VendorContractSummaryResponse toContractSummary(List<Object[]> rows) {
+        Map<String, Long> countByStatus = new TreeMap<>();
+        Map<String, Amount> activeValue = new TreeMap<>();
+        long total = 0;
+        LocalDate nextEndDate = null;
+        for (Object[] row : rows) {
+            // Archive rows come from native queries and carry the status name
+            ContractStatus status = row[0] instanceof ContractStatus value ? value : ContractStatus.valueOf((String) row[0]);
+            long count = ((Number) row[2]).longValue();
+            total += count;
+            countByStatus.merge(status.name(), count, Long::sum);
+            if (SpendRollupService.VALUE_CONTRACT_STATUSES.contains(status)) {
+                activeValue.merge(currencyOf(row[1]), new Amount(row[3] != null ? (BigDecimal) row[3] : BigDecimal.ZERO, count), Amount::plus);
+            }
+            LocalDate endDate = (LocalDate) row[4];
+            if (status == ContractStatus.ACTIVE && endDate != null && (nextEndDate == null || endDate.isBefore(nextEndDate))) {
+                nextEndDate = endDate;
+            }
+        }
+        return VendorContractSummaryResponse.builder()
+                .totalCount(total)
+                .countByStatus(countByStatus)
+                .activeValue(toAmounts(activeValue))
+                .nextEndDate(nextEndDate)
+                .build();
+    }
+
+    private static VendorPurchaseOrderSummaryResponse toPurchaseOrderSummary(List<Object[]> rows) {
+        Map<String, Long> countByStatus = new TreeMap<>();
+        Map<String, Amount> spend = new TreeMap<>();
+        long total = 0;
+        LocalDate lastOrderDate = null;
+        for (Object[] row : rows) {
+            PurchaseOrderStatus status = row[0] instanceof PurchaseOrderStatus value
+                    ? value : PurchaseOrderStatus.valueOf((String) row[0]);
+            long count = ((Number) row[2]).longValue();
+            total += count;
+            countByStatus.merge(status.name(), count, Long::sum);
+            if (SpendRollupService.SPEND_PO_STATUSES.contains(status)) {
+                spend.merge(currencyOf(row[1]), new Amount(row[3] != null ? (BigDecimal) row[3] : BigDecimal.ZERO, count), Amount::plus);
+            }
+            LocalDate orderDate = (LocalDate) row[4];
+            if (orderDate != null && (lastOrderDate == null || orderDate.isAfter(lastOrderDate))) {
+                lastOrderDate = orderDate;
+            }
+        }
+        return VendorPurchaseOrderSummaryResponse.builder()
+                .totalCount(total)
+                .countByStatus(countByStatus)
+                .spend(toAmounts(spend))
+                .lastOrderDate(lastOrderDate)
+                .build();
+    }
+
+    private static List<Object[]> concat(List<Object[]> live, List<Object[]> archived) {
+        List<Object[]> rows = new ArrayList<>(live);
+        rows.addAll(archived);
+        return rows;
+    }
+
+    private static VendorOriginRequestResponse toOriginRequest(Object[] row) {
+        return VendorOriginRequestResponse.builder()
+                .id((Long) row[0])
+                .requestNumber((String) row[1])
+                .status(row[2] != null ? row[2].toString() : null)
+                .departmentId((Long) row[3])
+                .departmentName((String) row[4])
+                .createdAt((LocalDateTime) row[5])
+                .build();
+    }
+
+    private static List<CurrencyAmountResponse> toAmounts(Map<String, Amount> amounts) {
+        List<CurrencyAmountResponse> list = new ArrayList<>();
+        amounts.forEach((currency, amount) -> list.add(CurrencyAmountResponse.builder()
+                .currency(currency)
+                .amount(amount.sum())
+                .documentCount(amount.count())
+                .build()));
+        list.sort(Comparator.comparing(CurrencyAmountResponse::getCurrency));
+        return list;
+    }
+
+    private static String currencyOf(Object value) {
+        return value != null ? ((String) value).trim().toUpperCase(Locale.ROOT) : UNKNOWN_CURRENCY;
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "vendor-overview-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Amount(BigDecimal sum, long count) {
+
+        Amount plus(Amount other) {
+            return new Amount(sum.add(other.sum), count + other.count);
+        }
+    }
+}
@@ -25,11 +25,14 @@ public class VendorPerformanceCriteriaApplicationService {
 
     private final VendorPerformanceCriteriaRepository criteriaRepository;
     private final VendorCategoryRepository categoryRepository;
+    private final VendorScorecardService scorecardService;
 
     public VendorPerformanceCriteriaApplicationService(VendorPerformanceCriteriaRepository criteriaRepository,
-                                                      VendorCategoryRepository categoryRepository) {
+                                                      VendorCategoryRepository categoryRepository,
+                                                      VendorScorecardService scorecardService) {
         this.criteriaRepository = criteriaRepository;
         this.categoryRepository = categoryRepository;
+        this.scorecardService = scorecardService;
     }
 
     @Transactional(readOnly = true)
@@ -76,6 +79,8 @@ public class VendorPerformanceCriteriaApplicationService {
         VendorCategory category = resolveCategory(request.getCategoryId());
         VendorPerformanceCriteriaMapper.updateEntity(criteria, request, category);
         VendorPerformanceCriteria saved = criteriaRepository.save(criteria);
+        // Weight or max score may have changed
+        scorecardService.refreshCriteriaAfterCommit(criteriaId);
         return VendorPerformanceCriteriaMapper.toResponse(saved);
     }
 
@@ -84,6 +89,7 @@ public class VendorPerformanceCriteriaApplicationService {
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Performance criteria not found"));
         criteria.deactivate();
         criteriaRepository.save(criteria);
+        scorecardService.refreshCriteriaAfterCommit(criteriaId);
     }
 
     public void activateCriteria(Long criteriaId) {
@@ -91,6 +97,7 @@ public class VendorPerformanceCriteriaApplicationService {
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Performance criteria not found"));
         criteria.activate();
         criteriaRepository.save(criteria);
+        scorecardService.refreshCriteriaAfterCommit(criteriaId);
     }
 
     private VendorCategory resolveCategory(Long categoryId) {
@@ -1,6 +1,9 @@
 package com.vms.vendor_management_system.application.service;
 
+import com.vms.vendor_management_system.application.dto.vendorrating.BulkVendorRatingRequest;
+import com.vms.vendor_management_system.application.dto.vendorrating.BulkVendorRatingResponse;
 import com.vms.vendor_management_system.application.dto.vendorrating.CreateVendorRatingRequest;
+import com.vms.vendor_management_system.application.dto.vendorrating.RatingTrendResponse;
 import com.vms.vendor_management_system.application.dto.vendorrating.VendorRatingResponse;
 import com.vms.vendor_management_system.application.mapper.VendorRatingMapper;
 import com.vms.vendor_management_system.domain.entity.User;
@@ -11,13 +14,23 @@ import com.vms.vendor_management_system.domain.repository.UserRepository;
 import com.vms.vendor_management_system.domain.repository.VendorPerformanceCriteriaRepository;
 import com.vms.vendor_management_system.domain.repository.VendorRatingRepository;
 import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import com.vms.vendor_management_system.domain.valueobjects.RatingDelta;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 /**
@@ -27,19 +40,28 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 @Transactional
 public class VendorRatingApplicationService {
 
+    private static final int MAX_BULK_RATINGS = 20_000;
+    private static final int MAX_REPORTED_PROBLEMS = 20;
+
     private final VendorRatingRepository ratingRepository;
     private final VendorRepository vendorRepository;
     private final VendorPerformanceCriteriaRepository criteriaRepository;
     private final UserRepository userRepository;
+    private final VendorScorecardService scorecardService;
+    private final VendorRatingTrendService trendService;
 
     public VendorRatingApplicationService(VendorRatingRepository ratingRepository,
                                          VendorRepository vendorRepository,
                                          VendorPerformanceCriteriaRepository criteriaRepository,
-                                         UserRepository userRepository) {
+                                         UserRepository userRepository,
+                                         VendorScorecardService scorecardService,
+                                         VendorRatingTrendService trendService) {
         this.ratingRepository = ratingRepository;
         this.vendorRepository = vendorRepository;
         this.criteriaRepository = criteriaRepository;
         this.userRepository = userRepository;
+        this.scorecardService = scorecardService;
+        this.trendService = trendService;
     }
 
     @Transactional(readOnly = true)
@@ -58,6 +80,12 @@ public class VendorRatingApplicationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public RatingTrendResponse getTrend(Long vendorId, Long criteriaId, YearMonth from, YearMonth to,
+                                        VendorRatingTrendService.Granularity granularity) {
+        return trendService.getTrend(vendorId, criteriaId, from, to, granularity);
+    }
+
     @Transactional(readOnly = true)
     public VendorRatingResponse getRating(Long ratingId) {
         VendorRating rating = ratingRepository.findById(ratingId)
@@ -75,13 +103,103 @@ public class VendorRatingApplicationService {
         
         VendorRating rating = VendorRatingMapper.toEntity(request, vendor, criteria, ratedBy);
         VendorRating saved = ratingRepository.save(rating);
+        scorecardService.recordRatingDelta(vendor.getId(), criteria.getId(), 1, saved.getScore());
+        trendService.recordRatingDelta(saved, 1, saved.getScore());
         return VendorRatingMapper.toResponse(saved);
     }
 
+    /**
+     * Creates a vendor x criteria matrix of ratings in one go. Vendors, criteria and the rater are
+     * resolved with one query each, every score is validated before anything is written, and the
+     * ratings and their running totals are written in JDBC batches.
+     */
+    public BulkVendorRatingResponse createRatings(BulkVendorRatingRequest request) {
+        User ratedBy = userRepository.findById(request.getRatedByUserId())
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "User not found"));
+        LocalDateTime periodStart = request.getRatingPeriodStart();
+        LocalDateTime periodEnd = request.getRatingPeriodEnd();
+        if (periodStart != null && periodEnd != null && periodStart.isAfter(periodEnd)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Rating period start cannot be after end");
+        }
+        int ratingCount = request.getVendors().stream().mapToInt(row -> row.getScores().size()).sum();
+        if (ratingCount > MAX_BULK_RATINGS) {
+            throw new ResponseStatusException(BAD_REQUEST, "At most " + MAX_BULK_RATINGS + " ratings can be submitted at once");
+        }
+
+        Map<Long, Vendor> vendors = vendorRepository.findAllById(request.getVendors().stream()
+                        .map(BulkVendorRatingRequest.VendorScores::getVendorId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Vendor::getId, Function.identity()));
+        Map<Long, VendorPerformanceCriteria> criteria = criteriaRepository.findAllById(request.getVendors().stream()
+                        .flatMap(row -> row.getScores().keySet().stream())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(VendorPerformanceCriteria::getId, Function.identity()));
+
+        List<String> problems = new ArrayList<>();
+        Set<Long> seenVendors = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<VendorRating> ratings = new ArrayList<>(ratingCount);
+        List<RatingDelta> deltas = new ArrayList<>(ratingCount);
+        for (BulkVendorRatingRequest.VendorScores row : request.getVendors()) {
+            Vendor vendor = vendors.get(row.getVendorId());
+            if (vendor == null) {
+                problems.add("Vendor " + row.getVendorId() + " not found");
+                continue;
+            }
+            if (!seenVendors.add(vendor.getId())) {
+                problems.add("Vendor " + vendor.getId() + " is listed more than once");
+                continue;
+            }
+            Long vendorCategoryId = vendor.getCategory() != null ? vendor.getCategory().getId() : null;
+            for (Map.Entry<Long, Integer> score : row.getScores().entrySet()) {
+                VendorPerformanceCriteria criterion = criteria.get(score.getKey());
+                if (criterion == null) {
+                    problems.add("Performance criteria " + score.getKey() + " not found");
+                } else if (!Boolean.TRUE.equals(criterion.getIsActive())) {
+                    problems.add("Performance criteria " + criterion.getId() + " is not active");
+                } else if (criterion.getCategory() != null
+                        && !Objects.equals(criterion.getCategory().getId(), vendorCategoryId)) {
+                    problems.add("Performance criteria " + criterion.getId() + " does not apply to vendor " + vendor.getId());
+                } else if (!criterion.isValidScore(score.getValue())) {
+                    problems.add("Vendor " + vendor.getId() + ", criteria " + criterion.getId()
+                            + ": score must be between 0 and " + criterion.getMaxScore());
+                } else if (problems.isEmpty()) {
+                    VendorRating rating = new VendorRating(vendor, criterion, score.getValue(), ratedBy);
+                    rating.setComments(row.getComments());
+                    rating.setRatingPeriod(periodStart, periodEnd);
+                    rating.setCreatedAt(now);
+                    ratings.add(rating);
+                    deltas.add(new RatingDelta(vendor.getId(), criterion.getId(), 1, score.getValue()));
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
+            String summary = problems.stream().limit(MAX_REPORTED_PROBLEMS).collect(Collectors.joining("; "));
+            if (problems.size() > MAX_REPORTED_PROBLEMS) {
+                summary += "; and " + (problems.size() - MAX_REPORTED_PROBLEMS) + " more";
+            }
+            throw new ResponseStatusException(BAD_REQUEST, problems.size() + " invalid ratings, nothing was saved: " + summary);
+        }
+
+        ratingRepository.insertAll(ratings);
+        scorecardService.recordRatingDeltas(deltas);
+        trendService.recordRatingDeltas(VendorRatingTrendService.bucketOf(periodStart, now), deltas);
+        return BulkVendorRatingResponse.builder()
+                .createdCount(ratings.size())
+                .vendorCount(seenVendors.size())
+                .criteriaCount(criteria.size())
+                .ratingPeriodStart(periodStart)
+                .ratingPeriodEnd(periodEnd)
+                .build();
+    }
+
     public VendorRatingResponse updateRating(Long ratingId, Integer newScore, String comments, String evidenceUrl) {
         VendorRating rating = ratingRepository.findById(ratingId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor rating not found"));
         
+        int previousScore = rating.getScore();
         if (newScore != null) {
             rating.updateScore(newScore);
         }
@@ -93,6 +211,11 @@ public class VendorRatingApplicationService {
         }
         
         VendorRating saved = ratingRepository.save(rating);
+        if (saved.getScore() != previousScore) {
+            scorecardService.recordRatingDelta(saved.getVendor().getId(), saved.getCriteria().getId(),
+                    0, saved.getScore() - previousScore);
+            trendService.recordRatingDelta(saved, 0, saved.getScore() - previousScore);
+        }
         return VendorRatingMapper.toResponse(saved);
     }
 
@@ -100,6 +223,9 @@ public class VendorRatingApplicationService {
         VendorRating rating = ratingRepository.findById(ratingId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor rating not found"));
         ratingRepository.delete(rating);
+        scorecardService.recordRatingDelta(rating.getVendor().getId(), rating.getCriteria().getId(),
+                -1, -rating.getScore());
+        trendService.recordRatingDelta(rating, -1, -rating.getScore());
     }
 }
 
@@ -0,0 +1,190 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.vendorrating.RatingTrendPointResponse;
+import com.vms.vendor_management_system.application.dto.vendorrating.RatingTrendResponse;
+import com.vms.vendor_management_system.domain.entity.VendorPerformanceCriteria;
+import com.vms.vendor_management_system.domain.entity.VendorRating;
+import com.vms.vendor_management_system.domain.entity.VendorRatingRollup;
+import com.vms.vendor_management_system.domain.repository.VendorPerformanceCriteriaRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRatingRollupRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import com.vms.vendor_management_system.domain.valueobjects.RatingDelta;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service maintaining monthly rating rollups and answering trend queries from them.
+ */
+@Service
+@Transactional
+public class VendorRatingTrendService {
+
+    public enum Granularity {
+        MONTH, QUARTER, YEAR
+    }
+
+    private static final int DEFAULT_TREND_MONTHS = 36;
+
+    private final VendorRatingRollupRepository rollupRepository;
+    private final VendorRepository vendorRepository;
+    private final VendorPerformanceCriteriaRepository criteriaRepository;
+
+    public VendorRatingTrendService(VendorRatingRollupRepository rollupRepository,
+                                    VendorRepository vendorRepository,
+                                    VendorPerformanceCriteriaRepository criteriaRepository) {
+        this.rollupRepository = rollupRepository;
+        this.vendorRepository = vendorRepository;
+        this.criteriaRepository = criteriaRepository;
+    }
+
+    /**
+     * Adds a rating delta to its month bucket in the caller's transaction.
+     */
+    public void recordRatingDelta(VendorRating rating, long countDelta, long scoreDelta) {
+        recordRatingDelta(rating.getVendor().getId(), rating.getCriteria().getId(),
+                bucketOf(rating.getRatingPeriodStart(), rating.getCreatedAt()), countDelta, scoreDelta);
+    }
+
+    public void recordRatingDelta(Long vendorId, Long criteriaId, int bucketMonth, long countDelta, long scoreDelta) {
+        if (rollupRepository.applyDelta(vendorId, criteriaId, bucketMonth, countDelta, scoreDelta) == 0) {
+            rollupRepository.insertIfAbsent(vendorId, criteriaId, bucketMonth);
+            rollupRepository.applyDelta(vendorId, criteriaId, bucketMonth, countDelta, scoreDelta);
+        }
+    }
+
+    /**
+     * Adds many deltas of one month bucket in JDBC batches, at most one per vendor and criteria.
+     */
+    public void recordRatingDeltas(int bucketMonth, List<RatingDelta> deltas) {
+        rollupRepository.applyDeltas(bucketMonth, deltas);
+    }
+
+    /**
+     * Month bucket of a rating: its period start, or its creation time when no period was given.
+     */
+    public static int bucketOf(LocalDateTime periodStart, LocalDateTime createdAt) {
+        LocalDateTime source = periodStart != null ? periodStart
+                : createdAt != null ? createdAt : LocalDateTime.now();
+        return VendorRatingRollup.toBucket(YearMonth.from(source));
+    }
+
+    @Transactional(readOnly = true)
+    public RatingTrendResponse getTrend(Long vendorId, Long criteriaId, YearMonth from, YearMonth to, Granularity granularity) {
+        if (!vendorRepository.existsById(vendorId)) {
+            throw new ResponseStatusException(NOT_FOUND, "Vendor not found");
+        }
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_TREND_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Trend start must not be after its end");
+        }
+        Granularity step = granularity != null ? granularity : Granularity.MONTH;
+
+        int fromBucket = VendorRatingRollup.toBucket(start);
+        int toBucket = VendorRatingRollup.toBucket(end);
+        List<VendorRatingRollup> rows = criteriaId == null
+                ? rollupRepository.findByVendorIdAndBucketMonthBetweenOrderByBucketMonth(vendorId, fromBucket, toBucket)
+                : rollupRepository.findByVendorIdAndCriteriaIdAndBucketMonthBetweenOrderByBucketMonth(vendorId, criteriaId, fromBucket, toBucket);
+        Map<Long, VendorPerformanceCriteria> criteria = criteriaRepository.findAllById(rows.stream()
+                        .map(VendorRatingRollup::getCriteriaId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(VendorPerformanceCriteria::getId, Function.identity()));
+
+        // period start -> criteria id -> {count, score sum}
+        Map<YearMonth, Map<Long, long[]>> periods = new TreeMap<>();
+        for (VendorRatingRollup row : rows) {
+            if (row.getRatingCount() <= 0) {
+                continue;
+            }
+            long[] totals = periods.computeIfAbsent(periodStart(row.getMonth(), step), ignored -> new HashMap<>())
+                    .computeIfAbsent(row.getCriteriaId(), ignored -> new long[2]);
+            totals[0] += row.getRatingCount();
+            totals[1] += row.getScoreSum();
+        }
+
+        List<RatingTrendPointResponse> points = new ArrayList<>();
+        periods.forEach((periodStart, totalsByCriteria) ->
+                points.add(toPoint(periodStart, step, totalsByCriteria, criteria, criteriaId != null)));
+        return RatingTrendResponse.builder()
+                .vendorId(vendorId)
+                .criteriaId(criteriaId)
+                .granularity(step.name())
+                .from(start)
+                .to(end)
+                .points(points)
+                .build();
+    }
+
+    private RatingTrendPointResponse toPoint(YearMonth periodStart, Granularity step, Map<Long, long[]> totalsByCriteria,
+                                             Map<Long, VendorPerformanceCriteria> criteria, boolean singleCriteria) {
+        long ratingCount = 0;
+        long scoreSum = 0;
+        double weightedSum = 0.0;
+        double weightTotal = 0.0;
+        double normalizedSum = 0.0;
+        int criteriaCount = 0;
+        for (Map.Entry<Long, long[]> entry : totalsByCriteria.entrySet()) {
+            long count = entry.getValue()[0];
+            long sum = entry.getValue()[1];
+            ratingCount += count;
+            scoreSum += sum;
+            VendorPerformanceCriteria criterion = criteria.get(entry.getKey());
+            if (criterion == null || criterion.getMaxScore() == null || criterion.getMaxScore() <= 0) {
+                continue;
+            }
+            // Historical trends keep deactivated criteria: they were part of the review at the time
+            double normalized = (double) sum / count / criterion.getMaxScore();
+            double weight = criterion.getWeight() != null ? criterion.getWeight() : 0.0;
+            weightedSum += weight * normalized;
+            weightTotal += weight;
+            normalizedSum += normalized;
+            criteriaCount++;
+        }
+        Double weightedScore = null;
+        if (criteriaCount > 0) {
+            weightedScore = round(100 * (weightTotal > 0 ? weightedSum / weightTotal : normalizedSum / criteriaCount));
+        }
+        return RatingTrendPointResponse.builder()
+                .period(label(periodStart, step))
+                .periodStart(periodStart.atDay(1))
+                .ratingCount(ratingCount)
+                .averageScore(singleCriteria && ratingCount > 0 ? round((double) scoreSum / ratingCount) : null)
+                .weightedScore(weightedScore)
+                .build();
+    }
+
+    private static YearMonth periodStart(YearMonth month, Granularity step) {
+        return switch (step) {
+            case MONTH -> month;
+            case QUARTER -> YearMonth.of(month.getYear(), (month.getMonthValue() - 1) / 3 * 3 + 1);
+            case YEAR -> YearMonth.of(month.getYear(), 1);
+        };
+    }
+
+    private static String label(YearMonth periodStart, Granularity step) {
+        return switch (step) {
+            case MONTH -> periodStart.toString();
+            case QUARTER -> periodStart.getYear() + "-Q" + ((periodStart.getMonthValue() - 1) / 3 + 1);
+            case YEAR -> String.valueOf(periodStart.getYear());
+        };
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
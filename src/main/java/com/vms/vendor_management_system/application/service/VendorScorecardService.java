@@ -0,0 +1,327 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.scorecard.CategoryScoreSummaryResponse;
+import com.vms.vendor_management_system.application.dto.scorecard.CriteriaScoreResponse;
+import com.vms.vendor_management_system.application.dto.scorecard.VendorScorecardResponse;
+import com.vms.vendor_management_system.application.event.VendorScorecardChangedEvent;
+import com.vms.vendor_management_system.application.event.VendorScorecardsReloadedEvent;
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.entity.VendorPerformanceCriteria;
+import com.vms.vendor_management_system.domain.entity.VendorScorecard;
+import com.vms.vendor_management_system.domain.repository.VendorPerformanceCriteriaRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import com.vms.vendor_management_system.domain.repository.VendorScorecardRepository;
+import com.vms.vendor_management_system.domain.valueobjects.RatingDelta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service serving precomputed weighted vendor scorecards.
+ *
+ * Rating writes add their delta to the running totals in {@code vendor_scorecards} inside the
+ * rating transaction; after commit the affected vendors' scorecards are recomputed from those few
+ * rows and published to an in-memory map, so reads never aggregate ratings. Category summaries are
+ * kept as running totals over the published scorecards, and every change is announced with a
+ * {@link VendorScorecardChangedEvent} for derived views such as leaderboards.
+ */
+@Service
+public class VendorScorecardService {
+
+    private static final Logger log = LoggerFactory.getLogger(VendorScorecardService.class);
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final VendorScorecardRepository scorecardRepository;
+    private final VendorRepository vendorRepository;
+    private final VendorPerformanceCriteriaRepository criteriaRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationMetrics metrics;
+
+    private final Map<Long, VendorScorecardResponse> scorecards = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> categoryMembers = new ConcurrentHashMap<>();
+    private final Map<Long, CategoryScoreSummaryResponse> categorySummaries = new ConcurrentHashMap<>();
+    // Guarded by refreshLock; only used to derive categorySummaries
+    private final Map<Long, double[]> categoryTotals = new ConcurrentHashMap<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private boolean reloading;
+
+    public VendorScorecardService(VendorScorecardRepository scorecardRepository,
+                                  VendorRepository vendorRepository,
+                                  VendorPerformanceCriteriaRepository criteriaRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ApplicationMetrics metrics) {
+        this.scorecardRepository = scorecardRepository;
+        this.vendorRepository = vendorRepository;
+        this.criteriaRepository = criteriaRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+    }
+
+    public VendorScorecardResponse getVendorScorecard(Long vendorId) {
+        VendorScorecardResponse scorecard = scorecards.get(vendorId);
+        metrics.cacheGet("vendor_scorecards", scorecard != null);
+        if (scorecard != null) {
+            return scorecard;
+        }
+        Vendor vendor = vendorRepository.findById(vendorId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Vendor not found"));
+        return buildScorecard(vendor, List.of(), Map.of());
+    }
+
+    public CategoryScoreSummaryResponse getCategorySummary(Long categoryId) {
+        return categorySummaries.getOrDefault(categoryId, CategoryScoreSummaryResponse.builder()
+                .categoryId(categoryId)
+                .ratedVendorCount(0)
+                .build());
+    }
+
+    public Collection<VendorScorecardResponse> getAllScorecards() {
+        return List.copyOf(scorecards.values());
+    }
+
+    /**
+     * Returns every published scorecard of a category; used to seed rankings.
+     */
+    public List<VendorScorecardResponse> getCategoryScorecards(Long categoryId) {
+        return categoryMembers.getOrDefault(categoryId, Set.of()).stream()
+                .map(scorecards::get)
+                .filter(scorecard -> scorecard != null && categoryId.equals(scorecard.getCategoryId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds a rating delta to the running totals in the caller's transaction and refreshes the vendor after commit.
+     */
+    @Transactional
+    public void recordRatingDelta(Long vendorId, Long criteriaId, long countDelta, long scoreDelta) {
+        applyDelta(vendorId, criteriaId, countDelta, scoreDelta);
+        refreshAfterCommit(List.of(vendorId));
+    }
+
+    /**
+     * Batched form of {@link #recordRatingDelta} with at most one delta per vendor and criteria.
+     */
+    @Transactional
+    public void recordRatingDeltas(List<RatingDelta> deltas) {
+        scorecardRepository.applyDeltas(deltas);
+        refreshAfterCommit(deltas.stream().map(RatingDelta::vendorId).collect(Collectors.toSet()));
+    }
+
+    @Transactional
+    public void applyDelta(Long vendorId, Long criteriaId, long countDelta, long scoreDelta) {
+        if (scorecardRepository.applyDelta(vendorId, criteriaId, countDelta, scoreDelta) == 0) {
+            scorecardRepository.insertIfAbsent(vendorId, criteriaId);
+            scorecardRepository.applyDelta(vendorId, criteriaId, countDelta, scoreDelta);
+        }
+    }
+
+    public void refreshAfterCommit(Collection<Long> vendorIds) {
+        Set<Long> ids = new HashSet<>(vendorIds);
+        TransactionCallbacks.afterCommit(() -> refresh(ids));
+    }
+
+    /**
+     * Re-publishes the scorecards of every vendor rated on the criteria, e.g. after its weight changed.
+     */
+    public void refreshCriteriaAfterCommit(Long criteriaId) {
+        TransactionCallbacks.afterCommit(() -> refresh(
+                readTransaction.execute(status -> scorecardRepository.findVendorIdsByCriteriaId(criteriaId))));
+    }
+
+    /**
+     * Recomputes the running totals from the ratings table and reloads every scorecard.
+     */
+    @Scheduled(cron = "${app.scorecards.rebuild-cron:0 30 2 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        Integer rows = writeTransaction.execute(status -> {
+            scorecardRepository.deleteAllRows();
+            return scorecardRepository.insertFromRatings();
+        });
+        reload();
+        log.info("Rebuilt {} vendor scorecard rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        refreshLock.lock();
+        try {
+            reloading = true;
+            scorecards.clear();
+            categoryMembers.clear();
+            categorySummaries.clear();
+            categoryTotals.clear();
+            refresh(readTransaction.execute(status -> scorecardRepository.findAllVendorIds()));
+        } finally {
+            reloading = false;
+            refreshLock.unlock();
+        }
+        eventPublisher.publishEvent(new VendorScorecardsReloadedEvent(scorecards.size()));
+    }
+
+    /**
+     * Recomputes and publishes the scorecards of the given vendors from their running totals.
+     */
+    public void refresh(Collection<Long> vendorIds) {
+        if (vendorIds == null || vendorIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(vendorIds);
+        refreshLock.lock();
+        try {
+            for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + REFRESH_CHUNK_SIZE));
+                readTransaction.executeWithoutResult(status -> refreshChunk(chunk));
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refreshChunk(List<Long> vendorIds) {
+        Map<Long, List<VendorScorecard>> rowsByVendor = scorecardRepository.findByVendorIdIn(vendorIds)
+                .stream()
+                .collect(Collectors.groupingBy(VendorScorecard::getVendorId));
+        Set<Long> criteriaIds = rowsByVendor.values().stream()
+                .flatMap(List::stream)
+                .map(VendorScorecard::getCriteriaId)
+                .collect(Collectors.toSet());
+        Map<Long, VendorPerformanceCriteria> criteria = criteriaRepository.findAllById(criteriaIds)
+                .stream()
+                .collect(Collectors.toMap(VendorPerformanceCriteria::getId, Function.identity()));
+
+        Set<Long> missing = new HashSet<>(vendorIds);
+        for (Vendor vendor : vendorRepository.findAllById(vendorIds)) {
+            missing.remove(vendor.getId());
+            publish(vendor.getId(), buildScorecard(vendor, rowsByVendor.getOrDefault(vendor.getId(), List.of()), criteria));
+        }
+        missing.forEach(vendorId -> publish(vendorId, null));
+    }
+
+    private VendorScorecardResponse buildScorecard(Vendor vendor, List<VendorScorecard> rows,
+                                                   Map<Long, VendorPerformanceCriteria> criteria) {
+        List<CriteriaScoreResponse> lines = new ArrayList<>();
+        double weightedSum = 0.0;
+        double weightTotal = 0.0;
+        long ratingCount = 0;
+        for (VendorScorecard row : rows) {
+            VendorPerformanceCriteria criterion = criteria.get(row.getCriteriaId());
+            if (criterion == null || row.getRatingCount() <= 0 || !Boolean.TRUE.equals(criterion.getIsActive())) {
+                continue;
+            }
+            double normalized = criterion.getMaxScore() > 0 ? row.getAverageScore() / criterion.getMaxScore() : 0.0;
+            double weight = criterion.getWeight() != null ? criterion.getWeight() : 0.0;
+            weightedSum += weight * normalized;
+            weightTotal += weight;
+            ratingCount += row.getRatingCount();
+            lines.add(CriteriaScoreResponse.builder()
+                    .criteriaId(criterion.getId())
+                    .criteriaName(criterion.getName())
+                    .weight(criterion.getWeight())
+                    .maxScore(criterion.getMaxScore())
+                    .ratingCount(row.getRatingCount())
+                    .averageScore(round(row.getAverageScore()))
+                    .normalizedScore(round(normalized * 100))
+                    .build());
+        }
+        Double weightedScore = null;
+        if (!lines.isEmpty()) {
+            // Zero-weight criteria sets fall back to an unweighted mean of the normalized scores
+            weightedScore = weightTotal > 0
+                    ? round(weightedSum / weightTotal * 100)
+                    : round(lines.stream().mapToDouble(CriteriaScoreResponse::getNormalizedScore).average().orElse(0.0));
+        }
+        lines.sort(Comparator.comparing(CriteriaScoreResponse::getCriteriaName,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return VendorScorecardResponse.builder()
+                .vendorId(vendor.getId())
+                .vendorCode(vendor.getVendorCode())
+                .vendorName(vendor.getCompanyName())
+                .vendorStatus(vendor.getStatus())
+                .categoryId(vendor.getCategory() != null ? vendor.getCategory().getId() : null)
+                .weightedScore(weightedScore)
+                .ratingCount(ratingCount)
+                .criteria(List.copyOf(lines))
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void publish(Long vendorId, VendorScorecardResponse scorecard) {
+        VendorScorecardResponse previous = scorecard != null
+                ? scorecards.put(vendorId, scorecard)
+                : scorecards.remove(vendorId);
+        adjustCategory(previous, -1);
+        adjustCategory(scorecard, 1);
+        if (previous != null && previous.getCategoryId() != null) {
+            categoryMembers.computeIfPresent(previous.getCategoryId(), (ignored, members) -> {
+                members.remove(vendorId);
+                return members.isEmpty() ? null : members;
+            });
+        }
+        if (scorecard != null && scorecard.getCategoryId() != null) {
+            categoryMembers.computeIfAbsent(scorecard.getCategoryId(), ignored -> ConcurrentHashMap.newKeySet()).add(vendorId);
+        }
+        if (!reloading) {
+            eventPublisher.publishEvent(new VendorScorecardChangedEvent(vendorId, previous, scorecard));
+        }
+    }
+
+    private void adjustCategory(VendorScorecardResponse scorecard, int sign) {
+        if (scorecard == null || scorecard.getCategoryId() == null || scorecard.getWeightedScore() == null) {
+            return;
+        }
+        Long categoryId = scorecard.getCategoryId();
+        double[] totals = categoryTotals.computeIfAbsent(categoryId, ignored -> new double[2]);
+        totals[0] += sign * scorecard.getWeightedScore();
+        totals[1] += sign;
+        long count = Math.round(totals[1]);
+        if (count <= 0) {
+            categoryTotals.remove(categoryId);
+            categorySummaries.remove(categoryId);
+            return;
+        }
+        categorySummaries.put(categoryId, CategoryScoreSummaryResponse.builder()
+                .categoryId(categoryId)
+                .ratedVendorCount(count)
+                .averageWeightedScore(round(totals[0] / count))
+                .build());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
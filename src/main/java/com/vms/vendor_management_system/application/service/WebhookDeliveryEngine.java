@@ -0,0 +1,438 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.vms.vendor_management_system.application.event.OutboxMessage;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.application.support.WebhookSigner;
+import com.vms.vendor_management_system.domain.entity.WebhookDelivery;
+import com.vms.vendor_management_system.domain.entity.WebhookSubscription;
+import com.vms.vendor_management_system.domain.repository.WebhookDeliveryRepository;
+import com.vms.vendor_management_system.domain.repository.WebhookSubscriptionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Delivery engine for outbound webhooks.
+ *
+ * Outbox events become one persisted delivery per subscribed endpoint. A pass waits a short linger
+ * window so bursts coalesce, then leases each endpoint's due deliveries in batches of up to its batch
+ * size and posts each batch as one HMAC-signed JSON request on the non-blocking HTTP client. An endpoint
+ * never has more than its concurrency cap of requests in flight. Failed batches back off exponentially;
+ * deliveries that run out of attempts are marked DEAD, which is the dead-letter store.
+ */
+@Service
+public class WebhookDeliveryEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDeliveryEngine.class);
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService completionExecutor;
+    private final ScheduledExecutorService passScheduler;
+    private final HttpClient httpClient;
+    private final Map<Long, Metrics> metrics = new ConcurrentHashMap<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final AtomicBoolean passScheduled = new AtomicBoolean();
+    private final boolean enabled;
+    private final long lingerMs;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    private volatile Map<Long, Endpoint> endpoints = Map.of();
+
+    public WebhookDeliveryEngine(WebhookSubscriptionRepository subscriptionRepository,
+                                 WebhookDeliveryRepository deliveryRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.webhooks.enabled:true}") boolean enabled,
+                                 @Value("${app.webhooks.linger-ms:250}") long lingerMs,
+                                 @Value("${app.webhooks.request-timeout-ms:10000}") long requestTimeoutMs,
+                                 @Value("${app.webhooks.max-attempts:8}") int maxAttempts,
+                                 @Value("${app.webhooks.backoff-initial-ms:2000}") long initialBackoffMs,
+                                 @Value("${app.webhooks.backoff-max-ms:600000}") long maxBackoffMs,
+                                 @Value("${app.webhooks.retention-hours:168}") long retentionHours) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Responses are recorded in the database, so completions run on virtual threads rather than the client's pool
+        this.completionExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("webhook-", 0).factory());
+        this.passScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(Math.min(requestTimeoutMs, 5000)))
+                .executor(completionExecutor)
+                .build();
+        this.enabled = enabled;
+        this.lingerMs = lingerMs;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lease = requestTimeout.multipliedBy(2).plusMinutes(1);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+        requestPass();
+    }
+
+    /**
+     * Reloads the active subscriptions; in-flight batches keep the limits they started with.
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<WebhookSubscription> subscriptions = readTransaction.execute(status ->
+                    subscriptionRepository.findByIsActiveTrueOrderById());
+            Map<Long, Endpoint> current = endpoints;
+            Map<Long, Endpoint> updated = new HashMap<>();
+            for (WebhookSubscription subscription : subscriptions != null ? subscriptions : List.<WebhookSubscription>of()) {
+                Endpoint previous = current.get(subscription.getId());
+                // Keep the permits of an unchanged cap so in-flight requests stay counted
+                Semaphore permits = previous != null && previous.maxConcurrency() == subscription.getMaxConcurrency()
+                        ? previous.permits() : new Semaphore(subscription.getMaxConcurrency());
+                updated.put(subscription.getId(), new Endpoint(subscription.getId(), URI.create(subscription.getUrl()),
+                        subscription.getSecret(), subscription.getEventTypeSet(), subscription.getMaxConcurrency(),
+                        subscription.getMaxBatchSize(), permits));
+                metrics.computeIfAbsent(subscription.getId(), ignored -> new Metrics());
+            }
+            endpoints = Map.copyOf(updated);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public void reloadAfterCommit() {
+        TransactionCallbacks.afterCommit(() -> {
+            reload();
+            requestPass();
+        });
+    }
+
+    public boolean hasSubscribers(String eventType) {
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.subscribesTo(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Persists one delivery per endpoint subscribed to the event; endpoints that already have it are skipped,
+     * so a redelivered outbox event is not sent twice.
+     */
+    public void enqueue(OutboxMessage message) {
+        List<Endpoint> subscribers = endpoints.values().stream()
+                .filter(endpoint -> endpoint.subscribesTo(message.eventType()))
+                .collect(Collectors.toList());
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        writeTransaction.executeWithoutResult(status -> {
+            for (Endpoint endpoint : subscribers) {
+                if (!deliveryRepository.existsBySubscriptionIdAndOutboxEventId(endpoint.id(), message.id())) {
+                    deliveryRepository.save(new WebhookDelivery(endpoint.id(), message.id(), message.eventType(), message.payload()));
+                }
+            }
+        });
+        requestPass();
+    }
+
+    /**
+     * Schedules a pass after the linger window unless one is already scheduled. Never blocks.
+     */
+    public void requestPass() {
+        if (enabled && passScheduled.compareAndSet(false, true)) {
+            passScheduler.schedule(this::pass, lingerMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhooks.poll-ms:5000}")
+    public void poll() {
+        requestPass();
+    }
+
+    @Scheduled(cron = "${app.webhooks.cleanup-cron:0 20 * * * *}")
+    public void deleteDelivered() {
+        Integer deleted = writeTransaction.execute(status ->
+                deliveryRepository.deleteDeliveredBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} delivered webhook deliveries", deleted);
+        }
+    }
+
+    public Metrics getMetrics(Long subscriptionId) {
+        return metrics.computeIfAbsent(subscriptionId, ignored -> new Metrics());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        passScheduler.shutdownNow();
+        completionExecutor.shutdown();
+    }
+
+    private void pass() {
+        passScheduled.set(false);
+        for (Endpoint endpoint : endpoints.values()) {
+            try {
+                while (endpoint.permits().tryAcquire()) {
+                    List<WebhookDelivery> batch;
+                    try {
+                        batch = claimBatch(endpoint);
+                    } catch (RuntimeException e) {
+                        endpoint.permits().release();
+                        throw e;
+                    }
+                    if (batch.isEmpty()) {
+                        endpoint.permits().release();
+                        break;
+                    }
+                    send(endpoint, batch);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Webhook pass failed for subscription {}", endpoint.id(), e);
+            }
+        }
+    }
+
+    private List<WebhookDelivery> claimBatch(Endpoint endpoint) {
+        String owner = UUID.randomUUID().toString();
+        List<WebhookDelivery> batch = writeTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = deliveryRepository.findDueIds(endpoint.id(), now, PageRequest.of(0, endpoint.maxBatchSize()));
+            if (ids.isEmpty() || deliveryRepository.claim(ids, owner, now, now.plus(lease)) == 0) {
+                return List.<WebhookDelivery>of();
+            }
+            return deliveryRepository.findByLeaseOwnerAndIdInOrderById(owner, ids);
+        });
+        return batch != null ? batch : List.of();
+    }
+
+    /**
+     * Owns the permit taken for the batch: every path ends in {@link #complete}, which releases it.
+     */
+    private void send(Endpoint endpoint, List<WebhookDelivery> batch) {
+        List<Long> ids = batch.stream().map(WebhookDelivery::getId).collect(Collectors.toList());
+        String body;
+        try {
+            body = toBody(batch);
+        } catch (JsonProcessingException e) {
+            complete(endpoint, ids, null, "Could not serialize payload: " + e.getOriginalMessage(), 0);
+            return;
+        } catch (RuntimeException e) {
+            complete(endpoint, ids, null, "Could not serialize payload: " + e.getMessage(), 0);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            long timestamp = System.currentTimeMillis() / 1000;
+            HttpRequest request = HttpRequest.newBuilder(endpoint.url())
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("User-Agent", "ClearChain-Webhooks")
+                    .header(WebhookSigner.TIMESTAMP_HEADER, Long.toString(timestamp))
+                    .header(WebhookSigner.SIGNATURE_HEADER, WebhookSigner.sign(endpoint.secret(), timestamp, body))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenCompleteAsync((response, error) -> {
+                        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                        if (error != null) {
+                            complete(endpoint, ids, null, error.getClass().getSimpleName() + ": " + error.getMessage(), latencyMs);
+                        } else {
+                            complete(endpoint, ids, response.statusCode(), null, latencyMs);
+                        }
+                    }, completionExecutor);
+        } catch (RuntimeException e) {
+            // e.g. a URL the client rejects; counts as a failed attempt like any other
+            complete(endpoint, ids, null, e.getClass().getSimpleName() + ": " + e.getMessage(), 0);
+        }
+    }
+
+    private String toBody(List<WebhookDelivery> batch) throws JsonProcessingException {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode events = body.putArray("events");
+        for (WebhookDelivery delivery : batch) {
+            ObjectNode event = events.addObject();
+            event.put("id", delivery.getOutboxEventId());
+            event.put("type", delivery.getEventType());
+            event.put("createdAt", delivery.getCreatedAt().toString());
+            event.set("data", objectMapper.readTree(delivery.getPayload()));
+        }
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private void complete(Endpoint endpoint, List<Long> ids, Integer statusCode, String error, long latencyMs) {
+        boolean success = statusCode != null && statusCode >= 200 && statusCode < 300;
+        String failure = success ? null : error != null ? error : "HTTP " + statusCode;
+        Metrics endpointMetrics = getMetrics(endpoint.id());
+        try {
+            int dead = record(ids, success, statusCode, failure);
+            endpointMetrics.recordBatch(ids.size(), success, dead, statusCode, failure, latencyMs);
+            if (dead > 0) {
+                log.warn("{} webhook deliveries to subscription {} moved to the dead-letter store: {}", dead, endpoint.id(), failure);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not record webhook batch result for subscription {}", endpoint.id(), e);
+        } finally {
+            endpoint.permits().release();
+        }
+        // A full batch or a freed permit may leave more due deliveries behind
+        requestPass();
+    }
+
+    private int record(List<Long> ids, boolean success, Integer statusCode, String failure) {
+        Integer dead = writeTransaction.execute(status -> {
+            int count = 0;
+            for (WebhookDelivery delivery : deliveryRepository.findAllById(ids)) {
+                if (success) {
+                    delivery.markDelivered(statusCode);
+                } else if (delivery.getAttempts() + 1 >= maxAttempts) {
+                    delivery.markDead(statusCode, failure);
+                    count++;
+                } else {
+                    delivery.scheduleRetry(LocalDateTime.now().plus(backoff(delivery.getAttempts() + 1)), statusCode, failure);
+                }
+            }
+            return count;
+        });
+        return dead != null ? dead : 0;
+    }
+
+    private Duration backoff(int attempt) {
+        long delay = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(delay, maxBackoff.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private record Endpoint(Long id, URI url, String secret, Set<String> eventTypes,
+                            int maxConcurrency, int maxBatchSize, Semaphore permits) {
+
+        boolean subscribesTo(String eventType) {
+            return eventTypes.contains(WebhookSubscription.ALL_EVENTS) || eventTypes.contains(eventType);
+        }
+    }
+
+    /**
+     * Delivery counters of one endpoint since startup.
+     */
+    public static final class Metrics {
+
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failedAttempts = new LongAdder();
+        private final LongAdder deadLettered = new LongAdder();
+        private final LongAdder latencyMsTotal = new LongAdder();
+        private final AtomicLong lastLatencyMs = new AtomicLong();
+        private volatile Integer lastStatusCode;
+        private volatile String lastError;
+        private volatile LocalDateTime lastAttemptAt;
+
+        void recordBatch(int size, boolean success, int dead, Integer statusCode, String error, long latencyMs) {
+            batches.increment();
+            latencyMsTotal.add(latencyMs);
+            lastLatencyMs.set(latencyMs);
+            lastStatusCode = statusCode;
+            lastError = error;
+            lastAttemptAt = LocalDateTime.now();
+            if (success) {
+                delivered.add(size);
+            } else {
+                failedAttempts.add(size);
+                deadLettered.add(dead);
+            }
+        }
+
+        public long getBatches() {
+            return batches.sum();
+        }
+
+        public long getDelivered() {
+            return delivered.sum();
+        }
+
+        public long getFailedAttempts() {
+            return failedAttempts.sum();
+        }
+
+        public long getDeadLettered() {
+            return deadLettered.sum();
+        }
+
+        public Double getAverageLatencyMs() {
+            long count = batches.sum();
+            return count > 0 ? (double) latencyMsTotal.sum() / count : null;
+        }
+
+        public long getLastLatencyMs() {
+            return lastLatencyMs.get();
+        }
+
+        public Integer getLastStatusCode() {
+            return lastStatusCode;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        public LocalDateTime getLastAttemptAt() {
+            return lastAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.webhook.CreateWebhookSubscriptionRequest;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookDeliveryResponse;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookMetricsResponse;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookSubscriptionResponse;
+import com.vms.vendor_management_system.application.event.OutboxEventTypes;
+import com.vms.vendor_management_system.application.mapper.WebhookMapper;
+import com.vms.vendor_management_system.application.support.TransactionCallbacks;
+import com.vms.vendor_management_system.domain.entity.WebhookDelivery;
+import com.vms.vendor_management_system.domain.entity.WebhookSubscription;
+import com.vms.vendor_management_system.domain.enums.WebhookDeliveryStatus;
+import com.vms.vendor_management_system.domain.repository.WebhookDeliveryRepository;
+import com.vms.vendor_management_system.domain.repository.WebhookSubscriptionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Application service for webhook subscription management and the dead-letter store;
+ * every subscription change reloads the delivery engine after commit.
+ */
+@Service
+@Transactional
+public class WebhookSubscriptionApplicationService {
+
+    private static final int MAX_LISTED = 200;
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookDeliveryEngine deliveryEngine;
+
+    public WebhookSubscriptionApplicationService(WebhookSubscriptionRepository subscriptionRepository,
+                                                 WebhookDeliveryRepository deliveryRepository,
+                                                 WebhookDeliveryEngine deliveryEngine) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.deliveryEngine = deliveryEngine;
+    }
+
+    @Transactional(readOnly = true)
+    public List<WebhookSubscriptionResponse> getSubscriptions() {
+        return subscriptionRepository.findAllByOrderById()
+                .stream()
+                .map(WebhookMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public WebhookSubscriptionResponse getSubscription(Long subscriptionId) {
+        return WebhookMapper.toResponse(findSubscription(subscriptionId));
+    }
+
+    public WebhookSubscriptionResponse createSubscription(CreateWebhookSubscriptionRequest request) {
+        if (request.getSecret() == null) {
+            throw new ResponseStatusException(BAD_REQUEST, "Webhook secret is required");
+        }
+        validateEventTypes(request);
+        WebhookSubscription saved = subscriptionRepository.save(WebhookMapper.toEntity(request));
+        deliveryEngine.reloadAfterCommit();
+        return WebhookMapper.toResponse(saved);
+    }
+
+    public WebhookSubscriptionResponse updateSubscription(Long subscriptionId, CreateWebhookSubscriptionRequest request) {
+        WebhookSubscription subscription = findSubscription(subscriptionId);
+        validateEventTypes(request);
+        WebhookMapper.updateEntity(subscription, request);
+        WebhookSubscription saved = subscriptionRepository.save(subscription);
+        deliveryEngine.reloadAfterCommit();
+        return WebhookMapper.toResponse(saved);
+    }
+
+    public void deleteSubscription(Long subscriptionId) {
+        subscriptionRepository.delete(findSubscription(subscriptionId));
+        deliveryEngine.reloadAfterCommit();
+    }
+
+    @Transactional(readOnly = true)
+    public List<WebhookDeliveryResponse> getDeadLetters(Long subscriptionId) {
+        findSubscription(subscriptionId);
+        return deliveryRepository.findBySubscriptionIdAndStatusOrderByIdDesc(subscriptionId, WebhookDeliveryStatus.DEAD,
+                        PageRequest.of(0, MAX_LISTED))
+                .stream()
+                .map(WebhookMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public WebhookDeliveryResponse replay(Long deliveryId) {
+        WebhookDelivery delivery = deliveryRepository.findById(deliveryId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Webhook delivery not found"));
+        if (delivery.getStatus() != WebhookDeliveryStatus.DEAD) {
+            throw new ResponseStatusException(BAD_REQUEST, "Only dead webhook deliveries can be replayed");
+        }
+        delivery.replay();
+        TransactionCallbacks.afterCommit(deliveryEngine::requestPass);
+        return WebhookMapper.toResponse(delivery);
+    }
+
+    @Transactional(readOnly = true)
+    public WebhookMetricsResponse getMetrics(Long subscriptionId) {
+        findSubscription(subscriptionId);
+        WebhookDeliveryEngine.Metrics metrics = deliveryEngine.getMetrics(subscriptionId);
+        return WebhookMetricsResponse.builder()
+                .subscriptionId(subscriptionId)
+                .batches(metrics.getBatches())
+                .delivered(metrics.getDelivered())
+                .failedAttempts(metrics.getFailedAttempts())
+                .deadLettered(metrics.getDeadLettered())
+                .pending(deliveryRepository.countBySubscriptionIdAndStatus(subscriptionId, WebhookDeliveryStatus.PENDING))
+                .dead(deliveryRepository.countBySubscriptionIdAndStatus(subscriptionId, WebhookDeliveryStatus.DEAD))
+                .averageLatencyMs(metrics.getAverageLatencyMs())
+                .lastLatencyMs(metrics.getLastLatencyMs())
+                .lastStatusCode(metrics.getLastStatusCode())
+                .lastError(metrics.getLastError())
+                .lastAttemptAt(metrics.getLastAttemptAt())
+                .build();
+    }
+
+    private WebhookSubscription findSubscription(Long subscriptionId) {
+        return subscriptionRepository.findById(subscriptionId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Webhook subscription not found"));
+    }
+
+    private static void validateEventTypes(CreateWebhookSubscriptionRequest request) {
+        for (String type : request.getEventTypes()) {
+            if (!WebhookSubscription.ALL_EVENTS.equals(type) && !OutboxEventTypes.ALL.contains(type)) {
+                throw new ResponseStatusException(BAD_REQUEST, "Unknown event type: " + type);
+            }
+        }
+    }
+}
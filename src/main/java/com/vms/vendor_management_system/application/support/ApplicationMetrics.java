@@ -0,0 +1,179 @@
+package com.vms.vendor_management_system.application.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Custom Micrometer meters for the hot paths Spring Boot does not instrument on its own.
+ *
+ * Tags only ever carry enum names or fixed strings, never ids or user input, so series counts stay bounded.
+ * Histograms publish fixed SLO buckets sized for each path rather than the full percentile histogram.
+ */
+@Component
+public class ApplicationMetrics {
+
+    public static final String WORKFLOW_TRANSITIONS = "vms.workflow.transitions";
+    public static final String DASHBOARD_COMPUTE = "vms.dashboard.compute";
+    public static final String JWT_VERIFICATION = "vms.jwt.verification";
+    public static final String UPLOAD_SIZE = "vms.upload.size";
+    public static final String UPLOAD_DURATION = "vms.upload.duration";
+    public static final String CACHE_GETS = "vms.cache.gets";
+    public static final String DB_STATEMENTS = "vms.db.statements";
+    public static final String DB_TIME = "vms.db.time";
+    public static final String DB_BUDGET_EXCEEDED = "vms.db.budget.exceeded";
+    public static final String DB_SLOW_QUERIES = "vms.db.slow.queries";
+    public static final String THREADS_PINNED = "vms.threads.pinned";
+
+    private static final Duration[] DASHBOARD_BUCKETS = millis(10, 25, 50, 100, 250, 500, 1000, 2500);
+    private static final Duration[] JWT_BUCKETS = {
+            Duration.ofNanos(100_000), Duration.ofNanos(250_000), Duration.ofNanos(500_000),
+            Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(5), Duration.ofMillis(10)
+    };
+    private static final Duration[] UPLOAD_DURATION_BUCKETS = millis(50, 100, 250, 500, 1000, 2500, 5000, 10000);
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 20, 50, 100};
+    private static final Duration[] DB_TIME_BUCKETS = millis(5, 10, 25, 50, 100, 250, 500, 1000, 2500);
+    private static final Duration[] PINNED_BUCKETS = millis(20, 50, 100, 250, 500, 1000, 5000);
+    private static final double[] UPLOAD_SIZE_BUCKETS = {
+            64 * 1024, 256 * 1024, 1024 * 1024, 4 * 1024 * 1024, 16 * 1024 * 1024, 64 * 1024 * 1024
+    };
+
+    private final MeterRegistry registry;
+    private final Timer dashboardTimer;
+    private final Timer jwtValidTimer;
+    private final Timer jwtInvalidTimer;
+    private final DistributionSummary uploadSize;
+
+    public ApplicationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.dashboardTimer = Timer.builder(DASHBOARD_COMPUTE)
+                .description("Time to compute the dashboard summary")
+                .serviceLevelObjectives(DASHBOARD_BUCKETS)
+                .register(registry);
+        this.jwtValidTimer = jwtTimer("valid");
+        this.jwtInvalidTimer = jwtTimer("invalid");
+        this.uploadSize = DistributionSummary.builder(UPLOAD_SIZE)
+                .description("Size of uploaded files")
+                .baseUnit("bytes")
+                .serviceLevelObjectives(UPLOAD_SIZE_BUCKETS)
+                .register(registry);
+    }
+
+    /**
+     * Counts a workflow status change once the surrounding transaction commits; unchanged statuses are ignored.
+     */
+    public void workflowTransition(String workflow, Enum<?> from, Enum<?> to) {
+        if (from == to || to == null) {
+            return;
+        }
+        Counter counter = Counter.builder(WORKFLOW_TRANSITIONS)
+                .description("Workflow status transitions")
+                .tag("workflow", workflow)
+                .tag("from", from != null ? from.name() : "NONE")
+                .tag("to", to.name())
+                .register(registry);
+        TransactionCallbacks.afterCommit(counter::increment);
+    }
+
+    public <T> T timeDashboard(Supplier<T> computation) {
+        return dashboardTimer.record(computation);
+    }
+
+    public void recordJwtVerification(long nanos, boolean valid) {
+        (valid ? jwtValidTimer : jwtInvalidTimer).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUpload(long bytes, long nanos, boolean success) {
+        if (success) {
+            uploadSize.record(bytes);
+        }
+        Timer.builder(UPLOAD_DURATION)
+                .description("Time to store an uploaded file")
+                .tag("outcome", success ? "success" : "failure")
+                .serviceLevelObjectives(UPLOAD_DURATION_BUCKETS)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a lookup against one of the in-memory caches; the hit ratio is hits over all gets.
+     */
+    public void cacheGet(String cache, boolean hit) {
+        Counter.builder(CACHE_GETS)
+                .description("Lookups against in-memory caches")
+                .tag("cache", cache)
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Records the statements one request ran; {@code uri} must be the matched route template, not the raw path.
+     */
+    public void recordRequestQueries(String method, String uri, int statements, long elapsedMs, boolean overBudget) {
+        DistributionSummary.builder(DB_STATEMENTS)
+                .description("SQL statements run per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(STATEMENT_BUCKETS)
+                .register(registry)
+                .record(statements);
+        Timer.builder(DB_TIME)
+                .description("Database time per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(DB_TIME_BUCKETS)
+                .register(registry)
+                .record(elapsedMs, TimeUnit.MILLISECONDS);
+        if (overBudget) {
+            Counter.builder(DB_BUDGET_EXCEEDED)
+                    .description("HTTP requests that ran more statements than the query budget")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    public void slowQuery(boolean duringRequest) {
+        Counter.builder(DB_SLOW_QUERIES)
+                .description("SQL statements slower than the slow-query threshold")
+                .tag("origin", duringRequest ? "request" : "background")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Records a virtual thread blocking while pinned to its carrier; {@code origin} is application, jdbc or other.
+     */
+    public void virtualThreadPinned(String origin, Duration duration) {
+        Timer.builder(THREADS_PINNED)
+                .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                .tag("origin", origin)
+                .serviceLevelObjectives(PINNED_BUCKETS)
+                .register(registry)
+                .record(duration);
+    }
+
+    private Timer jwtTimer(String outcome) {
+        return Timer.builder(JWT_VERIFICATION)
+                .description("Time to verify a bearer token")
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(JWT_BUCKETS)
+                .register(registry);
+    }
+
+    private static Duration[] millis(long... values) {
+        Duration[] durations = new Duration[values.length];
+        for (int i = 0; i < values.length; i++) {
+            durations[i] = Duration.ofMillis(values[i]);
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,125 @@
+package com.vms.vendor_management_system.application.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * SQL statement count, database time and slowest statements of the current HTTP request.
+ *
+ * Bound to the request thread by the query budget filter and fed by the datasource proxy; work fanned
+ * out to other threads is attributed to the request through {@link #propagate}.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private final String source;
+    private final int keepSlowest;
+    // A lock rather than synchronized, so overview fan-out threads contending here never pin a virtual carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Statement> slowest = new ArrayList<>();
+    private int statementCount;
+    private long elapsedMs;
+
+    private RequestQueryStats(String source, int keepSlowest) {
+        this.source = source;
+        this.keepSlowest = keepSlowest;
+    }
+
+    public static RequestQueryStats begin(String source, int keepSlowest) {
+        RequestQueryStats stats = new RequestQueryStats(source, keepSlowest);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps work handed to another thread so its statements count towards the calling request.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return work;
+        }
+        return () -> {
+            RequestQueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                return work.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    public void record(String sql, long statementMs) {
+        lock.lock();
+        try {
+            statementCount++;
+            elapsedMs += statementMs;
+            if (slowest.size() < keepSlowest || statementMs > slowest.get(slowest.size() - 1).elapsedMs()) {
+                if (slowest.size() == keepSlowest) {
+                    slowest.remove(slowest.size() - 1);
+                }
+                slowest.add(new Statement(abbreviate(sql), statementMs));
+                slowest.sort(Comparator.comparingLong(Statement::elapsedMs).reversed());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getStatementCount() {
+        lock.lock();
+        try {
+            return statementCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getElapsedMs() {
+        lock.lock();
+        try {
+            return elapsedMs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Statement> getSlowest() {
+        lock.lock();
+        try {
+            return List.copyOf(slowest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static String abbreviate(String sql) {
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() > MAX_SQL_LENGTH ? flat.substring(0, MAX_SQL_LENGTH) + "..." : flat;
+    }
+
+    public record Statement(String sql, long elapsedMs) {
+    }
+}
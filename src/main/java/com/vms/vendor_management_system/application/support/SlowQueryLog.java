@@ -0,0 +1,80 @@
+package com.vms.vendor_management_system.application.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Rolling record of SQL statements slower than the threshold, kept for the configured window.
+ * Only the newest {@code max-entries} are retained, so a storm of slow queries cannot grow it unbounded.
+ */
+@Component
+public class SlowQueryLog {
+
+    private final long thresholdMs;
+    private final Duration window;
+    private final int maxEntries;
+    private final ConcurrentLinkedDeque<Entry> entries = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public SlowQueryLog(@Value("${app.query-budget.slow-query-ms:200}") long thresholdMs,
+                        @Value("${app.query-budget.slow-query-window-minutes:60}") long windowMinutes,
+                        @Value("${app.query-budget.slow-query-max-entries:1000}") int maxEntries) {
+        this.thresholdMs = thresholdMs;
+        this.window = Duration.ofMinutes(windowMinutes);
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    public boolean isSlow(long elapsedMs) {
+        return elapsedMs >= thresholdMs;
+    }
+
+    public void record(String sql, long elapsedMs, String source) {
+        entries.addFirst(new Entry(RequestQueryStats.abbreviate(sql), elapsedMs, source, LocalDateTime.now()));
+        if (size.incrementAndGet() > maxEntries && entries.pollLast() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Slowest statements within the window, slowest first.
+     */
+    public List<Entry> top(int limit) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(window);
+        evictBefore(cutoff);
+        return entries.stream()
+                .filter(entry -> entry.occurredAt().isAfter(cutoff))
+                .sorted(Comparator.comparingLong(Entry::elapsedMs).reversed())
+                .limit(Math.max(limit, 0))
+                .collect(Collectors.toList());
+    }
+
+    public void clear() {
+        entries.clear();
+        size.set(0);
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    // Entries are newest first, so expired ones sit at the tail
+    private void evictBefore(LocalDateTime cutoff) {
+        Iterator<Entry> oldestFirst = entries.descendingIterator();
+        while (oldestFirst.hasNext() && !oldestFirst.next().occurredAt().isAfter(cutoff)) {
+            oldestFirst.remove();
+            size.decrementAndGet();
+        }
+    }
+
+    public record Entry(String sql, long elapsedMs, String source, LocalDateTime occurredAt) {
+    }
+}
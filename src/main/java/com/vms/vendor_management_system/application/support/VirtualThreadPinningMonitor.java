@@ -0,0 +1,121 @@
+package com.vms.vendor_management_system.application.support;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event: a virtual thread blocked while pinned to its carrier,
+ * typically inside a {@code synchronized} block or a JDBC driver holding a monitor around socket I/O.
+ *
+ * Each pinned block is timed by origin (application code, JDBC or other). The first occurrence per call
+ * site is logged with its stack, then at most once per {@link #LOG_INTERVAL}.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration LOG_INTERVAL = Duration.ofMinutes(1);
+    private static final int LOGGED_FRAMES = 12;
+    private static final String APPLICATION_PACKAGE = "com.vms.";
+    private static final List<String> JDBC_PACKAGES = List.of(
+            "java.sql.", "javax.sql.", "org.h2.", "org.postgresql.", "com.zaxxer.hikari.", "net.ttddyy.dsproxy.");
+
+    private final ApplicationMetrics metrics;
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Map<String, Long> lastLoggedAt = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(ApplicationMetrics metrics,
+                                       @Value("${app.threads.pinning-monitor.enabled:false}") boolean enabled,
+                                       @Value("${app.threads.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Watching for virtual threads pinned longer than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String origin = origin(frames);
+        metrics.virtualThreadPinned(origin, event.getDuration());
+
+        String site = callSite(frames);
+        long now = System.currentTimeMillis();
+        Long previous = lastLoggedAt.get(site);
+        if (previous != null && now - previous < LOG_INTERVAL.toMillis()) {
+            return;
+        }
+        lastLoggedAt.put(site, now);
+        StringBuilder stack = new StringBuilder();
+        frames.stream().limit(LOGGED_FRAMES).forEach(frame -> stack.append("\n\tat ")
+                .append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName())
+                .append(':').append(frame.getLineNumber()));
+        log.warn("Virtual thread {} pinned for {} ms ({}) at {}{}",
+                event.getThread() != null ? event.getThread().getJavaName() : "?",
+                event.getDuration().toMillis(), origin, site, stack);
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private static String origin(List<RecordedFrame> frames) {
+        boolean application = false;
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (JDBC_PACKAGES.stream().anyMatch(type::startsWith)) {
+                return "jdbc";
+            }
+            application |= type.startsWith(APPLICATION_PACKAGE);
+        }
+        return application ? "application" : "other";
+    }
+
+    /**
+     * The innermost application frame, or the top frame when the pinning happened entirely in library code.
+     */
+    private static String callSite(List<RecordedFrame> frames) {
+        RecordedFrame site = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.get(0));
+        return site == null ? "unknown"
+                : site.getMethod().getType().getName() + "." + site.getMethod().getName() + ":" + site.getLineNumber();
+    }
+}
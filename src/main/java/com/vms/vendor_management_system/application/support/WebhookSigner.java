@@ -0,0 +1,33 @@
+package com.vms.vendor_management_system.application.support;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * HMAC-SHA256 signatures of webhook payloads. Receivers recompute the signature over
+ * {@code timestamp + "." + body} with the shared secret and compare it with the signature header.
+ */
+public final class WebhookSigner {
+
+    public static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+    public static final String TIMESTAMP_HEADER = "X-Webhook-Timestamp";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String PREFIX = "sha256=";
+
+    private WebhookSigner() {
+    }
+
+    public static String sign(String secret, long timestamp, String body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            byte[] digest = mac.doFinal((timestamp + "." + body).getBytes(StandardCharsets.UTF_8));
+            return PREFIX + HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.vms.vendor_management_system.config;
+
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
+import com.vms.vendor_management_system.application.support.RequestQueryStats;
+import com.vms.vendor_management_system.application.support.SlowQueryLog;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Wraps the pooled {@link DataSource} in a datasource-proxy that times every statement.
+ * <p>
+ * Timings feed the per-request statement budget ({@link RequestQueryStats}) and the rolling
+ * {@link SlowQueryLog}. This replaces SQL logging as the way to see what an endpoint runs; the proxy only
+ * measures, it does not format or log statements.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog,
+                                                                 ObjectProvider<ApplicationMetrics> metrics,
+                                                                 @Value("${app.query-budget.enabled:true}") boolean enabled) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new QueryRecordingListener(slowQueryLog, metrics))
+                        .build();
+            }
+        };
+    }
+
+    static final class QueryRecordingListener implements QueryExecutionListener {
+
+        private final ObjectProvider<SlowQueryLog> slowQueryLog;
+        private final ObjectProvider<ApplicationMetrics> metrics;
+
+        QueryRecordingListener(ObjectProvider<SlowQueryLog> slowQueryLog, ObjectProvider<ApplicationMetrics> metrics) {
+            this.slowQueryLog = slowQueryLog;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            long elapsedMs = execInfo.getElapsedTime();
+            String sql = queryInfoList.size() == 1
+                    ? queryInfoList.get(0).getQuery()
+                    : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+            RequestQueryStats stats = RequestQueryStats.current();
+            if (stats != null) {
+                stats.record(sql, elapsedMs);
+            }
+            SlowQueryLog log = slowQueryLog.getIfAvailable();
+            if (log != null && log.isSlow(elapsedMs)) {
+                // Background threads are named <pool>-<n>; the pool name is enough to find the job
+                String source = stats != null ? stats.getSource() : Thread.currentThread().getName().replaceAll("-?\\d+$", "");
+                log.record(sql, elapsedMs, source);
+                ApplicationMetrics applicationMetrics = metrics.getIfAvailable();
+                if (applicationMetrics != null) {
+                    applicationMetrics.slowQuery(stats != null);
+                }
+            }
+        }
+    }
+}
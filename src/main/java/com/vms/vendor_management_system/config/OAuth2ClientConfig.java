@@ -1,5 +1,6 @@
 package com.vms.vendor_management_system.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,7 +24,8 @@ public class OAuth2ClientConfig {
 
     @Bean
     @Primary
-    public ClientRegistrationRepository clientRegistrationRepository(OAuth2ClientProperties properties) {
+    public ClientRegistrationRepository clientRegistrationRepository(OAuth2ClientProperties properties,
+                                                                     @Value("${app.oauth2.oidc-discovery:true}") boolean oidcDiscovery) {
         List<ClientRegistration> registrations = new ArrayList<>();
         
         // Build Google registration if client ID is not empty
@@ -52,7 +54,7 @@ public class OAuth2ClientConfig {
         if (properties.getRegistration().containsKey("azure")) {
             OAuth2ClientProperties.Registration azureReg = properties.getRegistration().get("azure");
             if (azureReg != null && azureReg.getClientId() != null && !azureReg.getClientId().trim().isEmpty()) {
-                ClientRegistration azureRegistration = buildAzureRegistration(azureReg, properties.getProvider().get("azure"));
+                ClientRegistration azureRegistration = buildAzureRegistration(azureReg, properties.getProvider().get("azure"), oidcDiscovery);
                 if (azureRegistration != null) {
                     registrations.add(azureRegistration);
                 }
@@ -161,7 +163,8 @@ public class OAuth2ClientConfig {
                 .build();
     }
     
-    private ClientRegistration buildAzureRegistration(OAuth2ClientProperties.Registration reg, OAuth2ClientProperties.Provider provider) {
+    private ClientRegistration buildAzureRegistration(OAuth2ClientProperties.Registration reg, OAuth2ClientProperties.Provider provider,
+                                                      boolean oidcDiscovery) {
         if (reg.getClientId() == null || reg.getClientId().trim().isEmpty() || 
             reg.getClientSecret() == null || reg.getClientSecret().trim().isEmpty()) {
             return null;
@@ -199,6 +202,11 @@ public class OAuth2ClientConfig {
             }
         }
         
+        // Discovery is a blocking HTTP round trip during startup; the fast-startup profile skips it
+        if (!oidcDiscovery) {
+            return buildStaticAzureRegistration(reg, scopes, redirectUri, issuerUri);
+        }
+        
         try {
             // Use OIDC issuer location for Azure (auto-discovers endpoints)
             ClientRegistration.Builder builder = ClientRegistrations.fromOidcIssuerLocation(issuerUri)
@@ -211,20 +219,30 @@ public class OAuth2ClientConfig {
             return builder.build();
         } catch (Exception e) {
             // If OIDC discovery fails, fall back to manual configuration
-            String tenantId = System.getenv("AZURE_TENANT_ID");
-            return ClientRegistration.withRegistrationId("azure")
-                    .clientId(reg.getClientId())
-                    .clientSecret(reg.getClientSecret())
-                    .scope(scopes.toArray(new String[0]))
-                    .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
-                    .redirectUri(redirectUri)
-                    .authorizationUri("https://login.microsoftonline.com/" + tenantId + "/oauth2/v2.0/authorize")
-                    .tokenUri("https://login.microsoftonline.com/" + System.getenv("AZURE_TENANT_ID") + "/oauth2/v2.0/token")
-                    .userInfoUri("https://graph.microsoft.com/oidc/userinfo")
-                    .userNameAttributeName("email")
-                    .clientName("Azure")
-                    .build();
+            return buildStaticAzureRegistration(reg, scopes, redirectUri, issuerUri);
         }
     }
+    
+    /**
+     * Azure registration from the well-known Entra ID v2.0 endpoints of the tenant, without OIDC discovery.
+     */
+    private ClientRegistration buildStaticAzureRegistration(OAuth2ClientProperties.Registration reg, java.util.Set<String> scopes,
+                                                            String redirectUri, String issuerUri) {
+        String tenantId = System.getenv("AZURE_TENANT_ID");
+        return ClientRegistration.withRegistrationId("azure")
+                .clientId(reg.getClientId())
+                .clientSecret(reg.getClientSecret())
+                .scope(scopes.toArray(new String[0]))
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri(redirectUri)
+                .authorizationUri("https://login.microsoftonline.com/" + tenantId + "/oauth2/v2.0/authorize")
+                .tokenUri("https://login.microsoftonline.com/" + tenantId + "/oauth2/v2.0/token")
+                .jwkSetUri("https://login.microsoftonline.com/" + tenantId + "/discovery/v2.0/keys")
+                .issuerUri(issuerUri)
+                .userInfoUri("https://graph.microsoft.com/oidc/userinfo")
+                .userNameAttributeName("email")
+                .clientName("Azure")
+                .build();
+    }
 }
 
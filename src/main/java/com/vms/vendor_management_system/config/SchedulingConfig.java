@@ -0,0 +1,28 @@
+package com.vms.vendor_management_system.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Enables {@code @Scheduled} background jobs (housekeeping, periodic recomputation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Jobs are only registered when their bean is created, so beans with {@code @Scheduled} methods stay
+     * eager under {@code spring.main.lazy-initialization} (fast-startup profile).
+     */
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.vms.vendor_management_system.config;
 
+import com.vms.vendor_management_system.application.security.JwtAuthenticationFilter;
 import com.vms.vendor_management_system.application.security.OAuth2SuccessHandler;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,6 +11,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -32,7 +35,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter)
+            throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -42,7 +46,9 @@ public class SecurityConfig {
                 .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
                 // ALL other endpoints are public - no authentication required
                 .anyRequest().permitAll()
-            );
+            )
+            // Before the anonymous filter, which would otherwise fill the empty context first
+            .addFilterBefore(jwtAuthenticationFilter, AnonymousAuthenticationFilter.class);
 
         // Always enable OAuth2 login - will work if credentials are in application-local.properties
         // or environment variables. If no credentials, EmptyClientRegistrationRepository handles it.
@@ -54,6 +60,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Keeps the JWT filter out of the plain servlet filter chain; it only runs inside the security chain.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -0,0 +1,114 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * ApprovalRule entity routing purchase orders and contracts to an approver role.
+ * Empty conditions match everything; amounts without a currency are in the FX base currency.
+ */
+@Entity
+@Table(name = "approval_rules")
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ApprovalRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "document_type", nullable = false, length = 30)
+    private ApprovalDocumentType documentType;
+
+    @Column(name = "priority", nullable = false)
+    private Integer priority = 100;
+
+    @Column(name = "min_amount", precision = 19, scale = 2)
+    private BigDecimal minAmount;
+
+    @Column(name = "max_amount", precision = 19, scale = 2)
+    private BigDecimal maxAmount;
+
+    @Column(name = "currency", length = 10)
+    private String currency;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "requires_approval", nullable = false)
+    private Boolean requiresApproval = true;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "approver_role", length = 50)
+    private UserRole approverRole;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ApprovalRule(String name, ApprovalDocumentType documentType, Integer priority) {
+        this.name = name;
+        this.documentType = documentType;
+        this.priority = priority;
+    }
+
+    // Business methods
+    public void changeAmountBand(BigDecimal minAmount, BigDecimal maxAmount) {
+        if (minAmount != null && maxAmount != null && maxAmount.compareTo(minAmount) <= 0) {
+            throw new IllegalArgumentException("Rule maximum amount must be greater than its minimum");
+        }
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApprovalRule that = (ApprovalRule) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ApprovalRule{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", documentType=" + documentType +
+                ", priority=" + priority +
+                ", approverRole=" + approverRole +
+                '}';
+    }
+}
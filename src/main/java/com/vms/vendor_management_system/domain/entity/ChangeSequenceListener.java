@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import com.vms.vendor_management_system.domain.service.ChangeSequencer;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Entity listener clearing {@code change_seq} when a {@link ChangeTracked} entity is inserted or flushed
+ * dirty. The row is numbered by the {@link ChangeSequencer} once it has committed, so numbers follow commit
+ * order and the write itself needs no extra round trip.
+ */
+public class ChangeSequenceListener {
+
+    @PrePersist
+    @PreUpdate
+    public void clearChangeSeq(Object entity) {
+        ((ChangeTracked) entity).setChangeSeq(null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.vms.vendor_management_system.domain.entity;
+
+/**
+ * Entity numbered from the global {@code change_seq} sequence after every committed insert and update,
+ * which is what the change feed pages through. Unnumbered rows have a null value.
+ */
+public interface ChangeTracked {
+
+    Long getChangeSeq();
+
+    void setChangeSeq(Long changeSeq);
+}
@@ -1,5 +1,6 @@
 package com.vms.vendor_management_system.domain.entity;
 
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 /**
@@ -21,8 +23,8 @@ import java.util.Objects;
 @Getter
 @Setter
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class Contract {
+@EntityListeners({AuditingEntityListener.class, ChangeSequenceListener.class})
+public class Contract implements ChangeTracked {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -56,8 +58,9 @@ public class Contract {
     @Column(name = "contract_type")
     private String contractType; // SERVICE, SUPPLY, MAINTENANCE, etc.
     
+    @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
-    private String status = "DRAFT"; // DRAFT, ACTIVE, EXPIRED, TERMINATED
+    private ContractStatus status = ContractStatus.DRAFT;
     
     @Column(name = "document_url")
     private String documentUrl; // URL to uploaded contract document
@@ -90,6 +93,9 @@ public class Contract {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     public Contract(String contractNumber, Vendor vendor, String title, LocalDate startDate, LocalDate endDate, User createdBy) {
         this.contractNumber = contractNumber;
         this.vendor = vendor;
@@ -100,21 +106,21 @@ public class Contract {
     }
 
     public void approve(User approver) {
-        this.status = "ACTIVE";
+        this.status = ContractStatus.ACTIVE;
         this.approvedBy = approver;
         this.approvedAt = LocalDateTime.now();
     }
 
     public void terminate() {
-        this.status = "TERMINATED";
+        this.status = ContractStatus.TERMINATED;
     }
 
     public void expire() {
-        this.status = "EXPIRED";
+        this.status = ContractStatus.EXPIRED;
     }
 
     public boolean isActive() {
-        return "ACTIVE".equals(this.status) && 
+        return this.status == ContractStatus.ACTIVE && 
                LocalDate.now().isAfter(startDate) && 
                LocalDate.now().isBefore(endDate);
     }
@@ -124,7 +130,7 @@ public class Contract {
     }
 
     public long getDaysUntilExpiration() {
-        return LocalDate.now().until(endDate).getDays();
+        return ChronoUnit.DAYS.between(LocalDate.now(), endDate);
     }
 
     public boolean isNearExpiration(int daysThreshold) {
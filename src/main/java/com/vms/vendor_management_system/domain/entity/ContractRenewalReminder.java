@@ -0,0 +1,64 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * ContractRenewalReminder entity recording that a contract entered a 30/60/90-day expiry horizon.
+ * Rows are only created through ContractRenewalReminderRepository.insertIfAbsent.
+ */
+@Entity
+@Table(name = "contract_renewal_reminders")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContractRenewalReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "contract_id", nullable = false)
+    private Long contractId;
+
+    @Column(name = "vendor_id", nullable = false)
+    private Long vendorId;
+
+    @Column(name = "horizon_days", nullable = false)
+    private Integer horizonDays;
+
+    @Column(name = "contract_end_date", nullable = false)
+    private LocalDate contractEndDate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContractRenewalReminder that = (ContractRenewalReminder) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ContractRenewalReminder{" +
+                "id=" + id +
+                ", contractId=" + contractId +
+                ", horizonDays=" + horizonDays +
+                ", contractEndDate=" + contractEndDate +
+                '}';
+    }
+}
@@ -0,0 +1,105 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * DepartmentBudget entity representing the spending limit of a department for one period
+ */
+@Entity
+@Table(name = "department_budgets")
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class DepartmentBudget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id", nullable = false)
+    private Department department;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "currency", length = 10, nullable = false)
+    private String currency;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public DepartmentBudget(Department department, LocalDate periodStart, LocalDate periodEnd, BigDecimal amount, String currency) {
+        this.department = department;
+        this.currency = currency;
+        changePeriod(periodStart, periodEnd);
+        changeAmount(amount);
+    }
+
+    // Business methods
+    public void changePeriod(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null || periodEnd.isBefore(periodStart)) {
+            throw new IllegalArgumentException("Budget period end cannot be before its start");
+        }
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
+    public void changeAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() < 0) {
+            throw new IllegalArgumentException("Budget amount cannot be negative");
+        }
+        this.amount = amount;
+    }
+
+    public boolean covers(LocalDate date) {
+        return date != null && !date.isBefore(periodStart) && !date.isAfter(periodEnd);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DepartmentBudget that = (DepartmentBudget) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "DepartmentBudget{" +
+                "id=" + id +
+                ", periodStart=" + periodStart +
+                ", periodEnd=" + periodEnd +
+                ", amount=" + amount +
+                ", currency='" + currency + '\'' +
+                '}';
+    }
+}
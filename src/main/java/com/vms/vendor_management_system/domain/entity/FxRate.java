@@ -0,0 +1,69 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * FxRate entity holding how many units of the base currency one unit of a currency is worth
+ */
+@Entity
+@Table(name = "fx_rates")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FxRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "base_currency", nullable = false, length = 10)
+    private String baseCurrency;
+
+    @Column(name = "currency", nullable = false, unique = true, length = 10)
+    private String currency;
+
+    @Column(name = "rate", nullable = false, precision = 24, scale = 10)
+    private BigDecimal rate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public FxRate(String baseCurrency, String currency, BigDecimal rate) {
+        if (rate == null || rate.signum() <= 0) {
+            throw new IllegalArgumentException("FX rate for " + currency + " must be positive");
+        }
+        this.baseCurrency = baseCurrency;
+        this.currency = currency;
+        this.rate = rate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FxRate fxRate = (FxRate) o;
+        return Objects.equals(id, fxRate.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "FxRate{" +
+                "currency='" + currency + '\'' +
+                ", rate=" + rate +
+                ", baseCurrency='" + baseCurrency + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * IdempotencyRecord entity storing the first response produced for an Idempotency-Key
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true)
+    private String idempotencyKey;
+
+    // SHA-256 of method, path and body; a reused key with a different request is rejected
+    @Column(name = "request_fingerprint", nullable = false, length = 64)
+    private String requestFingerprint;
+
+    // Null while the original request is still executing
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_content_type")
+    private String responseContentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord(String idempotencyKey, String requestFingerprint, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+        this.expiresAt = expiresAt;
+    }
+
+    // Business methods
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+
+    public void complete(int status, String contentType, String body) {
+        this.responseStatus = status;
+        this.responseContentType = contentType;
+        this.responseBody = body;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IdempotencyRecord that = (IdempotencyRecord) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "IdempotencyRecord{" +
+                "id=" + id +
+                ", idempotencyKey='" + idempotencyKey + '\'' +
+                ", responseStatus=" + responseStatus +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
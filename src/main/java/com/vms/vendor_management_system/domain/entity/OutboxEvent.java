@@ -0,0 +1,132 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import com.vms.vendor_management_system.domain.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * OutboxEvent entity holding a domain event until the dispatcher has delivered it to every sink.
+ * Written in the same transaction as the state change it describes.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(String eventType, String aggregateType, Long aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    public void markProcessed() {
+        this.status = OutboxStatus.PROCESSED;
+        this.attempts++;
+        this.processedAt = LocalDateTime.now();
+        this.leaseOwner = null;
+        this.lastError = null;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttempt, String error) {
+        this.attempts++;
+        this.availableAt = nextAttempt;
+        this.leaseOwner = null;
+        this.lastError = truncate(error);
+    }
+
+    public void markFailed(String error) {
+        this.status = OutboxStatus.FAILED;
+        this.attempts++;
+        this.leaseOwner = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * Puts a failed event back in the queue with a fresh set of attempts.
+     */
+    public void requeue() {
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.availableAt = LocalDateTime.now();
+        this.leaseOwner = null;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEvent that = (OutboxEvent) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "id=" + id +
+                ", eventType='" + eventType + '\'' +
+                ", aggregateType='" + aggregateType + '\'' +
+                ", aggregateId=" + aggregateId +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.vms.vendor_management_system.domain.entity;
 
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,8 +22,8 @@ import java.util.Objects;
 @Getter
 @Setter
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class PurchaseOrder {
+@EntityListeners({AuditingEntityListener.class, ChangeSequenceListener.class})
+public class PurchaseOrder implements ChangeTracked {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,8 +51,9 @@ public class PurchaseOrder {
     @Column(name = "expected_delivery_date")
     private LocalDate expectedDeliveryDate;
     
+    @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
-    private String status = "DRAFT"; // DRAFT, PENDING_APPROVAL, APPROVED, REJECTED, SENT, RECEIVED, CANCELLED
+    private PurchaseOrderStatus status = PurchaseOrderStatus.DRAFT;
     
     @Column(name = "approval_threshold", precision = 19, scale = 2)
     private BigDecimal approvalThreshold;
@@ -87,6 +89,9 @@ public class PurchaseOrder {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     public PurchaseOrder(String poNumber, Vendor vendor, String description, BigDecimal totalAmount, LocalDate orderDate, User createdBy) {
         this.poNumber = poNumber;
         this.vendor = vendor;
@@ -97,50 +102,61 @@ public class PurchaseOrder {
     }
 
     public void submitForApproval() {
-        if (!"DRAFT".equals(this.status)) {
+        if (this.status != PurchaseOrderStatus.DRAFT) {
             throw new IllegalStateException("Only draft purchase orders can be submitted for approval");
         }
-        this.status = "PENDING_APPROVAL";
+        this.status = PurchaseOrderStatus.PENDING_APPROVAL;
     }
 
     public void approve(User approver) {
-        if (!"PENDING_APPROVAL".equals(this.status)) {
+        if (this.status != PurchaseOrderStatus.PENDING_APPROVAL) {
             throw new IllegalStateException("Only pending approval purchase orders can be approved");
         }
-        this.status = "APPROVED";
+        this.status = PurchaseOrderStatus.APPROVED;
         this.approvedBy = approver;
         this.approvedAt = LocalDateTime.now();
     }
 
+    /**
+     * Approves a pending order whose approval route does not require an approver.
+     */
+    public void approveAutomatically() {
+        if (this.status != PurchaseOrderStatus.PENDING_APPROVAL) {
+            throw new IllegalStateException("Only pending approval purchase orders can be approved");
+        }
+        this.status = PurchaseOrderStatus.APPROVED;
+        this.approvedAt = LocalDateTime.now();
+    }
+
     public void reject(User approver, String rejectionReason) {
-        if (!"PENDING_APPROVAL".equals(this.status)) {
+        if (this.status != PurchaseOrderStatus.PENDING_APPROVAL) {
             throw new IllegalStateException("Only pending approval purchase orders can be rejected");
         }
-        this.status = "REJECTED";
+        this.status = PurchaseOrderStatus.REJECTED;
         this.approvedBy = approver;
         this.approvedAt = LocalDateTime.now();
         this.rejectionReason = rejectionReason;
     }
 
     public void send() {
-        if (!"APPROVED".equals(this.status)) {
+        if (this.status != PurchaseOrderStatus.APPROVED) {
             throw new IllegalStateException("Only approved purchase orders can be sent");
         }
-        this.status = "SENT";
+        this.status = PurchaseOrderStatus.SENT;
     }
 
     public void markAsReceived() {
-        if (!"SENT".equals(this.status)) {
+        if (this.status != PurchaseOrderStatus.SENT) {
             throw new IllegalStateException("Only sent purchase orders can be marked as received");
         }
-        this.status = "RECEIVED";
+        this.status = PurchaseOrderStatus.RECEIVED;
     }
 
     public void cancel() {
-        if ("RECEIVED".equals(this.status)) {
+        if (this.status == PurchaseOrderStatus.RECEIVED) {
             throw new IllegalStateException("Cannot cancel received purchase orders");
         }
-        this.status = "CANCELLED";
+        this.status = PurchaseOrderStatus.CANCELLED;
     }
 
     public boolean requiresApproval() {
@@ -148,15 +164,15 @@ public class PurchaseOrder {
     }
 
     public boolean isApproved() {
-        return "APPROVED".equals(this.status) || "SENT".equals(this.status) || "RECEIVED".equals(this.status);
+        return this.status == PurchaseOrderStatus.APPROVED || this.status == PurchaseOrderStatus.SENT || this.status == PurchaseOrderStatus.RECEIVED;
     }
 
     public boolean canBeApproved() {
-        return "PENDING_APPROVAL".equals(this.status);
+        return this.status == PurchaseOrderStatus.PENDING_APPROVAL;
     }
 
     public boolean canBeRejected() {
-        return "PENDING_APPROVAL".equals(this.status);
+        return this.status == PurchaseOrderStatus.PENDING_APPROVAL;
     }
 
     @Override
@@ -24,8 +24,8 @@ import java.util.Objects;
 @Getter
 @Setter
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class Vendor {
+@EntityListeners({AuditingEntityListener.class, ChangeSequenceListener.class})
+public class Vendor implements ChangeTracked {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -86,6 +86,9 @@ public class Vendor {
     @Column(name = "notes")
     private String notes;
     
+    @Column(name = "default_currency", length = 10)
+    private String defaultCurrency; // Currency from the creation request; default for contracts and orders
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -94,6 +97,9 @@ public class Vendor {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     public Vendor(String vendorCode, String companyName, String legalName, Email email, Address address) {
         this.vendorCode = vendorCode;
         this.companyName = companyName;
@@ -148,6 +154,10 @@ public class Vendor {
         }
     }
 
+    /**
+     * Unweighted mean of raw scores; loads every rating. Use VendorScorecardService for weighted scores.
+     */
+    @Deprecated
     public double getAverageRating() {
         if (ratings.isEmpty()) {
             return 0.0;
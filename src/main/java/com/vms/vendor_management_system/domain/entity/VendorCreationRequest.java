@@ -22,8 +22,8 @@ import java.util.Objects;
 @Getter
 @Setter
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class VendorCreationRequest {
+@EntityListeners({AuditingEntityListener.class, ChangeSequenceListener.class})
+public class VendorCreationRequest implements ChangeTracked {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -158,6 +158,9 @@ public class VendorCreationRequest {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     public VendorCreationRequest(String requestNumber, Department requestingDepartment, User requestedBy, String companyName) {
         this.requestNumber = requestNumber;
         this.requestingDepartment = requestingDepartment;
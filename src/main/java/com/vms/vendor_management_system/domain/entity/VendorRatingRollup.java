@@ -0,0 +1,77 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * VendorRatingRollup entity holding the ratings of a vendor for one criteria aggregated by month.
+ * Rows are only changed through the atomic increments in VendorRatingRollupRepository.
+ */
+@Entity
+@Table(name = "vendor_rating_monthly_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+public class VendorRatingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "vendor_id", nullable = false)
+    private Long vendorId;
+
+    @Column(name = "criteria_id", nullable = false)
+    private Long criteriaId;
+
+    @Column(name = "bucket_month", nullable = false)
+    private Integer bucketMonth; // yyyyMM
+
+    @Column(name = "rating_count", nullable = false)
+    private Long ratingCount = 0L;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static int toBucket(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    // Business methods
+    public YearMonth getMonth() {
+        return YearMonth.of(bucketMonth / 100, bucketMonth % 100);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VendorRatingRollup that = (VendorRatingRollup) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "VendorRatingRollup{" +
+                "vendorId=" + vendorId +
+                ", criteriaId=" + criteriaId +
+                ", bucketMonth=" + bucketMonth +
+                ", ratingCount=" + ratingCount +
+                ", scoreSum=" + scoreSum +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * VendorScorecard entity holding the running rating count and score sum of a vendor for one criteria.
+ * Rows are only changed through the atomic increments in VendorScorecardRepository.
+ */
+@Entity
+@Table(name = "vendor_scorecards")
+@Getter
+@Setter
+@NoArgsConstructor
+public class VendorScorecard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "vendor_id", nullable = false)
+    private Long vendorId;
+
+    @Column(name = "criteria_id", nullable = false)
+    private Long criteriaId;
+
+    @Column(name = "rating_count", nullable = false)
+    private Long ratingCount = 0L;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Business methods
+    public double getAverageScore() {
+        return ratingCount == null || ratingCount == 0 ? 0.0 : (double) scoreSum / ratingCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VendorScorecard that = (VendorScorecard) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "VendorScorecard{" +
+                "vendorId=" + vendorId +
+                ", criteriaId=" + criteriaId +
+                ", ratingCount=" + ratingCount +
+                ", scoreSum=" + scoreSum +
+                '}';
+    }
+}
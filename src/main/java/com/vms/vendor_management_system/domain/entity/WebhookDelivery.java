@@ -0,0 +1,138 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import com.vms.vendor_management_system.domain.enums.WebhookDeliveryStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * WebhookDelivery entity tracking one outbox event on its way to one webhook subscription.
+ * DEAD deliveries form the dead-letter store.
+ */
+@Entity
+@Table(name = "webhook_deliveries")
+@Getter
+@Setter
+@NoArgsConstructor
+public class WebhookDelivery {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    @Column(name = "outbox_event_id", nullable = false)
+    private Long outboxEventId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WebhookDeliveryStatus status = WebhookDeliveryStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "last_status_code")
+    private Integer lastStatusCode;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public WebhookDelivery(Long subscriptionId, Long outboxEventId, String eventType, String payload) {
+        this.subscriptionId = subscriptionId;
+        this.outboxEventId = outboxEventId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public void markDelivered(int statusCode) {
+        this.status = WebhookDeliveryStatus.DELIVERED;
+        this.attempts++;
+        this.lastStatusCode = statusCode;
+        this.lastError = null;
+        this.leaseOwner = null;
+        this.deliveredAt = LocalDateTime.now();
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttempt, Integer statusCode, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttempt;
+        this.lastStatusCode = statusCode;
+        this.lastError = truncate(error);
+        this.leaseOwner = null;
+    }
+
+    public void markDead(Integer statusCode, String error) {
+        this.status = WebhookDeliveryStatus.DEAD;
+        this.attempts++;
+        this.lastStatusCode = statusCode;
+        this.lastError = truncate(error);
+        this.leaseOwner = null;
+    }
+
+    /**
+     * Moves a dead delivery back to the queue with a fresh set of attempts.
+     */
+    public void replay() {
+        this.status = WebhookDeliveryStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+        this.leaseOwner = null;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WebhookDelivery that = (WebhookDelivery) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookDelivery{" +
+                "id=" + id +
+                ", subscriptionId=" + subscriptionId +
+                ", outboxEventId=" + outboxEventId +
+                ", eventType='" + eventType + '\'' +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
@@ -0,0 +1,109 @@
+package com.vms.vendor_management_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * WebhookSubscription entity registering an HTTP endpoint for a set of outbox event types.
+ * Payloads are signed with the subscription's secret.
+ */
+@Entity
+@Table(name = "webhook_subscriptions")
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class WebhookSubscription {
+
+    public static final String ALL_EVENTS = "*";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;
+
+    @Column(name = "secret", nullable = false)
+    private String secret;
+
+    @Column(name = "event_types", nullable = false, length = 1000)
+    private String eventTypes = ALL_EVENTS;
+
+    @Column(name = "max_concurrency", nullable = false)
+    private Integer maxConcurrency = 2;
+
+    @Column(name = "max_batch_size", nullable = false)
+    private Integer maxBatchSize = 50;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public WebhookSubscription(String name, String url, String secret) {
+        this.name = name;
+        this.url = url;
+        this.secret = secret;
+    }
+
+    // Business methods
+    public Set<String> getEventTypeSet() {
+        return Arrays.stream(eventTypes.split(","))
+                .map(String::trim)
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public void changeEventTypes(Set<String> types) {
+        if (types == null || types.isEmpty()) {
+            throw new IllegalArgumentException("A webhook subscription needs at least one event type");
+        }
+        this.eventTypes = types.contains(ALL_EVENTS) ? ALL_EVENTS : String.join(",", types);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WebhookSubscription that = (WebhookSubscription) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookSubscription{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", url='" + url + '\'' +
+                ", eventTypes='" + eventTypes + '\'' +
+                ", isActive=" + isActive +
+                '}';
+    }
+}
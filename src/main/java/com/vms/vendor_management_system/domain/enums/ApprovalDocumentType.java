@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.domain.enums;
+
+/**
+ * Enum representing the documents routed through approval rules
+ */
+public enum ApprovalDocumentType {
+    PURCHASE_ORDER("Purchase Order"),
+    CONTRACT("Contract");
+
+    private final String displayName;
+
+    ApprovalDocumentType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
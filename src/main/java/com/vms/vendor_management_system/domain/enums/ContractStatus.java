@@ -0,0 +1,22 @@
+package com.vms.vendor_management_system.domain.enums;
+
+/**
+ * Enum representing the lifecycle of a contract
+ * DRAFT → ACTIVE → EXPIRED, or TERMINATED
+ */
+public enum ContractStatus {
+    DRAFT("Draft"),
+    ACTIVE("Active"),
+    EXPIRED("Expired"),
+    TERMINATED("Terminated");
+
+    private final String displayName;
+
+    ContractStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
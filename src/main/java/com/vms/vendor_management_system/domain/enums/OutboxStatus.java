@@ -0,0 +1,21 @@
+package com.vms.vendor_management_system.domain.enums;
+
+/**
+ * Enum representing the delivery state of an outbox event
+ * PENDING → PROCESSED, or FAILED once its retries are exhausted
+ */
+public enum OutboxStatus {
+    PENDING("Pending"),
+    PROCESSED("Processed"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    OutboxStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
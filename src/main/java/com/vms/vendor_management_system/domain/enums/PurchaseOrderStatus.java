@@ -0,0 +1,37 @@
+package com.vms.vendor_management_system.domain.enums;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Enum representing the lifecycle of a purchase order
+ * DRAFT → PENDING_APPROVAL → APPROVED → SENT → RECEIVED, or REJECTED / CANCELLED
+ */
+public enum PurchaseOrderStatus {
+    DRAFT("Draft"),
+    PENDING_APPROVAL("Pending Approval"),
+    APPROVED("Approved"),
+    REJECTED("Rejected"),
+    SENT("Sent"),
+    RECEIVED("Received"),
+    CANCELLED("Cancelled");
+
+    /**
+     * Statuses still moving through the workflow.
+     */
+    public static final Set<PurchaseOrderStatus> OPEN = EnumSet.of(DRAFT, PENDING_APPROVAL, APPROVED, SENT);
+
+    private final String displayName;
+
+    PurchaseOrderStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isOpen() {
+        return OPEN.contains(this);
+    }
+}
@@ -0,0 +1,21 @@
+package com.vms.vendor_management_system.domain.enums;
+
+/**
+ * Enum representing the state of one webhook delivery
+ * PENDING → DELIVERED, or DEAD once its retries are exhausted
+ */
+public enum WebhookDeliveryStatus {
+    PENDING("Pending"),
+    DELIVERED("Delivered"),
+    DEAD("Dead");
+
+    private final String displayName;
+
+    WebhookDeliveryStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
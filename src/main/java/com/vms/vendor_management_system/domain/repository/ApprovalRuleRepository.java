@@ -0,0 +1,19 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.ApprovalRule;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ApprovalRule entity
+ */
+@Repository
+public interface ApprovalRuleRepository extends JpaRepository<ApprovalRule, Long> {
+
+    List<ApprovalRule> findByIsActiveTrueOrderByPriorityAscIdAsc();
+
+    List<ApprovalRule> findByDocumentTypeOrderByPriorityAscIdAsc(ApprovalDocumentType documentType);
+}
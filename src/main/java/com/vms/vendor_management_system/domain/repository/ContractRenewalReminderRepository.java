@@ -0,0 +1,33 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.ContractRenewalReminder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for ContractRenewalReminder entity
+ */
+@Repository
+public interface ContractRenewalReminderRepository extends JpaRepository<ContractRenewalReminder, Long> {
+
+    List<ContractRenewalReminder> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime since, Pageable pageable);
+
+    List<ContractRenewalReminder> findByVendorIdOrderByCreatedAtDesc(Long vendorId);
+
+    // Returns 0 when the reminder was already emitted, also by another instance
+    @Modifying
+    @Query(value = "INSERT INTO contract_renewal_reminders (contract_id, vendor_id, horizon_days, contract_end_date, created_at) " +
+            "VALUES (:contractId, :vendorId, :horizonDays, :endDate, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("contractId") Long contractId,
+                       @Param("vendorId") Long vendorId,
+                       @Param("horizonDays") int horizonDays,
+                       @Param("endDate") LocalDate endDate);
+}
@@ -1,12 +1,16 @@
 package com.vms.vendor_management_system.domain.repository;
 
 import com.vms.vendor_management_system.domain.entity.Contract;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,21 +18,117 @@ import java.util.Optional;
  * Repository interface for {@link Contract}.
  */
 @Repository
-public interface ContractRepository extends JpaRepository<Contract, Long> {
+public interface ContractRepository extends JpaRepository<Contract, Long>, ContractRepositoryCustom {
+
+    // Columns copied between the live and archive tables
+    String ARCHIVE_COLUMNS = "id, contract_number, vendor_id, title, description, contract_value, currency, start_date, end_date," +
+            " contract_type, status, document_url, terms_and_conditions, created_by_user_id, approved_by_user_id, approved_at, renewal_terms, termination_clause, created_at, updated_at";
 
     Optional<Contract> findByContractNumber(String contractNumber);
 
     List<Contract> findByVendorId(Long vendorId);
 
     @Query("SELECT c FROM Contract c WHERE c.status = :status")
-    List<Contract> findByStatus(@Param("status") String status);
+    List<Contract> findByStatus(@Param("status") ContractStatus status);
 
     @Query("SELECT c FROM Contract c WHERE c.endDate BETWEEN :start AND :end")
     List<Contract> findContractsExpiringBetween(@Param("start") LocalDate start,
                                                 @Param("end") LocalDate end);
 
+    @Query("SELECT c FROM Contract c WHERE c.endDate BETWEEN :start AND :end ORDER BY c.endDate, c.id")
+    List<Contract> findContractsExpiringBetween(@Param("start") LocalDate start,
+                                                @Param("end") LocalDate end,
+                                                Pageable pageable);
+
+    // Served by idx_contracts_status_end_date
+    @Query("SELECT c.id FROM Contract c WHERE c.status = :status AND c.endDate < :date ORDER BY c.id")
+    List<Long> findIdsByStatusAndEndDateBefore(@Param("status") ContractStatus status,
+                                               @Param("date") LocalDate date,
+                                               Pageable pageable);
+
+    @Modifying
+    // Bulk updates bypass ChangeSequenceListener, so the rows are queued for the change sequencer here
+    @Query("UPDATE Contract c SET c.status = 'EXPIRED', c.updatedAt = CURRENT_TIMESTAMP, " +
+            "c.changeSeq = NULL WHERE c.id IN :ids AND c.status = 'ACTIVE'")
+    int expireActive(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Rows of [contract id, vendor id, vendor name, department id, department name, end date]
+     * for active contracts ending in the range.
+     */
+    @Query("SELECT c.id, v.id, v.companyName, d.id, d.name, c.endDate FROM Contract c JOIN c.vendor v " +
+            "LEFT JOIN c.createdBy u LEFT JOIN u.department d " +
+            "WHERE c.status = 'ACTIVE' AND c.endDate BETWEEN :start AND :end")
+    List<Object[]> findActiveExpiryRowsBetween(@Param("start") LocalDate start,
+                                               @Param("end") LocalDate end);
+
+    /**
+     * Rows of [currency, total contract value, contract count]; contracts without a currency use their vendor's default.
+     */
+    @Query("SELECT COALESCE(NULLIF(c.currency, ''), v.defaultCurrency), SUM(c.contractValue), COUNT(c) FROM Contract c JOIN c.vendor v " +
+            "WHERE c.status IN :statuses GROUP BY COALESCE(NULLIF(c.currency, ''), v.defaultCurrency)")
+    List<Object[]> sumContractValueByCurrency(@Param("statuses") Collection<ContractStatus> statuses);
+
     @Query("SELECT COUNT(c) FROM Contract c WHERE c.vendor.id = :vendorId AND c.status = 'ACTIVE'")
     long countActiveContractsForVendor(@Param("vendorId") Long vendorId);
-}
 
+    /**
+     * Rows of [status, currency, contract count, total contract value, earliest end date] of one vendor.
+     */
+    @Query("SELECT c.status, COALESCE(NULLIF(c.currency, ''), v.defaultCurrency), COUNT(c), SUM(c.contractValue), MIN(c.endDate) " +
+            "FROM Contract c JOIN c.vendor v WHERE v.id = :vendorId " +
+            "GROUP BY c.status, COALESCE(NULLIF(c.currency, ''), v.defaultCurrency)")
+    List<Object[]> summarizeForVendor(@Param("vendorId") Long vendorId);
 
+    /**
+     * Rows of [status, count] in one GROUP BY; each filter is ignored when null.
+     */
+    @Query("SELECT c.status, COUNT(c) FROM Contract c JOIN c.vendor v LEFT JOIN v.category vc " +
+            "LEFT JOIN c.createdBy u LEFT JOIN u.department d " +
+            "WHERE (:departmentId IS NULL OR d.id = :departmentId) " +
+            "AND (:categoryId IS NULL OR vc.id = :categoryId) AND (:vendorId IS NULL OR v.id = :vendorId) " +
+            "GROUP BY c.status")
+    List<Object[]> countGroupedByStatus(@Param("departmentId") Long departmentId,
+                                        @Param("categoryId") Long categoryId,
+                                        @Param("vendorId") Long vendorId);
+
+    @Query("SELECT c.id FROM Contract c WHERE c.status IN :statuses AND c.endDate < :cutoff ORDER BY c.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<ContractStatus> statuses,
+                                 @Param("cutoff") LocalDate cutoff,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO contracts_archive (" + ARCHIVE_COLUMNS + ", archived_at) " +
+            "SELECT " + ARCHIVE_COLUMNS + ", CURRENT_TIMESTAMP FROM contracts WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    // Renewal reminders of the deleted contracts go with them (ON DELETE CASCADE)
+    @Modifying
+    @Query("DELETE FROM Contract c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Rows of [status, currency, contract count, total contract value, null] of one vendor's archived contracts,
+     * as {@link #summarizeForVendor}.
+     */
+    @Query(value = "SELECT a.status, COALESCE(NULLIF(a.currency, ''), v.default_currency), COUNT(*), SUM(a.contract_value), NULL " +
+            "FROM contracts_archive a JOIN vendors v ON v.id = a.vendor_id WHERE a.vendor_id = :vendorId " +
+            "GROUP BY a.status, COALESCE(NULLIF(a.currency, ''), v.default_currency)", nativeQuery = true)
+    List<Object[]> summarizeArchivedForVendor(@Param("vendorId") Long vendorId);
+
+    /**
+     * Rows of [status, count] of archived contracts, as {@link #countGroupedByStatus}.
+     */
+    @Query(value = "SELECT a.status, COUNT(*) FROM contracts_archive a JOIN vendors v ON v.id = a.vendor_id " +
+            "LEFT JOIN users u ON u.id = a.created_by_user_id " +
+            "WHERE (CAST(:departmentId AS BIGINT) IS NULL OR u.department_id = :departmentId) " +
+            "AND (CAST(:categoryId AS BIGINT) IS NULL OR v.category_id = :categoryId) " +
+            "AND (CAST(:vendorId AS BIGINT) IS NULL OR a.vendor_id = :vendorId) " +
+            "GROUP BY a.status", nativeQuery = true)
+    List<Object[]> countArchivedGroupedByStatus(@Param("departmentId") Long departmentId,
+                                                @Param("categoryId") Long categoryId,
+                                                @Param("vendorId") Long vendorId);
+
+    // Change feed page, served by idx_contracts_change_seq
+    List<Contract> findByChangeSeqGreaterThanOrderByChangeSeq(Long changeSeq, Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.Contract;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads of contracts moved to the archive table
+ */
+public interface ContractRepositoryCustom {
+
+    /**
+     * The archived contract as a detached entity for reading; it is not managed and must never be saved.
+     */
+    Optional<Contract> findArchivedById(Long id);
+
+    /**
+     * Archived contracts of the vendor as detached entities, earliest ending first.
+     */
+    List<Contract> findArchivedByVendorId(Long vendorId);
+}
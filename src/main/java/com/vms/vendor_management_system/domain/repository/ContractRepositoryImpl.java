@@ -0,0 +1,77 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.Contract;
+import com.vms.vendor_management_system.domain.entity.User;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of {@link ContractRepositoryCustom}; vendor and users are entity references,
+ * loaded like those of a live contract when first read.
+ */
+class ContractRepositoryImpl implements ContractRepositoryCustom {
+
+    private static final String SELECT_SQL = "SELECT " + ContractRepository.ARCHIVE_COLUMNS + " FROM contracts_archive";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    ContractRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Contract> findArchivedById(Long id) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id = ?", archivedContract(), id).stream().findFirst();
+    }
+
+    @Override
+    public List<Contract> findArchivedByVendorId(Long vendorId) {
+        // Served by idx_contracts_archive_vendor
+        return jdbcTemplate.query(SELECT_SQL + " WHERE vendor_id = ? ORDER BY end_date, id", archivedContract(), vendorId);
+    }
+
+    private RowMapper<Contract> archivedContract() {
+        return (rs, rowNum) -> {
+            Contract contract = new Contract(
+                    rs.getString("contract_number"),
+                    entityManager.getReference(Vendor.class, rs.getLong("vendor_id")),
+                    rs.getString("title"),
+                    rs.getObject("start_date", LocalDate.class),
+                    rs.getObject("end_date", LocalDate.class),
+                    userReference(rs, "created_by_user_id"));
+            contract.setId(rs.getLong("id"));
+            contract.setDescription(rs.getString("description"));
+            contract.setContractValue(rs.getObject("contract_value", BigDecimal.class));
+            contract.setCurrency(rs.getString("currency"));
+            contract.setContractType(rs.getString("contract_type"));
+            contract.setStatus(ContractStatus.valueOf(rs.getString("status")));
+            contract.setDocumentUrl(rs.getString("document_url"));
+            contract.setTermsAndConditions(rs.getString("terms_and_conditions"));
+            contract.setApprovedBy(userReference(rs, "approved_by_user_id"));
+            contract.setApprovedAt(rs.getObject("approved_at", LocalDateTime.class));
+            contract.setRenewalTerms(rs.getString("renewal_terms"));
+            contract.setTerminationClause(rs.getString("termination_clause"));
+            contract.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+            contract.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+            return contract;
+        };
+    }
+
+    private User userReference(ResultSet rs, String column) throws SQLException {
+        Long userId = rs.getObject(column, Long.class);
+        return userId != null ? entityManager.getReference(User.class, userId) : null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.DepartmentBudget;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for DepartmentBudget entity
+ */
+@Repository
+public interface DepartmentBudgetRepository extends JpaRepository<DepartmentBudget, Long> {
+
+    List<DepartmentBudget> findByDepartmentIdOrderByPeriodStart(Long departmentId);
+
+    @Query("SELECT b FROM DepartmentBudget b JOIN FETCH b.department")
+    List<DepartmentBudget> findAllWithDepartment();
+
+    @Query("SELECT COUNT(b) > 0 FROM DepartmentBudget b WHERE b.department.id = :departmentId " +
+            "AND b.periodStart <= :end AND b.periodEnd >= :start AND (:excludeId IS NULL OR b.id <> :excludeId)")
+    boolean existsOverlapping(@Param("departmentId") Long departmentId,
+                              @Param("start") LocalDate start,
+                              @Param("end") LocalDate end,
+                              @Param("excludeId") Long excludeId);
+
+    /**
+     * Rows of [purchase order id, budget id, status, currency, total amount] for the orders that
+     * count against a budget in one of the statuses.
+     */
+    @Query("SELECT po.id, b.id, po.status, COALESCE(NULLIF(po.currency, ''), v.defaultCurrency), po.totalAmount " +
+            "FROM PurchaseOrder po JOIN po.vendor v JOIN po.createdBy u, DepartmentBudget b " +
+            "WHERE b.department = u.department AND po.orderDate BETWEEN b.periodStart AND b.periodEnd " +
+            "AND po.status IN :statuses")
+    List<Object[]> findBudgetedOrders(@Param("statuses") Collection<PurchaseOrderStatus> statuses);
+
+    /**
+     * Rows of [budget id, currency, total amount] of orders in the statuses, grouped per budget and currency.
+     */
+    @Query("SELECT b.id, COALESCE(NULLIF(po.currency, ''), v.defaultCurrency), SUM(po.totalAmount) " +
+            "FROM PurchaseOrder po JOIN po.vendor v JOIN po.createdBy u, DepartmentBudget b " +
+            "WHERE b.department = u.department AND po.orderDate BETWEEN b.periodStart AND b.periodEnd " +
+            "AND po.status IN :statuses GROUP BY b.id, COALESCE(NULLIF(po.currency, ''), v.defaultCurrency)")
+    List<Object[]> sumBudgetedOrders(@Param("statuses") Collection<PurchaseOrderStatus> statuses);
+}
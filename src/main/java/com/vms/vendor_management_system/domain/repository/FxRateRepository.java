@@ -0,0 +1,18 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.FxRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for FxRate entity
+ */
+@Repository
+public interface FxRateRepository extends JpaRepository<FxRate, Long> {
+
+    @Modifying
+    @Query("DELETE FROM FxRate r")
+    int deleteAllRates();
+}
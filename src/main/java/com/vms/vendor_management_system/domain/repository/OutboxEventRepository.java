@@ -0,0 +1,47 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.OutboxEvent;
+import com.vms.vendor_management_system.domain.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link OutboxEvent}.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Served by idx_outbox_events_status_available
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = 'PENDING' AND e.availableAt <= :now ORDER BY e.availableAt, e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Leases due events to one dispatcher batch by pushing their availability past the lease;
+     * events another dispatcher claimed in the meantime are skipped.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.leaseOwner = :owner, e.availableAt = :leaseUntil " +
+            "WHERE e.id IN :ids AND e.status = 'PENDING' AND e.availableAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<OutboxEvent> findByLeaseOwnerAndIdInOrderById(String leaseOwner, Collection<Long> ids);
+
+    List<OutboxEvent> findByStatusOrderByIdDesc(OutboxStatus status, Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'PROCESSED' AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
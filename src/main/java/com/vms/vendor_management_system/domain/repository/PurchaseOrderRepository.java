@@ -1,13 +1,17 @@
 package com.vms.vendor_management_system.domain.repository;
 
 import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +19,11 @@ import java.util.Optional;
  * Repository interface for {@link PurchaseOrder}.
  */
 @Repository
-public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Long> {
+public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Long>, PurchaseOrderRepositoryCustom {
+
+    // Columns copied between the live and archive tables
+    String ARCHIVE_COLUMNS = "id, po_number, vendor_id, description, total_amount, currency, order_date, expected_delivery_date, status," +
+            " approval_threshold, created_by_user_id, approved_by_user_id, approved_at, rejection_reason, delivery_address, payment_terms, notes, created_at, updated_at";
 
     Optional<PurchaseOrder> findByPoNumber(String poNumber);
 
@@ -24,7 +32,13 @@ public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Lo
     List<PurchaseOrder> findByCreatedById(Long userId);
 
     @Query("SELECT po FROM PurchaseOrder po WHERE po.status = :status")
-    List<PurchaseOrder> findByStatus(@Param("status") String status);
+    List<PurchaseOrder> findByStatus(@Param("status") PurchaseOrderStatus status);
+
+    /**
+     * Oldest orders of a status first, read in (status, created_at) index order.
+     */
+    @Query("SELECT po FROM PurchaseOrder po WHERE po.status = :status ORDER BY po.createdAt ASC, po.id ASC")
+    List<PurchaseOrder> findQueueByStatus(@Param("status") PurchaseOrderStatus status, Pageable pageable);
 
     @Query("SELECT po FROM PurchaseOrder po WHERE po.orderDate BETWEEN :start AND :end")
     List<PurchaseOrder> findByOrderDateRange(@Param("start") LocalDate start,
@@ -33,8 +47,89 @@ public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, Lo
     @Query("SELECT po FROM PurchaseOrder po WHERE po.totalAmount >= :threshold")
     List<PurchaseOrder> findRequiringApproval(@Param("threshold") BigDecimal threshold);
 
+    /**
+     * Rows of [currency, total amount, order count]; orders without a currency use their vendor's default.
+     */
+    @Query("SELECT COALESCE(NULLIF(po.currency, ''), v.defaultCurrency), SUM(po.totalAmount), COUNT(po) FROM PurchaseOrder po JOIN po.vendor v " +
+            "WHERE po.status IN :statuses AND po.orderDate >= :from GROUP BY COALESCE(NULLIF(po.currency, ''), v.defaultCurrency)")
+    List<Object[]> sumTotalAmountByCurrency(@Param("statuses") Collection<PurchaseOrderStatus> statuses,
+                                            @Param("from") LocalDate from);
+
     @Query("SELECT COUNT(po) FROM PurchaseOrder po WHERE po.vendor.id = :vendorId AND po.status = 'APPROVED'")
     long countApprovedForVendor(@Param("vendorId") Long vendorId);
-}
 
+    /**
+     * Rows of [status, currency, order count, total amount, latest order date] of one vendor.
+     */
+    @Query("SELECT po.status, COALESCE(NULLIF(po.currency, ''), v.defaultCurrency), COUNT(po), SUM(po.totalAmount), MAX(po.orderDate) " +
+            "FROM PurchaseOrder po JOIN po.vendor v WHERE v.id = :vendorId " +
+            "GROUP BY po.status, COALESCE(NULLIF(po.currency, ''), v.defaultCurrency)")
+    List<Object[]> summarizeForVendor(@Param("vendorId") Long vendorId);
+
+    /**
+     * Rows of [status, count] in one GROUP BY; each filter is ignored when null.
+     */
+    @Query("SELECT po.status, COUNT(po) FROM PurchaseOrder po JOIN po.vendor v LEFT JOIN v.category c " +
+            "LEFT JOIN po.createdBy u LEFT JOIN u.department d " +
+            "WHERE (:departmentId IS NULL OR d.id = :departmentId) " +
+            "AND (:categoryId IS NULL OR c.id = :categoryId) AND (:vendorId IS NULL OR v.id = :vendorId) " +
+            "GROUP BY po.status")
+    List<Object[]> countGroupedByStatus(@Param("departmentId") Long departmentId,
+                                        @Param("categoryId") Long categoryId,
+                                        @Param("vendorId") Long vendorId);
+
+    /**
+     * Ids of orders in the given statuses ordered before the cutoff, skipping orders that a
+     * department budget covering today or later still counts.
+     */
+    @Query("SELECT po.id FROM PurchaseOrder po WHERE po.status IN :statuses AND po.orderDate < :cutoff " +
+            "AND NOT EXISTS (SELECT b.id FROM DepartmentBudget b WHERE b.periodEnd >= :today " +
+            "AND po.orderDate BETWEEN b.periodStart AND b.periodEnd) ORDER BY po.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<PurchaseOrderStatus> statuses,
+                                 @Param("cutoff") LocalDate cutoff,
+                                 @Param("today") LocalDate today,
+                                 Pageable pageable);
 
+    @Modifying
+    @Query(value = "INSERT INTO purchase_orders_archive (" + ARCHIVE_COLUMNS + ", archived_at) " +
+            "SELECT " + ARCHIVE_COLUMNS + ", CURRENT_TIMESTAMP FROM purchase_orders WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM PurchaseOrder po WHERE po.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Rows of [currency, total amount, order count] of archived orders, as {@link #sumTotalAmountByCurrency}.
+     */
+    @Query(value = "SELECT COALESCE(NULLIF(a.currency, ''), v.default_currency), SUM(a.total_amount), COUNT(*) " +
+            "FROM purchase_orders_archive a JOIN vendors v ON v.id = a.vendor_id " +
+            "WHERE a.status IN (:statuses) AND a.order_date >= :from " +
+            "GROUP BY COALESCE(NULLIF(a.currency, ''), v.default_currency)", nativeQuery = true)
+    List<Object[]> sumArchivedTotalAmountByCurrency(@Param("statuses") Collection<String> statuses,
+                                                    @Param("from") LocalDate from);
+
+    /**
+     * Rows of [status, currency, order count, total amount, null] of one vendor's archived orders, as {@link #summarizeForVendor}.
+     */
+    @Query(value = "SELECT a.status, COALESCE(NULLIF(a.currency, ''), v.default_currency), COUNT(*), SUM(a.total_amount), NULL " +
+            "FROM purchase_orders_archive a JOIN vendors v ON v.id = a.vendor_id WHERE a.vendor_id = :vendorId " +
+            "GROUP BY a.status, COALESCE(NULLIF(a.currency, ''), v.default_currency)", nativeQuery = true)
+    List<Object[]> summarizeArchivedForVendor(@Param("vendorId") Long vendorId);
+
+    /**
+     * Rows of [status, count] of archived orders, as {@link #countGroupedByStatus}.
+     */
+    @Query(value = "SELECT a.status, COUNT(*) FROM purchase_orders_archive a JOIN vendors v ON v.id = a.vendor_id " +
+            "LEFT JOIN users u ON u.id = a.created_by_user_id " +
+            "WHERE (CAST(:departmentId AS BIGINT) IS NULL OR u.department_id = :departmentId) " +
+            "AND (CAST(:categoryId AS BIGINT) IS NULL OR v.category_id = :categoryId) " +
+            "AND (CAST(:vendorId AS BIGINT) IS NULL OR a.vendor_id = :vendorId) " +
+            "GROUP BY a.status", nativeQuery = true)
+    List<Object[]> countArchivedGroupedByStatus(@Param("departmentId") Long departmentId,
+                                                @Param("categoryId") Long categoryId,
+                                                @Param("vendorId") Long vendorId);
+
+    // Change feed page, served by idx_purchase_orders_change_seq
+    List<PurchaseOrder> findByChangeSeqGreaterThanOrderByChangeSeq(Long changeSeq, Pageable pageable);
+}
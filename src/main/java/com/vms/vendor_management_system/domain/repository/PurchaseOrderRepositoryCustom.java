@@ -0,0 +1,22 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads of purchase orders moved to the archive table
+ */
+public interface PurchaseOrderRepositoryCustom {
+
+    /**
+     * The archived order as a detached entity for reading; it is not managed and must never be saved.
+     */
+    Optional<PurchaseOrder> findArchivedById(Long id);
+
+    /**
+     * Archived orders of the vendor as detached entities, oldest first.
+     */
+    List<PurchaseOrder> findArchivedByVendorId(Long vendorId);
+}
@@ -0,0 +1,77 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.entity.User;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of {@link PurchaseOrderRepositoryCustom}; vendor and users are entity references,
+ * loaded like those of a live order when first read.
+ */
+class PurchaseOrderRepositoryImpl implements PurchaseOrderRepositoryCustom {
+
+    private static final String SELECT_SQL = "SELECT " + PurchaseOrderRepository.ARCHIVE_COLUMNS
+            + " FROM purchase_orders_archive";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    PurchaseOrderRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<PurchaseOrder> findArchivedById(Long id) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id = ?", archivedOrder(), id).stream().findFirst();
+    }
+
+    @Override
+    public List<PurchaseOrder> findArchivedByVendorId(Long vendorId) {
+        // Served by idx_purchase_orders_archive_vendor
+        return jdbcTemplate.query(SELECT_SQL + " WHERE vendor_id = ? ORDER BY order_date, id", archivedOrder(), vendorId);
+    }
+
+    private RowMapper<PurchaseOrder> archivedOrder() {
+        return (rs, rowNum) -> {
+            PurchaseOrder purchaseOrder = new PurchaseOrder(
+                    rs.getString("po_number"),
+                    entityManager.getReference(Vendor.class, rs.getLong("vendor_id")),
+                    rs.getString("description"),
+                    rs.getBigDecimal("total_amount"),
+                    rs.getObject("order_date", LocalDate.class),
+                    userReference(rs, "created_by_user_id"));
+            purchaseOrder.setId(rs.getLong("id"));
+            purchaseOrder.setCurrency(rs.getString("currency"));
+            purchaseOrder.setExpectedDeliveryDate(rs.getObject("expected_delivery_date", LocalDate.class));
+            purchaseOrder.setStatus(PurchaseOrderStatus.valueOf(rs.getString("status")));
+            purchaseOrder.setApprovalThreshold(rs.getObject("approval_threshold", BigDecimal.class));
+            purchaseOrder.setApprovedBy(userReference(rs, "approved_by_user_id"));
+            purchaseOrder.setApprovedAt(rs.getObject("approved_at", LocalDateTime.class));
+            purchaseOrder.setRejectionReason(rs.getString("rejection_reason"));
+            purchaseOrder.setDeliveryAddress(rs.getString("delivery_address"));
+            purchaseOrder.setPaymentTerms(rs.getString("payment_terms"));
+            purchaseOrder.setNotes(rs.getString("notes"));
+            purchaseOrder.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+            purchaseOrder.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+            return purchaseOrder;
+        };
+    }
+
+    private User userReference(ResultSet rs, String column) throws SQLException {
+        Long userId = rs.getObject(column, Long.class);
+        return userId != null ? entityManager.getReference(User.class, userId) : null;
+    }
+}
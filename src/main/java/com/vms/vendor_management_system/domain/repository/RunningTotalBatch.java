@@ -0,0 +1,50 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batched form of the running-total upsert used for rating totals: add the deltas, create the rows
+ * that did not exist yet (ignoring conflicts with concurrent writers) and add those deltas again.
+ */
+final class RunningTotalBatch {
+
+    private static final int BATCH_SIZE = 500;
+
+    private RunningTotalBatch() {
+    }
+
+    static <T> void apply(JdbcTemplate jdbcTemplate, List<T> deltas,
+                          String updateSql, ParameterizedPreparedStatementSetter<T> updateSetter,
+                          String insertSql, ParameterizedPreparedStatementSetter<T> insertSetter) {
+        List<T> missing = updateAll(jdbcTemplate, deltas, updateSql, updateSetter);
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertSql, missing, BATCH_SIZE, insertSetter);
+        List<T> stillMissing = updateAll(jdbcTemplate, missing, updateSql, updateSetter);
+        if (!stillMissing.isEmpty()) {
+            throw new IllegalStateException(stillMissing.size() + " running totals could not be created");
+        }
+    }
+
+    private static <T> List<T> updateAll(JdbcTemplate jdbcTemplate, List<T> deltas,
+                                         String updateSql, ParameterizedPreparedStatementSetter<T> updateSetter) {
+        int[][] counts = jdbcTemplate.batchUpdate(updateSql, deltas, BATCH_SIZE, updateSetter);
+        List<T> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for batched statements; only 0 means no row matched
+                if (count == 0) {
+                    missing.add(deltas.get(index));
+                }
+                index++;
+            }
+        }
+        return missing;
+    }
+}
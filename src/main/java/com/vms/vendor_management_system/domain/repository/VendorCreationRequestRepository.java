@@ -2,6 +2,7 @@ package com.vms.vendor_management_system.domain.repository;
 
 import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
 import com.vms.vendor_management_system.domain.enums.RequestStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -44,4 +45,25 @@ public interface VendorCreationRequestRepository extends JpaRepository<VendorCre
     
     @Query("SELECT vcr FROM VendorCreationRequest vcr WHERE vcr.vendor.id = :vendorId AND vcr.status = 'ACTIVE' ORDER BY vcr.createdAt DESC")
     List<VendorCreationRequest> findByVendorId(@Param("vendorId") Long vendorId);
+
+    /**
+     * Rows of [id, request number, status, department id, department name, created at] of the requests that produced a vendor, oldest first.
+     */
+    @Query("SELECT vcr.id, vcr.requestNumber, vcr.status, d.id, d.name, vcr.createdAt FROM VendorCreationRequest vcr " +
+            "JOIN vcr.requestingDepartment d WHERE vcr.vendor.id = :vendorId ORDER BY vcr.createdAt ASC, vcr.id ASC")
+    List<Object[]> findOriginRowsByVendorId(@Param("vendorId") Long vendorId, Pageable pageable);
+
+    /**
+     * Rows of [status, count] in one GROUP BY; each filter is ignored when null.
+     */
+    @Query("SELECT vcr.status, COUNT(vcr) FROM VendorCreationRequest vcr LEFT JOIN vcr.category c LEFT JOIN vcr.vendor v " +
+            "WHERE (:departmentId IS NULL OR vcr.requestingDepartment.id = :departmentId) " +
+            "AND (:categoryId IS NULL OR c.id = :categoryId) AND (:vendorId IS NULL OR v.id = :vendorId) " +
+            "GROUP BY vcr.status")
+    List<Object[]> countGroupedByStatus(@Param("departmentId") Long departmentId,
+                                        @Param("categoryId") Long categoryId,
+                                        @Param("vendorId") Long vendorId);
+
+    // Change feed page, served by idx_vendor_requests_change_seq
+    List<VendorCreationRequest> findByChangeSeqGreaterThanOrderByChangeSeq(Long changeSeq, Pageable pageable);
 }
@@ -13,7 +13,7 @@ import java.util.List;
  * Repository interface for {@link VendorRating}.
  */
 @Repository
-public interface VendorRatingRepository extends JpaRepository<VendorRating, Long> {
+public interface VendorRatingRepository extends JpaRepository<VendorRating, Long>, VendorRatingRepositoryCustom {
 
     List<VendorRating> findByVendorId(Long vendorId);
 
@@ -24,6 +24,10 @@ public interface VendorRatingRepository extends JpaRepository<VendorRating, Long
                                              @Param("start") LocalDateTime start,
                                              @Param("end") LocalDateTime end);
 
+    /**
+     * @deprecated aggregates every rating per call; scores are served precomputed by VendorScorecardService
+     */
+    @Deprecated
     @Query("SELECT AVG(vr.score) FROM VendorRating vr WHERE vr.vendor.id = :vendorId")
     Double calculateAverageScore(@Param("vendorId") Long vendorId);
 }
@@ -0,0 +1,16 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.VendorRating;
+
+import java.util.List;
+
+/**
+ * Bulk operations on vendor ratings that bypass the persistence context
+ */
+public interface VendorRatingRepositoryCustom {
+
+    /**
+     * Inserts new, unmanaged ratings in JDBC batches; the entities do not receive their ids.
+     */
+    int insertAll(List<VendorRating> ratings);
+}
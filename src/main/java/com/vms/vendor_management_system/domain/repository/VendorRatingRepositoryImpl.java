@@ -0,0 +1,54 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.VendorRating;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link VendorRatingRepositoryCustom}; identity ids rule out Hibernate insert batching.
+ */
+class VendorRatingRepositoryImpl implements VendorRatingRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO vendor_ratings (vendor_id, criteria_id, score, comments, evidence_url, " +
+            "rated_by_user_id, rating_period_start, rating_period_end, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    VendorRatingRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertAll(List<VendorRating> ratings) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, ratings, BATCH_SIZE, (statement, rating) -> {
+            statement.setLong(1, rating.getVendor().getId());
+            statement.setLong(2, rating.getCriteria().getId());
+            statement.setInt(3, rating.getScore());
+            statement.setString(4, rating.getComments());
+            statement.setString(5, rating.getEvidenceUrl());
+            statement.setLong(6, rating.getRatedBy().getId());
+            setTimestamp(statement, 7, rating.getRatingPeriodStart());
+            setTimestamp(statement, 8, rating.getRatingPeriodEnd());
+            statement.setTimestamp(9, rating.getCreatedAt() != null ? Timestamp.valueOf(rating.getCreatedAt()) : now);
+            statement.setTimestamp(10, now);
+        });
+        return ratings.size();
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, LocalDateTime value) throws SQLException {
+        if (value != null) {
+            statement.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            statement.setNull(index, Types.TIMESTAMP);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.VendorRatingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for VendorRatingRollup entity
+ */
+@Repository
+public interface VendorRatingRollupRepository extends JpaRepository<VendorRatingRollup, Long>, VendorRatingRollupRepositoryCustom {
+
+    List<VendorRatingRollup> findByVendorIdAndBucketMonthBetweenOrderByBucketMonth(Long vendorId, Integer fromBucket, Integer toBucket);
+
+    List<VendorRatingRollup> findByVendorIdAndCriteriaIdAndBucketMonthBetweenOrderByBucketMonth(Long vendorId, Long criteriaId,
+                                                                                               Integer fromBucket, Integer toBucket);
+
+    @Modifying
+    @Query("UPDATE VendorRatingRollup r SET r.ratingCount = r.ratingCount + :countDelta, r.scoreSum = r.scoreSum + :scoreDelta, " +
+            "r.updatedAt = CURRENT_TIMESTAMP WHERE r.vendorId = :vendorId AND r.criteriaId = :criteriaId AND r.bucketMonth = :bucketMonth")
+    int applyDelta(@Param("vendorId") Long vendorId,
+                   @Param("criteriaId") Long criteriaId,
+                   @Param("bucketMonth") Integer bucketMonth,
+                   @Param("countDelta") long countDelta,
+                   @Param("scoreDelta") long scoreDelta);
+
+    @Modifying
+    @Query(value = "INSERT INTO vendor_rating_monthly_rollups (vendor_id, criteria_id, bucket_month, rating_count, score_sum, updated_at) " +
+            "VALUES (:vendorId, :criteriaId, :bucketMonth, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("vendorId") Long vendorId,
+                       @Param("criteriaId") Long criteriaId,
+                       @Param("bucketMonth") Integer bucketMonth);
+}
@@ -0,0 +1,16 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.valueobjects.RatingDelta;
+
+import java.util.List;
+
+/**
+ * Bulk operations on the monthly rating rollups
+ */
+public interface VendorRatingRollupRepositoryCustom {
+
+    /**
+     * Adds many deltas to one month bucket in JDBC batches, creating missing rows; at most one delta per pair.
+     */
+    void applyDeltas(int bucketMonth, List<RatingDelta> deltas);
+}
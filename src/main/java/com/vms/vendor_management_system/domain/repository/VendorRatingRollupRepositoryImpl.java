@@ -0,0 +1,40 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.valueobjects.RatingDelta;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link VendorRatingRollupRepositoryCustom}.
+ */
+class VendorRatingRollupRepositoryImpl implements VendorRatingRollupRepositoryCustom {
+
+    private static final String UPDATE_SQL = "UPDATE vendor_rating_monthly_rollups SET rating_count = rating_count + ?, " +
+            "score_sum = score_sum + ?, updated_at = CURRENT_TIMESTAMP WHERE vendor_id = ? AND criteria_id = ? AND bucket_month = ?";
+    private static final String INSERT_SQL = "INSERT INTO vendor_rating_monthly_rollups (vendor_id, criteria_id, bucket_month, " +
+            "rating_count, score_sum, updated_at) VALUES (?, ?, ?, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    VendorRatingRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(int bucketMonth, List<RatingDelta> deltas) {
+        RunningTotalBatch.apply(jdbcTemplate, deltas,
+                UPDATE_SQL, (statement, delta) -> {
+                    statement.setLong(1, delta.countDelta());
+                    statement.setLong(2, delta.scoreDelta());
+                    statement.setLong(3, delta.vendorId());
+                    statement.setLong(4, delta.criteriaId());
+                    statement.setInt(5, bucketMonth);
+                },
+                INSERT_SQL, (statement, delta) -> {
+                    statement.setLong(1, delta.vendorId());
+                    statement.setLong(2, delta.criteriaId());
+                    statement.setInt(3, bucketMonth);
+                });
+    }
+}
@@ -47,4 +47,19 @@ public interface VendorRepository extends JpaRepository<Vendor, Long> {
     boolean existsByVendorCode(String vendorCode);
     
     boolean existsByEmailValue(String email);
+
+    /**
+     * Rows of [status, count] in one GROUP BY; each filter is ignored when null.
+     */
+    @Query("SELECT v.status, COUNT(v) FROM Vendor v LEFT JOIN v.category c " +
+            "WHERE (:categoryId IS NULL OR c.id = :categoryId) AND (:vendorId IS NULL OR v.id = :vendorId) " +
+            "AND (:departmentId IS NULL OR EXISTS (SELECT r.id FROM VendorCreationRequest r " +
+            "WHERE r.vendor = v AND r.requestingDepartment.id = :departmentId)) " +
+            "GROUP BY v.status")
+    List<Object[]> countGroupedByStatus(@Param("departmentId") Long departmentId,
+                                        @Param("categoryId") Long categoryId,
+                                        @Param("vendorId") Long vendorId);
+
+    // Change feed page, served by idx_vendors_change_seq
+    List<Vendor> findByChangeSeqGreaterThanOrderByChangeSeq(Long changeSeq, Pageable pageable);
 }
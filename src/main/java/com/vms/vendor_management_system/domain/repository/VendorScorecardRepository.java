@@ -0,0 +1,50 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.VendorScorecard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for VendorScorecard entity
+ */
+@Repository
+public interface VendorScorecardRepository extends JpaRepository<VendorScorecard, Long>, VendorScorecardRepositoryCustom {
+
+    List<VendorScorecard> findByVendorIdIn(Collection<Long> vendorIds);
+
+    @Query("SELECT DISTINCT s.vendorId FROM VendorScorecard s")
+    List<Long> findAllVendorIds();
+
+    @Query("SELECT DISTINCT s.vendorId FROM VendorScorecard s WHERE s.criteriaId = :criteriaId")
+    List<Long> findVendorIdsByCriteriaId(@Param("criteriaId") Long criteriaId);
+
+    @Modifying
+    @Query("UPDATE VendorScorecard s SET s.ratingCount = s.ratingCount + :countDelta, s.scoreSum = s.scoreSum + :scoreDelta, " +
+            "s.updatedAt = CURRENT_TIMESTAMP WHERE s.vendorId = :vendorId AND s.criteriaId = :criteriaId")
+    int applyDelta(@Param("vendorId") Long vendorId,
+                   @Param("criteriaId") Long criteriaId,
+                   @Param("countDelta") long countDelta,
+                   @Param("scoreDelta") long scoreDelta);
+
+    // Safe under concurrent first ratings: the loser of the race simply inserts nothing
+    @Modifying
+    @Query(value = "INSERT INTO vendor_scorecards (vendor_id, criteria_id, rating_count, score_sum, updated_at) " +
+            "VALUES (:vendorId, :criteriaId, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("vendorId") Long vendorId, @Param("criteriaId") Long criteriaId);
+
+    @Modifying
+    @Query(value = "DELETE FROM vendor_scorecards", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO vendor_scorecards (vendor_id, criteria_id, rating_count, score_sum, updated_at) " +
+            "SELECT vendor_id, criteria_id, COUNT(*), SUM(score), CURRENT_TIMESTAMP FROM vendor_ratings " +
+            "GROUP BY vendor_id, criteria_id", nativeQuery = true)
+    int insertFromRatings();
+}
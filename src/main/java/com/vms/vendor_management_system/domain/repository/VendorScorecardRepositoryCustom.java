@@ -0,0 +1,16 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.valueobjects.RatingDelta;
+
+import java.util.List;
+
+/**
+ * Bulk operations on the running scorecard totals
+ */
+public interface VendorScorecardRepositoryCustom {
+
+    /**
+     * Adds many deltas in JDBC batches, creating missing (vendor, criteria) rows; at most one delta per pair.
+     */
+    void applyDeltas(List<RatingDelta> deltas);
+}
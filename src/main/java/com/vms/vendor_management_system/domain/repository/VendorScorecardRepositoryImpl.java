@@ -0,0 +1,38 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.valueobjects.RatingDelta;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link VendorScorecardRepositoryCustom}.
+ */
+class VendorScorecardRepositoryImpl implements VendorScorecardRepositoryCustom {
+
+    private static final String UPDATE_SQL = "UPDATE vendor_scorecards SET rating_count = rating_count + ?, " +
+            "score_sum = score_sum + ?, updated_at = CURRENT_TIMESTAMP WHERE vendor_id = ? AND criteria_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO vendor_scorecards (vendor_id, criteria_id, rating_count, score_sum, updated_at) " +
+            "VALUES (?, ?, 0, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    VendorScorecardRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(List<RatingDelta> deltas) {
+        RunningTotalBatch.apply(jdbcTemplate, deltas,
+                UPDATE_SQL, (statement, delta) -> {
+                    statement.setLong(1, delta.countDelta());
+                    statement.setLong(2, delta.scoreDelta());
+                    statement.setLong(3, delta.vendorId());
+                    statement.setLong(4, delta.criteriaId());
+                },
+                INSERT_SQL, (statement, delta) -> {
+                    statement.setLong(1, delta.vendorId());
+                    statement.setLong(2, delta.criteriaId());
+                });
+    }
+}
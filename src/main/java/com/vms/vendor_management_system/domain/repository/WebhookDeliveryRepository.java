@@ -0,0 +1,54 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.WebhookDelivery;
+import com.vms.vendor_management_system.domain.enums.WebhookDeliveryStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link WebhookDelivery}.
+ */
+@Repository
+public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long> {
+
+    boolean existsBySubscriptionIdAndOutboxEventId(Long subscriptionId, Long outboxEventId);
+
+    // Served by idx_webhook_deliveries_queue
+    @Query("SELECT d.id FROM WebhookDelivery d WHERE d.subscriptionId = :subscriptionId AND d.status = 'PENDING' " +
+            "AND d.nextAttemptAt <= :now ORDER BY d.id")
+    List<Long> findDueIds(@Param("subscriptionId") Long subscriptionId,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * Leases due deliveries to one batch by pushing their next attempt past the lease;
+     * deliveries another batch claimed in the meantime are skipped.
+     */
+    @Modifying
+    @Query("UPDATE WebhookDelivery d SET d.leaseOwner = :owner, d.nextAttemptAt = :leaseUntil " +
+            "WHERE d.id IN :ids AND d.status = 'PENDING' AND d.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<WebhookDelivery> findByLeaseOwnerAndIdInOrderById(String leaseOwner, Collection<Long> ids);
+
+    List<WebhookDelivery> findBySubscriptionIdAndStatusOrderByIdDesc(Long subscriptionId,
+                                                                    WebhookDeliveryStatus status,
+                                                                    Pageable pageable);
+
+    long countBySubscriptionIdAndStatus(Long subscriptionId, WebhookDeliveryStatus status);
+
+    @Modifying
+    @Query("DELETE FROM WebhookDelivery d WHERE d.status = 'DELIVERED' AND d.deliveredAt < :before")
+    int deleteDeliveredBefore(@Param("before") LocalDateTime before);
+}
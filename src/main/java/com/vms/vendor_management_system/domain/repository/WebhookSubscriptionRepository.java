@@ -0,0 +1,18 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.entity.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for {@link WebhookSubscription}.
+ */
+@Repository
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+
+    List<WebhookSubscription> findByIsActiveTrueOrderById();
+
+    List<WebhookSubscription> findAllByOrderById();
+}
@@ -0,0 +1,219 @@
+package com.vms.vendor_management_system.domain.service;
+
+import com.vms.vendor_management_system.domain.entity.ApprovalRule;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable decision table compiled from approval rules.
+ *
+ * Rules are laid out per document type as parallel primitive arrays in priority order and indexed
+ * by vendor category, so an evaluation is a binary search plus a scan over the candidate rows comparing
+ * longs and currency codes. Evaluating never allocates; the first matching row wins.
+ */
+public final class ApprovalDecisionTable {
+
+    /**
+     * Amount passed when a document amount cannot be expressed in cents of the FX base currency.
+     */
+    public static final long NO_AMOUNT = Long.MIN_VALUE;
+
+    private static final long ANY = 0L;
+    private static final ApprovalDecisionTable EMPTY = compile(List.of());
+
+    private final Table[] tables;
+    private final int ruleCount;
+
+    private ApprovalDecisionTable(Table[] tables, int ruleCount) {
+        this.tables = tables;
+        this.ruleCount = ruleCount;
+    }
+
+    public static ApprovalDecisionTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compiles the active rules; inactive ones are skipped.
+     */
+    public static ApprovalDecisionTable compile(List<ApprovalRule> rules) {
+        List<ApprovalRule> ordered = new ArrayList<>();
+        for (ApprovalRule rule : rules) {
+            if (Boolean.TRUE.equals(rule.getIsActive()) && rule.getDocumentType() != null) {
+                ordered.add(rule);
+            }
+        }
+        ordered.sort(Comparator.comparing((ApprovalRule rule) -> rule.getPriority() != null ? rule.getPriority() : Integer.MAX_VALUE)
+                .thenComparing(rule -> rule.getId() != null ? rule.getId() : Long.MAX_VALUE));
+
+        ApprovalDocumentType[] types = ApprovalDocumentType.values();
+        Table[] tables = new Table[types.length];
+        for (ApprovalDocumentType type : types) {
+            List<ApprovalRule> ofType = new ArrayList<>();
+            for (ApprovalRule rule : ordered) {
+                if (rule.getDocumentType() == type) {
+                    ofType.add(rule);
+                }
+            }
+            tables[type.ordinal()] = Table.of(ofType);
+        }
+        return new ApprovalDecisionTable(tables, ordered.size());
+    }
+
+    public int size() {
+        return ruleCount;
+    }
+
+    /**
+     * First rule matching the document, or null when none does.
+     *
+     * @param currency         document currency, matched case-insensitively against rules with a currency
+     * @param amountCents      document amount in cents of its own currency
+     * @param baseAmountCents  document amount in cents of the FX base currency, or {@link #NO_AMOUNT}
+     * @param categoryId       vendor category id, or 0 when the vendor has none
+     * @param departmentId     creator department id, or 0 when unknown
+     */
+    public Decision evaluate(ApprovalDocumentType type, String currency, long amountCents, long baseAmountCents,
+                             long categoryId, long departmentId) {
+        Table table = tables[type.ordinal()];
+        int[] candidates = table.anyCategory;
+        if (categoryId != ANY) {
+            int index = Arrays.binarySearch(table.categoryKeys, categoryId);
+            if (index >= 0) {
+                candidates = table.byCategory[index];
+            }
+        }
+        for (int row : candidates) {
+            long department = table.departments[row];
+            if (department != ANY && department != departmentId) {
+                continue;
+            }
+            long amount;
+            String ruleCurrency = table.currencies[row];
+            if (ruleCurrency != null) {
+                if (currency == null || !ruleCurrency.equalsIgnoreCase(currency)) {
+                    continue;
+                }
+                amount = amountCents;
+            } else {
+                amount = baseAmountCents;
+            }
+            if (table.banded[row] && (amount == NO_AMOUNT || amount < table.minCents[row] || amount >= table.maxCents[row])) {
+                continue;
+            }
+            return table.decisions[row];
+        }
+        return null;
+    }
+
+    /**
+     * Cents of an amount, saturating at the long range; null amounts count as zero.
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        BigInteger cents = amount.setScale(2, RoundingMode.HALF_UP).unscaledValue();
+        if (cents.bitLength() > 63) {
+            return cents.signum() > 0 ? Long.MAX_VALUE : NO_AMOUNT + 1;
+        }
+        return cents.longValue();
+    }
+
+    /**
+     * Outcome of a rule: whether the document needs approval and which role may give it (any approver when null).
+     */
+    public record Decision(Long ruleId, String ruleName, boolean requiresApproval, UserRole approverRole) {
+
+        public boolean permits(UserRole role) {
+            return approverRole == null || role == approverRole || role == UserRole.ADMIN;
+        }
+    }
+
+    private static final class Table {
+
+        final Decision[] decisions;
+        final boolean[] banded;
+        final long[] minCents;
+        final long[] maxCents;
+        final String[] currencies;
+        final long[] departments;
+        final long[] categoryKeys;
+        final int[][] byCategory;
+        final int[] anyCategory;
+
+        private Table(int size, long[] categoryKeys, int[][] byCategory, int[] anyCategory) {
+            this.decisions = new Decision[size];
+            this.banded = new boolean[size];
+            this.minCents = new long[size];
+            this.maxCents = new long[size];
+            this.currencies = new String[size];
+            this.departments = new long[size];
+            this.categoryKeys = categoryKeys;
+            this.byCategory = byCategory;
+            this.anyCategory = anyCategory;
+        }
+
+        static Table of(List<ApprovalRule> rules) {
+            // Rows without a category apply to every category, so they are merged into each category's list in order
+            Map<Long, List<Integer>> categoryRows = new TreeMap<>();
+            for (ApprovalRule rule : rules) {
+                if (rule.getCategoryId() != null) {
+                    categoryRows.putIfAbsent(rule.getCategoryId(), new ArrayList<>());
+                }
+            }
+            List<Integer> anyRows = new ArrayList<>();
+            for (int row = 0; row < rules.size(); row++) {
+                Long categoryId = rules.get(row).getCategoryId();
+                if (categoryId == null) {
+                    anyRows.add(row);
+                    for (List<Integer> rows : categoryRows.values()) {
+                        rows.add(row);
+                    }
+                } else {
+                    categoryRows.get(categoryId).add(row);
+                }
+            }
+            long[] keys = new long[categoryRows.size()];
+            int[][] byCategory = new int[categoryRows.size()][];
+            int index = 0;
+            for (Map.Entry<Long, List<Integer>> entry : categoryRows.entrySet()) {
+                keys[index] = entry.getKey();
+                byCategory[index] = toArray(entry.getValue());
+                index++;
+            }
+
+            Table table = new Table(rules.size(), keys, byCategory, toArray(anyRows));
+            for (int row = 0; row < rules.size(); row++) {
+                ApprovalRule rule = rules.get(row);
+                table.decisions[row] = new Decision(rule.getId(), rule.getName(),
+                        !Boolean.FALSE.equals(rule.getRequiresApproval()), rule.getApproverRole());
+                table.banded[row] = rule.getMinAmount() != null || rule.getMaxAmount() != null;
+                table.minCents[row] = rule.getMinAmount() != null ? toCents(rule.getMinAmount()) : Long.MIN_VALUE;
+                table.maxCents[row] = rule.getMaxAmount() != null ? toCents(rule.getMaxAmount()) : Long.MAX_VALUE;
+                table.currencies[row] = rule.getCurrency() != null && !rule.getCurrency().isBlank()
+                        ? rule.getCurrency().trim() : null;
+                table.departments[row] = rule.getDepartmentId() != null ? rule.getDepartmentId() : ANY;
+            }
+            return table;
+        }
+
+        private static int[] toArray(List<Integer> rows) {
+            int[] array = new int[rows.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = rows.get(i);
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.vms.vendor_management_system.domain.service;
+
+import com.vms.vendor_management_system.domain.entity.ChangeSequenceListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Domain service numbering changed rows of the change-tracked tables from the {@code change_seq} sequence.
+ *
+ * Writes leave {@code change_seq} empty (see {@link ChangeSequenceListener}); numbers are only handed out
+ * here, to committed rows, by one transaction at a time holding the {@code change_sequencer_lock} row.
+ * Every number a run hands out is higher than all numbers already visible, so a feed cursor can never
+ * pass a number that commits later. Rows locked by open transactions are skipped and numbered by a later run.
+ */
+@Service
+public class ChangeSequencer {
+
+    private static final List<String> TABLES = List.of("vendors", "purchase_orders", "contracts", "vendor_creation_requests");
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+
+    public ChangeSequencer(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.changes.sequence-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Numbers up to the batch size of committed, unnumbered rows per table and returns how many it numbered.
+     */
+    public int sequencePending() {
+        Integer numbered = writeTransaction.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT id FROM change_sequencer_lock WHERE id = 1 FOR UPDATE", Integer.class);
+            int total = 0;
+            for (String table : TABLES) {
+                // Served by the unique change_seq index, which also holds the unnumbered rows
+                List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE change_seq IS NULL " +
+                        "FETCH FIRST " + batchSize + " ROWS ONLY FOR UPDATE SKIP LOCKED", Long.class);
+                jdbcTemplate.batchUpdate("UPDATE " + table + " SET change_seq = nextval('change_seq') WHERE id = ?",
+                        ids, UPDATE_BATCH_SIZE, (ps, id) -> ps.setLong(1, id));
+                total += ids.size();
+            }
+            return total;
+        });
+        return numbered != null ? numbered : 0;
+    }
+}
@@ -0,0 +1,139 @@
+package com.vms.vendor_management_system.domain.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.sql.DatabaseMetaData;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Domain service handing out vendor codes and request numbers from database sequences.
+ *
+ * Each database round trip reserves a block of {@link #BLOCK_SIZE} numbers which are then
+ * handed out from memory with a single atomic increment, so concurrent approvals and bulk
+ * imports never contend on the database or rely on unique-constraint failures.
+ */
+@Service
+public class CodeAllocationService {
+
+    /**
+     * Must match the INCREMENT BY of the backing sequences (see V12 migration).
+     */
+    static final int BLOCK_SIZE = 50;
+
+    public enum CodeSequence {
+        VENDOR_CODE("vendor_code_seq"),
+        VENDOR_REQUEST_NUMBER("vendor_request_number_seq");
+
+        private final String sequenceName;
+
+        CodeSequence(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<CodeSequence, AtomicReference<Block>> blocks = new EnumMap<>(CodeSequence.class);
+    private final Map<CodeSequence, ReentrantLock> refillLocks = new EnumMap<>(CodeSequence.class);
+    private volatile String nextValueTemplate;
+
+    public CodeAllocationService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (CodeSequence sequence : CodeSequence.values()) {
+            blocks.put(sequence, new AtomicReference<>());
+            refillLocks.put(sequence, new ReentrantLock());
+        }
+    }
+
+    /**
+     * Generates a vendor code such as {@code ACMECO-0000042}: a readable name prefix plus a
+     * sequence number that alone guarantees uniqueness.
+     */
+    public String nextVendorCode(String companyName) {
+        String prefix = companyName == null ? "" : companyName.replaceAll("[^A-Za-z0-9]", "").toUpperCase(Locale.ROOT);
+        if (prefix.isEmpty()) {
+            prefix = "VENDOR";
+        }
+        prefix = prefix.substring(0, Math.min(6, prefix.length()));
+        return String.format("%s-%07d", prefix, next(CodeSequence.VENDOR_CODE));
+    }
+
+    /**
+     * Generates a vendor creation request number such as {@code VCR-0000042}. The sequence never resets,
+     * so the number carries no year; seven digits keep it apart from the old eight-character UUID prefixes.
+     */
+    public String nextRequestNumber() {
+        return String.format("VCR-%07d", next(CodeSequence.VENDOR_REQUEST_NUMBER));
+    }
+
+    /**
+     * Returns the next number of the sequence, refilling the in-memory block when it runs out.
+     */
+    public long next(CodeSequence sequence) {
+        AtomicReference<Block> current = blocks.get(sequence);
+        while (true) {
+            Block block = current.get();
+            if (block != null) {
+                long value = block.next.getAndIncrement();
+                if (value < block.end) {
+                    return value;
+                }
+            }
+            refill(sequence, current, block);
+        }
+    }
+
+    private void refill(CodeSequence sequence, AtomicReference<Block> current, Block exhausted) {
+        ReentrantLock lock = refillLocks.get(sequence);
+        lock.lock();
+        try {
+            // Another thread may have refilled while we waited for the lock
+            if (current.get() != exhausted) {
+                return;
+            }
+            Long start = jdbcTemplate.queryForObject(nextValueSql(sequence), Long.class);
+            if (start == null) {
+                throw new IllegalStateException("Sequence " + sequence.sequenceName + " returned no value");
+            }
+            current.set(new Block(start, start + BLOCK_SIZE));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String nextValueSql(CodeSequence sequence) {
+        if (nextValueTemplate == null) {
+            nextValueTemplate = resolveNextValueTemplate();
+        }
+        return String.format(nextValueTemplate, sequence.sequenceName);
+    }
+
+    private String resolveNextValueTemplate() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            return product != null && product.toUpperCase(Locale.ROOT).contains("H2")
+                    ? "SELECT NEXT VALUE FOR %s"
+                    : "SELECT nextval('%s')";
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Unable to determine sequence syntax for the datasource", e);
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
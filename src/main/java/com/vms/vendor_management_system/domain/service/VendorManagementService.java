@@ -27,6 +27,9 @@ public class VendorManagementService {
     @Autowired
     private VendorCreationRequestRepository vendorCreationRequestRepository;
     
+    @Autowired
+    private CodeAllocationService codeAllocationService;
+    
     /**
      * Creates a new vendor from an approved vendor creation request (ACTIVE status)
      * Only called after Admin approves (final approval)
@@ -37,7 +40,7 @@ public class VendorManagementService {
         }
         
         // Generate vendor code
-        String vendorCode = generateVendorCode(request.getCompanyName());
+        String vendorCode = codeAllocationService.nextVendorCode(request.getCompanyName());
         
         // Create email value object if available
         Email email = null;
@@ -72,6 +75,9 @@ public class VendorManagementService {
         vendor.setCategory(request.getCategory());
         vendor.setWebsite(request.getWebsite());
         vendor.setDescription(request.getBusinessJustification());
+        if (request.getCurrency() != null && !request.getCurrency().trim().isEmpty()) {
+            vendor.setDefaultCurrency(request.getCurrency().trim());
+        }
         // Automatically activate vendor since it's already been approved through the request workflow
         vendor.setStatus(VendorStatus.ACTIVE);
         
@@ -230,13 +236,4 @@ public class VendorManagementService {
         LocalDateTime startDate = LocalDateTime.now().minusDays(days);
         return vendorCreationRequestRepository.findRecentRequests(startDate);
     }
-    
-    /**
-     * Generates a unique vendor code
-     */
-    private String generateVendorCode(String companyName) {
-        String baseCode = companyName.replaceAll("[^A-Za-z0-9]", "").toUpperCase().substring(0, Math.min(6, companyName.length()));
-        String timestamp = String.valueOf(System.currentTimeMillis()).substring(8);
-        return baseCode + timestamp;
-    }
 }
@@ -0,0 +1,7 @@
+package com.vms.vendor_management_system.domain.valueobjects;
+
+/**
+ * Value object carrying a change to the rating totals of one vendor and criteria
+ */
+public record RatingDelta(Long vendorId, Long criteriaId, long countDelta, long scoreDelta) {
+}
@@ -0,0 +1,65 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.approvalrule.ApprovalRuleResponse;
+import com.vms.vendor_management_system.application.dto.approvalrule.CreateApprovalRuleRequest;
+import com.vms.vendor_management_system.application.service.ApprovalRoutingService;
+import com.vms.vendor_management_system.application.service.ApprovalRuleApplicationService;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST endpoints for managing purchase order and contract approval routing rules.
+ */
+@RestController
+@RequestMapping("/api/approval-rules")
+@Validated
+public class ApprovalRuleController {
+
+    private final ApprovalRuleApplicationService ruleApplicationService;
+    private final ApprovalRoutingService routingService;
+
+    public ApprovalRuleController(ApprovalRuleApplicationService ruleApplicationService,
+                                  ApprovalRoutingService routingService) {
+        this.ruleApplicationService = ruleApplicationService;
+        this.routingService = routingService;
+    }
+
+    @GetMapping
+    public List<ApprovalRuleResponse> getRules(@RequestParam(required = false) ApprovalDocumentType documentType) {
+        return ruleApplicationService.getRules(documentType);
+    }
+
+    @GetMapping("/{id}")
+    public ApprovalRuleResponse getRule(@PathVariable Long id) {
+        return ruleApplicationService.getRule(id);
+    }
+
+    @PostMapping
+    public ResponseEntity<ApprovalRuleResponse> createRule(@Valid @RequestBody CreateApprovalRuleRequest request) {
+        ApprovalRuleResponse response = ruleApplicationService.createRule(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{id}")
+    public ApprovalRuleResponse updateRule(@PathVariable Long id, @Valid @RequestBody CreateApprovalRuleRequest request) {
+        return ruleApplicationService.updateRule(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long id) {
+        ruleApplicationService.deleteRule(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<Void> reloadRules() {
+        routingService.reload();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.archive.ArchivalRunResponse;
+import com.vms.vendor_management_system.application.service.ArchivalService;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST endpoints for archiving closed purchase orders and contracts.
+ */
+@RestController
+@RequestMapping("/api/archive")
+@Validated
+public class ArchiveController {
+
+    private final ArchivalService archivalService;
+
+    public ArchiveController(ArchivalService archivalService) {
+        this.archivalService = archivalService;
+    }
+
+    @PostMapping("/run")
+    public ArchivalRunResponse runArchival() {
+        return archivalService.run();
+    }
+}
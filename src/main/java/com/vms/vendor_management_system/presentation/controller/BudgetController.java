@@ -0,0 +1,64 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.budget.CreateDepartmentBudgetRequest;
+import com.vms.vendor_management_system.application.dto.budget.DepartmentBudgetResponse;
+import com.vms.vendor_management_system.application.service.BudgetLedgerService;
+import com.vms.vendor_management_system.application.service.DepartmentBudgetApplicationService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST endpoints for managing department budgets.
+ */
+@RestController
+@RequestMapping("/api/budgets")
+@Validated
+public class BudgetController {
+
+    private final DepartmentBudgetApplicationService budgetApplicationService;
+    private final BudgetLedgerService ledgerService;
+
+    public BudgetController(DepartmentBudgetApplicationService budgetApplicationService,
+                            BudgetLedgerService ledgerService) {
+        this.budgetApplicationService = budgetApplicationService;
+        this.ledgerService = ledgerService;
+    }
+
+    @GetMapping("/{id}")
+    public DepartmentBudgetResponse getBudget(@PathVariable Long id) {
+        return budgetApplicationService.getBudget(id);
+    }
+
+    @GetMapping("/department/{departmentId}")
+    public List<DepartmentBudgetResponse> getBudgetsForDepartment(@PathVariable Long departmentId) {
+        return budgetApplicationService.getBudgetsForDepartment(departmentId);
+    }
+
+    @PostMapping
+    public ResponseEntity<DepartmentBudgetResponse> createBudget(@Valid @RequestBody CreateDepartmentBudgetRequest request) {
+        DepartmentBudgetResponse response = budgetApplicationService.createBudget(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{id}")
+    public DepartmentBudgetResponse updateBudget(@PathVariable Long id, @Valid @RequestBody CreateDepartmentBudgetRequest request) {
+        return budgetApplicationService.updateBudget(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteBudget(@PathVariable Long id) {
+        budgetApplicationService.deleteBudget(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<Void> reconcile() {
+        ledgerService.reconcile();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.change.ChangeFeedResponse;
+import com.vms.vendor_management_system.application.service.ChangeFeedService;
+import jakarta.validation.constraints.Min;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST endpoint for incremental sync: records changed since a cursor, in change sequence order.
+ */
+@RestController
+@RequestMapping("/api/changes")
+@Validated
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @GetMapping
+    public ChangeFeedResponse getChanges(@RequestParam(defaultValue = "0") @Min(0) long since,
+                                         @RequestParam(defaultValue = "500") @Min(1) int limit) {
+        return changeFeedService.getChanges(since, limit);
+    }
+}
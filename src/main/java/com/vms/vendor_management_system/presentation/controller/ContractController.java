@@ -1,14 +1,21 @@
 package com.vms.vendor_management_system.presentation.controller;
 
+import com.vms.vendor_management_system.application.dto.approvalrule.ApprovalRoutingResponse;
+import com.vms.vendor_management_system.application.dto.contract.ContractExpiryBucketResponse;
+import com.vms.vendor_management_system.application.dto.contract.ContractExpirySummaryResponse;
+import com.vms.vendor_management_system.application.dto.contract.ContractRenewalReminderResponse;
 import com.vms.vendor_management_system.application.dto.contract.ContractResponse;
 import com.vms.vendor_management_system.application.dto.contract.CreateContractRequest;
 import com.vms.vendor_management_system.application.service.ContractApplicationService;
+import com.vms.vendor_management_system.application.service.ContractExpiryService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -20,9 +27,39 @@ import java.util.List;
 public class ContractController {
 
     private final ContractApplicationService contractApplicationService;
+    private final ContractExpiryService contractExpiryService;
 
-    public ContractController(ContractApplicationService contractApplicationService) {
+    public ContractController(ContractApplicationService contractApplicationService,
+                              ContractExpiryService contractExpiryService) {
         this.contractApplicationService = contractApplicationService;
+        this.contractExpiryService = contractExpiryService;
+    }
+
+    @GetMapping("/expiry")
+    public ContractExpirySummaryResponse getExpirySummary() {
+        return contractExpiryService.getSummary();
+    }
+
+    @GetMapping("/expiry/vendor/{vendorId}")
+    public ContractExpiryBucketResponse getVendorExpiry(@PathVariable Long vendorId) {
+        return contractExpiryService.getVendorBuckets(vendorId);
+    }
+
+    @GetMapping("/expiry/department/{departmentId}")
+    public ContractExpiryBucketResponse getDepartmentExpiry(@PathVariable Long departmentId) {
+        return contractExpiryService.getDepartmentBuckets(departmentId);
+    }
+
+    @PostMapping("/expiry/run")
+    public ResponseEntity<Void> runExpiry() {
+        contractExpiryService.run();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/renewal-reminders")
+    public List<ContractRenewalReminderResponse> getRenewalReminders(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return contractExpiryService.getReminders(since);
     }
 
     @GetMapping("/{id}")
@@ -41,6 +78,11 @@ public class ContractController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/{id}/approval-route")
+    public ApprovalRoutingResponse getApprovalRoute(@PathVariable Long id) {
+        return contractApplicationService.getApprovalRoute(id);
+    }
+
     @PostMapping("/{id}/approve")
     public ContractResponse approveContract(@PathVariable Long id, @RequestParam Long approverId) {
         return contractApplicationService.approveContract(id, approverId);
@@ -1,5 +1,6 @@
 package com.vms.vendor_management_system.presentation.controller;
 
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,12 +29,19 @@ public class FileUploadController {
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
 
+    private final ApplicationMetrics metrics;
+
+    public FileUploadController(ApplicationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @PostMapping("/upload")
     public ResponseEntity<Map<String, String>> uploadFile(@RequestParam("file") MultipartFile file) {
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().body(Map.of("error", "File is empty"));
         }
 
+        long start = System.nanoTime();
         try {
             // Create upload directory if it doesn't exist
             Path uploadPath = Paths.get(uploadDir);
@@ -51,6 +59,7 @@ public class FileUploadController {
 
             // Save file
             Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            metrics.recordUpload(file.getSize(), System.nanoTime() - start, true);
 
             // Return file URL/path
             Map<String, String> response = new HashMap<>();
@@ -62,6 +71,7 @@ public class FileUploadController {
 
             return ResponseEntity.ok(response);
         } catch (IOException e) {
+            metrics.recordUpload(file.getSize(), System.nanoTime() - start, false);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("error", "Failed to upload file: " + e.getMessage()));
         }
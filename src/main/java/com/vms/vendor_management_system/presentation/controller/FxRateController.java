@@ -0,0 +1,38 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.fx.FxRatesResponse;
+import com.vms.vendor_management_system.application.dto.fx.UpdateFxRatesRequest;
+import com.vms.vendor_management_system.application.service.FxRateService;
+import jakarta.validation.Valid;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST endpoints for managing the local FX rate table.
+ */
+@RestController
+@RequestMapping("/api/fx-rates")
+@Validated
+public class FxRateController {
+
+    private final FxRateService fxRateService;
+
+    public FxRateController(FxRateService fxRateService) {
+        this.fxRateService = fxRateService;
+    }
+
+    @GetMapping
+    public FxRatesResponse getRates() {
+        return fxRateService.getRates();
+    }
+
+    @PutMapping
+    public FxRatesResponse replaceRates(@Valid @RequestBody UpdateFxRatesRequest request) {
+        return fxRateService.replaceRates(request);
+    }
+
+    @PostMapping("/reload")
+    public FxRatesResponse reloadFromFile() {
+        return fxRateService.reloadFromFile();
+    }
+}
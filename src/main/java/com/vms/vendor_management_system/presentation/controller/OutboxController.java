@@ -0,0 +1,39 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.outbox.OutboxEventResponse;
+import com.vms.vendor_management_system.application.dto.outbox.OutboxStatsResponse;
+import com.vms.vendor_management_system.application.service.OutboxService;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST endpoints for monitoring the outbox and retrying failed events.
+ */
+@RestController
+@RequestMapping("/api/outbox")
+@Validated
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    public OutboxController(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @GetMapping("/stats")
+    public OutboxStatsResponse getStats() {
+        return outboxService.getStats();
+    }
+
+    @GetMapping("/failed")
+    public List<OutboxEventResponse> getFailedEvents() {
+        return outboxService.getFailedEvents();
+    }
+
+    @PostMapping("/{id}/retry")
+    public OutboxEventResponse retry(@PathVariable Long id) {
+        return outboxService.retry(id);
+    }
+}
@@ -1,5 +1,6 @@
 package com.vms.vendor_management_system.presentation.controller;
 
+import com.vms.vendor_management_system.application.dto.approvalrule.ApprovalRoutingResponse;
 import com.vms.vendor_management_system.application.dto.purchaseorder.CreatePurchaseOrderRequest;
 import com.vms.vendor_management_system.application.dto.purchaseorder.PurchaseOrderResponse;
 import com.vms.vendor_management_system.application.service.PurchaseOrderApplicationService;
@@ -52,6 +53,11 @@ public class PurchaseOrderController {
         return purchaseOrderApplicationService.submitForApproval(id);
     }
 
+    @GetMapping("/{id}/approval-route")
+    public ApprovalRoutingResponse getApprovalRoute(@PathVariable Long id) {
+        return purchaseOrderApplicationService.getApprovalRoute(id);
+    }
+
     @PostMapping("/{id}/approve")
     public PurchaseOrderResponse approvePurchaseOrder(@PathVariable Long id, @RequestParam Long approverId) {
         return purchaseOrderApplicationService.approvePurchaseOrder(id, approverId);
@@ -0,0 +1,40 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.report.SpendRollupResponse;
+import com.vms.vendor_management_system.application.dto.report.StatusHistogramResponse;
+import com.vms.vendor_management_system.application.service.SpendRollupService;
+import com.vms.vendor_management_system.application.service.StatusHistogramService;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Reporting endpoints served from precomputed rollups and single aggregate queries.
+ */
+@RestController
+@RequestMapping("/api/reports")
+@Validated
+public class ReportController {
+
+    private final SpendRollupService spendRollupService;
+    private final StatusHistogramService statusHistogramService;
+
+    public ReportController(SpendRollupService spendRollupService,
+                            StatusHistogramService statusHistogramService) {
+        this.spendRollupService = spendRollupService;
+        this.statusHistogramService = statusHistogramService;
+    }
+
+    @GetMapping("/spend")
+    public SpendRollupResponse getSpend(@RequestParam(required = false) String currency) {
+        return spendRollupService.getSpend(currency);
+    }
+
+    @GetMapping("/status-histogram/{entity}")
+    public StatusHistogramResponse getStatusHistogram(@PathVariable String entity,
+                                                      @RequestParam(required = false) Long departmentId,
+                                                      @RequestParam(required = false) Long categoryId,
+                                                      @RequestParam(required = false) Long vendorId) {
+        return statusHistogramService.getHistogram(StatusHistogramService.Entity.fromPath(entity),
+                departmentId, categoryId, vendorId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.diagnostics.SlowQueryResponse;
+import com.vms.vendor_management_system.application.support.SlowQueryLog;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Admin endpoints exposing the rolling top-N of slow SQL statements.
+ */
+@RestController
+@RequestMapping("/api/admin/slow-queries")
+@Validated
+public class SlowQueryController {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryController(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @GetMapping
+    public List<SlowQueryResponse> getSlowQueries(@RequestParam(defaultValue = "20") @Min(1) @Max(200) int limit) {
+        return slowQueryLog.top(limit)
+                .stream()
+                .map(entry -> SlowQueryResponse.builder()
+                        .sql(entry.sql())
+                        .elapsedMs(entry.elapsedMs())
+                        .source(entry.source())
+                        .occurredAt(entry.occurredAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clearSlowQueries() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,9 +1,12 @@
 package com.vms.vendor_management_system.presentation.controller;
 
 import com.vms.vendor_management_system.application.dto.vendorcategory.CreateVendorCategoryRequest;
+import com.vms.vendor_management_system.application.dto.vendorcategory.LeaderboardEntryResponse;
 import com.vms.vendor_management_system.application.dto.vendorcategory.VendorCategoryResponse;
 import com.vms.vendor_management_system.application.service.VendorCategoryApplicationService;
+import com.vms.vendor_management_system.application.service.VendorLeaderboardService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -20,9 +23,12 @@ import java.util.List;
 public class VendorCategoryController {
 
     private final VendorCategoryApplicationService vendorCategoryApplicationService;
+    private final VendorLeaderboardService leaderboardService;
 
-    public VendorCategoryController(VendorCategoryApplicationService vendorCategoryApplicationService) {
+    public VendorCategoryController(VendorCategoryApplicationService vendorCategoryApplicationService,
+                                    VendorLeaderboardService leaderboardService) {
         this.vendorCategoryApplicationService = vendorCategoryApplicationService;
+        this.leaderboardService = leaderboardService;
     }
 
     @GetMapping
@@ -40,6 +46,12 @@ public class VendorCategoryController {
         return vendorCategoryApplicationService.getCategory(id);
     }
 
+    @GetMapping("/{id}/leaderboard")
+    public List<LeaderboardEntryResponse> getLeaderboard(@PathVariable Long id,
+                                                         @RequestParam(defaultValue = "10") @Min(1) int limit) {
+        return leaderboardService.getLeaderboard(id, limit);
+    }
+
     @PostMapping
     public ResponseEntity<VendorCategoryResponse> createCategory(@Valid @RequestBody CreateVendorCategoryRequest request) {
         VendorCategoryResponse response = vendorCategoryApplicationService.createCategory(request);
@@ -1,8 +1,10 @@
 package com.vms.vendor_management_system.presentation.controller;
 
 import com.vms.vendor_management_system.application.dto.vendor.CreateVendorRequest;
+import com.vms.vendor_management_system.application.dto.vendor.VendorOverviewResponse;
 import com.vms.vendor_management_system.application.dto.vendor.VendorResponse;
 import com.vms.vendor_management_system.application.service.VendorApplicationService;
+import com.vms.vendor_management_system.application.service.VendorOverviewService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -19,9 +21,12 @@ import java.util.List;
 public class VendorController {
 
     private final VendorApplicationService vendorApplicationService;
+    private final VendorOverviewService vendorOverviewService;
 
-    public VendorController(VendorApplicationService vendorApplicationService) {
+    public VendorController(VendorApplicationService vendorApplicationService,
+                            VendorOverviewService vendorOverviewService) {
         this.vendorApplicationService = vendorApplicationService;
+        this.vendorOverviewService = vendorOverviewService;
     }
 
     @GetMapping
@@ -35,6 +40,11 @@ public class VendorController {
         return vendorApplicationService.getVendor(id);
     }
 
+    @GetMapping("/{id}/overview")
+    public VendorOverviewResponse getVendorOverview(@PathVariable Long id) {
+        return vendorOverviewService.getOverview(id);
+    }
+
     // Direct vendor creation removed - vendors must be created through VendorCreationRequest workflow
     // @PostMapping
     // public ResponseEntity<VendorResponse> createVendor(@Valid @RequestBody CreateVendorRequest request) {
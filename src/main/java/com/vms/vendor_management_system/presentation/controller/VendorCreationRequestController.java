@@ -2,6 +2,7 @@ package com.vms.vendor_management_system.presentation.controller;
 
 import com.vms.vendor_management_system.application.dto.vendorrequest.AddBankingDetailsRequest;
 import com.vms.vendor_management_system.application.dto.vendorrequest.CreateVendorCreationRequest;
+import com.vms.vendor_management_system.application.dto.vendorrequest.DuplicateCandidateResponse;
 import com.vms.vendor_management_system.application.dto.vendorrequest.UpdateVendorCreationRequest;
 import com.vms.vendor_management_system.application.dto.vendorrequest.VendorCreationRequestResponse;
 import com.vms.vendor_management_system.application.dto.vendorrequest.VendorRequestAction;
@@ -38,6 +39,11 @@ public class VendorCreationRequestController {
         return applicationService.getRequest(id);
     }
 
+    @GetMapping("/{id}/duplicates")
+    public List<DuplicateCandidateResponse> getPossibleDuplicates(@PathVariable Long id) {
+        return applicationService.getPossibleDuplicates(id);
+    }
+
     @PostMapping
     public ResponseEntity<VendorCreationRequestResponse> createRequest(@Valid @RequestBody CreateVendorCreationRequest request) {
         VendorCreationRequestResponse response = applicationService.createRequest(request);
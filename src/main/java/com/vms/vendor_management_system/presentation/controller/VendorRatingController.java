@@ -1,8 +1,12 @@
 package com.vms.vendor_management_system.presentation.controller;
 
+import com.vms.vendor_management_system.application.dto.vendorrating.BulkVendorRatingRequest;
+import com.vms.vendor_management_system.application.dto.vendorrating.BulkVendorRatingResponse;
 import com.vms.vendor_management_system.application.dto.vendorrating.CreateVendorRatingRequest;
+import com.vms.vendor_management_system.application.dto.vendorrating.RatingTrendResponse;
 import com.vms.vendor_management_system.application.dto.vendorrating.VendorRatingResponse;
 import com.vms.vendor_management_system.application.service.VendorRatingApplicationService;
+import com.vms.vendor_management_system.application.service.VendorRatingTrendService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import org.springframework.http.HttpStatus;
@@ -10,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 /**
@@ -36,6 +41,15 @@ public class VendorRatingController {
         return ratingApplicationService.getRatingsForVendor(vendorId);
     }
 
+    @GetMapping("/vendor/{vendorId}/trend")
+    public RatingTrendResponse getTrend(@PathVariable Long vendorId,
+                                        @RequestParam(required = false) Long criteriaId,
+                                        @RequestParam(required = false) YearMonth from,
+                                        @RequestParam(required = false) YearMonth to,
+                                        @RequestParam(defaultValue = "MONTH") VendorRatingTrendService.Granularity granularity) {
+        return ratingApplicationService.getTrend(vendorId, criteriaId, from, to, granularity);
+    }
+
     @GetMapping("/criteria/{criteriaId}")
     public List<VendorRatingResponse> getRatingsByCriteria(@PathVariable Long criteriaId) {
         return ratingApplicationService.getRatingsByCriteria(criteriaId);
@@ -47,6 +61,12 @@ public class VendorRatingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkVendorRatingResponse> createRatings(@Valid @RequestBody BulkVendorRatingRequest request) {
+        BulkVendorRatingResponse response = ratingApplicationService.createRatings(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PutMapping("/{id}")
     public VendorRatingResponse updateRating(@PathVariable Long id,
                                              @RequestParam(required = false) @Min(0) Integer score,
@@ -0,0 +1,39 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.scorecard.CategoryScoreSummaryResponse;
+import com.vms.vendor_management_system.application.dto.scorecard.VendorScorecardResponse;
+import com.vms.vendor_management_system.application.service.VendorScorecardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST endpoints serving precomputed weighted vendor scorecards.
+ */
+@RestController
+@RequestMapping("/api/vendor-scorecards")
+@Validated
+public class VendorScorecardController {
+
+    private final VendorScorecardService scorecardService;
+
+    public VendorScorecardController(VendorScorecardService scorecardService) {
+        this.scorecardService = scorecardService;
+    }
+
+    @GetMapping("/vendor/{vendorId}")
+    public VendorScorecardResponse getVendorScorecard(@PathVariable Long vendorId) {
+        return scorecardService.getVendorScorecard(vendorId);
+    }
+
+    @GetMapping("/category/{categoryId}")
+    public CategoryScoreSummaryResponse getCategorySummary(@PathVariable Long categoryId) {
+        return scorecardService.getCategorySummary(categoryId);
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        scorecardService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
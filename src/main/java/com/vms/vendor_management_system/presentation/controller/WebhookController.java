@@ -0,0 +1,72 @@
+package com.vms.vendor_management_system.presentation.controller;
+
+import com.vms.vendor_management_system.application.dto.webhook.CreateWebhookSubscriptionRequest;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookDeliveryResponse;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookMetricsResponse;
+import com.vms.vendor_management_system.application.dto.webhook.WebhookSubscriptionResponse;
+import com.vms.vendor_management_system.application.service.WebhookSubscriptionApplicationService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST endpoints for managing webhook subscriptions and their dead-letter store.
+ */
+@RestController
+@RequestMapping("/api/webhooks")
+@Validated
+public class WebhookController {
+
+    private final WebhookSubscriptionApplicationService subscriptionApplicationService;
+
+    public WebhookController(WebhookSubscriptionApplicationService subscriptionApplicationService) {
+        this.subscriptionApplicationService = subscriptionApplicationService;
+    }
+
+    @GetMapping
+    public List<WebhookSubscriptionResponse> getSubscriptions() {
+        return subscriptionApplicationService.getSubscriptions();
+    }
+
+    @GetMapping("/{id}")
+    public WebhookSubscriptionResponse getSubscription(@PathVariable Long id) {
+        return subscriptionApplicationService.getSubscription(id);
+    }
+
+    @PostMapping
+    public ResponseEntity<WebhookSubscriptionResponse> createSubscription(@Valid @RequestBody CreateWebhookSubscriptionRequest request) {
+        WebhookSubscriptionResponse response = subscriptionApplicationService.createSubscription(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{id}")
+    public WebhookSubscriptionResponse updateSubscription(@PathVariable Long id,
+                                                          @Valid @RequestBody CreateWebhookSubscriptionRequest request) {
+        return subscriptionApplicationService.updateSubscription(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSubscription(@PathVariable Long id) {
+        subscriptionApplicationService.deleteSubscription(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/metrics")
+    public WebhookMetricsResponse getMetrics(@PathVariable Long id) {
+        return subscriptionApplicationService.getMetrics(id);
+    }
+
+    @GetMapping("/{id}/dead-letters")
+    public List<WebhookDeliveryResponse> getDeadLetters(@PathVariable Long id) {
+        return subscriptionApplicationService.getDeadLetters(id);
+    }
+
+    @PostMapping("/deliveries/{deliveryId}/replay")
+    public WebhookDeliveryResponse replay(@PathVariable Long deliveryId) {
+        return subscriptionApplicationService.replay(deliveryId);
+    }
+}
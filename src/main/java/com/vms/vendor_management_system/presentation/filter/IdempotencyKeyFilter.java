@@ -0,0 +1,235 @@
+package com.vms.vendor_management_system.presentation.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vms.vendor_management_system.application.service.IdempotencyService;
+import com.vms.vendor_management_system.application.service.IdempotencyService.Outcome;
+import com.vms.vendor_management_system.application.service.IdempotencyService.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Makes create and workflow-transition endpoints safe to retry by honouring the Idempotency-Key header.
+ * Repeats of a completed request get the stored response replayed with an Idempotent-Replayed header.
+ * Keys are scoped to the caller: the authenticated principal, or the client address for anonymous requests.
+ */
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<String> pathPatterns;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyKeyFilter(IdempotencyService idempotencyService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.idempotency.enabled:true}") boolean enabled,
+                                @Value("${app.idempotency.paths:/api/purchase-orders/**,/api/contracts/**,/api/vendor-requests/**,/api/vendor-ratings/bulk}") List<String> pathPatterns) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.pathPatterns = pathPatterns;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !MUTATING_METHODS.contains(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern.trim(), path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        String claimKey = claimKey(request, key);
+        Outcome outcome = idempotencyService.begin(claimKey, fingerprint(request, body));
+        switch (outcome.decision()) {
+            case REPLAY -> replay(response, outcome.response());
+            case MISMATCH -> writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request");
+            case IN_PROGRESS -> writeError(response, HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still being processed");
+            case PROCEED -> execute(claimKey, new CachedBodyRequest(request, body), response, filterChain);
+        }
+    }
+
+    private void execute(String key, HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            idempotencyService.complete(key, cachingResponse.getStatus(), cachingResponse.getContentType(),
+                    new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8));
+            completed = true;
+        } finally {
+            if (!completed) {
+                idempotencyService.abandon(key);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * The client's key scoped to the caller, so callers that pick the same key never share a stored response.
+     * Hashed to fit the key column whatever the length of the principal name.
+     */
+    private static String claimKey(HttpServletRequest request, String key) {
+        Principal principal = request.getUserPrincipal();
+        String caller = principal != null ? "user:" + principal.getName() : "client:" + request.getRemoteAddr();
+        MessageDigest digest = sha256();
+        digest.update(caller.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        MessageDigest digest = sha256();
+        digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ' ');
+        digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+        if (request.getQueryString() != null) {
+            digest.update((byte) '?');
+            digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) '\n');
+        digest.update(body);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request wrapper replaying a body that was already read to compute the fingerprint.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return source.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return source.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.vms.vendor_management_system.presentation.filter;
+
+import com.vms.vendor_management_system.application.support.ApplicationMetrics;
+import com.vms.vendor_management_system.application.support.RequestQueryStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements and database time of each request against the query budget.
+ * <p>
+ * Every request is recorded in the {@code vms.db.*} meters by route template. Requests over
+ * {@code app.query-budget.max-statements} are logged with their slowest statements; with
+ * {@code fail-on-exceed} (meant for tests) they fail instead, so N+1 regressions break the build.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+    private static final int SLOWEST_PER_REQUEST = 3;
+    private static final String UNMATCHED_URI = "UNMATCHED";
+
+    private final ApplicationMetrics metrics;
+    private final boolean enabled;
+    private final int maxStatements;
+    private final boolean failOnExceed;
+
+    public QueryBudgetFilter(ApplicationMetrics metrics,
+                             @Value("${app.query-budget.enabled:true}") boolean enabled,
+                             @Value("${app.query-budget.max-statements:25}") int maxStatements,
+                             @Value("${app.query-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin(request.getMethod() + " " + request.getRequestURI(), SLOWEST_PER_REQUEST);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            report(request, stats);
+        }
+        if (failOnExceed && stats.getStatementCount() > maxStatements) {
+            throw new IllegalStateException(String.format("%s ran %d SQL statements, over the query budget of %d",
+                    stats.getSource(), stats.getStatementCount(), maxStatements));
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNMATCHED_URI;
+        boolean overBudget = stats.getStatementCount() > maxStatements;
+        metrics.recordRequestQueries(request.getMethod(), uri, stats.getStatementCount(), stats.getElapsedMs(), overBudget);
+        if (overBudget) {
+            log.warn("{} ran {} SQL statements in {} ms, over the query budget of {}; slowest: {}",
+                    stats.getSource(), stats.getStatementCount(), stats.getElapsedMs(), maxStatements, stats.getSlowest());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} ran {} SQL statements in {} ms; slowest: {}",
+                    stats.getSource(), stats.getStatementCount(), stats.getElapsedMs(), stats.getSlowest());
+        }
+    }
+}
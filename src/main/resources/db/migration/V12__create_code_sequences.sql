@@ -0,0 +1,4 @@
+-- Sequences backing vendor code and request number allocation.
+-- Each nextval reserves a block of 50 numbers; INCREMENT BY must match CodeAllocationService.BLOCK_SIZE.
+CREATE SEQUENCE IF NOT EXISTS vendor_code_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS vendor_request_number_seq START WITH 1 INCREMENT BY 50;
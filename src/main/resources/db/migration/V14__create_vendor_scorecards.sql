@@ -0,0 +1,19 @@
+-- Running per-vendor, per-criteria rating totals behind the vendor scorecards.
+-- Weights and max scores are applied when a scorecard is computed, so editing a criterion needs no rewrite.
+CREATE TABLE IF NOT EXISTS vendor_scorecards (
+    id BIGSERIAL PRIMARY KEY,
+    vendor_id BIGINT NOT NULL REFERENCES vendors(id),
+    criteria_id BIGINT NOT NULL REFERENCES vendor_performance_criteria(id),
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    score_sum BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT uq_vendor_scorecards_vendor_criteria UNIQUE (vendor_id, criteria_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_vendor_scorecards_criteria ON vendor_scorecards(criteria_id);
+
+-- Backfill from existing ratings
+INSERT INTO vendor_scorecards (vendor_id, criteria_id, rating_count, score_sum, updated_at)
+SELECT vendor_id, criteria_id, COUNT(*), SUM(score), CURRENT_TIMESTAMP
+FROM vendor_ratings
+GROUP BY vendor_id, criteria_id;
@@ -0,0 +1,34 @@
+-- Ratings pre-aggregated by vendor, criteria and month (bucket_month = yyyyMM of the rating period start,
+-- or of created_at when no period was given). Serves multi-year trend queries without touching vendor_ratings.
+CREATE TABLE IF NOT EXISTS vendor_rating_monthly_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    vendor_id BIGINT NOT NULL REFERENCES vendors(id),
+    criteria_id BIGINT NOT NULL REFERENCES vendor_performance_criteria(id),
+    bucket_month INTEGER NOT NULL,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    score_sum BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT uq_vendor_rating_rollups_bucket UNIQUE (vendor_id, criteria_id, bucket_month)
+);
+
+-- Trend across all criteria of a vendor; the unique constraint covers the per-criteria trend
+CREATE INDEX IF NOT EXISTS idx_vendor_rating_rollups_vendor_month ON vendor_rating_monthly_rollups(vendor_id, bucket_month);
+
+-- Supports VendorRatingRepository.findByVendorAndPeriod
+CREATE INDEX IF NOT EXISTS idx_vendor_ratings_vendor_period ON vendor_ratings(vendor_id, rating_period_start, rating_period_end);
+
+-- Backfill from existing ratings
+INSERT INTO vendor_rating_monthly_rollups (vendor_id, criteria_id, bucket_month, rating_count, score_sum, updated_at)
+SELECT vendor_id,
+       criteria_id,
+       CAST(EXTRACT(YEAR FROM COALESCE(rating_period_start, created_at)) * 100
+            + EXTRACT(MONTH FROM COALESCE(rating_period_start, created_at)) AS INTEGER),
+       COUNT(*),
+       SUM(score),
+       CURRENT_TIMESTAMP
+FROM vendor_ratings
+WHERE COALESCE(rating_period_start, created_at) IS NOT NULL
+GROUP BY vendor_id,
+         criteria_id,
+         CAST(EXTRACT(YEAR FROM COALESCE(rating_period_start, created_at)) * 100
+              + EXTRACT(MONTH FROM COALESCE(rating_period_start, created_at)) AS INTEGER);
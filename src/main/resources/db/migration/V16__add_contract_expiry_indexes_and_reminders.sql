@@ -0,0 +1,16 @@
+-- Expiry lookups are range scans on end_date; the expiry job filters by status first
+CREATE INDEX IF NOT EXISTS idx_contracts_end_date ON contracts(end_date);
+CREATE INDEX IF NOT EXISTS idx_contracts_status_end_date ON contracts(status, end_date);
+
+-- One reminder per contract, horizon (30/60/90 days) and end date, so an extended contract is reminded again
+CREATE TABLE IF NOT EXISTS contract_renewal_reminders (
+    id BIGSERIAL PRIMARY KEY,
+    contract_id BIGINT NOT NULL REFERENCES contracts(id) ON DELETE CASCADE,
+    vendor_id BIGINT NOT NULL,
+    horizon_days INTEGER NOT NULL,
+    contract_end_date DATE NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT uq_contract_renewal_reminders UNIQUE (contract_id, horizon_days, contract_end_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_contract_renewal_reminders_created ON contract_renewal_reminders(created_at);
@@ -0,0 +1,16 @@
+-- Currency chosen on the vendor's creation request, materialized so contracts and purchase orders
+-- can default to it without looking the request up
+ALTER TABLE vendors ADD COLUMN IF NOT EXISTS default_currency VARCHAR(10);
+
+-- Backfill from the most recent active creation request of each vendor
+UPDATE vendors SET default_currency = (
+    SELECT r.currency
+    FROM vendor_creation_requests r
+    WHERE r.vendor_id = vendors.id
+      AND r.status = 'ACTIVE'
+      AND r.currency IS NOT NULL
+      AND r.currency <> ''
+    ORDER BY r.created_at DESC
+    LIMIT 1
+)
+WHERE default_currency IS NULL;
@@ -0,0 +1,13 @@
+-- Local FX rate table: units of the base currency per one unit of each currency.
+-- Loaded from a rates file or the admin endpoint and served from an in-memory snapshot.
+CREATE TABLE IF NOT EXISTS fx_rates (
+    id BIGSERIAL PRIMARY KEY,
+    base_currency VARCHAR(10) NOT NULL,
+    currency VARCHAR(10) NOT NULL,
+    rate NUMERIC(24, 10) NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT uq_fx_rates_currency UNIQUE (currency)
+);
+
+-- Spend rollups group orders by status and currency
+CREATE INDEX IF NOT EXISTS idx_purchase_orders_status_currency ON purchase_orders(status, currency);
@@ -0,0 +1,18 @@
+-- Spending limit of a department for one period; purchase orders count against the budget whose
+-- period contains their order date. Reservations and commitments are derived from purchase orders.
+CREATE TABLE IF NOT EXISTS department_budgets (
+    id BIGSERIAL PRIMARY KEY,
+    department_id BIGINT NOT NULL REFERENCES departments(id),
+    period_start DATE NOT NULL,
+    period_end DATE NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT uq_department_budgets_period UNIQUE (department_id, period_start),
+    CONSTRAINT ck_department_budgets_period CHECK (period_end >= period_start),
+    CONSTRAINT ck_department_budgets_amount CHECK (amount >= 0)
+);
+
+-- Reconciliation sums orders per creator within a period
+CREATE INDEX IF NOT EXISTS idx_purchase_orders_creator_order_date ON purchase_orders(created_by_user_id, order_date);
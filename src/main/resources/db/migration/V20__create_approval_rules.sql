@@ -0,0 +1,20 @@
+-- Approval routing rules for purchase orders and contracts. Active rules are compiled into an in-memory
+-- decision table; the first matching rule by priority decides whether approval is needed and by which role.
+CREATE TABLE IF NOT EXISTS approval_rules (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    document_type VARCHAR(30) NOT NULL,
+    priority INTEGER NOT NULL DEFAULT 100,
+    min_amount NUMERIC(19, 2),
+    max_amount NUMERIC(19, 2),
+    currency VARCHAR(10),
+    category_id BIGINT REFERENCES vendor_categories(id) ON DELETE CASCADE,
+    department_id BIGINT REFERENCES departments(id) ON DELETE CASCADE,
+    requires_approval BOOLEAN NOT NULL DEFAULT TRUE,
+    approver_role VARCHAR(50),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT ck_approval_rules_document_type CHECK (document_type IN ('PURCHASE_ORDER', 'CONTRACT')),
+    CONSTRAINT ck_approval_rules_amount_band CHECK (min_amount IS NULL OR max_amount IS NULL OR max_amount > min_amount)
+);
@@ -0,0 +1,2 @@
+-- Vendor overview looks up the request(s) a vendor was created from
+CREATE INDEX IF NOT EXISTS idx_vendor_requests_vendor ON vendor_creation_requests(vendor_id, created_at);
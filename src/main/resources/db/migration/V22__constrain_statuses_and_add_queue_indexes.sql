@@ -0,0 +1,20 @@
+-- Purchase order and contract statuses are mapped to enums; the database rejects anything else
+UPDATE purchase_orders SET status = UPPER(TRIM(status)) WHERE status <> UPPER(TRIM(status));
+UPDATE contracts SET status = UPPER(TRIM(status)) WHERE status <> UPPER(TRIM(status));
+
+ALTER TABLE purchase_orders ADD CONSTRAINT ck_purchase_orders_status
+    CHECK (status IN ('DRAFT', 'PENDING_APPROVAL', 'APPROVED', 'REJECTED', 'SENT', 'RECEIVED', 'CANCELLED'));
+ALTER TABLE contracts ADD CONSTRAINT ck_contracts_status
+    CHECK (status IN ('DRAFT', 'ACTIVE', 'EXPIRED', 'TERMINATED'));
+
+-- Workflow queues filter on one status and page by creation time
+CREATE INDEX IF NOT EXISTS idx_purchase_orders_status_created_at ON purchase_orders(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_contracts_status_created_at ON contracts(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_vendor_requests_status_created_at ON vendor_creation_requests(status, created_at);
+CREATE INDEX IF NOT EXISTS idx_vendors_status_created_at ON vendors(status, created_at);
+
+-- The composite indexes above lead with status, so the single-column ones are redundant
+DROP INDEX IF EXISTS idx_purchase_orders_status;
+DROP INDEX IF EXISTS idx_contracts_status;
+DROP INDEX IF EXISTS idx_vendor_requests_status;
+DROP INDEX IF EXISTS idx_vendors_status;
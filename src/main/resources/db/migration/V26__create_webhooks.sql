@@ -0,0 +1,37 @@
+-- Outbound webhook endpoints; event_types is a comma-separated list of outbox event types or *
+CREATE TABLE IF NOT EXISTS webhook_subscriptions (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    url VARCHAR(1000) NOT NULL,
+    secret VARCHAR(255) NOT NULL,
+    event_types VARCHAR(1000) NOT NULL,
+    max_concurrency INTEGER NOT NULL DEFAULT 2,
+    max_batch_size INTEGER NOT NULL DEFAULT 50,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT ck_webhook_subscriptions_limits CHECK (max_concurrency > 0 AND max_batch_size > 0)
+);
+
+-- One delivery per subscription and outbox event, so redelivered outbox events are not sent twice.
+-- DEAD deliveries are the dead-letter store and can be replayed.
+CREATE TABLE IF NOT EXISTS webhook_deliveries (
+    id BIGSERIAL PRIMARY KEY,
+    subscription_id BIGINT NOT NULL REFERENCES webhook_subscriptions(id) ON DELETE CASCADE,
+    outbox_event_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    lease_owner VARCHAR(64),
+    last_status_code INTEGER,
+    last_error VARCHAR(1000),
+    delivered_at TIMESTAMP WITHOUT TIME ZONE,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT uq_webhook_deliveries_event UNIQUE (subscription_id, outbox_event_id),
+    CONSTRAINT ck_webhook_deliveries_status CHECK (status IN ('PENDING', 'DELIVERED', 'DEAD'))
+);
+
+-- The engine drains due deliveries per endpoint in id order
+CREATE INDEX IF NOT EXISTS idx_webhook_deliveries_queue ON webhook_deliveries(subscription_id, status, next_attempt_at);
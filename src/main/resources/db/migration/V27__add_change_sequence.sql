@@ -0,0 +1,19 @@
+-- Global change sequence for the incremental sync feed (/api/changes).
+-- Every insert and update of a tracked row takes the next value, so "change_seq > cursor" is the delta.
+CREATE SEQUENCE IF NOT EXISTS change_seq START WITH 1 INCREMENT BY 1;
+
+ALTER TABLE vendors ADD COLUMN change_seq BIGINT;
+ALTER TABLE purchase_orders ADD COLUMN change_seq BIGINT;
+ALTER TABLE contracts ADD COLUMN change_seq BIGINT;
+ALTER TABLE vendor_creation_requests ADD COLUMN change_seq BIGINT;
+
+-- Existing rows become the initial snapshot a first sync (since=0) picks up
+UPDATE vendors SET change_seq = nextval('change_seq');
+UPDATE purchase_orders SET change_seq = nextval('change_seq');
+UPDATE contracts SET change_seq = nextval('change_seq');
+UPDATE vendor_creation_requests SET change_seq = nextval('change_seq');
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_vendors_change_seq ON vendors(change_seq);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_purchase_orders_change_seq ON purchase_orders(change_seq);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_contracts_change_seq ON contracts(change_seq);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_vendor_requests_change_seq ON vendor_creation_requests(change_seq);
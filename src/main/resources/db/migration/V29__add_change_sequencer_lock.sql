@@ -0,0 +1,7 @@
+-- Rows are numbered from change_seq after they commit (see ChangeSequencer). The run holding this row's
+-- lock is the only one handing out numbers, so numbers become visible in increasing order.
+CREATE TABLE IF NOT EXISTS change_sequencer_lock (
+    id INT PRIMARY KEY
+);
+
+INSERT INTO change_sequencer_lock (id) VALUES (1);
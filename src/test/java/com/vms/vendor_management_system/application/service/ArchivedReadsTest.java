@@ -0,0 +1,130 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.contract.ContractResponse;
+import com.vms.vendor_management_system.application.dto.purchaseorder.PurchaseOrderResponse;
+import com.vms.vendor_management_system.domain.entity.Contract;
+import com.vms.vendor_management_system.domain.entity.Department;
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.entity.User;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import com.vms.vendor_management_system.domain.repository.ContractRepository;
+import com.vms.vendor_management_system.domain.repository.DepartmentRepository;
+import com.vms.vendor_management_system.domain.repository.PurchaseOrderRepository;
+import com.vms.vendor_management_system.domain.repository.UserRepository;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import com.vms.vendor_management_system.domain.valueobjects.Address;
+import com.vms.vendor_management_system.domain.valueobjects.Email;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Records moved to the archive tables stay readable by id and in the vendor lists, next to live ones.
+ */
+@SpringBootTest
+class ArchivedReadsTest {
+
+	@Autowired
+	private ArchivalService archivalService;
+
+	@Autowired
+	private PurchaseOrderApplicationService purchaseOrderService;
+
+	@Autowired
+	private ContractApplicationService contractService;
+
+	@Autowired
+	private PurchaseOrderRepository purchaseOrderRepository;
+
+	@Autowired
+	private ContractRepository contractRepository;
+
+	@Autowired
+	private VendorRepository vendorRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Test
+	void archivedPurchaseOrderIsServedFromTheArchive() {
+		Vendor vendor = vendor();
+		User user = user();
+		LocalDate longAgo = LocalDate.now().minusYears(5);
+		PurchaseOrder closed = new PurchaseOrder("PO-A-" + suffix(), vendor, "Archived order",
+				new BigDecimal("120.00"), longAgo, user);
+		closed.setStatus(PurchaseOrderStatus.RECEIVED);
+		closed = purchaseOrderRepository.save(closed);
+		PurchaseOrder open = purchaseOrderRepository.save(new PurchaseOrder("PO-L-" + suffix(), vendor,
+				"Live order", new BigDecimal("80.00"), LocalDate.now(), user));
+
+		archivalService.run();
+		assertTrue(purchaseOrderRepository.findById(closed.getId()).isEmpty());
+
+		PurchaseOrderResponse archived = purchaseOrderService.getPurchaseOrder(closed.getId());
+		assertEquals(closed.getPoNumber(), archived.getPoNumber());
+		assertEquals(PurchaseOrderStatus.RECEIVED.name(), archived.getStatus());
+		assertEquals(vendor.getCompanyName(), archived.getVendorName());
+		assertEquals(0, new BigDecimal("120.00").compareTo(archived.getTotalAmount()));
+
+		List<Long> listed = purchaseOrderService.getPurchaseOrdersForVendor(vendor.getId()).stream()
+				.map(PurchaseOrderResponse::getId)
+				.toList();
+		assertEquals(List.of(open.getId(), closed.getId()), listed);
+	}
+
+	@Test
+	void archivedContractIsServedFromTheArchive() {
+		Vendor vendor = vendor();
+		User user = user();
+		LocalDate longAgo = LocalDate.now().minusYears(5);
+		Contract expired = new Contract("CT-A-" + suffix(), vendor, "Archived contract", longAgo,
+				longAgo.plusYears(1), user);
+		expired.setStatus(ContractStatus.EXPIRED);
+		expired = contractRepository.save(expired);
+		Contract active = contractRepository.save(new Contract("CT-L-" + suffix(), vendor, "Live contract",
+				LocalDate.now(), LocalDate.now().plusYears(1), user));
+
+		archivalService.run();
+		assertTrue(contractRepository.findById(expired.getId()).isEmpty());
+
+		ContractResponse archived = contractService.getContract(expired.getId());
+		assertEquals(expired.getContractNumber(), archived.getContractNumber());
+		assertEquals(ContractStatus.EXPIRED.name(), archived.getStatus());
+
+		List<Long> listed = contractService.getContractsForVendor(vendor.getId()).stream()
+				.map(ContractResponse::getId)
+				.toList();
+		assertEquals(List.of(active.getId(), expired.getId()), listed);
+	}
+
+	private Vendor vendor() {
+		String code = suffix();
+		return vendorRepository.save(new Vendor("VEN-" + code, "Archive Test " + code, "Archive Test " + code,
+				new Email("archive-" + code + "@example.com"), new Address("1 Market St", "Lagos", "LA", "100001", "NG")));
+	}
+
+	private User user() {
+		String username = "archive-" + suffix();
+		Department department = departmentRepository.findById(1L).orElseThrow();
+		return userRepository.save(new User(username, "Archive", "Tester", new Email(username + "@example.com"),
+				UserRole.DEPARTMENT_REQUESTER, department));
+	}
+
+	private static String suffix() {
+		return UUID.randomUUID().toString().substring(0, 8);
+	}
+}
@@ -0,0 +1,264 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.domain.entity.Department;
+import com.vms.vendor_management_system.domain.entity.DepartmentBudget;
+import com.vms.vendor_management_system.domain.entity.PurchaseOrder;
+import com.vms.vendor_management_system.domain.entity.User;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import com.vms.vendor_management_system.domain.repository.DepartmentBudgetRepository;
+import com.vms.vendor_management_system.domain.valueobjects.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ledger counters through the order lifecycle, rollback compensation, concurrent submits of one order, and
+ * reconciliations whose database read races a committing change.
+ */
+class BudgetLedgerServiceTest {
+
+	private static final long BUDGET_ID = 10L;
+
+	private final NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+	private final List<Object[]> persistedOpenOrders = new ArrayList<>();
+	private Runnable duringRead;
+	private User requester;
+	private BudgetLedgerService ledger;
+
+	@BeforeEach
+	void setUp() {
+		Department department = new Department("IT", "Information Technology", "IT");
+		department.setId(1L);
+		requester = new User("requester", "Req", "Uester", new Email("requester@example.com"),
+				UserRole.DEPARTMENT_REQUESTER, department);
+		DepartmentBudget budget = new DepartmentBudget(department, LocalDate.now().withDayOfYear(1),
+				LocalDate.now().withDayOfYear(1).plusYears(1).minusDays(1), new BigDecimal("1000.00"), "USD");
+		budget.setId(BUDGET_ID);
+
+		DepartmentBudgetRepository repository = mock(DepartmentBudgetRepository.class);
+		when(repository.findAllWithDepartment()).thenReturn(List.of(budget));
+		when(repository.findBudgetedOrders(any())).thenAnswer(invocation -> {
+			List<Object[]> snapshot = new ArrayList<>(persistedOpenOrders);
+			if (duringRead != null) {
+				duringRead.run();
+				duringRead = null;
+			}
+			return snapshot;
+		});
+		when(repository.sumBudgetedOrders(any())).thenReturn(List.of());
+
+		// Every order is in the budget currency, so no FX conversion is needed
+		ledger = new BudgetLedgerService(repository, null, transactionManager, true);
+		ledger.reconcile();
+	}
+
+	@Test
+	void lifecycleMovesAmountsBetweenCounters() {
+		PurchaseOrder approved = order(1L, "300.00");
+		PurchaseOrder rejected = order(2L, "200.00");
+
+		inTransaction(() -> ledger.reserve(approved));
+		inTransaction(() -> ledger.reserve(rejected));
+		assertBalance("500.00", "0.00", "500.00");
+
+		inTransaction(() -> ledger.commit(approved));
+		assertBalance("200.00", "300.00", "500.00");
+
+		inTransaction(() -> ledger.release(rejected));
+		assertBalance("0.00", "300.00", "700.00");
+
+		inTransaction(() -> ledger.settle(approved));
+		inTransaction(() -> ledger.release(approved));
+		assertBalance("0.00", "300.00", "700.00");
+	}
+
+	@Test
+	void reservationOverBudgetFailsWithoutCharging() {
+		ResponseStatusException failure = assertThrows(ResponseStatusException.class,
+				() -> inTransaction(() -> ledger.reserve(order(1L, "1200.00"))));
+		assertEquals(409, failure.getStatusCode().value());
+		assertBalance("0.00", "0.00", "1000.00");
+
+		inTransaction(() -> ledger.reserve(order(1L, "1000.00")));
+		assertBalance("1000.00", "0.00", "0.00");
+	}
+
+	@Test
+	void rollbackUndoesEveryChangeOfTheTransaction() {
+		PurchaseOrder order = order(1L, "300.00");
+		rolledBack(() -> {
+			ledger.reserve(order);
+			ledger.commit(order);
+		});
+		assertBalance("0.00", "0.00", "1000.00");
+
+		inTransaction(() -> ledger.reserve(order));
+		inTransaction(() -> ledger.commit(order));
+		rolledBack(() -> ledger.release(order));
+		assertBalance("0.00", "300.00", "700.00");
+	}
+
+	@Test
+	void concurrentSubmitsOfOneOrderChargeOnce() throws Exception {
+		PurchaseOrder order = order(1L, "100.00");
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> submits = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				submits.add(executor.submit(() -> {
+					start.await();
+					inTransaction(() -> ledger.reserve(order));
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> submit : submits) {
+				submit.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertBalance("100.00", "0.00", "900.00");
+	}
+
+	@Test
+	void changeCommittingDuringTheReadIsNotLost() throws Exception {
+		PurchaseOrder order = order(1L, "300.00");
+		// Commits after the read took its snapshot, so the reconciliation cannot see the order
+		duringRead = () -> runOnOtherThread(() -> inTransaction(() -> ledger.reserve(order)));
+		ledger.reconcile();
+		assertBalance("300.00", "0.00", "700.00");
+
+		// The next read includes the order; the pending change must not count it a second time
+		persistedOpenOrders.add(row(order, PurchaseOrderStatus.PENDING_APPROVAL));
+		ledger.reconcile();
+		assertBalance("300.00", "0.00", "700.00");
+		ledger.reconcile();
+		assertBalance("300.00", "0.00", "700.00");
+
+		// The order's reservation survived the reconciliations, so it can still be committed
+		inTransaction(() -> ledger.commit(order));
+		assertBalance("0.00", "300.00", "700.00");
+	}
+
+	@Test
+	void changeOpenDuringReconciliationStaysCountedUntilRead() throws Exception {
+		PurchaseOrder order = order(1L, "300.00");
+		CountDownLatch reserved = new CountDownLatch(1);
+		CountDownLatch reconciled = new CountDownLatch(1);
+		Thread submitter = new Thread(() -> inTransaction(() -> {
+			ledger.reserve(order);
+			reserved.countDown();
+			await(reconciled);
+		}));
+		submitter.start();
+		await(reserved);
+
+		ledger.reconcile();
+		assertBalance("300.00", "0.00", "700.00");
+		reconciled.countDown();
+		submitter.join(TimeUnit.SECONDS.toMillis(10));
+
+		persistedOpenOrders.add(row(order, PurchaseOrderStatus.PENDING_APPROVAL));
+		ledger.reconcile();
+		assertBalance("300.00", "0.00", "700.00");
+	}
+
+	private void assertBalance(String reserved, String committed, String available) {
+		BudgetLedgerService.Balance balance = ledger.getBalance(BUDGET_ID);
+		assertEquals(new BigDecimal(reserved), balance.reserved(), "reserved");
+		assertEquals(new BigDecimal(committed), balance.committed(), "committed");
+		assertEquals(new BigDecimal(available), balance.available(), "available");
+	}
+
+	private PurchaseOrder order(Long id, String amount) {
+		PurchaseOrder order = new PurchaseOrder("PO-" + id, null, "Test order", new BigDecimal(amount),
+				LocalDate.now(), requester);
+		order.setId(id);
+		order.setCurrency("USD");
+		return order;
+	}
+
+	private static Object[] row(PurchaseOrder order, PurchaseOrderStatus status) {
+		return new Object[]{order.getId(), BUDGET_ID, status, order.getCurrency(), order.getTotalAmount()};
+	}
+
+	private void inTransaction(Runnable work) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+	}
+
+	private void rolledBack(Runnable work) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			work.run();
+			status.setRollbackOnly();
+		});
+	}
+
+	private static void runOnOtherThread(Runnable work) {
+		Thread thread = new Thread(work);
+		thread.start();
+		try {
+			thread.join(TimeUnit.SECONDS.toMillis(10));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(10, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Timed out waiting for the other thread");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Transaction manager without a resource: it only drives synchronizations, which is all the ledger uses.
+	 */
+	private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.change.ChangeFeedResponse;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.repository.VendorRepository;
+import com.vms.vendor_management_system.domain.valueobjects.Address;
+import com.vms.vendor_management_system.domain.valueobjects.Email;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Paging of the change feed when one table holds more changes than the page: hasMore must still be set,
+ * and following the cursor must return every change once.
+ */
+@SpringBootTest
+class ChangeFeedServiceTest {
+
+	@Autowired
+	private ChangeFeedService changeFeedService;
+
+	@Autowired
+	private VendorRepository vendorRepository;
+
+	@Test
+	void singleTableOverflowingThePageHasMore() {
+		long since = drain();
+		List<Long> created = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			created.add(vendorRepository.save(vendor()).getId());
+		}
+
+		ChangeFeedResponse first = changeFeedService.getChanges(since, 2);
+		assertEquals(2, first.getChanges().size());
+		assertTrue(first.isHasMore());
+
+		ChangeFeedResponse second = changeFeedService.getChanges(first.getCursor(), 2);
+		assertEquals(1, second.getChanges().size());
+		assertFalse(second.isHasMore());
+
+		List<Long> returned = new ArrayList<>();
+		first.getChanges().forEach(change -> returned.add(change.getEntityId()));
+		second.getChanges().forEach(change -> returned.add(change.getEntityId()));
+		assertEquals(created, returned);
+	}
+
+	@Test
+	void fullPageWithNothingBehindItHasNoMore() {
+		long since = drain();
+		vendorRepository.save(vendor());
+		vendorRepository.save(vendor());
+
+		ChangeFeedResponse page = changeFeedService.getChanges(since, 2);
+		assertEquals(2, page.getChanges().size());
+		assertFalse(page.isHasMore());
+	}
+
+	// Cursor past every change other tests left behind
+	private long drain() {
+		ChangeFeedResponse page = changeFeedService.getChanges(0, 1000);
+		while (page.isHasMore()) {
+			page = changeFeedService.getChanges(page.getCursor(), 1000);
+		}
+		return page.getCursor();
+	}
+
+	private static Vendor vendor() {
+		String code = UUID.randomUUID().toString().substring(0, 8);
+		return new Vendor("VEN-" + code, "Feed Test " + code, "Feed Test " + code,
+				new Email("feed-" + code + "@example.com"), new Address("1 Market St", "Lagos", "LA", "100001", "NG"));
+	}
+}
@@ -0,0 +1,113 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.vms.vendor_management_system.application.dto.vendorrequest.DuplicateCandidateResponse;
+import com.vms.vendor_management_system.domain.entity.Vendor;
+import com.vms.vendor_management_system.domain.entity.VendorCreationRequest;
+import com.vms.vendor_management_system.domain.valueobjects.Address;
+import com.vms.vendor_management_system.domain.valueobjects.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Blocking and scoring of the duplicate index: identifier blocks find candidates whatever their name, name
+ * trigrams find near-identical names, and probes sharing no block are never scored.
+ */
+class VendorDuplicateDetectionServiceTest {
+
+	private VendorDuplicateDetectionService service;
+
+	@BeforeEach
+	void setUp() {
+		// Outside a transaction track() indexes immediately, so no repositories are needed
+		service = new VendorDuplicateDetectionService(null, null, 0.82, 10);
+		service.track(vendor(1L, "Northwind Traders", "TIN-1234-5678", "accounts@northwind.example.com"));
+		service.track(vendor(2L, "Contoso Pharmaceuticals", null, "info@contoso.example.com"));
+		service.track(vendor(3L, "Fabrikam Industrial Supplies", null, "sales@fabrikam.example.com"));
+	}
+
+	@Test
+	void taxIdMatchesWhateverTheName() {
+		VendorCreationRequest request = request("Completely Different Co");
+		request.setTaxIdentificationNumber("tin 12345678");
+
+		DuplicateCandidateResponse match = single(service.findDuplicates(request));
+		assertEquals(1L, match.getCandidateId());
+		assertEquals(1.0, match.getScore());
+		assertTrue(match.getMatchedOn().contains("TAX_ID"), match.getMatchedOn().toString());
+	}
+
+	@Test
+	void emailDomainBlockFindsNameTooFarForTrigrams() {
+		VendorCreationRequest request = request("Contoso Health");
+		request.setPrimaryContactEmail("jane@Contoso.example.com");
+
+		DuplicateCandidateResponse match = single(service.findDuplicates(request));
+		assertEquals(2L, match.getCandidateId());
+		assertTrue(match.getMatchedOn().contains("EMAIL_DOMAIN"), match.getMatchedOn().toString());
+	}
+
+	@Test
+	void sharedMailDomainIsNotABlock() {
+		VendorCreationRequest request = request("Contoso Health");
+		request.setPrimaryContactEmail("jane@gmail.com");
+
+		assertEquals(List.of(), service.findDuplicates(request));
+	}
+
+	@Test
+	void nameTrigramsFindMisspelledName() {
+		VendorCreationRequest request = request("Fabrikam Industrial Suplies Ltd");
+
+		DuplicateCandidateResponse match = single(service.findDuplicates(request));
+		assertEquals(3L, match.getCandidateId());
+		assertEquals("VENDOR", match.getCandidateType());
+		assertEquals(List.of("NAME"), match.getMatchedOn());
+	}
+
+	@Test
+	void unrelatedRequestHasNoCandidates() {
+		VendorCreationRequest request = request("Zephyr Catering");
+		request.setPrimaryContactEmail("hello@zephyr.example.org");
+		request.setTaxIdentificationNumber("ZC-00991122");
+
+		assertEquals(List.of(), service.findDuplicates(request));
+	}
+
+	@Test
+	void inFlightRequestsAreCandidatesButNotOfThemselves() {
+		VendorCreationRequest first = request("Tailspin Toys");
+		first.setId(10L);
+		first.setTaxIdentificationNumber("TT-55443322");
+		service.track(first);
+
+		assertEquals(List.of(), service.findDuplicates(first));
+
+		VendorCreationRequest second = request("Tailspin Toys Inc");
+		second.setTaxIdentificationNumber("TT-55443322");
+		DuplicateCandidateResponse match = single(service.findDuplicates(second));
+		assertEquals("REQUEST", match.getCandidateType());
+		assertEquals(10L, match.getCandidateId());
+	}
+
+	private static DuplicateCandidateResponse single(List<DuplicateCandidateResponse> matches) {
+		assertEquals(1, matches.size(), matches.toString());
+		return matches.get(0);
+	}
+
+	private static Vendor vendor(Long id, String name, String taxId, String email) {
+		Vendor vendor = new Vendor("VEN-" + id, name, name, new Email(email),
+				new Address("1 Market St", "Lagos", "LA", "100001", "NG"));
+		vendor.setId(id);
+		vendor.setTaxId(taxId);
+		return vendor;
+	}
+
+	private static VendorCreationRequest request(String companyName) {
+		return new VendorCreationRequest("VR-TEST", null, null, companyName);
+	}
+}
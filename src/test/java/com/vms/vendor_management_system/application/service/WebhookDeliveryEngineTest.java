@@ -0,0 +1,148 @@
+package com.vms.vendor_management_system.application.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vms.vendor_management_system.application.dto.webhook.CreateWebhookSubscriptionRequest;
+import com.vms.vendor_management_system.application.event.OutboxEventTypes;
+import com.vms.vendor_management_system.application.event.OutboxMessage;
+import com.vms.vendor_management_system.application.support.WebhookSigner;
+import com.vms.vendor_management_system.domain.entity.WebhookDelivery;
+import com.vms.vendor_management_system.domain.enums.WebhookDeliveryStatus;
+import com.vms.vendor_management_system.domain.repository.WebhookDeliveryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the webhook engine against a local HTTP stub: signed batches on success, dead letters after
+ * the retries run out.
+ */
+@SpringBootTest(properties = {
+		"app.webhooks.linger-ms=0",
+		"app.webhooks.poll-ms=200",
+		"app.webhooks.max-attempts=2",
+		"app.webhooks.backoff-initial-ms=10",
+		"app.webhooks.backoff-max-ms=20"
+})
+class WebhookDeliveryEngineTest {
+
+	private static final String SECRET = "test-secret-0123456789";
+	private static final AtomicLong EVENT_IDS = new AtomicLong(System.currentTimeMillis());
+
+	@Autowired
+	private WebhookDeliveryEngine engine;
+
+	@Autowired
+	private WebhookSubscriptionApplicationService subscriptionService;
+
+	@Autowired
+	private WebhookDeliveryRepository deliveryRepository;
+
+	private HttpServer server;
+	private Long subscriptionId;
+
+	@AfterEach
+	void tearDown() {
+		if (subscriptionId != null) {
+			subscriptionService.deleteSubscription(subscriptionId);
+		}
+		if (server != null) {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void deliversSignedBatch() throws Exception {
+		CountDownLatch received = new CountDownLatch(1);
+		AtomicReference<String> body = new AtomicReference<>();
+		AtomicReference<String> signature = new AtomicReference<>();
+		AtomicReference<String> timestamp = new AtomicReference<>();
+		startStub(200, exchange -> {
+			body.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+			signature.set(exchange.getRequestHeaders().getFirst(WebhookSigner.SIGNATURE_HEADER));
+			timestamp.set(exchange.getRequestHeaders().getFirst(WebhookSigner.TIMESTAMP_HEADER));
+			received.countDown();
+		});
+		subscribe();
+
+		long eventId = EVENT_IDS.incrementAndGet();
+		engine.enqueue(message(eventId));
+
+		assertTrue(received.await(10, TimeUnit.SECONDS), "stub never received the webhook");
+		assertTrue(body.get().contains("\"id\":" + eventId), body.get());
+		assertTrue(body.get().contains(OutboxEventTypes.VENDOR_ACTIVATED), body.get());
+		assertEquals(WebhookSigner.sign(SECRET, Long.parseLong(timestamp.get()), body.get()), signature.get());
+		assertEquals(WebhookDeliveryStatus.DELIVERED, awaitStatus(eventId, WebhookDeliveryStatus.DELIVERED));
+	}
+
+	@Test
+	void deadLettersAfterRetriesRunOut() throws Exception {
+		startStub(500, exchange -> exchange.getRequestBody().readAllBytes());
+		subscribe();
+
+		long eventId = EVENT_IDS.incrementAndGet();
+		engine.enqueue(message(eventId));
+
+		assertEquals(WebhookDeliveryStatus.DEAD, awaitStatus(eventId, WebhookDeliveryStatus.DEAD));
+	}
+
+	private void startStub(int status, StubHandler handler) throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/hook", exchange -> {
+			handler.handle(exchange);
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+		});
+		server.start();
+	}
+
+	private void subscribe() {
+		CreateWebhookSubscriptionRequest request = new CreateWebhookSubscriptionRequest();
+		request.setName("stub");
+		request.setUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/hook");
+		request.setSecret(SECRET);
+		request.setEventTypes(Set.of(OutboxEventTypes.VENDOR_ACTIVATED));
+		subscriptionId = subscriptionService.createSubscription(request).getId();
+	}
+
+	private static OutboxMessage message(long eventId) {
+		return new OutboxMessage(eventId, OutboxEventTypes.VENDOR_ACTIVATED, "VENDOR", 1L,
+				"{\"id\":1,\"vendorCode\":\"V-1\"}", LocalDateTime.now(), 1);
+	}
+
+	private WebhookDeliveryStatus awaitStatus(long eventId, WebhookDeliveryStatus expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+		WebhookDeliveryStatus status = null;
+		while (System.nanoTime() < deadline) {
+			status = deliveryRepository.findAll().stream()
+					.filter(delivery -> delivery.getOutboxEventId() == eventId)
+					.map(WebhookDelivery::getStatus)
+					.findFirst()
+					.orElse(null);
+			if (status == expected) {
+				return status;
+			}
+			Thread.sleep(50);
+		}
+		return status;
+	}
+
+	@FunctionalInterface
+	private interface StubHandler {
+		void handle(HttpExchange exchange) throws IOException;
+	}
+}
@@ -0,0 +1,110 @@
+package com.vms.vendor_management_system.domain.repository;
+
+import com.vms.vendor_management_system.domain.enums.ContractStatus;
+import com.vms.vendor_management_system.domain.enums.PurchaseOrderStatus;
+import com.vms.vendor_management_system.domain.enums.RequestStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Guards the workflow queue indexes: the SQL Hibernate generates for each status queue query must be
+ * served by its (status, created_at) index.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.vms.vendor_management_system.domain.repository.StatusIndexQueryPlanTest$CapturingStatementInspector")
+class StatusIndexQueryPlanTest {
+
+	// Values bound to placeholders after the status ones (paging)
+	private static final int PAGE_SIZE = 10;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PurchaseOrderRepository purchaseOrderRepository;
+
+	@Autowired
+	private ContractRepository contractRepository;
+
+	@Autowired
+	private VendorCreationRequestRepository requestRepository;
+
+	@BeforeEach
+	void clearCapturedStatements() {
+		CapturingStatementInspector.STATEMENTS.clear();
+	}
+
+	@Test
+	void purchaseOrderQueueUsesStatusCreatedAtIndex() {
+		purchaseOrderRepository.findQueueByStatus(PurchaseOrderStatus.PENDING_APPROVAL, PageRequest.of(0, PAGE_SIZE));
+		assertPlanUses(capturedQueryOn("purchase_orders"), "idx_purchase_orders_status_created_at",
+				PurchaseOrderStatus.PENDING_APPROVAL.name());
+	}
+
+	@Test
+	void contractQueueUsesStatusCreatedAtIndex() {
+		contractRepository.findByStatus(ContractStatus.DRAFT);
+		assertPlanUses(capturedQueryOn("contracts"), "idx_contracts_status_created_at", ContractStatus.DRAFT.name());
+	}
+
+	@Test
+	void vendorRequestQueueUsesStatusCreatedAtIndex() {
+		List<RequestStatus> pending = List.of(RequestStatus.PENDING_FINANCE_REVIEW,
+				RequestStatus.PENDING_COMPLIANCE_REVIEW, RequestStatus.PENDING_ADMIN_REVIEW);
+		requestRepository.findByStatusIn(pending);
+		assertPlanUses(capturedQueryOn("vendor_creation_requests"), "idx_vendor_requests_status_created_at",
+				pending.stream().map(Enum::name).toArray());
+	}
+
+	private static String capturedQueryOn(String table) {
+		List<String> statements = new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+		for (int i = statements.size() - 1; i >= 0; i--) {
+			String sql = statements.get(i).toLowerCase(Locale.ROOT);
+			if (sql.startsWith("select") && sql.contains(" from " + table + " ")) {
+				return statements.get(i);
+			}
+		}
+		return fail("No SELECT on " + table + " captured among " + statements);
+	}
+
+	/**
+	 * EXPLAINs the captured statement with the given values bound first; remaining placeholders are paging.
+	 */
+	private void assertPlanUses(String query, String index, Object... statusValues) {
+		int placeholders = (int) query.chars().filter(c -> c == '?').count();
+		assertTrue(placeholders >= statusValues.length, () -> "Fewer placeholders than status values in: " + query);
+		Object[] args = Arrays.copyOf(statusValues, placeholders);
+		Arrays.fill(args, statusValues.length, placeholders, PAGE_SIZE);
+		String plan = jdbcTemplate.queryForObject("EXPLAIN " + query, String.class, args);
+		assertTrue(plan != null && plan.toLowerCase(Locale.ROOT).contains(index),
+				() -> "Expected " + index + " in plan of\n" + query + "\n" + plan);
+	}
+
+	/**
+	 * Records every statement Hibernate prepares, unchanged.
+	 */
+	public static class CapturingStatementInspector implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.vms.vendor_management_system.domain.service;
+
+import com.vms.vendor_management_system.domain.entity.ApprovalRule;
+import com.vms.vendor_management_system.domain.enums.ApprovalDocumentType;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Evaluation semantics of the compiled table: priority order, category rows merged with wildcard rows, band
+ * bounds, and rule currency against the document or FX base amount.
+ */
+class ApprovalDecisionTableTest {
+
+	private static final long NO_CATEGORY = 0L;
+	private static final long NO_DEPARTMENT = 0L;
+
+	@Test
+	void lowestPriorityWinsAndIdBreaksTies() {
+		ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(
+				rule(1L, 20), rule(2L, 10), rule(4L, 5), rule(3L, 5)));
+
+		assertEquals(3L, evaluate(table, "USD", 100, 100, NO_CATEGORY).ruleId());
+	}
+
+	@Test
+	void categoryRowsMergeWithWildcardRowsInPriorityOrder() {
+		ApprovalRule wildcard = rule(1L, 10);
+		ApprovalRule itFirst = rule(2L, 5);
+		itFirst.setCategoryId(3L);
+		ApprovalRule itLast = rule(3L, 20);
+		itLast.setCategoryId(3L);
+		ApprovalRule facilities = rule(4L, 1);
+		facilities.setCategoryId(7L);
+		facilities.changeAmountBand(new BigDecimal("1000"), null);
+		ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(wildcard, itFirst, itLast, facilities));
+
+		assertEquals(2L, evaluate(table, "USD", 100, 100, 3L).ruleId());
+		// Category 7's own row is out of band, so the wildcard row behind it applies
+		assertEquals(1L, evaluate(table, "USD", 100, 100, 7L).ruleId());
+		assertEquals(4L, evaluate(table, "USD", 200_000, 200_000, 7L).ruleId());
+		// Categories without rows of their own, and documents without a category, only see wildcard rows
+		assertEquals(1L, evaluate(table, "USD", 100, 100, 99L).ruleId());
+		assertEquals(1L, evaluate(table, "USD", 100, 100, NO_CATEGORY).ruleId());
+	}
+
+	@Test
+	void bandIncludesMinimumAndExcludesMaximum() {
+		ApprovalRule band = rule(1L, 10);
+		band.changeAmountBand(new BigDecimal("1000"), new BigDecimal("5000"));
+		ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(band));
+
+		assertNull(evaluate(table, "USD", 99_999, 99_999, NO_CATEGORY));
+		assertEquals(1L, evaluate(table, "USD", 100_000, 100_000, NO_CATEGORY).ruleId());
+		assertEquals(1L, evaluate(table, "USD", 499_999, 499_999, NO_CATEGORY).ruleId());
+		assertNull(evaluate(table, "USD", 500_000, 500_000, NO_CATEGORY));
+	}
+
+	@Test
+	void openEndedBandsAndUnconvertibleAmounts() {
+		ApprovalRule large = rule(1L, 10);
+		large.changeAmountBand(new BigDecimal("10000"), null);
+		ApprovalRule small = rule(2L, 20);
+		small.changeAmountBand(null, new BigDecimal("100"));
+		ApprovalRule fallback = rule(3L, 30);
+		ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(large, small, fallback));
+
+		assertEquals(1L, evaluate(table, "USD", 5_000_000, 5_000_000, NO_CATEGORY).ruleId());
+		assertEquals(2L, evaluate(table, "USD", 9_999, 9_999, NO_CATEGORY).ruleId());
+		assertEquals(3L, evaluate(table, "USD", 500_000, 500_000, NO_CATEGORY).ruleId());
+		// Without a base amount no banded row can match
+		assertEquals(3L, evaluate(table, "XYZ", 100, ApprovalDecisionTable.NO_AMOUNT, NO_CATEGORY).ruleId());
+	}
+
+	@Test
+	void currencyRulesBandTheDocumentAmountOthersTheBaseAmount() {
+		ApprovalRule euro = rule(1L, 10);
+		euro.setCurrency("EUR");
+		euro.changeAmountBand(new BigDecimal("1000"), new BigDecimal("2000"));
+		ApprovalRule base = rule(2L, 20);
+		base.changeAmountBand(new BigDecimal("1000"), new BigDecimal("2000"));
+		ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(euro, base));
+
+		// 1500 EUR is 1650 in the base currency: inside both bands, the currency rule comes first
+		assertEquals(1L, evaluate(table, "eur", 150_000, 165_000, NO_CATEGORY).ruleId());
+		// 1900 EUR is 2090 in the base currency: only the EUR band holds
+		assertEquals(1L, evaluate(table, "EUR", 190_000, 209_000, NO_CATEGORY).ruleId());
+		// 950 EUR is 1045 in the base currency: only the base band holds
+		assertEquals(2L, evaluate(table, "EUR", 95_000, 104_500, NO_CATEGORY).ruleId());
+		// Other currencies never match the EUR rule, whatever their amount
+		assertEquals(2L, evaluate(table, "USD", 150_000, 150_000, NO_CATEGORY).ruleId());
+		assertNull(evaluate(table, null, 150_000, 250_000, NO_CATEGORY));
+	}
+
+	@Test
+	void departmentRulesOnlyMatchTheirDepartment() {
+		ApprovalRule finance = rule(1L, 10);
+		finance.setDepartmentId(3L);
+		ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(finance));
+
+		assertEquals(1L, table.evaluate(ApprovalDocumentType.PURCHASE_ORDER, "USD", 100, 100, NO_CATEGORY, 3L).ruleId());
+		assertNull(table.evaluate(ApprovalDocumentType.PURCHASE_ORDER, "USD", 100, 100, NO_CATEGORY, 4L));
+		assertNull(table.evaluate(ApprovalDocumentType.PURCHASE_ORDER, "USD", 100, 100, NO_CATEGORY, NO_DEPARTMENT));
+	}
+
+	@Test
+	void inactiveRulesAndOtherDocumentTypesAreIgnored() {
+		ApprovalRule inactive = rule(1L, 1);
+		inactive.setIsActive(false);
+		ApprovalRule contract = new ApprovalRule("contracts", ApprovalDocumentType.CONTRACT, 2);
+		contract.setId(2L);
+		ApprovalRule order = rule(3L, 3);
+		order.setRequiresApproval(false);
+		ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(inactive, contract, order));
+
+		assertEquals(2, table.size());
+		ApprovalDecisionTable.Decision decision = evaluate(table, "USD", 100, 100, NO_CATEGORY);
+		assertEquals(3L, decision.ruleId());
+		assertFalse(decision.requiresApproval());
+		assertEquals(2L, table.evaluate(ApprovalDocumentType.CONTRACT, "USD", 100, 100, NO_CATEGORY, NO_DEPARTMENT)
+				.ruleId());
+		assertNull(ApprovalDecisionTable.empty().evaluate(ApprovalDocumentType.CONTRACT, "USD", 100, 100,
+				NO_CATEGORY, NO_DEPARTMENT));
+	}
+
+	@Test
+	void decisionPermitsItsRoleAndAdmins() {
+		ApprovalDecisionTable.Decision finance = new ApprovalDecisionTable.Decision(1L, "finance", true,
+				UserRole.FINANCE_APPROVER);
+		assertTrue(finance.permits(UserRole.FINANCE_APPROVER));
+		assertTrue(finance.permits(UserRole.ADMIN));
+		assertFalse(finance.permits(UserRole.COMPLIANCE_APPROVER));
+		assertTrue(new ApprovalDecisionTable.Decision(2L, "any", true, null).permits(UserRole.DEPARTMENT_REQUESTER));
+	}
+
+	@Test
+	void centsRoundHalfUpAndSaturate() {
+		assertEquals(12_346L, ApprovalDecisionTable.toCents(new BigDecimal("123.455")));
+		assertEquals(0L, ApprovalDecisionTable.toCents(null));
+		assertEquals(Long.MAX_VALUE, ApprovalDecisionTable.toCents(new BigDecimal("1e30")));
+	}
+
+	private static ApprovalDecisionTable.Decision evaluate(ApprovalDecisionTable table, String currency,
+														   long amountCents, long baseAmountCents, long categoryId) {
+		return table.evaluate(ApprovalDocumentType.PURCHASE_ORDER, currency, amountCents, baseAmountCents,
+				categoryId, NO_DEPARTMENT);
+	}
+
+	private static ApprovalRule rule(Long id, int priority) {
+		ApprovalRule rule = new ApprovalRule("rule-" + id, ApprovalDocumentType.PURCHASE_ORDER, priority);
+		rule.setId(id);
+		return rule;
+	}
+}
@@ -0,0 +1,83 @@
+package com.vms.vendor_management_system.domain.service;
+
+import com.vms.vendor_management_system.domain.service.CodeAllocationService.CodeSequence;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Block allocation under contention: threads racing through many block refills, on two allocators sharing
+ * one database sequence as two instances would, must never hand out the same number twice.
+ */
+@SpringBootTest
+class CodeAllocationServiceTest {
+
+	private static final int THREADS = 16;
+	private static final int PER_THREAD = CodeAllocationService.BLOCK_SIZE * 20;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void parallelAllocationIsUnique() throws Exception {
+		CodeAllocationService[] allocators = {
+				new CodeAllocationService(jdbcTemplate), new CodeAllocationService(jdbcTemplate)};
+		CountDownLatch start = new CountDownLatch(1);
+		List<Callable<long[]>> workers = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			CodeAllocationService allocator = allocators[t % allocators.length];
+			workers.add(() -> {
+				start.await();
+				long[] values = new long[PER_THREAD];
+				for (int i = 0; i < PER_THREAD; i++) {
+					values[i] = allocator.next(CodeSequence.VENDOR_REQUEST_NUMBER);
+				}
+				return values;
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<long[]>> results = new ArrayList<>();
+			for (Callable<long[]> worker : workers) {
+				results.add(executor.submit(worker));
+			}
+			start.countDown();
+
+			Set<Long> seen = new HashSet<>();
+			for (Future<long[]> result : results) {
+				long[] values = result.get(30, TimeUnit.SECONDS);
+				for (int i = 0; i < values.length; i++) {
+					assertTrue(seen.add(values[i]), "Allocated twice: " + values[i]);
+					if (i > 0) {
+						assertTrue(values[i] > values[i - 1], "Numbers of one thread went backwards at " + values[i]);
+					}
+				}
+			}
+			assertEquals(THREADS * PER_THREAD, seen.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void requestNumbersCarryNoYear() {
+		String number = new CodeAllocationService(jdbcTemplate).nextRequestNumber();
+		assertTrue(number.matches("VCR-\\d{7,}"), number);
+	}
+}
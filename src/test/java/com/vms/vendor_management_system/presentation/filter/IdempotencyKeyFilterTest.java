@@ -0,0 +1,86 @@
+package com.vms.vendor_management_system.presentation.filter;
+
+import com.vms.vendor_management_system.application.security.JwtUtil;
+import com.vms.vendor_management_system.domain.entity.Department;
+import com.vms.vendor_management_system.domain.entity.User;
+import com.vms.vendor_management_system.domain.enums.UserRole;
+import com.vms.vendor_management_system.domain.repository.DepartmentRepository;
+import com.vms.vendor_management_system.domain.repository.UserRepository;
+import com.vms.vendor_management_system.domain.valueobjects.Email;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency keys are scoped to the bearer-token user: two users behind one address (MockMvc sends every
+ * request from 127.0.0.1, as a proxy would) reusing a key and body must each get their own response.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyKeyFilterTest {
+
+	// Unknown order: the 404 is stored like any other non-5xx response
+	private static final String PATH = "/api/purchase-orders/999999/approve";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Test
+	void sameKeyFromTwoUsersIsNotShared() throws Exception {
+		String key = UUID.randomUUID().toString();
+		String alice = tokenFor("alice");
+		String bob = tokenFor("bob");
+
+		send(alice, key).andExpect(status().isNotFound())
+				.andExpect(header().doesNotExist(IdempotencyKeyFilter.REPLAYED_HEADER));
+		send(bob, key).andExpect(status().isNotFound())
+				.andExpect(header().doesNotExist(IdempotencyKeyFilter.REPLAYED_HEADER));
+		send(alice, key).andExpect(status().isNotFound())
+				.andExpect(header().string(IdempotencyKeyFilter.REPLAYED_HEADER, "true"));
+	}
+
+	@Test
+	void anonymousKeyIsNotSharedWithUser() throws Exception {
+		String key = UUID.randomUUID().toString();
+
+		send(null, key).andExpect(header().doesNotExist(IdempotencyKeyFilter.REPLAYED_HEADER));
+		send(tokenFor("carol"), key).andExpect(header().doesNotExist(IdempotencyKeyFilter.REPLAYED_HEADER));
+		send(null, key).andExpect(header().string(IdempotencyKeyFilter.REPLAYED_HEADER, "true"));
+	}
+
+	private ResultActions send(String token, String key) throws Exception {
+		MockHttpServletRequestBuilder request = post(PATH).param("approverId", "1")
+				.header(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+		if (token != null) {
+			request.header("Authorization", "Bearer " + token);
+		}
+		return mockMvc.perform(request);
+	}
+
+	private String tokenFor(String name) {
+		String username = name + "-" + UUID.randomUUID().toString().substring(0, 8);
+		Department department = departmentRepository.findById(1L).orElseThrow();
+		userRepository.save(new User(username, name, "Tester", new Email(username + "@example.com"),
+				UserRole.DEPARTMENT_REQUESTER, department));
+		return jwtUtil.generateToken(username);
+	}
+}
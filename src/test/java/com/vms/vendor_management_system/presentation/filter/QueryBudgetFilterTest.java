@@ -0,0 +1,52 @@
+package com.vms.vendor_management_system.presentation.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A budget of one statement is exceeded by the dashboard, so the request must fail; every statement counts
+ * as slow, so it must show up in the slow-query view.
+ */
+@SpringBootTest(properties = {
+		"app.query-budget.max-statements=1",
+		"app.query-budget.slow-query-ms=0"
+})
+@AutoConfigureMockMvc
+class QueryBudgetFilterTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void requestOverBudgetFails() {
+		Exception failure = assertThrows(Exception.class, () -> mockMvc.perform(get("/api/dashboard")));
+		assertTrue(rootMessage(failure).contains("over the query budget of 1"), rootMessage(failure));
+	}
+
+	@Test
+	void statementsAppearInSlowQueryView() throws Exception {
+		mockMvc.perform(get("/api/vendors/999999"))
+				.andExpect(status().isNotFound());
+
+		mockMvc.perform(get("/api/admin/slow-queries").param("limit", "200"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[?(@.source == 'GET /api/vendors/999999')].sql").isNotEmpty());
+	}
+
+	private static String rootMessage(Throwable failure) {
+		Throwable cause = failure;
+		while (cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return String.valueOf(cause.getMessage());
+	}
+}